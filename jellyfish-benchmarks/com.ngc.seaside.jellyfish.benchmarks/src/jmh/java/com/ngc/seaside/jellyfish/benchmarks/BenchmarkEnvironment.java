@@ -0,0 +1,119 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.jellyfish.benchmarks;
+
+import com.google.common.base.Preconditions;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.Stage;
+import com.ngc.seaside.jellyfish.DefaultJellyfishModule;
+import com.ngc.seaside.systemdescriptor.service.api.IParsingResult;
+import com.ngc.seaside.systemdescriptor.service.api.ISystemDescriptorService;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * Contains utilities for setting up the environment Jellyfish benchmarks run in.
+ */
+public class BenchmarkEnvironment {
+
+   /**
+    * The system property that contains the directory of the System Descriptor projects that are benchmarked.
+    */
+   public static final String PROJECTS_DIRECTORY_PROPERTY = "jellyfish.benchmarks.projects";
+
+   private BenchmarkEnvironment() {
+   }
+
+   /**
+    * Creates a new injector configured with the same modules the Jellyfish CLI uses.
+    *
+    * @return a new injector
+    */
+   public static Injector createInjector() {
+      return Guice.createInjector(Stage.PRODUCTION, new DefaultJellyfishModule());
+   }
+
+   /**
+    * Gets the directory of the System Descriptor project with the given name.
+    *
+    * @param name the name of the project, such as {@code threat-eval-system-descriptor}
+    * @return the directory of the project
+    */
+   public static Path getProject(String name) {
+      Preconditions.checkNotNull(name, "name may not be null!");
+      String projects = System.getProperty(PROJECTS_DIRECTORY_PROPERTY);
+      Preconditions.checkState(projects != null, "the system property " + PROJECTS_DIRECTORY_PROPERTY + " is not set!");
+      Path project = Paths.get(projects, name).toAbsolutePath().normalize();
+      Preconditions.checkArgument(Files.isDirectory(project), "the project " + project + " does not exist!");
+      return project;
+   }
+
+   /**
+    * Parses the given project and fails if the project is not valid.
+    *
+    * @param service the service to parse the project with
+    * @param project the directory of the project
+    * @return the parsing result
+    */
+   public static IParsingResult parse(ISystemDescriptorService service, Path project) {
+      IParsingResult result = service.parseProject(project);
+      Preconditions.checkState(result.isSuccessful(), "the project %s is not valid: %s", project, result.getIssues());
+      return result;
+   }
+
+   /**
+    * Creates a new temporary directory.
+    *
+    * @return the new directory
+    */
+   public static Path createTempDirectory() {
+      try {
+         return Files.createTempDirectory("jellyfish-benchmarks");
+      } catch (IOException e) {
+         throw new UncheckedIOException(e);
+      }
+   }
+
+   /**
+    * Recursively deletes the given directory.
+    *
+    * @param directory the directory to delete
+    */
+   public static void delete(Path directory) {
+      if (directory == null || !Files.exists(directory)) {
+         return;
+      }
+      try (Stream<Path> paths = Files.walk(directory)) {
+         paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+      } catch (IOException e) {
+         throw new UncheckedIOException(e);
+      }
+   }
+}
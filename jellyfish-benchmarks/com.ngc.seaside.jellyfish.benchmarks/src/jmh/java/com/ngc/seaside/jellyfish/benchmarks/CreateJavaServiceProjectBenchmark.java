@@ -0,0 +1,90 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.jellyfish.benchmarks;
+
+import com.ngc.seaside.jellyfish.DefaultJellyfishModule;
+import com.ngc.seaside.jellyfish.Jellyfish;
+import com.ngc.seaside.jellyfish.service.execution.api.IJellyfishExecution;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks a complete run of the {@code create-java-service-project} command, including creating the injector,
+ * parsing the project and generating all the sub-projects.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class CreateJavaServiceProjectBenchmark {
+
+   private static final String COMMAND = "create-java-service-project";
+   private static final String PROJECT = "threat-eval-system-descriptor";
+   private static final String MODEL = "com.ngc.seaside.threateval.DefendedAreaTrackPriorityService";
+   private static final String DEPLOYMENT_MODEL = "com.ngc.seaside.threateval.deployment.DemoThreatEvalDeployment";
+
+   private final Map<String, String> arguments = new HashMap<>();
+   private Path outputDirectory;
+
+   @Setup(Level.Trial)
+   public void setup() {
+      arguments.put("inputDirectory", BenchmarkEnvironment.getProject(PROJECT).toString());
+      arguments.put("model", MODEL);
+      arguments.put("deploymentModel", DEPLOYMENT_MODEL);
+   }
+
+   @Setup(Level.Invocation)
+   public void createOutputDirectory() {
+      outputDirectory = BenchmarkEnvironment.createTempDirectory();
+      arguments.put("outputDirectory", outputDirectory.toString());
+   }
+
+   @TearDown(Level.Invocation)
+   public void deleteOutputDirectory() {
+      BenchmarkEnvironment.delete(outputDirectory);
+   }
+
+   @Benchmark
+   public IJellyfishExecution createJavaServiceProject() {
+      return Jellyfish.getService().run(COMMAND, arguments, Collections.singleton(new DefaultJellyfishModule()));
+   }
+}
@@ -0,0 +1,134 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.jellyfish.benchmarks;
+
+import com.ngc.seaside.systemdescriptor.model.api.data.IData;
+import com.ngc.seaside.systemdescriptor.model.api.model.IModel;
+import com.ngc.seaside.systemdescriptor.model.api.model.link.IModelLink;
+import com.ngc.seaside.systemdescriptor.service.api.IParsingResult;
+import com.ngc.seaside.systemdescriptor.service.api.ISystemDescriptorService;
+import com.ngc.seaside.systemdescriptor.validation.api.AbstractSystemDescriptorValidator;
+import com.ngc.seaside.systemdescriptor.validation.api.IValidationContext;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks parsing and validating System Descriptor projects with
+ * {@link ISystemDescriptorService#parseProject(Path)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ParsingBenchmark {
+
+   @Param({"analyze-system-descriptor", "threat-eval-system-descriptor", "refines-model-system-descriptor"})
+   public String project;
+
+   private ISystemDescriptorService service;
+   private Path projectDirectory;
+
+   @Setup(Level.Trial)
+   public void setup() {
+      service = BenchmarkEnvironment.createInjector().getInstance(ISystemDescriptorService.class);
+      projectDirectory = BenchmarkEnvironment.getProject(project);
+   }
+
+   /**
+    * Parses the project with only the validators of the System Descriptor language itself.
+    */
+   @Benchmark
+   public IParsingResult parseProject() {
+      return service.parseProject(projectDirectory);
+   }
+
+   /**
+    * Parses the project with an additional validator that visits every model, data type and link.  The difference
+    * between this and {@link #parseProject()} is the overhead of the {@code ValidationDelegate}.
+    */
+   @Benchmark
+   public IParsingResult parseProjectWithValidator(ValidatorState state) {
+      return service.parseProject(projectDirectory);
+   }
+
+   /**
+    * Registers a validator for the duration of a trial.
+    */
+   @State(Scope.Benchmark)
+   public static class ValidatorState {
+
+      private final VisitingValidator validator = new VisitingValidator();
+      private ISystemDescriptorService service;
+
+      @Setup(Level.Trial)
+      public void setup(ParsingBenchmark benchmark) {
+         service = benchmark.service;
+         service.addValidator(validator);
+      }
+
+      @TearDown(Level.Trial)
+      public void teardown() {
+         service.removeValidator(validator);
+      }
+   }
+
+   /**
+    * A validator that does no validation but accesses the object being validated.
+    */
+   private static class VisitingValidator extends AbstractSystemDescriptorValidator {
+
+      private int visited;
+
+      @Override
+      protected void validateData(IValidationContext<IData> context) {
+         visited += context.getObject().getFields().size();
+      }
+
+      @Override
+      protected void validateModel(IValidationContext<IModel> context) {
+         visited += context.getObject().getInputs().size() + context.getObject().getOutputs().size();
+      }
+
+      @Override
+      protected void validateLink(IValidationContext<IModelLink<?>> context) {
+         visited += context.getObject().getName().map(String::length).orElse(0);
+      }
+   }
+}
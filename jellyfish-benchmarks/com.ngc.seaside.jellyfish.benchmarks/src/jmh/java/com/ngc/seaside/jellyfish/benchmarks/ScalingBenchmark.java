@@ -0,0 +1,115 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.jellyfish.benchmarks;
+
+import com.ngc.seaside.systemdescriptor.model.api.ISystemDescriptor;
+import com.ngc.seaside.systemdescriptor.model.api.model.IModel;
+import com.ngc.seaside.systemdescriptor.model.api.traversal.IVisitor;
+import com.ngc.seaside.systemdescriptor.model.api.traversal.IVisitorContext;
+import com.ngc.seaside.systemdescriptor.model.api.traversal.Traversals;
+import com.ngc.seaside.systemdescriptor.service.api.IParsingResult;
+import com.ngc.seaside.systemdescriptor.service.api.ISystemDescriptorService;
+import com.ngc.seaside.systemdescriptor.test.systemdescriptor.SyntheticProjectGenerator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks parsing, traversing and aggregating projects created by the {@link SyntheticProjectGenerator}.  Comparing
+ * the scores of the different sizes shows if the cost of an operation grows faster than the size of the project.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ScalingBenchmark {
+
+   @Param({"100", "1000", "5000"})
+   public int models;
+
+   private ISystemDescriptorService service;
+   private Path projectDirectory;
+   private ISystemDescriptor descriptor;
+
+   @Setup(Level.Trial)
+   public void setup() {
+      service = BenchmarkEnvironment.createInjector().getInstance(ISystemDescriptorService.class);
+      projectDirectory = new SyntheticProjectGenerator()
+            .setPackages(Math.max(1, models / 100))
+            .setDataTypes(Math.max(1, models / 5))
+            .setDataDepth(3)
+            .setModels(models)
+            .setPartFanOut(8)
+            .setPropertiesPerModel(2)
+            .setScenariosPerModel(2)
+            .generate(BenchmarkEnvironment.createTempDirectory());
+      descriptor = BenchmarkEnvironment.parse(service, projectDirectory).getSystemDescriptor();
+   }
+
+   @TearDown(Level.Trial)
+   public void teardown() {
+      BenchmarkEnvironment.delete(projectDirectory);
+   }
+
+   @Benchmark
+   public IParsingResult parseProject() {
+      return service.parseProject(projectDirectory);
+   }
+
+   @Benchmark
+   public void traverse(Blackhole blackhole) {
+      Traversals.traverse(descriptor, new IVisitor() {
+         @Override
+         public void visitModel(IVisitorContext ctx, IModel model) {
+            blackhole.consume(model.getLinks().size());
+         }
+      });
+   }
+
+   @Benchmark
+   public void getAggregatedView(Blackhole blackhole) {
+      Traversals.traverse(descriptor, new IVisitor() {
+         @Override
+         public void visitModel(IVisitorContext ctx, IModel model) {
+            blackhole.consume(service.getAggregatedView(model).getProperties().size());
+         }
+      });
+   }
+}
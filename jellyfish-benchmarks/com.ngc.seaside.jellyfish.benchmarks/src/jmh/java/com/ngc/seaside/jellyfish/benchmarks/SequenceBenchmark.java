@@ -0,0 +1,91 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.jellyfish.benchmarks;
+
+import com.google.inject.Injector;
+import com.ngc.seaside.jellyfish.api.DefaultJellyFishCommandOptions;
+import com.ngc.seaside.jellyfish.api.IJellyFishCommandOptions;
+import com.ngc.seaside.jellyfish.service.sequence.api.ISequenceService;
+import com.ngc.seaside.systemdescriptor.model.api.model.IModel;
+import com.ngc.seaside.systemdescriptor.model.api.traversal.Traversals;
+import com.ngc.seaside.systemdescriptor.service.api.IParsingResult;
+import com.ngc.seaside.systemdescriptor.service.api.ISystemDescriptorService;
+import com.ngc.seaside.systemdescriptor.service.gherkin.api.IGherkinService;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link ISequenceService#getSequences(IJellyFishCommandOptions, IModel)} for every model of a project that
+ * contains scenarios.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SequenceBenchmark {
+
+   @Param({"threat-eval-system-descriptor", "correlation-system-descriptor"})
+   public String project;
+
+   private ISequenceService sequenceService;
+   private IJellyFishCommandOptions options;
+   private Collection<IModel> models;
+
+   @Setup(Level.Trial)
+   public void setup() {
+      Injector injector = BenchmarkEnvironment.createInjector();
+      sequenceService = injector.getInstance(ISequenceService.class);
+      ISystemDescriptorService service = injector.getInstance(ISystemDescriptorService.class);
+      IGherkinService gherkinService = injector.getInstance(IGherkinService.class);
+
+      IParsingResult result = BenchmarkEnvironment.parse(service, BenchmarkEnvironment.getProject(project));
+      options = new DefaultJellyFishCommandOptions()
+            .setParsingResult(result)
+            .setGherkinParsingResult(gherkinService.parseProject(result));
+      models = Traversals.collectModels(result.getSystemDescriptor(), m -> !m.getScenarios().isEmpty());
+   }
+
+   @Benchmark
+   public void getSequences(Blackhole blackhole) {
+      for (IModel model : models) {
+         blackhole.consume(sequenceService.getSequences(options, model));
+      }
+   }
+}
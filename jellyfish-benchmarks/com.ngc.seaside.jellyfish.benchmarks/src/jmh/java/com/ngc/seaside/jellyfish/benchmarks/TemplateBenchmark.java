@@ -0,0 +1,86 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.jellyfish.benchmarks;
+
+import com.ngc.seaside.jellyfish.api.DefaultParameter;
+import com.ngc.seaside.jellyfish.api.DefaultParameterCollection;
+import com.ngc.seaside.jellyfish.service.template.api.ITemplateOutput;
+import com.ngc.seaside.jellyfish.service.template.api.ITemplateService;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link ITemplateService#unpack(String, com.ngc.seaside.jellyfish.api.IParameterCollection, Path, boolean)}
+ * with the template of the {@code create-jellyfish-command} command.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class TemplateBenchmark {
+
+   private static final String TEMPLATE = "com.ngc.seaside.jellyfish.cli.command.createjellyfishcommand";
+
+   private ITemplateService templateService;
+   private DefaultParameterCollection parameters;
+   private Path outputDirectory;
+
+   @Setup(Level.Trial)
+   public void setup() {
+      templateService = BenchmarkEnvironment.createInjector().getInstance(ITemplateService.class);
+      outputDirectory = BenchmarkEnvironment.createTempDirectory();
+      parameters = new DefaultParameterCollection();
+      parameters.addParameter(new DefaultParameter<>("groupId", "com.ngc.seaside"));
+      parameters.addParameter(new DefaultParameter<>("artifactId", "jellyfish.cli.command.benchmark"));
+      parameters.addParameter(new DefaultParameter<>("package", "com.ngc.seaside.jellyfish.cli.command.benchmark"));
+      parameters.addParameter(new DefaultParameter<>("classname", "Benchmark"));
+      parameters.addParameter(new DefaultParameter<>("commandName", "benchmark"));
+      parameters.addParameter(new DefaultParameter<>("withCliCommands", "false"));
+   }
+
+   @TearDown(Level.Trial)
+   public void teardown() {
+      BenchmarkEnvironment.delete(outputDirectory);
+   }
+
+   @Benchmark
+   public ITemplateOutput unpack() {
+      return templateService.unpack(TEMPLATE, parameters, outputDirectory, true);
+   }
+}
@@ -0,0 +1,138 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.jellyfish.benchmarks;
+
+import com.ngc.seaside.systemdescriptor.extension.IValidatorExtension;
+import com.ngc.seaside.systemdescriptor.model.api.ISystemDescriptor;
+import com.ngc.seaside.systemdescriptor.model.api.data.IDataField;
+import com.ngc.seaside.systemdescriptor.model.api.model.IModel;
+import com.ngc.seaside.systemdescriptor.model.api.traversal.IVisitor;
+import com.ngc.seaside.systemdescriptor.model.api.traversal.IVisitorContext;
+import com.ngc.seaside.systemdescriptor.model.api.traversal.Traversals;
+import com.ngc.seaside.systemdescriptor.service.api.ISystemDescriptorService;
+import com.ngc.seaside.systemdescriptor.service.impl.xtext.validation.ProxyingValidationContext;
+import com.ngc.seaside.systemdescriptor.validation.api.Severity;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks declaring validation issues with {@link ProxyingValidationContext}, comparing the hand-written delegates
+ * with the dynamic proxies they replaced.  An issue is declared against the name of every model and data field.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ValidationContextBenchmark {
+
+   @Param({"analyze-system-descriptor", "threat-eval-system-descriptor"})
+   public String project;
+
+   @Param({"true", "false"})
+   public boolean useDelegates;
+
+   private final Collection<IModel> models = new ArrayList<>();
+   private final Collection<IDataField> fields = new ArrayList<>();
+
+   @Setup(Level.Trial)
+   public void setup() {
+      ISystemDescriptorService service = BenchmarkEnvironment.createInjector()
+            .getInstance(ISystemDescriptorService.class);
+      ISystemDescriptor descriptor = BenchmarkEnvironment.parse(service, BenchmarkEnvironment.getProject(project))
+            .getSystemDescriptor();
+      Traversals.traverse(descriptor, new IVisitor() {
+         @Override
+         public void visitModel(IVisitorContext ctx, IModel model) {
+            models.add(model);
+         }
+
+         @Override
+         public void visitDataField(IVisitorContext ctx, IDataField field) {
+            fields.add(field);
+         }
+      });
+   }
+
+   /**
+    * Declares a warning against the name of every model and data field.
+    */
+   @Benchmark
+   public void declare(Blackhole blackhole) {
+      IValidatorExtension.ValidationHelper helper = new ConsumingValidationHelper(blackhole);
+      for (IModel model : models) {
+         ProxyingValidationContext<IModel> ctx = new ProxyingValidationContext<>(model, helper, useDelegates);
+         blackhole.consume(ctx.declare(Severity.WARNING, "warning", model).getName());
+      }
+      for (IDataField field : fields) {
+         ProxyingValidationContext<IDataField> ctx = new ProxyingValidationContext<>(field, helper, useDelegates);
+         blackhole.consume(ctx.declare(Severity.WARNING, "warning", field).getName());
+      }
+   }
+
+   /**
+    * A validation helper that passes every declared issue to a {@code Blackhole}.
+    */
+   private static class ConsumingValidationHelper implements IValidatorExtension.ValidationHelper {
+
+      private final Blackhole blackhole;
+
+      ConsumingValidationHelper(Blackhole blackhole) {
+         this.blackhole = blackhole;
+      }
+
+      @Override
+      public void error(String message, EObject source, EStructuralFeature feature) {
+         blackhole.consume(feature);
+      }
+
+      @Override
+      public void warning(String message, EObject source, EStructuralFeature feature) {
+         blackhole.consume(feature);
+      }
+
+      @Override
+      public void info(String message, EObject source, EStructuralFeature feature) {
+         blackhole.consume(feature);
+      }
+   }
+}
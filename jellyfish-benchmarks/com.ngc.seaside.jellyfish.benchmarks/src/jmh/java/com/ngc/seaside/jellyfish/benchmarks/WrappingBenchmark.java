@@ -0,0 +1,162 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.jellyfish.benchmarks;
+
+import com.ngc.seaside.systemdescriptor.model.api.ISystemDescriptor;
+import com.ngc.seaside.systemdescriptor.model.api.data.IData;
+import com.ngc.seaside.systemdescriptor.model.api.data.IDataField;
+import com.ngc.seaside.systemdescriptor.model.api.model.IModel;
+import com.ngc.seaside.systemdescriptor.model.api.model.link.IModelLink;
+import com.ngc.seaside.systemdescriptor.model.api.traversal.IVisitor;
+import com.ngc.seaside.systemdescriptor.model.api.traversal.IVisitorContext;
+import com.ngc.seaside.systemdescriptor.model.api.traversal.Traversals;
+import com.ngc.seaside.systemdescriptor.model.impl.xtext.IUnwrappable;
+import com.ngc.seaside.systemdescriptor.model.impl.xtext.WrappedSystemDescriptor;
+import com.ngc.seaside.systemdescriptor.service.api.ISystemDescriptorService;
+import com.ngc.seaside.systemdescriptor.systemDescriptor.Package;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.xtext.EcoreUtil2;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks wrapping parsed XText objects with {@link WrappedSystemDescriptor}, traversing the wrapped System
+ * Descriptor with {@link Traversals#traverse(ISystemDescriptor, IVisitor)} and creating aggregated views of every
+ * model.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class WrappingBenchmark {
+
+   @Param({"analyze-system-descriptor", "threat-eval-system-descriptor", "refines-model-system-descriptor"})
+   public String project;
+
+   private ISystemDescriptorService service;
+   private ISystemDescriptor descriptor;
+   private Package parsedPackage;
+
+   @Setup(Level.Trial)
+   public void setup() {
+      service = BenchmarkEnvironment.createInjector().getInstance(ISystemDescriptorService.class);
+      descriptor = BenchmarkEnvironment.parse(service, BenchmarkEnvironment.getProject(project)).getSystemDescriptor();
+      IModel model = Traversals.collectModels(descriptor, m -> true).iterator().next();
+      EObject xtextModel = ((IUnwrappable<?>) model).unwrap();
+      parsedPackage = EcoreUtil2.getContainerOfType(xtextModel, Package.class);
+   }
+
+   /**
+    * Creates a new wrapper.  Wrappers for packages and their elements are created lazily, so this measures only
+    * indexing.
+    */
+   @Benchmark
+   public ISystemDescriptor wrap() {
+      return new WrappedSystemDescriptor(parsedPackage);
+   }
+
+   /**
+    * Creates a new wrapper and traverses it, which forces every element to be wrapped.
+    */
+   @Benchmark
+   public void wrapAndTraverse(Blackhole blackhole) {
+      Traversals.traverse(new WrappedSystemDescriptor(parsedPackage), new ConsumingVisitor(blackhole));
+   }
+
+   /**
+    * Traverses a System Descriptor whose elements have already been wrapped.
+    */
+   @Benchmark
+   public void traverse(Blackhole blackhole) {
+      Traversals.traverse(descriptor, new ConsumingVisitor(blackhole));
+   }
+
+   /**
+    * Creates an aggregated view of every model.
+    */
+   @Benchmark
+   public void getAggregatedView(Blackhole blackhole) {
+      Traversals.traverse(descriptor, new IVisitor() {
+         @Override
+         public void visitModel(IVisitorContext ctx, IModel model) {
+            IModel view = service.getAggregatedView(model);
+            blackhole.consume(view.getInputs().size());
+            blackhole.consume(view.getParts().size());
+            blackhole.consume(view.getProperties().size());
+         }
+
+         @Override
+         public void visitData(IVisitorContext ctx, IData data) {
+            blackhole.consume(service.getAggregatedView(data).getFields().size());
+         }
+      });
+   }
+
+   /**
+    * A visitor that passes every element it visits to a {@code Blackhole}.
+    */
+   private static class ConsumingVisitor implements IVisitor {
+
+      private final Blackhole blackhole;
+
+      ConsumingVisitor(Blackhole blackhole) {
+         this.blackhole = blackhole;
+      }
+
+      @Override
+      public void visitData(IVisitorContext ctx, IData data) {
+         blackhole.consume(data);
+      }
+
+      @Override
+      public void visitDataField(IVisitorContext ctx, IDataField field) {
+         blackhole.consume(field);
+      }
+
+      @Override
+      public void visitModel(IVisitorContext ctx, IModel model) {
+         blackhole.consume(model);
+      }
+
+      @Override
+      public void visitLink(IVisitorContext ctx, IModelLink<?> link) {
+         blackhole.consume(link);
+      }
+   }
+}
@@ -23,10 +23,10 @@
 package com.ngc.seaside.jellyfish.cli.command.report.console;
 
 import java.io.IOException;
-import java.nio.file.Files;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Deactivate;
@@ -34,9 +34,7 @@ import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.osgi.service.component.annotations.ReferencePolicy;
 
-import com.google.common.collect.ArrayListMultimap;
-import com.google.common.collect.LinkedListMultimap;
-import com.google.common.collect.Multimap;
+import com.google.common.collect.ListMultimap;
 import com.ngc.seaside.jellyfish.api.DefaultUsage;
 import com.ngc.seaside.jellyfish.api.ICommand;
 import com.ngc.seaside.jellyfish.api.ICommandOptions;
@@ -44,6 +42,8 @@ import com.ngc.seaside.jellyfish.api.IUsage;
 import com.ngc.seaside.jellyfish.service.analysis.api.IAnalysisService;
 import com.ngc.seaside.jellyfish.service.analysis.api.ISystemDescriptorFindingType;
 import com.ngc.seaside.jellyfish.service.analysis.api.SystemDescriptorFinding;
+import com.ngc.seaside.jellyfish.service.analysis.api.SystemDescriptorFindings;
+import com.ngc.seaside.jellyfish.utilities.file.SourceSnippetCache;
 import com.ngc.seaside.systemdescriptor.service.log.api.ILogService;
 import com.ngc.seaside.systemdescriptor.service.source.api.ISourceLocation;
 
@@ -92,28 +92,24 @@ public class ConsoleAnalysisReportCommand implements ICommand<ICommandOptions> {
       if (all.isEmpty()) {
          logService.info(getClass(), "No findings to report.");
       } else {
-         // Sort by severity first.
-         Multimap<ISystemDescriptorFindingType.Severity, SystemDescriptorFinding<?>> findings =
-               ArrayListMultimap.create();
-         for (SystemDescriptorFinding<?> finding : all) {
-            findings.put(finding.getType().getSeverity(), finding);
+         // Sort by severity first and then group into types.
+         Map<ISystemDescriptorFindingType.Severity, ListMultimap<ISystemDescriptorFindingType,
+               SystemDescriptorFinding<?>>> findings = SystemDescriptorFindings.groupBySeverityAndType(all);
+         SourceSnippetCache sources = new SourceSnippetCache();
+
+         // Write the report as the findings are iterated instead of building the entire report in memory.
+         try (ConsoleReportWriter writer = new ConsoleReportWriter(logService, getClass())) {
+            writer.newline();
+            logSummary(findings, writer);
+            writer.newline().append("# Errors").newline().newline();
+            logFindings(findings.get(ISystemDescriptorFindingType.Severity.ERROR), sources, writer);
+            writer.newline().append("# Warnings").newline().newline();
+            logFindings(findings.get(ISystemDescriptorFindingType.Severity.WARNING), sources, writer);
+            writer.newline();
+            logFindings(findings.get(ISystemDescriptorFindingType.Severity.INFO), sources, writer);
+            writer.newline();
+            logRuntimeInformation(writer, commandOptions);
          }
-
-         StringBuilder sb = new StringBuilder(NEWLINE);
-         logSummary(findings, sb);
-         sb.append(NEWLINE).append("# Errors").append(NEWLINE).append(NEWLINE);
-         logFindings(findings.get(ISystemDescriptorFindingType.Severity.ERROR),
-                     sb);
-         sb.append(NEWLINE).append("# Warnings").append(NEWLINE).append(NEWLINE);
-         logFindings(findings.get(ISystemDescriptorFindingType.Severity.WARNING),
-                     sb);
-         sb.append(NEWLINE);
-         logFindings(findings.get(ISystemDescriptorFindingType.Severity.INFO),
-                     sb);
-         sb.append(NEWLINE);
-         logRuntimeInformation(sb, commandOptions);
-
-         logService.info(getClass(), sb);
       }
    }
 
@@ -149,67 +145,66 @@ public class ConsoleAnalysisReportCommand implements ICommand<ICommandOptions> {
       setLogService(null);
    }
 
-   private void logSummary(Multimap<ISystemDescriptorFindingType.Severity, SystemDescriptorFinding<?>> findings,
-                           StringBuilder sb) {
-      sb.append("# Summary").append(NEWLINE);
-      sb.append(findings.get(ISystemDescriptorFindingType.Severity.ERROR).size())
+   private void logSummary(Map<ISystemDescriptorFindingType.Severity, ListMultimap<ISystemDescriptorFindingType,
+                                 SystemDescriptorFinding<?>>> findings,
+                           ConsoleReportWriter writer) {
+      writer.append("# Summary").newline();
+      writer.append(findings.get(ISystemDescriptorFindingType.Severity.ERROR).size())
             .append(" ")
             .append(ISystemDescriptorFindingType.Severity.ERROR.toString().toLowerCase())
             .append("s")
-            .append(NEWLINE);
-      sb.append(findings.get(ISystemDescriptorFindingType.Severity.WARNING).size())
+            .newline();
+      writer.append(findings.get(ISystemDescriptorFindingType.Severity.WARNING).size())
             .append(" ")
             .append(ISystemDescriptorFindingType.Severity.WARNING.toString().toLowerCase())
             .append("s")
-            .append(NEWLINE);
+            .newline();
    }
 
-   private void logFindings(Collection<SystemDescriptorFinding<?>> findings,
-                            StringBuilder sb) {
-      // Group into types.
-      Multimap<ISystemDescriptorFindingType, SystemDescriptorFinding<?>> sorted = LinkedListMultimap.create();
-      findings.forEach(f -> sorted.put(f.getType(), f));
-
-      for (ISystemDescriptorFindingType type : sorted.keySet()) {
-         sb.append(type.getDescription())
-               .append(NEWLINE)
-               .append(NEWLINE);
-         for (Iterator<SystemDescriptorFinding<?>> i = sorted.get(type).iterator(); i.hasNext(); ) {
+   private void logFindings(ListMultimap<ISystemDescriptorFindingType, SystemDescriptorFinding<?>> findings,
+                            SourceSnippetCache sources,
+                            ConsoleReportWriter writer) {
+      for (ISystemDescriptorFindingType type : findings.keySet()) {
+         writer.append(type.getDescription())
+               .newline()
+               .newline();
+         for (Iterator<SystemDescriptorFinding<?>> i = findings.get(type).iterator(); i.hasNext(); ) {
             SystemDescriptorFinding<?> finding = i.next();
-            sb.append(getLocationString(finding.getLocation().orElse(null))).append(NEWLINE);
-            sb.append(finding.getMessage()).append(NEWLINE);
+            writer.append(getLocationString(finding.getLocation().orElse(null), sources)).newline();
+            writer.append(finding.getMessage()).newline();
             if (i.hasNext()) {
-               sb.append(NEWLINE);
+               writer.newline();
             }
+            writer.flushIfNeeded();
          }
       }
    }
 
-   private void logRuntimeInformation(StringBuilder sb, ICommandOptions commandOptions) {
-      sb.append("# Runtime Information").append(NEWLINE);
-      sb.append("Jellyfish executed with the following parameters:").append(NEWLINE);
+   private void logRuntimeInformation(ConsoleReportWriter writer, ICommandOptions commandOptions) {
+      writer.append("# Runtime Information").newline();
+      writer.append("Jellyfish executed with the following parameters:").newline();
       commandOptions.getParameters().getAllParameters()
             .stream()
             .map(p -> "* " + p.getName() + " = " + p.getValue())
-            .forEach(v -> sb.append(v).append(NEWLINE));
+            .forEach(v -> writer.append(v).newline());
    }
 
-   private String getLocationString(ISourceLocation location) {
+   private String getLocationString(ISourceLocation location, SourceSnippetCache sources) {
       String s = "<location unknown>";
       if (location != null) {
          s = String.format("%s, line: %s, col: %s%n%s",
                            location.getPath(),
                            location.getLineNumber(),
                            location.getColumn(),
-                           getLocationContents(location));
+                           getLocationContents(location, sources));
       }
       return s;
    }
 
-   private String getLocationContents(ISourceLocation location) {
+   private String getLocationContents(ISourceLocation location, SourceSnippetCache sources) {
       StringBuilder sb = new StringBuilder();
       try {
-         List<String> lines = Files.readAllLines(location.getPath());
+         List<String> lines = sources.getLines(location.getPath());
          int line = location.getLineNumber() - 1;
 
          for (int i = Math.max(0, line - PRECEDING_LINES_TO_SHOW);
@@ -0,0 +1,95 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.jellyfish.cli.command.report.console;
+
+import com.ngc.seaside.systemdescriptor.service.log.api.ILogService;
+
+/**
+ * Writes a report to the log service in chunks.  Content is buffered until the buffer exceeds a threshold at which
+ * point the buffer is logged as a single message.  This avoids building the entire report in memory before it is
+ * logged.
+ */
+class ConsoleReportWriter implements AutoCloseable {
+
+   private static final String NEWLINE = System.lineSeparator();
+
+   /**
+    * The number of characters to buffer before the buffer is logged.
+    */
+   static final int FLUSH_THRESHOLD = 16 * 1024;
+
+   private final ILogService logService;
+   private final Class<?> source;
+   private final StringBuilder buffer = new StringBuilder();
+
+   ConsoleReportWriter(ILogService logService, Class<?> source) {
+      this.logService = logService;
+      this.source = source;
+   }
+
+   /**
+    * Appends the given object to the report.
+    */
+   ConsoleReportWriter append(Object o) {
+      buffer.append(o);
+      return this;
+   }
+
+   /**
+    * Appends a newline to the report.
+    */
+   ConsoleReportWriter newline() {
+      buffer.append(NEWLINE);
+      return this;
+   }
+
+   /**
+    * Logs the buffered content if the buffer has exceeded the threshold.  This should only be invoked when the buffered
+    * content ends with a newline.
+    */
+   void flushIfNeeded() {
+      if (buffer.length() >= FLUSH_THRESHOLD) {
+         flush();
+      }
+   }
+
+   /**
+    * Logs the buffered content.
+    */
+   void flush() {
+      if (buffer.length() > 0) {
+         // The logger terminates each message with a newline so remove the trailing newline from the message.
+         int end = buffer.length();
+         if (end >= NEWLINE.length() && buffer.lastIndexOf(NEWLINE) == end - NEWLINE.length()) {
+            end -= NEWLINE.length();
+         }
+         logService.info(source, (Object) buffer.substring(0, end));
+         buffer.setLength(0);
+      }
+   }
+
+   @Override
+   public void close() {
+      flush();
+   }
+}
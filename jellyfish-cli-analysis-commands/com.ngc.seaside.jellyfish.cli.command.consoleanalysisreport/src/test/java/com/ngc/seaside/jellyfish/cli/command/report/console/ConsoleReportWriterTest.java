@@ -0,0 +1,109 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.jellyfish.cli.command.report.console;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import com.ngc.seaside.systemdescriptor.service.log.api.ILogService;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ConsoleReportWriterTest {
+
+   private static final String NEWLINE = System.lineSeparator();
+
+   @Mock
+   private ILogService logService;
+
+   private ArgumentCaptor<Object> messages;
+
+   @Before
+   public void setup() throws Throwable {
+      messages = ArgumentCaptor.forClass(Object.class);
+   }
+
+   @Test
+   public void testDoesLogSmallReportAsSingleMessage() throws Throwable {
+      try (ConsoleReportWriter writer = new ConsoleReportWriter(logService, getClass())) {
+         writer.append("# Summary").newline();
+         writer.append(1).append(" errors").newline();
+         writer.flushIfNeeded();
+      }
+
+      verify(logService).info(eq(getClass()), messages.capture());
+      assertEquals("# Summary" + NEWLINE + "1 errors", messages.getValue());
+   }
+
+   @Test
+   public void testDoesLogLargeReportInChunksOnLineBoundaries() throws Throwable {
+      StringBuilder expected = new StringBuilder();
+      String line = "0123456789012345678901234567890123456789";
+      int lines = 3 * ConsoleReportWriter.FLUSH_THRESHOLD / line.length();
+
+      try (ConsoleReportWriter writer = new ConsoleReportWriter(logService, getClass())) {
+         for (int i = 0; i < lines; i++) {
+            writer.append(line).append(i).newline();
+            writer.flushIfNeeded();
+            expected.append(line).append(i).append(NEWLINE);
+         }
+      }
+
+      verify(logService, atLeast(3)).info(eq(getClass()), messages.capture());
+      List<Object> chunks = messages.getAllValues();
+      StringBuilder actual = new StringBuilder();
+      for (Object chunk : chunks) {
+         String s = (String) chunk;
+         assertTrue("chunks should not exceed the threshold by more than a line!",
+                    s.length() < ConsoleReportWriter.FLUSH_THRESHOLD + 2 * line.length());
+         assertTrue("chunks should not end with a newline!", !s.endsWith(NEWLINE));
+         // The logger terminates each message with a newline.
+         actual.append(s).append(NEWLINE);
+      }
+      assertEquals("the logged chunks should contain the entire report!",
+                   expected.toString(),
+                   actual.toString());
+   }
+
+   @Test
+   public void testDoesNotLogEmptyReport() throws Throwable {
+      try (ConsoleReportWriter writer = new ConsoleReportWriter(logService, getClass())) {
+         writer.flushIfNeeded();
+      }
+
+      verify(logService, never()).info(any(Class.class), any(Object.class));
+   }
+}
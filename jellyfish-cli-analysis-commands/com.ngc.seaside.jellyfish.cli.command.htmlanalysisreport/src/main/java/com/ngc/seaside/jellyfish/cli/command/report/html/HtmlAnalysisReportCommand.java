@@ -23,11 +23,13 @@
 package com.ngc.seaside.jellyfish.cli.command.report.html;
 
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Deactivate;
@@ -35,9 +37,8 @@ import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.osgi.service.component.annotations.ReferencePolicy;
 
-import com.google.common.collect.ArrayListMultimap;
-import com.google.common.collect.LinkedListMultimap;
-import com.google.common.collect.Multimap;
+import com.google.common.collect.Iterables;
+import com.google.common.collect.ListMultimap;
 import com.ngc.seaside.jellyfish.api.CommonParameters;
 import com.ngc.seaside.jellyfish.api.DefaultParameter;
 import com.ngc.seaside.jellyfish.api.DefaultParameterCollection;
@@ -51,7 +52,9 @@ import com.ngc.seaside.jellyfish.service.analysis.api.IAnalysisService;
 import com.ngc.seaside.jellyfish.service.analysis.api.IReportingOutputService;
 import com.ngc.seaside.jellyfish.service.analysis.api.ISystemDescriptorFindingType;
 import com.ngc.seaside.jellyfish.service.analysis.api.SystemDescriptorFinding;
+import com.ngc.seaside.jellyfish.service.analysis.api.SystemDescriptorFindings;
 import com.ngc.seaside.jellyfish.service.template.api.ITemplateService;
+import com.ngc.seaside.jellyfish.utilities.file.SourceSnippetCache;
 import com.ngc.seaside.systemdescriptor.service.log.api.ILogService;
 import com.ngc.seaside.systemdescriptor.service.source.api.ISourceLocation;
 
@@ -124,22 +127,22 @@ public class HtmlAnalysisReportCommand implements ICommand<ICommandOptions> {
          logService.info(getClass(), "No findings to report.");
       }
 
-      // Sort by severity first.
-      Multimap<ISystemDescriptorFindingType.Severity, SystemDescriptorFinding<?>> findings =
-            ArrayListMultimap.create();
-      for (SystemDescriptorFinding<?> finding : all) {
-         findings.put(finding.getType().getSeverity(), finding);
-      }
+      // Sort by severity first and then group into types.
+      Map<ISystemDescriptorFindingType.Severity, ListMultimap<ISystemDescriptorFindingType,
+            SystemDescriptorFinding<?>>> findings = SystemDescriptorFindings.groupBySeverityAndType(all);
+      SourceSnippetCache sources = new SourceSnippetCache();
 
+      // The findings are converted to HTML lazily as the report is written.  This avoids building the entire report in
+      // memory before it is written.
       HtmlReportDto dto = new HtmlReportDto()
             .setReportName(commandOptions.getParameters()
                                  .getParameter(REPORT_NAME_PARAMETER_NAME)
                                  .getStringValue() + ".html")
             .setTitle("Jellyfish Analysis Report");
       addSummary(findings, dto);
-      addErrors(findings, dto);
-      addWarnings(findings, dto);
-      addInfo(findings, dto);
+      addErrors(findings, sources, dto);
+      addWarnings(findings, sources, dto);
+      addInfo(findings, sources, dto);
       addRuntimeInformation(commandOptions, dto);
 
       outputReport(commandOptions, dto);
@@ -199,7 +202,8 @@ public class HtmlAnalysisReportCommand implements ICommand<ICommandOptions> {
       setReportingOutputService(null);
    }
 
-   private void addSummary(Multimap<ISystemDescriptorFindingType.Severity, SystemDescriptorFinding<?>> findings,
+   private void addSummary(Map<ISystemDescriptorFindingType.Severity, ListMultimap<ISystemDescriptorFindingType,
+                                 SystemDescriptorFinding<?>>> findings,
                            HtmlReportDto dto) {
       String section = "<div class=\"summary\">\n"
                        + "<h1 id=\"summary\">Summary</h1>\n"
@@ -219,59 +223,64 @@ public class HtmlAnalysisReportCommand implements ICommand<ICommandOptions> {
       dto.addContent(section);
    }
 
-   private void addErrors(Multimap<ISystemDescriptorFindingType.Severity, SystemDescriptorFinding<?>> findings,
+   private void addErrors(Map<ISystemDescriptorFindingType.Severity, ListMultimap<ISystemDescriptorFindingType,
+                                SystemDescriptorFinding<?>>> findings,
+                          SourceSnippetCache sources,
                           HtmlReportDto dto) {
-      StringBuilder section = new StringBuilder();
-      section.append("<div class=\"errors\">\n");
-      section.append("<h1 id=\"errors\">Errors</h1>\n");
-      appendFindings(findings.get(ISystemDescriptorFindingType.Severity.ERROR), section);
-      section.append("</div>\n");
-      dto.addContent(section.toString());
+      dto.addContent("<div class=\"errors\">\n"
+                     + "<h1 id=\"errors\">Errors</h1>\n");
+      dto.addContent(getFindingsContent(findings.get(ISystemDescriptorFindingType.Severity.ERROR), sources));
+      dto.addContent("</div>\n");
    }
 
-   private void addWarnings(Multimap<ISystemDescriptorFindingType.Severity, SystemDescriptorFinding<?>> findings,
+   private void addWarnings(Map<ISystemDescriptorFindingType.Severity, ListMultimap<ISystemDescriptorFindingType,
+                                  SystemDescriptorFinding<?>>> findings,
+                            SourceSnippetCache sources,
                             HtmlReportDto dto) {
-      StringBuilder section = new StringBuilder();
-      section.append("<div class=\"warnings\">\n");
-      section.append("<h1 id=\"warnings\">Warnings</h1>\n");
-      appendFindings(findings.get(ISystemDescriptorFindingType.Severity.WARNING), section);
-      section.append("</div>\n");
-      dto.addContent(section.toString());
+      dto.addContent("<div class=\"warnings\">\n"
+                     + "<h1 id=\"warnings\">Warnings</h1>\n");
+      dto.addContent(getFindingsContent(findings.get(ISystemDescriptorFindingType.Severity.WARNING), sources));
+      dto.addContent("</div>\n");
    }
 
-   private void addInfo(Multimap<ISystemDescriptorFindingType.Severity, SystemDescriptorFinding<?>> findings,
-            HtmlReportDto dto) {
-      StringBuilder section = new StringBuilder();
-      section.append("<div class=\"info\">\n");
-      section.append("<h1 id=\"info\">Info</h1>\n");
-      appendFindings(findings.get(ISystemDescriptorFindingType.Severity.INFO), section);
-      section.append("</div>\n");
-      dto.addContent(section.toString());
+   private void addInfo(Map<ISystemDescriptorFindingType.Severity, ListMultimap<ISystemDescriptorFindingType,
+                              SystemDescriptorFinding<?>>> findings,
+                        SourceSnippetCache sources,
+                        HtmlReportDto dto) {
+      dto.addContent("<div class=\"info\">\n"
+                     + "<h1 id=\"info\">Info</h1>\n");
+      dto.addContent(getFindingsContent(findings.get(ISystemDescriptorFindingType.Severity.INFO), sources));
+      dto.addContent("</div>\n");
    }
 
-   private void appendFindings(Collection<SystemDescriptorFinding<?>> findings,
-                               StringBuilder sb) {
-      // Group into types.
-      Multimap<ISystemDescriptorFindingType, SystemDescriptorFinding<?>> sorted = LinkedListMultimap.create();
-      findings.forEach(f -> sorted.put(f.getType(), f));
-
-      for (ISystemDescriptorFindingType type : sorted.keySet()) {
-         sb.append("<div class=\"finding-type\">\n");
-         sb.append(reportingOutputService.convert(type.getDescription()));
-
-         for (SystemDescriptorFinding<?> finding : sorted.get(type)) {
-            sb.append("<div class=\"finding\">\n");
-            if (finding.getLocation().isPresent()) {
-               sb.append(getLocationContent(finding.getLocation().get(), finding.getType().getSeverity()));
-            }
-            sb.append("<div class=\"finding-details\">\n");
-            sb.append(reportingOutputService.convert(finding.getMessage()));
-            sb.append("</div>\n");
-            sb.append("</div>\n");
-         }
+   /**
+    * Gets the HTML content of the given findings.  The content of each finding is only produced when the returned
+    * iterable is iterated.
+    */
+   private Iterable<String> getFindingsContent(ListMultimap<ISystemDescriptorFindingType,
+                                                     SystemDescriptorFinding<?>> findings,
+                                               SourceSnippetCache sources) {
+      List<Iterable<String>> content = new ArrayList<>();
+      for (ISystemDescriptorFindingType type : findings.keySet()) {
+         content.add(Collections.singletonList(
+               "<div class=\"finding-type\">\n" + reportingOutputService.convert(type.getDescription())));
+         content.add(Iterables.transform(findings.get(type), finding -> getFindingContent(finding, sources)));
+         content.add(Collections.singletonList("</div>\n"));
+      }
+      return Iterables.concat(content);
+   }
 
-         sb.append("</div>\n");
+   private String getFindingContent(SystemDescriptorFinding<?> finding, SourceSnippetCache sources) {
+      StringBuilder sb = new StringBuilder();
+      sb.append("<div class=\"finding\">\n");
+      if (finding.getLocation().isPresent()) {
+         sb.append(getLocationContent(finding.getLocation().get(), finding.getType().getSeverity(), sources));
       }
+      sb.append("<div class=\"finding-details\">\n");
+      sb.append(reportingOutputService.convert(finding.getMessage()));
+      sb.append("</div>\n");
+      sb.append("</div>\n");
+      return sb.toString();
    }
 
    private void addRuntimeInformation(ICommandOptions commandOptions, HtmlReportDto dto) {
@@ -309,7 +318,9 @@ public class HtmlAnalysisReportCommand implements ICommand<ICommandOptions> {
                              true);
    }
 
-   private String getLocationContent(ISourceLocation location, ISystemDescriptorFindingType.Severity severity) {
+   private String getLocationContent(ISourceLocation location,
+                                     ISystemDescriptorFindingType.Severity severity,
+                                     SourceSnippetCache sources) {
       String icon = "";
       if (severity == ISystemDescriptorFindingType.Severity.ERROR) {
          icon = "<i class=\"error fas fa-times\"></i> ";
@@ -324,16 +335,16 @@ public class HtmlAnalysisReportCommand implements ICommand<ICommandOptions> {
              + "<span class=\"col\">col " + location.getColumn() + "</span>\n"
              + "</div>\n"
              + "<div class=\"source-snippet\">\n"
-             + getLocationContents(location)
+             + getLocationContents(location, sources)
              + "</div>\n";
    }
 
-   private String getLocationContents(ISourceLocation location) {
+   private String getLocationContents(ISourceLocation location, SourceSnippetCache sources) {
       StringBuilder sb = new StringBuilder();
       sb.append("<div class=\"source-code language-sd\">\n");
 
       try {
-         List<String> lines = Files.readAllLines(location.getPath());
+         List<String> lines = sources.getLines(location.getPath());
          int line = location.getLineNumber() - 1;
 
          for (int i = Math.max(0, line - PRECEDING_LINES_TO_SHOW);
@@ -22,9 +22,11 @@
  */
 package com.ngc.seaside.jellyfish.cli.command.report.html;
 
+import com.google.common.collect.Iterables;
+
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -43,9 +45,10 @@ public class HtmlReportDto {
    private String title;
 
    /**
-    * The HTML contents of the report.
+    * The HTML contents of the report.  Content may be lazily produced so that the report can be written as the contents
+    * are iterated.
     */
-   private final List<String> contents = new ArrayList<>();
+   private final List<Iterable<String>> contents = new ArrayList<>();
 
    /**
     * Gets the file name of the report.
@@ -78,17 +81,18 @@ public class HtmlReportDto {
    }
 
    /**
-    * Gets the contents of the report.
+    * Gets the contents of the report.  Lazily produced content is only produced when the returned iterable is
+    * iterated.
     */
-   public List<String> getContents() {
-      return contents;
+   public Iterable<String> getContents() {
+      return Iterables.concat(contents);
    }
 
    /**
     * Adds some HTML content to the report.
     */
    public HtmlReportDto addContent(String content) {
-      contents.add(content);
+      contents.add(Collections.singletonList(content));
       return this;
    }
 
@@ -96,18 +100,18 @@ public class HtmlReportDto {
     * Adds some HTML content to the report.
     */
    public HtmlReportDto addContent(String content, String... contents) {
-      this.contents.add(content);
+      addContent(content);
       if (contents != null) {
-         this.contents.addAll(Arrays.asList(contents));
+         this.contents.add(Arrays.asList(contents));
       }
       return this;
    }
 
    /**
-    * Adds some HTML content to the report.
+    * Adds some HTML content to the report.  The content may be lazily produced when it is iterated.
     */
-   public HtmlReportDto addContent(Collection<String> contents) {
-      this.contents.addAll(contents);
+   public HtmlReportDto addContent(Iterable<String> contents) {
+      this.contents.add(contents);
       return this;
    }
 }
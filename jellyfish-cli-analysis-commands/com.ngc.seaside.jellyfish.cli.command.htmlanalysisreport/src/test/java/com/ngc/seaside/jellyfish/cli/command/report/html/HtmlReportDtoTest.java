@@ -0,0 +1,81 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.jellyfish.cli.command.report.html;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.google.common.collect.Iterables;
+
+public class HtmlReportDtoTest {
+
+   @Test
+   public void testDoesReturnContentsInOrder() throws Throwable {
+      HtmlReportDto dto = new HtmlReportDto()
+            .addContent("<h1>")
+            .addContent("a", "b", "c")
+            .addContent(Arrays.asList("d", "e"))
+            .addContent("</h1>");
+
+      assertEquals(Arrays.asList("<h1>", "a", "b", "c", "d", "e", "</h1>"), toList(dto.getContents()));
+   }
+
+   @Test
+   public void testDoesProduceLazyContentOnlyWhenIterated() throws Throwable {
+      AtomicInteger produced = new AtomicInteger();
+      List<Integer> findings = Arrays.asList(1, 2, 3);
+      HtmlReportDto dto = new HtmlReportDto()
+            .addContent("<div>")
+            .addContent(Iterables.transform(findings, i -> {
+               produced.incrementAndGet();
+               return "<p>" + i + "</p>";
+            }))
+            .addContent("</div>");
+
+      assertEquals("content should not be produced before the contents are iterated!",
+                   0,
+                   produced.get());
+
+      Iterable<String> contents = dto.getContents();
+      assertEquals("content should not be produced when the contents are retrieved!",
+                   0,
+                   produced.get());
+
+      assertEquals(Arrays.asList("<div>", "<p>1</p>", "<p>2</p>", "<p>3</p>", "</div>"), toList(contents));
+      assertEquals("each finding should be produced once per iteration!",
+                   findings.size(),
+                   produced.get());
+   }
+
+   private static List<String> toList(Iterable<String> contents) {
+      List<String> list = new ArrayList<>();
+      contents.forEach(list::add);
+      return list;
+   }
+}
@@ -127,8 +127,11 @@ public class Requirement implements Comparable<Object> {
       if (!(obj instanceof Requirement)) {
          throw new ClassCastException("A Requirement object expected.");
       }
-      int thatHashCode = obj.hashCode();
-      return this.hashCode() - thatHashCode;
+      // Subtracting the hash codes can overflow and IDs with the same hash code must not be considered equal, otherwise
+      // requirements are lost when they are added to a sorted set.
+      Requirement that = (Requirement) obj;
+      int result = Integer.compare(this.hashCode(), that.hashCode());
+      return result == 0 ? id.compareTo(that.id) : result;
    }
 }
 
@@ -27,17 +27,21 @@ import com.ngc.seaside.systemdescriptor.model.api.model.IModel;
 
 import org.apache.commons.lang.StringUtils;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.TreeSet;
+import java.util.List;
 
 public class RequirementItemFormat implements ITableFormat<Requirement> {
 
-   private Collection<IModel> models = new TreeSet<>(Collections.reverseOrder());
+   /**
+    * The models in column order.  A list is used so the model of a column can be looked up without copying the
+    * collection for every cell.
+    */
+   private final List<IModel> models;
    private final int reqColWidth;
 
    public RequirementItemFormat(Collection<IModel> models, int reqColWidth) {
-      this.models = models;
+      this.models = new ArrayList<>(models);
       this.reqColWidth = reqColWidth;
    }
 
@@ -83,7 +87,7 @@ public class RequirementItemFormat implements ITableFormat<Requirement> {
    }
 
    private IModel getModelAt(int index) {
-      return (IModel) models.toArray()[index];
+      return models.get(index);
    }
 
    @Override
@@ -117,7 +117,9 @@ public class Requirement implements Comparable<Requirement> {
 
    @Override
    public int compareTo(Requirement obj) throws ClassCastException {
-      int thatHashCode = obj.hashCode();
-      return this.hashCode() - thatHashCode;
+      // Subtracting the hash codes can overflow and IDs with the same hash code must not be considered equal, otherwise
+      // requirements are lost when they are added to a sorted set.
+      int result = Integer.compare(this.hashCode(), obj.hashCode());
+      return result == 0 ? id.compareTo(obj.id) : result;
    }
 }
@@ -0,0 +1,116 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.jellyfish.cli.command.report.requirementsverification;
+
+import com.google.common.base.Preconditions;
+import com.ngc.seaside.jellyfish.api.IJellyFishCommandOptions;
+import com.ngc.seaside.jellyfish.service.feature.api.IFeatureInformation;
+import com.ngc.seaside.jellyfish.service.requirements.api.IRequirementsService;
+import com.ngc.seaside.systemdescriptor.model.api.model.IModel;
+import com.ngc.seaside.systemdescriptor.model.api.model.scenario.IScenario;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * An inverted index from requirement IDs to the features that verify them.  The index is built in a single pass over
+ * the features.  A feature verifies the requirements declared in the metadata of its scenario and of the model that
+ * contains the scenario.  The requirements of each model are only looked up once, regardless of how many features
+ * the model has.
+ */
+public class RequirementsVerificationIndex {
+
+   private final Map<String, Requirement> requirementsById = new HashMap<>();
+   private final Map<IModel, Set<String>> requirementsByModel = new HashMap<>();
+   private final IJellyFishCommandOptions commandOptions;
+   private final IRequirementsService requirementsService;
+
+   private RequirementsVerificationIndex(IJellyFishCommandOptions commandOptions,
+                                         IRequirementsService requirementsService) {
+      this.commandOptions = commandOptions;
+      this.requirementsService = requirementsService;
+   }
+
+   /**
+    * Creates a new index of the given features.  Features without a model or scenario are ignored.
+    *
+    * @param commandOptions      the options of the current command
+    * @param requirementsService the service used to get the requirements of models and scenarios
+    * @param features            the features to index
+    * @return the index
+    */
+   public static RequirementsVerificationIndex create(IJellyFishCommandOptions commandOptions,
+                                                      IRequirementsService requirementsService,
+                                                      Collection<IFeatureInformation> features) {
+      Preconditions.checkNotNull(requirementsService, "requirementsService may not be null!");
+      Preconditions.checkNotNull(features, "features may not be null!");
+      RequirementsVerificationIndex index = new RequirementsVerificationIndex(commandOptions, requirementsService);
+      for (IFeatureInformation feature : features) {
+         IModel model = feature.getModel().orElse(null);
+         IScenario scenario = feature.getScenario().orElse(null);
+         if (model != null && scenario != null) {
+            String featureName = feature.getFullyQualifiedName();
+            index.add(requirementsService.getRequirements(commandOptions, scenario), featureName);
+            index.add(index.getRequirements(model), featureName);
+         }
+      }
+      return index;
+   }
+
+   /**
+    * Gets the requirements that are verified by at least one feature, ordered as they appear in the matrix.
+    *
+    * @return the verified requirements
+    */
+   public Collection<Requirement> getRequirements() {
+      TreeSet<Requirement> requirements = new TreeSet<>(Collections.reverseOrder());
+      requirements.addAll(requirementsById.values());
+      return requirements;
+   }
+
+   /**
+    * Gets the fully qualified names of the features that verify the given requirement.
+    *
+    * @param requirementId the ID of the requirement
+    * @return the features that verify the requirement
+    */
+   public Collection<String> getFeatures(String requirementId) {
+      Requirement requirement = requirementsById.get(requirementId);
+      return requirement == null ? Collections.emptySet() : requirement.getFeatures();
+   }
+
+   private Set<String> getRequirements(IModel model) {
+      return requirementsByModel.computeIfAbsent(model,
+                                                 m -> requirementsService.getRequirements(commandOptions, m));
+   }
+
+   private void add(Collection<String> requirementIds, String featureName) {
+      for (String requirementId : requirementIds) {
+         requirementsById.computeIfAbsent(requirementId, Requirement::new).addFeature(featureName);
+      }
+   }
+}
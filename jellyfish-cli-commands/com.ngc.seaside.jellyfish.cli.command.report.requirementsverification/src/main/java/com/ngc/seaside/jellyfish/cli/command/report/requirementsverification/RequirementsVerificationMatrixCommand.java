@@ -28,9 +28,10 @@ import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.TreeSet;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -41,9 +42,6 @@ import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.osgi.service.component.annotations.ReferencePolicy;
 
-import com.google.common.collect.Multimap;
-import com.google.common.collect.Ordering;
-import com.google.common.collect.TreeMultimap;
 import com.ngc.seaside.jellyfish.api.CommandException;
 import com.ngc.seaside.jellyfish.api.DefaultParameter;
 import com.ngc.seaside.jellyfish.api.DefaultUsage;
@@ -58,7 +56,6 @@ import com.ngc.seaside.jellyfish.service.feature.api.IFeatureService;
 import com.ngc.seaside.jellyfish.service.requirements.api.IRequirementsService;
 import com.ngc.seaside.jellyfish.utilities.console.impl.stringtable.StringTable;
 import com.ngc.seaside.systemdescriptor.model.api.model.IModel;
-import com.ngc.seaside.systemdescriptor.model.api.model.scenario.IScenario;
 import com.ngc.seaside.systemdescriptor.service.log.api.ILogService;
 
 @Component(service = IJellyFishCommand.class)
@@ -177,7 +174,7 @@ public class RequirementsVerificationMatrixCommand implements IJellyFishCommand
       Path outputPath = evaluateOutput(commandOptions);
       String values = evaluateValues(commandOptions);
       String operator = evaluateOperator(commandOptions);
-      Collection<IModel> models = searchModels(commandOptions, values, operator);
+      Set<IModel> models = new HashSet<>(searchModels(commandOptions, values, operator));
 
       Map<Path, IFeatureInformation>
             features = featureService.getAllFeatures(commandOptions)
@@ -190,7 +187,7 @@ public class RequirementsVerificationMatrixCommand implements IJellyFishCommand
       }
       Collections.sort(fullyQualifiedFeatureNameList, Collections.reverseOrder());
 
-      Collection<Requirement> satisfiedRequirements = verifyRequirements(commandOptions, models, features);
+      Collection<Requirement> satisfiedRequirements = verifyRequirements(commandOptions, features);
 
       String report;
       if (outputFormat.equalsIgnoreCase("csv")) {
@@ -266,57 +263,13 @@ public class RequirementsVerificationMatrixCommand implements IJellyFishCommand
    /**
     * Verifies which feature files meets which requirement.
     *
-    * @param models   models to search through for requirements
     * @param features features to look for
     * @return returns a Collection of {@link Requirement}s
     */
    private Collection<Requirement> verifyRequirements(IJellyFishCommandOptions commandOptions,
-                                                      Collection<IModel> models,
                                                       Map<Path, IFeatureInformation> features) {
-      TreeMultimap<String, String>
-            requirementsMap =
-            TreeMultimap.create(Ordering.natural().reverse(), Ordering.natural());
-
-      features.forEach((featureFileName, featureInfo) -> {
-         IModel
-               model =
-               models.stream().filter(aModel -> featureInfo.getFullyQualifiedName().startsWith(aModel.getName()))
-                     .findAny().orElse(null);
-
-         if (model != null) {
-
-            IScenario scenario = featureInfo.getScenario().orElse(null);
-
-            // A feature file should be considered to verify a requirement:
-            if (scenario != null) {
-
-               for (String scenarioReq : requirementsService.getRequirements(commandOptions, scenario)) {
-                  requirementsMap.put(scenarioReq, featureInfo.getFullyQualifiedName());
-               }
-               for (String modelReq : requirementsService.getRequirements(commandOptions, model)) {
-                  requirementsMap.put(modelReq, featureInfo.getFullyQualifiedName());
-               }
-            }
-         }
-      });
-      return createVerifiedRequirements(requirementsMap);
-   }
-
-   /**
-    * This is a helper method that goes through a multimap of requirement to value(s) and creates a {@link Requirement}
-    * objects.
-    *
-    * @param requirementsMap a map where key = a requirement and value(s) = all features that that satisfy it
-    * @return returns a Collection of {@link Requirement}s
-    */
-   private Collection<Requirement> createVerifiedRequirements(Multimap<String, String> requirementsMap) {
-      TreeSet<Requirement> requirements = new TreeSet<>(Collections.reverseOrder());
-      requirementsMap.keySet().forEach(requirement -> {
-         Requirement helper = new Requirement(requirement);
-         helper.addFeatures(requirementsMap.get(requirement));
-         requirements.add(helper);
-      });
-      return requirements;
+      return RequirementsVerificationIndex.create(commandOptions, requirementsService, features.values())
+            .getRequirements();
    }
 
    /**
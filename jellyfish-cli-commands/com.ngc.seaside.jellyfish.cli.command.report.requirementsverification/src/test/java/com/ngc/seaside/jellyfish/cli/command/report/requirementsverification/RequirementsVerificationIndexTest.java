@@ -0,0 +1,176 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.jellyfish.cli.command.report.requirementsverification;
+
+import com.ngc.seaside.jellyfish.api.IJellyFishCommandOptions;
+import com.ngc.seaside.jellyfish.cli.command.report.requirementsverification.utilities.MatrixUtils;
+import com.ngc.seaside.jellyfish.service.feature.api.IFeatureInformation;
+import com.ngc.seaside.jellyfish.service.requirements.api.IRequirementsService;
+import com.ngc.seaside.systemdescriptor.model.api.metadata.IMetadata;
+import com.ngc.seaside.systemdescriptor.model.api.model.IModel;
+import com.ngc.seaside.systemdescriptor.model.api.model.scenario.IScenario;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public class RequirementsVerificationIndexTest {
+
+   private static final int MODELS = 200;
+   private static final int SCENARIOS_PER_MODEL = 10;
+   private static final int REQUIREMENTS_PER_MODEL = 5;
+
+   private final Map<IModel, Set<String>> modelRequirements = new HashMap<>();
+   private final Map<IScenario, Set<String>> scenarioRequirements = new HashMap<>();
+   private final AtomicInteger modelLookups = new AtomicInteger();
+   private final List<IFeatureInformation> features = new ArrayList<>();
+   private final List<String> featureNames = new ArrayList<>();
+
+   private IJellyFishCommandOptions options;
+   private IRequirementsService requirementsService;
+
+   @Before
+   public void setup() {
+      options = mock(IJellyFishCommandOptions.class);
+      requirementsService = new IRequirementsService() {
+         @Override
+         public Set<String> getRequirements(IJellyFishCommandOptions options, IMetadata metadata) {
+            throw new UnsupportedOperationException();
+         }
+
+         @Override
+         public Set<String> getRequirements(IJellyFishCommandOptions options, IModel model) {
+            modelLookups.incrementAndGet();
+            return modelRequirements.get(model);
+         }
+
+         @Override
+         public Set<String> getRequirements(IJellyFishCommandOptions options, IScenario scenario) {
+            return scenarioRequirements.get(scenario);
+         }
+      };
+
+      // Every model satisfies its own requirements and every scenario verifies two requirements of its own.  This
+      // results in thousands of requirements.
+      for (int m = 0; m < MODELS; m++) {
+         IModel model = mock(IModel.class);
+         Set<String> requirements = new HashSet<>();
+         for (int r = 0; r < REQUIREMENTS_PER_MODEL; r++) {
+            requirements.add(String.format("MODEL-%d-%d", m, r));
+         }
+         modelRequirements.put(model, requirements);
+         for (int s = 0; s < SCENARIOS_PER_MODEL; s++) {
+            IScenario scenario = mock(IScenario.class);
+            scenarioRequirements.put(scenario, new HashSet<>(Arrays.asList(String.format("SCENARIO-%d-%d-A", m, s),
+                                                                           String.format("SCENARIO-%d-%d-B", m, s))));
+            String name = String.format("com.ngc.Model%d.scenario%d.feature", m, s);
+            features.add(new Feature(name, model, scenario));
+            featureNames.add(name);
+         }
+      }
+      // A feature without a scenario does not verify anything.
+      features.add(new Feature("unknown.feature", modelRequirements.keySet().iterator().next(), null));
+   }
+
+   @Test
+   public void testDoesIndexRequirements() {
+      RequirementsVerificationIndex index = RequirementsVerificationIndex.create(options,
+                                                                                 requirementsService,
+                                                                                 features);
+
+      int expectedRequirements = MODELS * REQUIREMENTS_PER_MODEL + MODELS * SCENARIOS_PER_MODEL * 2;
+      Collection<Requirement> requirements = index.getRequirements();
+      assertEquals(expectedRequirements, requirements.size());
+      assertEquals("the requirements of each model should only be looked up once",
+                   MODELS,
+                   modelLookups.get());
+
+      assertEquals(SCENARIOS_PER_MODEL, index.getFeatures("MODEL-7-3").size());
+      assertTrue(index.getFeatures("MODEL-7-3").contains("com.ngc.Model7.scenario4.feature"));
+      assertEquals(Arrays.asList("com.ngc.Model7.scenario4.feature"),
+                   new ArrayList<>(index.getFeatures("SCENARIO-7-4-B")));
+      assertTrue(index.getFeatures("UNKNOWN").isEmpty());
+   }
+
+   @Test(timeout = 30_000)
+   public void testDoesScaleToThousandsOfRequirements() {
+      Collection<Requirement> requirements = RequirementsVerificationIndex.create(options,
+                                                                                  requirementsService,
+                                                                                  features)
+            .getRequirements();
+
+      String csv = MatrixUtils.generateCsvVerificationMatrix(requirements, featureNames);
+      String[] lines = csv.split("\n");
+      assertEquals(requirements.size() + 1, lines.length);
+      assertEquals(featureNames.size() + 1, lines[1].split(",", -1).length);
+   }
+
+   private static class Feature implements IFeatureInformation {
+
+      private final String name;
+      private final IModel model;
+      private final IScenario scenario;
+
+      Feature(String name, IModel model, IScenario scenario) {
+         this.name = name;
+         this.model = model;
+         this.scenario = scenario;
+      }
+
+      @Override
+      public Path getPath() {
+         return Paths.get(name);
+      }
+
+      @Override
+      public String getFullyQualifiedName() {
+         return name;
+      }
+
+      @Override
+      public Optional<IModel> getModel() {
+         return Optional.ofNullable(model);
+      }
+
+      @Override
+      public Optional<IScenario> getScenario() {
+         return Optional.ofNullable(scenario);
+      }
+   }
+}
@@ -59,6 +59,8 @@ import com.ngc.seaside.systemdescriptor.service.api.ISystemDescriptorService;
 import com.ngc.seaside.systemdescriptor.service.gherkin.api.IGherkinParsingResult;
 import com.ngc.seaside.systemdescriptor.service.gherkin.api.IGherkinService;
 import com.ngc.seaside.systemdescriptor.service.log.api.ILogService;
+import com.ngc.seaside.systemdescriptor.service.profile.api.ProfileSpan;
+import com.ngc.seaside.systemdescriptor.service.profile.api.Profiler;
 
 /**
  * A command provider that runs {@code IJellyfishCommand}s. These commands
@@ -77,6 +79,8 @@ public class JellyfishCommandProvider
 
     private IGherkinService gherkinService;
 
+    private Profiler profiler = Profiler.disabled();
+
     @Override
     public IUsage getUsage() {
         List<IParameter<?>> parameters = new ArrayList<>();
@@ -119,7 +123,9 @@ public class JellyfishCommandProvider
         Preconditions.checkNotNull(commandOptions, "commandOptions may not be null!");
         IJellyFishCommand c = getCommand(command);
         Preconditions.checkArgument(c != null, "could not find command named %s!", command);
-        c.run(commandOptions);
+        try (ProfileSpan span = profiler.span("command:" + command)) {
+            c.run(commandOptions);
+        }
     }
 
     @Activate
@@ -160,6 +166,13 @@ public class JellyfishCommandProvider
         setGherkinService(null);
     }
 
+    /**
+     * Sets the profiler that records the commands that are run.  Commands are not profiled unless a profiler is set.
+     */
+    public void setProfiler(Profiler profiler) {
+        this.profiler = Preconditions.checkNotNull(profiler, "profiler may not be null!");
+    }
+
     private JellyfishCommandContext parseParameters(String command, List<String> params) {
         JellyfishCommandContext ctx = new JellyfishCommandContext(command, parameterService.parseParameters(params));
 
@@ -227,7 +240,9 @@ public class JellyfishCommandProvider
         }
 
         // Run the command.
-        command.run(options);
+        try (ProfileSpan span = profiler.span("command:" + ctx.getCommand())) {
+            command.run(options);
+        }
         return options;
     }
 
@@ -243,6 +258,12 @@ public class JellyfishCommandProvider
     }
 
     private IParsingResult parseProject(JellyfishCommandContext ctx) {
+        try (ProfileSpan span = profiler.span("project")) {
+            return doParseProject(ctx);
+        }
+    }
+
+    private IParsingResult doParseProject(JellyfishCommandContext ctx) {
         IParsingResult result;
         if (ctx.isGavSpecified()) {
             String gav = ctx.getParameters()
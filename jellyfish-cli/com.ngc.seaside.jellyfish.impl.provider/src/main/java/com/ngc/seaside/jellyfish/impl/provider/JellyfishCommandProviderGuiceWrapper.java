@@ -35,6 +35,7 @@ import com.ngc.seaside.jellyfish.service.parameter.api.IParameterService;
 import com.ngc.seaside.systemdescriptor.service.api.ISystemDescriptorService;
 import com.ngc.seaside.systemdescriptor.service.gherkin.api.IGherkinService;
 import com.ngc.seaside.systemdescriptor.service.log.api.ILogService;
+import com.ngc.seaside.systemdescriptor.service.profile.api.Profiler;
 
 /**
  * Wraps the Jellyfish command provider.
@@ -76,6 +77,14 @@ public class JellyfishCommandProviderGuiceWrapper implements IJellyFishCommandPr
       delegate.activate();
    }
 
+   /**
+    * Sets the profiler of the execution.  Commands are not profiled if no profiler is bound.
+    */
+   @Inject(optional = true)
+   public void setProfiler(Profiler profiler) {
+      delegate.setProfiler(profiler);
+   }
+
    @Override
    public IUsage getUsage() {
       injectCommandsIfNeeded();
@@ -0,0 +1,63 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.jellyfish.service.analysis.api;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ListMultimap;
+import com.google.common.collect.MultimapBuilder;
+import com.ngc.seaside.jellyfish.service.analysis.api.ISystemDescriptorFindingType.Severity;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Contains utility methods for working with {@link SystemDescriptorFinding}s.
+ */
+public class SystemDescriptorFindings {
+
+   private SystemDescriptorFindings() {
+   }
+
+   /**
+    * Groups the given findings by severity and then by type in a single pass.  The returned map contains an entry for
+    * every severity, even if there are no findings with that severity.  Types are ordered by the first finding of
+    * each type and the findings of each type keep the order of the given collection.
+    *
+    * @param findings the findings to group
+    * @return the findings grouped by severity and type
+    */
+   public static Map<Severity, ListMultimap<ISystemDescriptorFindingType, SystemDescriptorFinding<?>>>
+         groupBySeverityAndType(Collection<? extends SystemDescriptorFinding<?>> findings) {
+      Preconditions.checkNotNull(findings, "findings may not be null!");
+      Map<Severity, ListMultimap<ISystemDescriptorFindingType, SystemDescriptorFinding<?>>> grouped =
+            new EnumMap<>(Severity.class);
+      for (Severity severity : Severity.values()) {
+         grouped.put(severity, MultimapBuilder.linkedHashKeys().arrayListValues().build());
+      }
+      for (SystemDescriptorFinding<?> finding : findings) {
+         grouped.get(finding.getType().getSeverity()).put(finding.getType(), finding);
+      }
+      return grouped;
+   }
+}
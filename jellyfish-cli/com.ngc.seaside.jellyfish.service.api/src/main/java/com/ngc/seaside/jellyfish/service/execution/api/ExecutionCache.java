@@ -0,0 +1,113 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.jellyfish.service.execution.api;
+
+import com.google.common.base.Preconditions;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * A cache of values computed during a single execution of Jellyfish.  Values are keyed by the identity of an element
+ * of the system descriptor, such as a model or field, and a discriminator that is compared with {@code equals}.  The
+ * discriminator typically contains the name of the value being computed and the values of any command parameters the
+ * computation depends on.
+ *
+ * @param <V> the type of the cached values
+ */
+public class ExecutionCache<V> {
+
+   private final Map<Key, V> values = new ConcurrentHashMap<>();
+
+   /**
+    * Gets the cached value for the given element and discriminator, computing the value if it is not cached.  If the
+    * computation fails, nothing is cached.
+    *
+    * @param element       the element the value is computed from, compared by identity
+    * @param discriminator distinguishes different values computed from the same element, compared with equals
+    * @param computation   computes the value
+    * @return the value
+    */
+   public V get(Object element, Object discriminator, Supplier<? extends V> computation) {
+      Preconditions.checkNotNull(element, "element may not be null!");
+      Preconditions.checkNotNull(computation, "computation may not be null!");
+      Key key = new Key(element, discriminator);
+      V value = values.get(key);
+      if (value == null) {
+         // The value is computed outside of the map so computations may use other caches without holding a lock.
+         // Two threads may compute the same value at once, but the first value is kept.
+         value = computation.get();
+         if (value != null) {
+            V existing = values.putIfAbsent(key, value);
+            value = existing == null ? value : existing;
+         }
+      }
+      return value;
+   }
+
+   /**
+    * Gets the number of cached values.
+    */
+   public int size() {
+      return values.size();
+   }
+
+   /**
+    * Discards all cached values.
+    */
+   public void clear() {
+      values.clear();
+   }
+
+   private static class Key {
+
+      private final Object element;
+      private final Object discriminator;
+      private final int hashCode;
+
+      private Key(Object element, Object discriminator) {
+         this.element = element;
+         this.discriminator = discriminator;
+         this.hashCode = 31 * System.identityHashCode(element) + Objects.hashCode(discriminator);
+      }
+
+      @Override
+      public boolean equals(Object o) {
+         if (this == o) {
+            return true;
+         }
+         if (!(o instanceof Key)) {
+            return false;
+         }
+         Key that = (Key) o;
+         return element == that.element && Objects.equals(discriminator, that.discriminator);
+      }
+
+      @Override
+      public int hashCode() {
+         return hashCode;
+      }
+   }
+}
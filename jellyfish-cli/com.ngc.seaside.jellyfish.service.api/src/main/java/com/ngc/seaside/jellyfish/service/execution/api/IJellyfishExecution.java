@@ -26,6 +26,9 @@ import com.google.inject.Injector;
 import com.ngc.seaside.jellyfish.api.IJellyFishCommandOptions;
 import com.ngc.seaside.systemdescriptor.model.api.ISystemDescriptor;
 import com.ngc.seaside.systemdescriptor.service.api.IParsingResult;
+import com.ngc.seaside.systemdescriptor.service.profile.api.IProfile;
+
+import java.util.Optional;
 
 /**
  * The results of a service execution of Jellyfish.
@@ -77,4 +80,15 @@ public interface IJellyfishExecution {
       return getOptions().getSystemDescriptor();
    }
 
+   /**
+    * Gets the profile that was recorded while Jellyfish was running.  A profile is only recorded if Jellyfish was run
+    * with the {@code profile} parameter.  The profile contains timed spans for the major phases of the execution
+    * (creating the injector, resolving dependencies, parsing, validation, running commands, etc) as well as counters.
+    *
+    * @return the profile recorded while running Jellyfish or an empty optional if profiling was not enabled
+    */
+   default Optional<IProfile> getProfile() {
+      return Optional.empty();
+   }
+
 }
@@ -22,10 +22,15 @@
  */
 package com.ngc.seaside.jellyfish.service.codegen.dataservice.impl;
 
+import com.ngc.seaside.jellyfish.api.CommonParameters;
 import com.ngc.seaside.jellyfish.api.IJellyFishCommandOptions;
+import com.ngc.seaside.jellyfish.api.IParameter;
+import com.ngc.seaside.jellyfish.api.IParameterCollection;
 import com.ngc.seaside.jellyfish.service.codegen.api.IDataFieldGenerationService;
 import com.ngc.seaside.jellyfish.service.codegen.api.java.IGeneratedJavaField;
 import com.ngc.seaside.jellyfish.service.codegen.api.proto.IGeneratedProtoField;
+import com.ngc.seaside.jellyfish.service.execution.api.ExecutionCache;
+import com.ngc.seaside.jellyfish.service.execution.api.IExecutionScopedCache;
 import com.ngc.seaside.jellyfish.service.name.api.IPackageNamingService;
 import com.ngc.seaside.systemdescriptor.model.api.data.IDataField;
 
@@ -33,20 +38,31 @@ import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.osgi.service.component.annotations.ReferencePolicy;
 
-public class DataFieldGenerationService implements IDataFieldGenerationService {
+public class DataFieldGenerationService implements IDataFieldGenerationService, IExecutionScopedCache {
+
+   /**
+    * Caches generated fields by data field and the model being generated, since the names of the generated types
+    * depend on the model.
+    */
+   private final ExecutionCache<GeneratedField> cache = new ExecutionCache<>();
 
    private IPackageNamingService packageNamingService;
 
    @Override
    public IGeneratedJavaField getEventsField(IJellyFishCommandOptions options, IDataField field) {
-      return GeneratedField.of(field, options, packageNamingService);
+      return getGeneratedField(options, field);
    }
 
    @Override
    public IGeneratedProtoField getMessagesField(IJellyFishCommandOptions options, IDataField field) {
-      return GeneratedField.of(field, options, packageNamingService);
+      return getGeneratedField(options, field);
+   }
+
+   @Override
+   public void clearCache() {
+      cache.clear();
    }
-   
+
    @Reference(cardinality = ReferenceCardinality.MANDATORY, policy = ReferencePolicy.STATIC)
    public void setPackageNamingService(IPackageNamingService ref) {
       this.packageNamingService = ref;
@@ -56,4 +72,12 @@ public class DataFieldGenerationService implements IDataFieldGenerationService {
       setPackageNamingService(null);
    }
 
+   private GeneratedField getGeneratedField(IJellyFishCommandOptions options, IDataField field) {
+      IParameterCollection parameters = options.getParameters();
+      IParameter<?> model = parameters == null ? null : parameters.getParameter(CommonParameters.MODEL.getName());
+      return cache.get(field,
+                       model == null ? null : model.getStringValue(),
+                       () -> GeneratedField.of(field, options, packageNamingService));
+   }
+
 }
@@ -27,10 +27,11 @@ import com.ngc.seaside.jellyfish.api.IJellyFishCommandOptions;
 import com.ngc.seaside.jellyfish.service.codegen.api.IDataFieldGenerationService;
 import com.ngc.seaside.jellyfish.service.codegen.api.java.IGeneratedJavaField;
 import com.ngc.seaside.jellyfish.service.codegen.api.proto.IGeneratedProtoField;
+import com.ngc.seaside.jellyfish.service.execution.api.IExecutionScopedCache;
 import com.ngc.seaside.jellyfish.service.name.api.IPackageNamingService;
 import com.ngc.seaside.systemdescriptor.model.api.data.IDataField;
 
-public class DataFieldGenerationServiceGuiceWrapper implements IDataFieldGenerationService {
+public class DataFieldGenerationServiceGuiceWrapper implements IDataFieldGenerationService, IExecutionScopedCache {
 
    private final DataFieldGenerationService delegate = new DataFieldGenerationService();
    
@@ -49,4 +50,9 @@ public class DataFieldGenerationServiceGuiceWrapper implements IDataFieldGenerat
       return delegate.getMessagesField(options, field);
    }
 
+   @Override
+   public void clearCache() {
+      delegate.clearCache();
+   }
+
 }
@@ -23,16 +23,24 @@
 package com.ngc.seaside.jellyfish.service.codegen.module;
 
 import com.google.inject.AbstractModule;
+import com.google.inject.Singleton;
+import com.google.inject.multibindings.Multibinder;
 import com.ngc.seaside.jellyfish.service.codegen.api.IDataFieldGenerationService;
 import com.ngc.seaside.jellyfish.service.codegen.api.IJavaServiceGenerationService;
 import com.ngc.seaside.jellyfish.service.codegen.dataservice.impl.DataFieldGenerationServiceGuiceWrapper;
 import com.ngc.seaside.jellyfish.service.codegen.javaservice.impl.JavaServiceGenerationServiceGuiceWrapper;
+import com.ngc.seaside.jellyfish.service.execution.api.IExecutionScopedCache;
 
 public class CodeGenServicesGuiceModule extends AbstractModule {
 
    @Override
    protected void configure() {
       bind(IJavaServiceGenerationService.class).to(JavaServiceGenerationServiceGuiceWrapper.class);
+      // The data field service caches fields for the duration of an execution so it must be a singleton.
+      bind(DataFieldGenerationServiceGuiceWrapper.class).in(Singleton.class);
       bind(IDataFieldGenerationService.class).to(DataFieldGenerationServiceGuiceWrapper.class);
+      Multibinder.newSetBinder(binder(), IExecutionScopedCache.class)
+            .addBinding()
+            .to(DataFieldGenerationServiceGuiceWrapper.class);
    }
 }
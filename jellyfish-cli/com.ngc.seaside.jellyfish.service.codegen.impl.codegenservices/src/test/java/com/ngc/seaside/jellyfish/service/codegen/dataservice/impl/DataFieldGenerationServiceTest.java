@@ -45,8 +45,11 @@ import java.util.Arrays;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -267,6 +270,26 @@ public class DataFieldGenerationServiceTest {
       assertNotEquals(javaFieldUnderbar.getJavaFieldName(), javaField.getJavaFieldName());
    }
 
+   @Test
+   public void testDoesGenerateEachFieldOnlyOnce() {
+      IDataField field = getMockDataField("com.ngc.test.TestDataField", "testData", true, false);
+      when(packageService.getEventPackageName(options, field.getReferencedDataType())).thenReturn(
+            "com.ngc.test.events");
+      when(packageService.getMessagePackageName(options, field.getReferencedDataType())).thenReturn(
+            "com.ngc.test.messages");
+
+      IGeneratedJavaField javaField = service.getEventsField(options, field);
+      IGeneratedProtoField protoField = service.getMessagesField(options, field);
+      assertSame(javaField, service.getEventsField(options, field));
+      assertSame(protoField, service.getMessagesField(options, field));
+      verify(packageService, times(1)).getEventPackageName(options, field.getReferencedDataType());
+      verify(packageService, times(1)).getMessagePackageName(options, field.getReferencedDataType());
+
+      service.clearCache();
+      assertEquals("com.ngc.test.events.TestDataField", service.getEventsField(options, field).getJavaType());
+      verify(packageService, times(2)).getEventPackageName(options, field.getReferencedDataType());
+   }
+
    private static IDataField getMockDataField(String type, String name, boolean single, boolean isEnum) {
       IDataField field = mock(IDataField.class);
       when(field.getCardinality()).thenReturn(single ? FieldCardinality.SINGLE : FieldCardinality.MANY);
@@ -0,0 +1,157 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.jellyfish.service.feature.impl.featureservice;
+
+import com.ngc.seaside.jellyfish.service.feature.api.IFeatureInformation;
+import com.ngc.seaside.systemdescriptor.model.api.ISystemDescriptor;
+import com.ngc.seaside.systemdescriptor.model.api.model.IModel;
+import com.ngc.seaside.systemdescriptor.model.api.model.scenario.IScenario;
+import com.ngc.seaside.systemdescriptor.service.api.IParsingResult;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+/**
+ * An immutable index of the feature files of a system descriptor project.  The test sources root is walked once
+ * when the index is created and each feature file is resolved to its model and scenario once.
+ */
+class FeatureIndex {
+
+   private static final Comparator<IFeatureInformation> ORDER = Comparator.comparing(IFeatureInformation::getPath);
+
+   private final IParsingResult parsingResult;
+   private final ISystemDescriptor systemDescriptor;
+   private final SortedSet<IFeatureInformation> allFeatures;
+   private final Map<IModel, SortedSet<IFeatureInformation>> featuresByModel;
+   private final Map<IScenario, SortedSet<IFeatureInformation>> featuresByScenario;
+
+   private FeatureIndex(IParsingResult parsingResult,
+                        ISystemDescriptor systemDescriptor,
+                        SortedSet<IFeatureInformation> allFeatures,
+                        Map<IModel, SortedSet<IFeatureInformation>> featuresByModel,
+                        Map<IScenario, SortedSet<IFeatureInformation>> featuresByScenario) {
+      this.parsingResult = parsingResult;
+      this.systemDescriptor = systemDescriptor;
+      this.allFeatures = allFeatures;
+      this.featuresByModel = featuresByModel;
+      this.featuresByScenario = featuresByScenario;
+   }
+
+   /**
+    * Creates an index of the feature files in the test sources root of the given parsing result.
+    *
+    * @param parsingResult    the parsing result of the project
+    * @param systemDescriptor the system descriptor used to resolve models
+    * @return the index
+    */
+   static FeatureIndex create(IParsingResult parsingResult, ISystemDescriptor systemDescriptor) {
+      Path baseDir = parsingResult.getTestSourcesRoot();
+      if (baseDir == null) {
+         throw new IllegalStateException("Unable to get test features for the system descriptor project");
+      }
+
+      SortedSet<IFeatureInformation> allFeatures = new TreeSet<>(ORDER);
+      Map<IModel, SortedSet<IFeatureInformation>> featuresByModel = new HashMap<>();
+      Map<IScenario, SortedSet<IFeatureInformation>> featuresByScenario = new HashMap<>();
+
+      PathMatcher matcher = baseDir.getFileSystem().getPathMatcher("glob:**.feature");
+      try (Stream<Path> files = Files.walk(baseDir)) {
+         files.filter(Files::isRegularFile)
+               .filter(matcher::matches)
+               .forEach(file -> {
+                  IFeatureInformation feature = createFeature(baseDir, file, systemDescriptor);
+                  allFeatures.add(feature);
+                  feature.getModel().ifPresent(model -> featuresByModel
+                        .computeIfAbsent(model, key -> new TreeSet<>(ORDER))
+                        .add(feature));
+                  feature.getScenario().ifPresent(scenario -> featuresByScenario
+                        .computeIfAbsent(scenario, key -> new TreeSet<>(ORDER))
+                        .add(feature));
+               });
+      } catch (IOException e) {
+         throw new UncheckedIOException(e);
+      }
+
+      featuresByModel.replaceAll((model, features) -> Collections.unmodifiableSortedSet(features));
+      featuresByScenario.replaceAll((scenario, features) -> Collections.unmodifiableSortedSet(features));
+      return new FeatureIndex(parsingResult,
+                              systemDescriptor,
+                              Collections.unmodifiableSortedSet(allFeatures),
+                              featuresByModel,
+                              featuresByScenario);
+   }
+
+   /**
+    * Gets whether this index was created for the given parsing result and system descriptor.
+    */
+   boolean isFor(IParsingResult parsingResult, ISystemDescriptor systemDescriptor) {
+      return this.parsingResult == parsingResult && this.systemDescriptor == systemDescriptor;
+   }
+
+   Collection<IFeatureInformation> getFeatures(IModel model) {
+      return featuresByModel.getOrDefault(model, Collections.emptySortedSet());
+   }
+
+   Collection<IFeatureInformation> getFeatures(IScenario scenario) {
+      return featuresByScenario.getOrDefault(scenario, Collections.emptySortedSet());
+   }
+
+   Collection<IFeatureInformation> getAllFeatures() {
+      return allFeatures;
+   }
+
+   /**
+    * Creates the feature information for the given feature file.  Feature files are expected to be named
+    * {@code <package path>/<model name>.<scenario name>.feature}.
+    */
+   private static IFeatureInformation createFeature(Path baseDir, Path featureFile,
+                                                    ISystemDescriptor systemDescriptor) {
+      IModel model = null;
+      IScenario scenario = null;
+      Path relativePath = baseDir.relativize(featureFile);
+      String[] parts = relativePath.getFileName().toString().split("\\.");
+      if (relativePath.getNameCount() > 1 && parts.length == 3) {
+         StringBuilder name = new StringBuilder();
+         for (int i = 0; i < relativePath.getNameCount() - 1; i++) {
+            name.append(relativePath.getName(i).toString()).append('.');
+         }
+         name.append(parts[0]);
+         model = systemDescriptor.findModel(name.toString()).orElse(null);
+         if (model != null) {
+            scenario = model.getScenarios().getByName(parts[1]).orElse(null);
+         }
+      }
+      return new FeatureInformation(featureFile, model, scenario);
+   }
+}
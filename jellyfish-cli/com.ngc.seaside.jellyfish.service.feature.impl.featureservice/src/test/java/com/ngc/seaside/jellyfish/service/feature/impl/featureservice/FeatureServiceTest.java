@@ -45,6 +45,8 @@ import java.util.Optional;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.Silent.class)
@@ -150,6 +152,21 @@ public class FeatureServiceTest {
       assertEquals(8, scenarios);
    }
 
+   @Test
+   public void testDoesResolveEachFeatureFileOnlyOnce() {
+      IModel hamburger = systemDescriptor.findModel("com.ngc.seaside.testeval", "HamburgerService").get();
+      IModel hotdog = systemDescriptor.findModel("com.ngc.seaside.testeval", "HotdogService").get();
+      IScenario addBacon = hamburger.getScenarios().getByName("addBacon").get();
+
+      assertEquals(10, featureService.getAllFeatures(options).size());
+      assertEquals(2, featureService.getFeatures(options, hamburger).size());
+      assertEquals(2, featureService.getFeatures(options, hotdog).size());
+      assertEquals(1, featureService.getFeatures(options, addBacon).size());
+
+      verify(systemDescriptor, times(2)).findModel("com.ngc.seaside.testeval.HamburgerService");
+      verify(systemDescriptor, times(2)).findModel("com.ngc.seaside.testeval.HotdogService");
+   }
+
    private void setupModel(String pkg, String name, String... scenarios) {
       IModel model = mock(IModel.class, Mockito.RETURNS_DEEP_STUBS);
       when(model.getParent().getName()).thenReturn(pkg);
@@ -32,6 +32,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.regex.Pattern;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
@@ -54,6 +55,8 @@ import com.ngc.seaside.jellyfish.service.template.api.ITemplateOutput;
 import com.ngc.seaside.jellyfish.service.template.api.ITemplateService;
 import com.ngc.seaside.jellyfish.service.template.api.TemplateServiceException;
 import com.ngc.seaside.systemdescriptor.service.log.api.ILogService;
+import com.ngc.seaside.systemdescriptor.service.profile.api.ProfileSpan;
+import com.ngc.seaside.systemdescriptor.service.profile.api.Profiler;
 
 /**
  * Default implementation of the {@link ITemplateService} interface.
@@ -72,6 +75,7 @@ public class TemplateService implements ITemplateService {
    private ILogService logService;
    private IPromptUserService promptUserService;
    private IPropertyService propertyService;
+   private Profiler profiler = Profiler.disabled();
 
    @Activate
    public void activate() {
@@ -143,6 +147,15 @@ public class TemplateService implements ITemplateService {
       setPropertyService(null);
    }
 
+   /**
+    * Sets the profiler that records the unpacking of templates.  Templates are not profiled unless a profiler is set.
+    *
+    * @param profiler the profiler
+    */
+   public void setProfiler(Profiler profiler) {
+      this.profiler = Objects.requireNonNull(profiler, "profiler may not be null!");
+   }
+
    @Override
    public boolean templateExists(String templatePrefix) {
       InputStream is;
@@ -164,22 +177,25 @@ public class TemplateService implements ITemplateService {
          throws TemplateServiceException {
       ITemplateOutput output;
 
-      try (ZipInputStream zis = new ZipInputStream(getTemplateInputStream(templateName))) {
+      try (ProfileSpan templateSpan = profiler.span("template:" + templateName);
+           ZipInputStream zis = new ZipInputStream(getTemplateInputStream(templateName))) {
          Path unzippedFolderPath = Files.createTempDirectory(null);
-         ZipEntry entry = zis.getNextEntry();
-
-         while (entry != null) {
-            File entryDestination = new File(unzippedFolderPath.toString(), entry.getName());
-            if (entry.isDirectory()) {
-               entryDestination.mkdirs();
-            } else {
-               entryDestination.getParentFile().mkdirs();
-               OutputStream out = new FileOutputStream(entryDestination);
-               IOUtils.copy(zis, out);
-               zis.closeEntry();
-               out.close();
+         try (ProfileSpan extractSpan = profiler.span("template-extract")) {
+            ZipEntry entry = zis.getNextEntry();
+            while (entry != null) {
+               File entryDestination = new File(unzippedFolderPath.toString(), entry.getName());
+               if (entry.isDirectory()) {
+                  entryDestination.mkdirs();
+               } else {
+                  entryDestination.getParentFile().mkdirs();
+                  OutputStream out = new FileOutputStream(entryDestination);
+                  IOUtils.copy(zis, out);
+                  zis.closeEntry();
+                  out.close();
+                  profiler.count("template.files.extracted", 1);
+               }
+               entry = zis.getNextEntry();
             }
-            entry = zis.getNextEntry();
          }
 
          if (!isValidateTemplate(unzippedFolderPath)) {
@@ -196,11 +212,13 @@ public class TemplateService implements ITemplateService {
                                                                                        logService);
          templateIgnoreComponent.parse();
 
-         output = updateTemplate(unzippedFolderPath,
-                                 parameters,
-                                 outputDirectory,
-                                 clean,
-                                 templateIgnoreComponent);
+         try (ProfileSpan renderSpan = profiler.span("template-render")) {
+            output = updateTemplate(unzippedFolderPath,
+                                    parameters,
+                                    outputDirectory,
+                                    clean,
+                                    templateIgnoreComponent);
+         }
       } catch (TemplateServiceException | IOException | NullPointerException e) {
          String message = String.format("An error occurred processing the template zip file: %s", templateName);
          logService.error(getClass(), e, message);
@@ -33,6 +33,7 @@ import com.ngc.seaside.jellyfish.service.template.api.ITemplateOutput;
 import com.ngc.seaside.jellyfish.service.template.api.ITemplateService;
 import com.ngc.seaside.jellyfish.service.template.api.TemplateServiceException;
 import com.ngc.seaside.systemdescriptor.service.log.api.ILogService;
+import com.ngc.seaside.systemdescriptor.service.profile.api.Profiler;
 
 /**
  * Wrap the service using Guice Injection
@@ -52,6 +53,14 @@ public class TemplateServiceGuiceWrapper implements ITemplateService {
       delegate.activate();
    }
 
+   /**
+    * Sets the profiler of the execution.  Templates are not profiled if no profiler is bound.
+    */
+   @Inject(optional = true)
+   public void setProfiler(Profiler profiler) {
+      delegate.setProfiler(profiler);
+   }
+
    @Override
    public boolean templateExists(String templateName) {
       return delegate.templateExists(templateName);
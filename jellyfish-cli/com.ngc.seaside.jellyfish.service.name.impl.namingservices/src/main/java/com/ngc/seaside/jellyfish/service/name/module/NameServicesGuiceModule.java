@@ -24,7 +24,9 @@ package com.ngc.seaside.jellyfish.service.name.module;
 
 import com.google.inject.AbstractModule;
 import com.google.inject.Singleton;
+import com.google.inject.multibindings.Multibinder;
 
+import com.ngc.seaside.jellyfish.service.execution.api.IExecutionScopedCache;
 import com.ngc.seaside.jellyfish.service.name.api.IPackageNamingService;
 import com.ngc.seaside.jellyfish.service.name.api.IProjectNamingService;
 import com.ngc.seaside.jellyfish.service.name.packagez.impl.PackageNamingService;
@@ -34,7 +36,17 @@ public class NameServicesGuiceModule extends AbstractModule {
 
    @Override
    protected void configure() {
-      bind(IPackageNamingService.class).to(PackageNamingService.class).in(Singleton.class);
-      bind(IProjectNamingService.class).to(ProjectNamingService.class).in(Singleton.class);
+      // The naming services cache names for the duration of an execution.  The implementations are scoped so the
+      // services and the registered caches are the same instances.
+      bind(PackageNamingService.class).in(Singleton.class);
+      bind(ProjectNamingService.class).in(Singleton.class);
+      bind(IPackageNamingService.class).to(PackageNamingService.class);
+      bind(IProjectNamingService.class).to(ProjectNamingService.class);
+
+      Multibinder<IExecutionScopedCache> cachesBinder = Multibinder.newSetBinder(
+            binder(),
+            IExecutionScopedCache.class);
+      cachesBinder.addBinding().to(PackageNamingService.class);
+      cachesBinder.addBinding().to(ProjectNamingService.class);
    }
 }
@@ -34,6 +34,9 @@ import org.osgi.service.component.annotations.ReferencePolicy;
 
 import com.google.common.base.Preconditions;
 import com.ngc.seaside.jellyfish.api.IJellyFishCommandOptions;
+import com.ngc.seaside.jellyfish.api.IParameter;
+import com.ngc.seaside.jellyfish.service.execution.api.ExecutionCache;
+import com.ngc.seaside.jellyfish.service.execution.api.IExecutionScopedCache;
 import com.ngc.seaside.jellyfish.service.name.MetadataNames;
 import com.ngc.seaside.jellyfish.service.name.api.IPackageNamingService;
 import com.ngc.seaside.systemdescriptor.model.api.INamedChild;
@@ -42,141 +45,106 @@ import com.ngc.seaside.systemdescriptor.model.api.model.IModel;
 import com.ngc.seaside.systemdescriptor.service.log.api.ILogService;
 
 @Component(service = IPackageNamingService.class)
-public class PackageNamingService implements IPackageNamingService {
+public class PackageNamingService implements IPackageNamingService, IExecutionScopedCache {
 
    public static final String MODEL_PARAMETER_NAME = "model";
 
+   /**
+    * Caches package names by the element being named, the kind of package, and the model being generated.
+    */
+   private final ExecutionCache<String> cache = new ExecutionCache<>();
+
    private ILogService logService;
 
    @Override
    public String getDomainPackageName(IJellyFishCommandOptions options, INamedChild<IPackage> data) {
       Preconditions.checkNotNull(options, "options may not be null!");
       Preconditions.checkNotNull(data, "data may not be null!");
-      // parts[0] = the package name of the model, parts[1] = the model's name and parts[3] = the fully qualified name
-      String fqn = getModelNameAndPackage(options)[2];
-      return (fqn + ".domain" + getPackageNameMinusCommonPart(fqn, data.getParent().getName())).toLowerCase();
+      return getPackageName(options, data, ".domain");
    }
 
    @Override
    public String getEventPackageName(IJellyFishCommandOptions options, INamedChild<IPackage> data) {
       Preconditions.checkNotNull(options, "options may not be null!");
       Preconditions.checkNotNull(data, "data may not be null!");
-      // parts[0] = the package name of the model, parts[1] = the model's name and parts[3] = the fully qualified name
-      String fqn = getModelNameAndPackage(options)[2];
-      return (fqn + ".event" + getPackageNameMinusCommonPart(fqn, data.getParent().getName())).toLowerCase();
+      return getPackageName(options, data, ".event");
    }
 
    @Override
    public String getMessagePackageName(IJellyFishCommandOptions options, INamedChild<IPackage> data) {
       Preconditions.checkNotNull(options, "options may not be null!");
       Preconditions.checkNotNull(data, "data may not be null!");
-      // parts[0] = the package name of the model, parts[1] = the model's name and parts[3] = the fully qualified name
-      String fqn = getModelNameAndPackage(options)[2];
-      // Construct the name using the fully qualified model name then add the remaining package names of the data type.
-      // We want to skip any common prefixes the model's package and data's package have in common.
-      return (fqn + getPackageNameMinusCommonPart(fqn, data.getParent().getName())).toLowerCase();
+      return getPackageName(options, data, "");
    }
 
    @Override
    public String getConnectorPackageName(IJellyFishCommandOptions options, IModel model) {
       Preconditions.checkNotNull(options, "options may not be null!");
       Preconditions.checkNotNull(model, "data may not be null!");
-      // parts[0] = the package name of the model, parts[1] = the model's name and parts[3] = the fully qualified name
-      String fqn = getModelNameAndPackage(options)[2];
-      // Construct the name using the fully qualified model name then add the remaining package names of the data type.
-      // We want to skip any common prefixes the model's package and data's package have in common.
-      return (fqn + ".connector" + getPackageNameMinusCommonPart(fqn, model.getParent().getName())).toLowerCase();
+      return getPackageName(options, model, ".connector");
    }
 
    @Override
    public String getServiceInterfacePackageName(IJellyFishCommandOptions options, IModel model) {
       Preconditions.checkNotNull(options, "options may not be null!");
       Preconditions.checkNotNull(model, "model may not be null!");
-      // parts[0] = the package name of the model, parts[1] = the model's name and parts[3] = the fully qualified name
-      String fqn = getModelNameAndPackage(options)[2];
-      return (fqn + ".api" + getPackageNameMinusCommonPart(fqn, model.getParent().getName())).toLowerCase();
+      return getPackageName(options, model, ".api");
    }
 
    @Override
    public String getServiceImplementationPackageName(IJellyFishCommandOptions options, IModel model) {
       Preconditions.checkNotNull(options, "options may not be null!");
       Preconditions.checkNotNull(model, "model may not be null!");
-      // parts[0] = the package name of the model, parts[1] = the model's name and parts[3] = the fully qualified name
-      String fqn = getModelNameAndPackage(options)[2];
-      return (fqn + ".impl" + getPackageNameMinusCommonPart(fqn, model.getParent().getName())).toLowerCase();
+      return getPackageName(options, model, ".impl");
    }
 
    @Override
    public String getServiceBaseImplementationPackageName(IJellyFishCommandOptions options, IModel model) {
       Preconditions.checkNotNull(options, "options may not be null!");
       Preconditions.checkNotNull(model, "model may not be null!");
-      // parts[0] = the package name of the model, parts[1] = the model's name and parts[3] = the fully qualified name
-      String fqn = getModelNameAndPackage(options)[2];
-      return (fqn + ".base.impl" + getPackageNameMinusCommonPart(fqn, model.getParent().getName())).toLowerCase();
+      return getPackageName(options, model, ".base.impl");
    }
 
    @Override
    public String getTransportTopicsPackageName(IJellyFishCommandOptions options, IModel model) {
       Preconditions.checkNotNull(options, "options may not be null!");
       Preconditions.checkNotNull(model, "model may not be null!");
-      // parts[0] = the package name of the model, parts[1] = the model's name and parts[3] = the fully qualified name
-      String fqn = getModelNameAndPackage(options)[2];
-      return (fqn + ".transport.topic" + getPackageNameMinusCommonPart(fqn, model.getParent().getName())).toLowerCase();
+      return getPackageName(options, model, ".transport.topic");
    }
 
    @Override
    public String getDistributionPackageName(IJellyFishCommandOptions options, IModel model) {
       Preconditions.checkNotNull(options, "options may not be null!");
       Preconditions.checkNotNull(model, "data may not be null!");
-      // parts[0] = the package name of the model, parts[1] = the model's name and parts[3] = the fully qualified name
-      String fqn = getModelNameAndPackage(options)[2];
-      // Construct the name using the fully qualified model name then add the remaining package names of the data type.
-      // We want to skip any common prefixes the model's package and data's package have in common.
-      return (fqn + ".distribution" + getPackageNameMinusCommonPart(fqn, model.getParent().getName())).toLowerCase();
+      return getPackageName(options, model, ".distribution");
    }
 
    @Override
    public String getCucumberTestsPackageName(IJellyFishCommandOptions options, IModel model) {
       Preconditions.checkNotNull(options, "options may not be null!");
       Preconditions.checkNotNull(model, "data may not be null!");
-      // parts[0] = the package name of the model, parts[1] = the model's name and parts[3] = the fully qualified name
-      String fqn = getModelNameAndPackage(options)[2];
-      // Construct the name using the fully qualified model name then add the remaining package names of the data type.
-      // We want to skip any common prefixes the model's package and data's package have in common.
-      return (fqn + ".tests" + getPackageNameMinusCommonPart(fqn, model.getParent().getName())).toLowerCase();
+      return getPackageName(options, model, ".tests");
    }
 
    @Override
    public String getCucumberTestsConfigPackageName(IJellyFishCommandOptions options, IModel model) {
       Preconditions.checkNotNull(options, "options may not be null!");
       Preconditions.checkNotNull(model, "data may not be null!");
-      // parts[0] = the package name of the model, parts[1] = the model's name and parts[3] = the fully qualified name
-      String fqn = getModelNameAndPackage(options)[2];
-      // Construct the name using the fully qualified model name then add the remaining package names of the data type.
-      // We want to skip any common prefixes the model's package and data's package have in common.
-      return (fqn + ".testsconfig" + getPackageNameMinusCommonPart(fqn, model.getParent().getName())).toLowerCase();
+      return getPackageName(options, model, ".testsconfig");
    }
 
    @Override
    public String getConfigPackageName(IJellyFishCommandOptions options, IModel model) {
       Preconditions.checkNotNull(options, "options may not be null!");
       Preconditions.checkNotNull(model, "data may not be null!");
-      // parts[0] = the package name of the model, parts[1] = the model's name and parts[3] = the fully qualified name
-      String fqn = getModelNameAndPackage(options)[2];
-      // Construct the name using the fully qualified model name then add the remaining package names of the data type.
-      // We want to skip any common prefixes the model's package and data's package have in common.
-      return (fqn + ".config" + getPackageNameMinusCommonPart(fqn, model.getParent().getName())).toLowerCase();
+      return getPackageName(options, model, ".config");
    }
 
    @Override
    public String getPubSubBridgePackageName(IJellyFishCommandOptions options, IModel model) {
       Preconditions.checkNotNull(options, "options may not be null!");
       Preconditions.checkNotNull(model, "data may not be null!");
-      // parts[0] = the package name of the model, parts[1] = the model's name and parts[3] = the fully qualified name
-      String fqn = getModelNameAndPackage(options)[2];
-      // Construct the name using the fully qualified model name then add the remaining package names of the data type.
-      // We want to skip any common prefixes the model's package and data's package have in common.
-      return (fqn + ".bridge.pubsub" + getPackageNameMinusCommonPart(fqn, model.getParent().getName())).toLowerCase();
+      return getPackageName(options, model, ".bridge.pubsub");
    }
 
    @Activate
@@ -199,6 +167,24 @@ public class PackageNamingService implements IPackageNamingService {
       setLogService(null);
    }
 
+   @Override
+   public void clearCache() {
+      cache.clear();
+   }
+
+   private String getPackageName(IJellyFishCommandOptions options, INamedChild<IPackage> element, String suffix) {
+      IParameter<?> modelParameter = options.getParameters().getParameter(MODEL_PARAMETER_NAME);
+      String modelName = modelParameter == null ? null : modelParameter.getStringValue();
+      return cache.get(element, Arrays.asList(suffix, modelName), () -> {
+         // parts[0] = the package name of the model, parts[1] = the model's name and parts[2] = the fully qualified
+         // name
+         String fqn = getModelNameAndPackage(options)[2];
+         // Construct the name using the fully qualified model name then add the remaining package names of the data
+         // type.  We want to skip any common prefixes the model's package and data's package have in common.
+         return (fqn + suffix + getPackageNameMinusCommonPart(fqn, element.getParent().getName())).toLowerCase();
+      });
+   }
+
    private static String[] getModelNameAndPackage(IJellyFishCommandOptions options) {
       Preconditions.checkArgument(options.getParameters().containsParameter(MODEL_PARAMETER_NAME),
                                   "the parameter '%s' is required!",
@@ -24,13 +24,14 @@ package com.ngc.seaside.jellyfish.service.name.packagez.impl;
 
 import com.google.inject.Inject;
 import com.ngc.seaside.jellyfish.api.IJellyFishCommandOptions;
+import com.ngc.seaside.jellyfish.service.execution.api.IExecutionScopedCache;
 import com.ngc.seaside.jellyfish.service.name.api.IPackageNamingService;
 import com.ngc.seaside.systemdescriptor.model.api.INamedChild;
 import com.ngc.seaside.systemdescriptor.model.api.IPackage;
 import com.ngc.seaside.systemdescriptor.model.api.model.IModel;
 import com.ngc.seaside.systemdescriptor.service.log.api.ILogService;
 
-public class PackageNamingServiceGuiceWrapper implements IPackageNamingService {
+public class PackageNamingServiceGuiceWrapper implements IPackageNamingService, IExecutionScopedCache {
 
    private final PackageNamingService packageNamingService;
 
@@ -112,4 +113,9 @@ public class PackageNamingServiceGuiceWrapper implements IPackageNamingService {
       return packageNamingService.getConfigPackageName(options, model);
    }
 
+   @Override
+   public void clearCache() {
+      packageNamingService.clearCache();
+   }
+
 }
@@ -22,6 +22,8 @@
  */
 package com.ngc.seaside.jellyfish.service.name.project.impl;
 
+import java.util.Arrays;
+
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Deactivate;
@@ -31,6 +33,9 @@ import org.osgi.service.component.annotations.ReferencePolicy;
 
 import com.google.common.base.Preconditions;
 import com.ngc.seaside.jellyfish.api.IJellyFishCommandOptions;
+import com.ngc.seaside.jellyfish.api.IParameter;
+import com.ngc.seaside.jellyfish.service.execution.api.ExecutionCache;
+import com.ngc.seaside.jellyfish.service.execution.api.IExecutionScopedCache;
 import com.ngc.seaside.jellyfish.service.name.MetadataNames;
 import com.ngc.seaside.jellyfish.service.name.api.IProjectInformation;
 import com.ngc.seaside.jellyfish.service.name.api.IProjectNamingService;
@@ -38,7 +43,7 @@ import com.ngc.seaside.systemdescriptor.model.api.model.IModel;
 import com.ngc.seaside.systemdescriptor.service.log.api.ILogService;
 
 @Component(service = IProjectNamingService.class)
-public class ProjectNamingService implements IProjectNamingService {
+public class ProjectNamingService implements IProjectNamingService, IExecutionScopedCache {
 
    private static final String GROUP_ID_PROPERTY = "groupId";
    private static final String ARTIFACT_ID_PROPERTY = "artifactId";
@@ -60,221 +65,255 @@ public class ProjectNamingService implements IProjectNamingService {
     */
    public static final String DEFAULT_GENERATED_PROJECTS_DIRECTORY_NAME = "generated-projects";
 
+   /**
+    * Caches project names by model and the kind of project.  Project information is also cached by the group and
+    * artifact ID parameters.
+    */
+   private final ExecutionCache<String> rootProjectNames = new ExecutionCache<>();
+   private final ExecutionCache<IProjectInformation> projects = new ExecutionCache<>();
+
    private ILogService logService;
 
    @Override
    public String getRootProjectName(IJellyFishCommandOptions options, IModel model) {
       Preconditions.checkNotNull(options, "options may not be null!");
       Preconditions.checkNotNull(model, "model may not be null!");
-      String modelPackageName = model.getParent().getName();
-      String modelName = model.getName();
-      return modelPackageName.toLowerCase() + "." + modelName.toLowerCase();
+      // The root project name does not depend on any parameters.
+      return rootProjectNames.get(model, "getRootProjectName", () -> {
+         String modelPackageName = model.getParent().getName();
+         String modelName = model.getName();
+         return modelPackageName.toLowerCase() + "." + modelName.toLowerCase();
+      });
    }
 
    @Override
    public IProjectInformation getDomainProjectName(IJellyFishCommandOptions options, IModel model) {
       Preconditions.checkNotNull(options, "options may not be null!");
       Preconditions.checkNotNull(model, "model may not be null!");
-      String modelName = model.getName();
-      String versionPropertyName = modelName + "DomainVersion";
-      versionPropertyName = versionPropertyName.substring(0, 1).toLowerCase() + versionPropertyName.substring(1);
-      String groupId = evaluateGroupId(options, model);
-      String artifactId = evaluateArtifactId(options, model, DOMAIN_ARTIFACT_ID_SUFFIX);
-
-      return new ProjectInformation()
-            .setGroupId(groupId)
-            .setArtifactId(artifactId)
-            .setVersionPropertyName(versionPropertyName);
+      return projects.get(model, getCacheDiscriminator(options, "getDomainProjectName"), () -> {
+         String modelName = model.getName();
+         String versionPropertyName = modelName + "DomainVersion";
+         versionPropertyName = versionPropertyName.substring(0, 1).toLowerCase() + versionPropertyName.substring(1);
+         String groupId = evaluateGroupId(options, model);
+         String artifactId = evaluateArtifactId(options, model, DOMAIN_ARTIFACT_ID_SUFFIX);
+
+         return new ProjectInformation()
+               .setGroupId(groupId)
+               .setArtifactId(artifactId)
+               .setVersionPropertyName(versionPropertyName);
+      });
    }
 
    @Override
    public IProjectInformation getEventsProjectName(IJellyFishCommandOptions options, IModel model) {
       Preconditions.checkNotNull(options, "options may not be null!");
       Preconditions.checkNotNull(model, "model may not be null!");
-      String modelPackageName = model.getParent().getName();
-      String modelName = model.getName();
-      String versionPropertyName = modelName + "EventsVersion";
-      versionPropertyName = versionPropertyName.substring(0, 1).toLowerCase() + versionPropertyName.substring(1);
-      String artifactId = evaluateArtifactId(options, model, EVENT_ARTIFACT_ID_SUFFIX);
-
-      return new ProjectInformation()
-            .setGroupId(modelPackageName.toLowerCase())
-            .setArtifactId(artifactId)
-            .setVersionPropertyName(versionPropertyName)
-            .setGenerated(true)
-            .setGeneratedDirectoryName(DEFAULT_GENERATED_PROJECTS_DIRECTORY_NAME);
+      return projects.get(model, getCacheDiscriminator(options, "getEventsProjectName"), () -> {
+         String modelPackageName = model.getParent().getName();
+         String modelName = model.getName();
+         String versionPropertyName = modelName + "EventsVersion";
+         versionPropertyName = versionPropertyName.substring(0, 1).toLowerCase() + versionPropertyName.substring(1);
+         String artifactId = evaluateArtifactId(options, model, EVENT_ARTIFACT_ID_SUFFIX);
+
+         return new ProjectInformation()
+               .setGroupId(modelPackageName.toLowerCase())
+               .setArtifactId(artifactId)
+               .setVersionPropertyName(versionPropertyName)
+               .setGenerated(true)
+               .setGeneratedDirectoryName(DEFAULT_GENERATED_PROJECTS_DIRECTORY_NAME);
+      });
    }
 
    @Override
    public IProjectInformation getMessageProjectName(IJellyFishCommandOptions options, IModel model) {
       Preconditions.checkNotNull(options, "options may not be null!");
       Preconditions.checkNotNull(model, "model may not be null!");
-      String modelPackageName = model.getParent().getName();
-      String modelName = model.getName();
-      String versionPropertyName = modelName + "MessagesVersion";
-      versionPropertyName = versionPropertyName.substring(0, 1).toLowerCase() + versionPropertyName.substring(1);
-      String artifactId = evaluateArtifactId(options, model, MESSAGES_ARTIFACT_ID_SUFFIX);
-
-      return new ProjectInformation()
-            .setGroupId(modelPackageName.toLowerCase())
-            .setArtifactId(artifactId)
-            .setVersionPropertyName(versionPropertyName)
-            .setGenerated(true)
-            .setGeneratedDirectoryName(DEFAULT_GENERATED_PROJECTS_DIRECTORY_NAME);
+      return projects.get(model, getCacheDiscriminator(options, "getMessageProjectName"), () -> {
+         String modelPackageName = model.getParent().getName();
+         String modelName = model.getName();
+         String versionPropertyName = modelName + "MessagesVersion";
+         versionPropertyName = versionPropertyName.substring(0, 1).toLowerCase() + versionPropertyName.substring(1);
+         String artifactId = evaluateArtifactId(options, model, MESSAGES_ARTIFACT_ID_SUFFIX);
+
+         return new ProjectInformation()
+               .setGroupId(modelPackageName.toLowerCase())
+               .setArtifactId(artifactId)
+               .setVersionPropertyName(versionPropertyName)
+               .setGenerated(true)
+               .setGeneratedDirectoryName(DEFAULT_GENERATED_PROJECTS_DIRECTORY_NAME);
+      });
    }
 
    @Override
    public IProjectInformation getDistributionProjectName(IJellyFishCommandOptions options, IModel model) {
       Preconditions.checkNotNull(options, "options may not be null!");
       Preconditions.checkNotNull(model, "model may not be null!");
-      String modelName = model.getName();
-      String versionPropertyName = modelName + "DistributionVersion";
-      versionPropertyName = versionPropertyName.substring(0, 1).toLowerCase() + versionPropertyName.substring(1);
-      String groupId = evaluateGroupId(options, model);
-      String artifactId = evaluateArtifactId(options, model, DISTRIBUTION_ARTIFACT_ID_SUFFIX);
-
-      return new ProjectInformation()
-            .setGroupId(groupId)
-            .setArtifactId(artifactId)
-            .setVersionPropertyName(versionPropertyName);
+      return projects.get(model, getCacheDiscriminator(options, "getDistributionProjectName"), () -> {
+         String modelName = model.getName();
+         String versionPropertyName = modelName + "DistributionVersion";
+         versionPropertyName = versionPropertyName.substring(0, 1).toLowerCase() + versionPropertyName.substring(1);
+         String groupId = evaluateGroupId(options, model);
+         String artifactId = evaluateArtifactId(options, model, DISTRIBUTION_ARTIFACT_ID_SUFFIX);
+
+         return new ProjectInformation()
+               .setGroupId(groupId)
+               .setArtifactId(artifactId)
+               .setVersionPropertyName(versionPropertyName);
+      });
    }
 
    @Override
    public IProjectInformation getCucumberTestsProjectName(IJellyFishCommandOptions options, IModel model) {
       Preconditions.checkNotNull(options, "options may not be null!");
       Preconditions.checkNotNull(model, "model may not be null!");
-      String modelName = model.getName();
-      String versionPropertyName = modelName + "CucumberTestsVersion";
-      versionPropertyName = versionPropertyName.substring(0, 1).toLowerCase() + versionPropertyName.substring(1);
-      String groupId = evaluateGroupId(options, model);
-      String artifactId = evaluateArtifactId(options, model, CUCUMBER_TESTS_ARTIFACT_ID_SUFFIX);
-
-      return new ProjectInformation()
-            .setGroupId(groupId)
-            .setArtifactId(artifactId)
-            .setVersionPropertyName(versionPropertyName);
+      return projects.get(model, getCacheDiscriminator(options, "getCucumberTestsProjectName"), () -> {
+         String modelName = model.getName();
+         String versionPropertyName = modelName + "CucumberTestsVersion";
+         versionPropertyName = versionPropertyName.substring(0, 1).toLowerCase() + versionPropertyName.substring(1);
+         String groupId = evaluateGroupId(options, model);
+         String artifactId = evaluateArtifactId(options, model, CUCUMBER_TESTS_ARTIFACT_ID_SUFFIX);
+
+         return new ProjectInformation()
+               .setGroupId(groupId)
+               .setArtifactId(artifactId)
+               .setVersionPropertyName(versionPropertyName);
+      });
    }
 
    @Override
    public IProjectInformation getConnectorProjectName(IJellyFishCommandOptions options, IModel model) {
       Preconditions.checkNotNull(options, "options may not be null!");
       Preconditions.checkNotNull(model, "model may not be null!");
-      String modelPackageName = model.getParent().getName();
-      String modelName = model.getName();
-      String versionPropertyName = modelName + "ConnectorVersion";
-      versionPropertyName = versionPropertyName.substring(0, 1).toLowerCase() + versionPropertyName.substring(1);
-      String artifactId = evaluateArtifactId(options, model, CONNECTOR_ARTIFACT_ID_SUFFIX);
-
-      return new ProjectInformation()
-            .setGroupId(modelPackageName.toLowerCase())
-            .setArtifactId(artifactId)
-            .setVersionPropertyName(versionPropertyName)
-            .setGenerated(true)
-            .setGeneratedDirectoryName(DEFAULT_GENERATED_PROJECTS_DIRECTORY_NAME);
+      return projects.get(model, getCacheDiscriminator(options, "getConnectorProjectName"), () -> {
+         String modelPackageName = model.getParent().getName();
+         String modelName = model.getName();
+         String versionPropertyName = modelName + "ConnectorVersion";
+         versionPropertyName = versionPropertyName.substring(0, 1).toLowerCase() + versionPropertyName.substring(1);
+         String artifactId = evaluateArtifactId(options, model, CONNECTOR_ARTIFACT_ID_SUFFIX);
+
+         return new ProjectInformation()
+               .setGroupId(modelPackageName.toLowerCase())
+               .setArtifactId(artifactId)
+               .setVersionPropertyName(versionPropertyName)
+               .setGenerated(true)
+               .setGeneratedDirectoryName(DEFAULT_GENERATED_PROJECTS_DIRECTORY_NAME);
+      });
    }
 
    @Override
    public IProjectInformation getConfigProjectName(IJellyFishCommandOptions options, IModel model) {
       Preconditions.checkNotNull(options, "options may not be null!");
       Preconditions.checkNotNull(model, "model may not be null!");
-      String modelPackageName = model.getParent().getName();
-      String modelName = model.getName();
-      String versionPropertyName = modelName + "ConfigVersion";
-      versionPropertyName = versionPropertyName.substring(0, 1).toLowerCase() + versionPropertyName.substring(1);
-      String artifactId = evaluateArtifactId(options, model, CONFIG_ARTIFACT_ID_SUFFIX);
-
-      return new ProjectInformation()
-            .setGroupId(modelPackageName.toLowerCase())
-            .setArtifactId(artifactId)
-            .setVersionPropertyName(versionPropertyName);
+      return projects.get(model, getCacheDiscriminator(options, "getConfigProjectName"), () -> {
+         String modelPackageName = model.getParent().getName();
+         String modelName = model.getName();
+         String versionPropertyName = modelName + "ConfigVersion";
+         versionPropertyName = versionPropertyName.substring(0, 1).toLowerCase() + versionPropertyName.substring(1);
+         String artifactId = evaluateArtifactId(options, model, CONFIG_ARTIFACT_ID_SUFFIX);
+
+         return new ProjectInformation()
+               .setGroupId(modelPackageName.toLowerCase())
+               .setArtifactId(artifactId)
+               .setVersionPropertyName(versionPropertyName);
+      });
    }
 
    @Override
    public IProjectInformation getGeneratedConfigProjectName(IJellyFishCommandOptions options, IModel model) {
       Preconditions.checkNotNull(options, "options may not be null!");
       Preconditions.checkNotNull(model, "model may not be null!");
-      String modelPackageName = model.getParent().getName();
-      String modelName = model.getName();
-      String versionPropertyName = modelName + "ConfigVersion";
-      versionPropertyName = versionPropertyName.substring(0, 1).toLowerCase() + versionPropertyName.substring(1);
-      String artifactId = evaluateArtifactId(options, model, CONFIG_ARTIFACT_ID_SUFFIX);
-
-      return new ProjectInformation()
-            .setGroupId(modelPackageName.toLowerCase())
-            .setArtifactId(artifactId)
-            .setVersionPropertyName(versionPropertyName)
-            .setGenerated(true)
-            .setGeneratedDirectoryName(DEFAULT_GENERATED_PROJECTS_DIRECTORY_NAME);
+      return projects.get(model, getCacheDiscriminator(options, "getGeneratedConfigProjectName"), () -> {
+         String modelPackageName = model.getParent().getName();
+         String modelName = model.getName();
+         String versionPropertyName = modelName + "ConfigVersion";
+         versionPropertyName = versionPropertyName.substring(0, 1).toLowerCase() + versionPropertyName.substring(1);
+         String artifactId = evaluateArtifactId(options, model, CONFIG_ARTIFACT_ID_SUFFIX);
+
+         return new ProjectInformation()
+               .setGroupId(modelPackageName.toLowerCase())
+               .setArtifactId(artifactId)
+               .setVersionPropertyName(versionPropertyName)
+               .setGenerated(true)
+               .setGeneratedDirectoryName(DEFAULT_GENERATED_PROJECTS_DIRECTORY_NAME);
+      });
    }
 
    @Override
    public IProjectInformation getServiceProjectName(IJellyFishCommandOptions options, IModel model) {
       Preconditions.checkNotNull(options, "options may not be null!");
       Preconditions.checkNotNull(model, "model may not be null!");
-      String modelPackageName = model.getParent().getName();
-      String modelName = model.getName();
-      String versionPropertyName = modelName + "ServiceVersion";
-      versionPropertyName = versionPropertyName.substring(0, 1).toLowerCase() + versionPropertyName.substring(1);
-      String artifactId = evaluateArtifactId(options, model, SERVICE_ARTIFACT_ID_SUFFIX);
-
-      return new ProjectInformation()
-            .setGroupId(modelPackageName.toLowerCase())
-            .setArtifactId(artifactId)
-            .setVersionPropertyName(versionPropertyName);
+      return projects.get(model, getCacheDiscriminator(options, "getServiceProjectName"), () -> {
+         String modelPackageName = model.getParent().getName();
+         String modelName = model.getName();
+         String versionPropertyName = modelName + "ServiceVersion";
+         versionPropertyName = versionPropertyName.substring(0, 1).toLowerCase() + versionPropertyName.substring(1);
+         String artifactId = evaluateArtifactId(options, model, SERVICE_ARTIFACT_ID_SUFFIX);
+
+         return new ProjectInformation()
+               .setGroupId(modelPackageName.toLowerCase())
+               .setArtifactId(artifactId)
+               .setVersionPropertyName(versionPropertyName);
+      });
    }
 
    @Override
    public IProjectInformation getBaseServiceProjectName(IJellyFishCommandOptions options, IModel model) {
       Preconditions.checkNotNull(options, "options may not be null!");
       Preconditions.checkNotNull(model, "model may not be null!");
-      String modelPackageName = model.getParent().getName();
-      String modelName = model.getName();
-      String versionPropertyName = modelName + "BaseServiceVersion";
-      versionPropertyName = versionPropertyName.substring(0, 1).toLowerCase() + versionPropertyName.substring(1);
-      String artifactId = evaluateArtifactId(options, model, SERVICE_BASE_ARTIFACT_ID_SUFFIX);
-
-      return new ProjectInformation()
-            .setGroupId(modelPackageName.toLowerCase())
-            .setArtifactId(artifactId)
-            .setVersionPropertyName(versionPropertyName)
-            .setGenerated(true)
-            .setGeneratedDirectoryName(DEFAULT_GENERATED_PROJECTS_DIRECTORY_NAME);
+      return projects.get(model, getCacheDiscriminator(options, "getBaseServiceProjectName"), () -> {
+         String modelPackageName = model.getParent().getName();
+         String modelName = model.getName();
+         String versionPropertyName = modelName + "BaseServiceVersion";
+         versionPropertyName = versionPropertyName.substring(0, 1).toLowerCase() + versionPropertyName.substring(1);
+         String artifactId = evaluateArtifactId(options, model, SERVICE_BASE_ARTIFACT_ID_SUFFIX);
+
+         return new ProjectInformation()
+               .setGroupId(modelPackageName.toLowerCase())
+               .setArtifactId(artifactId)
+               .setVersionPropertyName(versionPropertyName)
+               .setGenerated(true)
+               .setGeneratedDirectoryName(DEFAULT_GENERATED_PROJECTS_DIRECTORY_NAME);
+      });
    }
 
    @Override
    public IProjectInformation getCucumberTestsConfigProjectName(IJellyFishCommandOptions options, IModel model) {
       Preconditions.checkNotNull(options, "options may not be null!");
       Preconditions.checkNotNull(model, "model may not be null!");
-      String modelPackageName = model.getParent().getName();
-      String modelName = model.getName();
-      String versionPropertyName = modelName + "ConfigVersion";
-      versionPropertyName = versionPropertyName.substring(0, 1).toLowerCase() + versionPropertyName.substring(1);
-      String artifactId = evaluateArtifactId(options, model, TESTS_CONFIG_ARTIFACT_ID_SUFFIX);
-
-      return new ProjectInformation()
-            .setGroupId(modelPackageName.toLowerCase())
-            .setArtifactId(artifactId)
-            .setVersionPropertyName(versionPropertyName)
-            .setGenerated(true)
-            .setGeneratedDirectoryName(DEFAULT_GENERATED_PROJECTS_DIRECTORY_NAME);
+      return projects.get(model, getCacheDiscriminator(options, "getCucumberTestsConfigProjectName"), () -> {
+         String modelPackageName = model.getParent().getName();
+         String modelName = model.getName();
+         String versionPropertyName = modelName + "ConfigVersion";
+         versionPropertyName = versionPropertyName.substring(0, 1).toLowerCase() + versionPropertyName.substring(1);
+         String artifactId = evaluateArtifactId(options, model, TESTS_CONFIG_ARTIFACT_ID_SUFFIX);
+
+         return new ProjectInformation()
+               .setGroupId(modelPackageName.toLowerCase())
+               .setArtifactId(artifactId)
+               .setVersionPropertyName(versionPropertyName)
+               .setGenerated(true)
+               .setGeneratedDirectoryName(DEFAULT_GENERATED_PROJECTS_DIRECTORY_NAME);
+      });
    }
 
    @Override
    public IProjectInformation getPubSubBridgeProjectName(IJellyFishCommandOptions options, IModel model) {
       Preconditions.checkNotNull(options, "options may not be null!");
       Preconditions.checkNotNull(model, "model may not be null!");
-      String modelPackageName = model.getParent().getName();
-      String modelName = model.getName();
-      String versionPropertyName = modelName + "PubSubVersion";
-      versionPropertyName = versionPropertyName.substring(0, 1).toLowerCase() + versionPropertyName.substring(1);
-      String artifactId = evaluateArtifactId(options, model, PUB_SUB_BRIDGE_ARTIFACT_ID_SUFFIX);
-
-      return new ProjectInformation()
-            .setGroupId(modelPackageName.toLowerCase())
-            .setArtifactId(artifactId)
-            .setVersionPropertyName(versionPropertyName)
-            .setGenerated(true)
-            .setGeneratedDirectoryName(DEFAULT_GENERATED_PROJECTS_DIRECTORY_NAME);
+      return projects.get(model, getCacheDiscriminator(options, "getPubSubBridgeProjectName"), () -> {
+         String modelPackageName = model.getParent().getName();
+         String modelName = model.getName();
+         String versionPropertyName = modelName + "PubSubVersion";
+         versionPropertyName = versionPropertyName.substring(0, 1).toLowerCase() + versionPropertyName.substring(1);
+         String artifactId = evaluateArtifactId(options, model, PUB_SUB_BRIDGE_ARTIFACT_ID_SUFFIX);
+
+         return new ProjectInformation()
+               .setGroupId(modelPackageName.toLowerCase())
+               .setArtifactId(artifactId)
+               .setVersionPropertyName(versionPropertyName)
+               .setGenerated(true)
+               .setGeneratedDirectoryName(DEFAULT_GENERATED_PROJECTS_DIRECTORY_NAME);
+      });
    }
 
    @Activate
@@ -297,6 +336,23 @@ public class ProjectNamingService implements IProjectNamingService {
       setLogService(null);
    }
 
+   @Override
+   public void clearCache() {
+      rootProjectNames.clear();
+      projects.clear();
+   }
+
+   /**
+    * Gets the part of a cache key that identifies the name being computed and the parameters that affect it.
+    */
+   private static Object getCacheDiscriminator(IJellyFishCommandOptions options, String name) {
+      IParameter<?> groupId = options.getParameters().getParameter(GROUP_ID_PROPERTY);
+      IParameter<?> artifactId = options.getParameters().getParameter(ARTIFACT_ID_PROPERTY);
+      return Arrays.asList(name,
+                           groupId == null ? null : groupId.getStringValue(),
+                           artifactId == null ? null : artifactId.getStringValue());
+   }
+
    private String evaluateArtifactId(IJellyFishCommandOptions options, IModel model, String suffix) {
       String artifactId;
       if (options.getParameters().containsParameter(ARTIFACT_ID_PROPERTY)) {
@@ -24,12 +24,13 @@ package com.ngc.seaside.jellyfish.service.name.project.impl;
 
 import com.google.inject.Inject;
 import com.ngc.seaside.jellyfish.api.IJellyFishCommandOptions;
+import com.ngc.seaside.jellyfish.service.execution.api.IExecutionScopedCache;
 import com.ngc.seaside.jellyfish.service.name.api.IProjectInformation;
 import com.ngc.seaside.jellyfish.service.name.api.IProjectNamingService;
 import com.ngc.seaside.systemdescriptor.model.api.model.IModel;
 import com.ngc.seaside.systemdescriptor.service.log.api.ILogService;
 
-public class ProjectNamingServiceGuiceWrapper implements IProjectNamingService {
+public class ProjectNamingServiceGuiceWrapper implements IProjectNamingService, IExecutionScopedCache {
 
    private final ProjectNamingService projectNamingService;
 
@@ -104,4 +105,9 @@ public class ProjectNamingServiceGuiceWrapper implements IProjectNamingService {
    public IProjectInformation getPubSubBridgeProjectName(IJellyFishCommandOptions options, IModel model) {
       return projectNamingService.getPubSubBridgeProjectName(options, model);
    }
+
+   @Override
+   public void clearCache() {
+      projectNamingService.clearCache();
+   }
 }
@@ -24,6 +24,8 @@ package com.ngc.seaside.jellyfish.service.name.packagez.impl;
 
 import static org.junit.Assert.assertEquals;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.Optional;
@@ -471,6 +473,31 @@ public class PackageNamingServiceTest {
                    service.getServiceBaseImplementationPackageName(options, model));
    }
 
+   @Test
+   public void testDoesComputeEachPackageNameOnlyOnce() throws Throwable {
+      Model model = newModel("TrackPriorityService", "com.ngc.seaside.threateval");
+      ISystemDescriptor systemDescriptor = mock(ISystemDescriptor.class);
+      when(systemDescriptor.findModel(model.getFullyQualifiedName())).thenReturn(Optional.of(model));
+      parameters.addParameter(new DefaultParameter<>(PackageNamingService.MODEL_PARAMETER_NAME,
+                                                     model.getFullyQualifiedName()));
+      when(options.getSystemDescriptor()).thenReturn(systemDescriptor);
+
+      for (int i = 0; i < 3; i++) {
+         assertEquals("com.ngc.seaside.threateval.trackpriorityservice.impl",
+                      service.getServiceImplementationPackageName(options, model));
+      }
+      verify(systemDescriptor, times(1)).findModel(model.getFullyQualifiedName());
+
+      assertEquals("com.ngc.seaside.threateval.trackpriorityservice.api",
+                   service.getServiceInterfacePackageName(options, model));
+      verify(systemDescriptor, times(2)).findModel(model.getFullyQualifiedName());
+
+      service.clearCache();
+      assertEquals("com.ngc.seaside.threateval.trackpriorityservice.impl",
+                   service.getServiceImplementationPackageName(options, model));
+      verify(systemDescriptor, times(3)).findModel(model.getFullyQualifiedName());
+   }
+
    private static Model newModel(String name, String packageName) {
       Model model = new Model(name);
       Package p = new Package(packageName);
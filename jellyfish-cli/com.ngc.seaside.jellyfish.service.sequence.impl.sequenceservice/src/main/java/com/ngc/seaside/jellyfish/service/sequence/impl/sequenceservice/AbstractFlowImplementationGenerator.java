@@ -59,6 +59,12 @@ public abstract class AbstractFlowImplementationGenerator {
     */
    protected IJellyFishCommandOptions options;
 
+   /**
+    * The generator used to discover the flows of the components of a model or {@code null} if a new generator should
+    * be created each time.
+    */
+   private final FlowGenerator flowGenerator;
+
    /**
     * Creates a new generator.
     *
@@ -67,8 +73,22 @@ public abstract class AbstractFlowImplementationGenerator {
     */
    protected AbstractFlowImplementationGenerator(IScenarioService scenarioService,
                                                  ILogService logService) {
+      this(scenarioService, logService, null);
+   }
+
+   /**
+    * Creates a new generator that uses the given flow generator to discover the flows of the components of a model.
+    *
+    * @param scenarioService the scenario service
+    * @param logService      the log service
+    * @param flowGenerator   the flow generator to use or {@code null} to create a new generator each time
+    */
+   protected AbstractFlowImplementationGenerator(IScenarioService scenarioService,
+                                                 ILogService logService,
+                                                 FlowGenerator flowGenerator) {
       this.scenarioService = scenarioService;
       this.logService = logService;
+      this.flowGenerator = flowGenerator;
    }
 
    /**
@@ -125,7 +145,7 @@ public abstract class AbstractFlowImplementationGenerator {
                .collect(Collectors.toList());
 
          // Use the flow generator to find flows.
-         Collection<SequenceFlow> flowsForComponent = new FlowGenerator(scenarioService, logService)
+         Collection<SequenceFlow> flowsForComponent = getFlowGenerator()
                .generateFlows(new FlowGeneratorContext()
                                     .setModel(component.getType())
                                     .setSequenceNumber(flowSequenceNumber)
@@ -223,4 +243,13 @@ public abstract class AbstractFlowImplementationGenerator {
 
       return links;
    }
+
+   /**
+    * Gets the generator used to discover the flows of the components of a model.
+    *
+    * @return the flow generator
+    */
+   protected FlowGenerator getFlowGenerator() {
+      return flowGenerator == null ? new FlowGenerator(scenarioService, logService) : flowGenerator;
+   }
 }
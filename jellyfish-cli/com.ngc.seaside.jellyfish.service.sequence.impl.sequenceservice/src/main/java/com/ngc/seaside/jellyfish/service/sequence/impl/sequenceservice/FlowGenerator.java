@@ -25,9 +25,12 @@ package com.ngc.seaside.jellyfish.service.sequence.impl.sequenceservice;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.stream.Collectors;
 
 import com.google.common.collect.Sets;
+import com.ngc.seaside.jellyfish.api.IJellyFishCommandOptions;
+import com.ngc.seaside.jellyfish.service.execution.api.ExecutionCache;
 import com.ngc.seaside.jellyfish.service.scenario.api.IMessagingFlow;
 import com.ngc.seaside.jellyfish.service.scenario.api.IPublishSubscribeMessagingFlow;
 import com.ngc.seaside.jellyfish.service.scenario.api.IRequestResponseMessagingFlow;
@@ -38,18 +41,19 @@ import com.ngc.seaside.jellyfish.service.sequence.impl.sequenceservice.model.Seq
 import com.ngc.seaside.jellyfish.service.sequence.impl.sequenceservice.model.SyntheticMessagingFlow;
 import com.ngc.seaside.systemdescriptor.model.api.INamedChild;
 import com.ngc.seaside.systemdescriptor.model.api.model.IDataReferenceField;
+import com.ngc.seaside.systemdescriptor.model.api.model.IModel;
 import com.ngc.seaside.systemdescriptor.model.api.model.link.IModelLink;
 import com.ngc.seaside.systemdescriptor.model.api.model.scenario.IScenario;
 import com.ngc.seaside.systemdescriptor.service.log.api.ILogService;
 
 /**
  * A flow generate is responsible for discovering all flows in a model.  It will also attempt to discover how each
- * flow is implemented using the {@link FlowImplementationGenerator}.
+ * flow is implemented using the {@link FlowImplementationGenerator}.  A generator may be reused to generate flows for
+ * many models and inputs.  The messaging flows declared by the scenarios of a model are only computed once per model as
+ * long as the generator is used with the same options.
  */
 public class FlowGenerator {
 
-   private final Collection<SequenceFlow> flows = new ArrayList<>();
-
    /**
     * The scenario service used to discover scenarios for a model.
     */
@@ -61,9 +65,22 @@ public class FlowGenerator {
    private final ILogService logService;
 
    /**
-    * The context object used to generate the flow.
+    * The generator used to find the implementations of the flows.  It uses this flow generator to discover nested
+    * flows.
+    */
+   private final FlowImplementationGenerator implementationGenerator;
+
+   /**
+    * The messaging flows declared by the scenarios of each model, keyed by the identity of the model.  An aggregated
+    * view of a model has the same fully qualified name as the model but different scenarios, so the name can't be
+    * used.
+    */
+   private final ExecutionCache<List<IMessagingFlow>> declaredFlowsCache = new ExecutionCache<>();
+
+   /**
+    * The options that were used to compute the cached messaging flows.
     */
-   private FlowGeneratorContext flowContext;
+   private IJellyFishCommandOptions cachedOptions;
 
    /**
     * Creates a new {@code FlowGenerator}.
@@ -74,6 +91,7 @@ public class FlowGenerator {
    public FlowGenerator(IScenarioService scenarioService, ILogService logService) {
       this.scenarioService = scenarioService;
       this.logService = logService;
+      this.implementationGenerator = new FlowImplementationGenerator(scenarioService, logService, this);
    }
 
    /**
@@ -83,23 +101,27 @@ public class FlowGenerator {
     * @return the generated flows
     */
    public Collection<SequenceFlow> generateFlows(FlowGeneratorContext flowContext) {
-      this.flowContext = flowContext;
+      Collection<SequenceFlow> flows = new ArrayList<>();
 
-      logService.trace(FlowGenerator.class,
-                       "Generating flows for %s with inputs %s.",
-                       flowContext.getModel().getFullyQualifiedName(),
-                       flowContext.getInputs().stream().map(INamedChild::getName).collect(Collectors.joining(", ")));
+      if (logService.isTraceEnabled(FlowGenerator.class)) {
+         logService.trace(FlowGenerator.class,
+                          "Generating flows for %s with inputs %s.",
+                          flowContext.getModel().getFullyQualifiedName(),
+                          flowContext.getInputs().stream().map(INamedChild::getName).collect(Collectors.joining(", ")));
+      }
 
       // Find any flows declared as scenarios.
-      discoverDeclaredFlows();
+      discoverDeclaredFlows(flowContext, flows);
 
       // We don't care about discovering undeclared flow right now.  This feature is disabled.
-      // discoverUndeclaredFlows();
+      // discoverUndeclaredFlows(flowContext, flows);
 
-      logService.trace(FlowGenerator.class,
-                       "Finished generating %d flows for %s.",
-                       flows.size(),
-                       flowContext.getModel().getFullyQualifiedName());
+      if (logService.isTraceEnabled(FlowGenerator.class)) {
+         logService.trace(FlowGenerator.class,
+                          "Finished generating %d flows for %s.",
+                          flows.size(),
+                          flowContext.getModel().getFullyQualifiedName());
+      }
 
       return flows;
    }
@@ -107,15 +129,18 @@ public class FlowGenerator {
    /**
     * Discovers any declared flows.  These are flows which are declared using scenarios.  Implementations will also
     * attempt to be generated.
+    *
+    * @param flowContext the context object that configures the generator
+    * @param flows       the collection to add the discovered flows to
     */
-   private void discoverDeclaredFlows() {
+   private void discoverDeclaredFlows(FlowGeneratorContext flowContext, Collection<SequenceFlow> flows) {
       // Find any declared flows.
-      exploreScenarios();
+      exploreScenarios(flowContext, flows);
 
       // Try to find implementations for each declared flow.
       for (SequenceFlow flow : flows) {
          // Try to generate an implementation of the flow.
-         flow.setImplementation(new FlowImplementationGenerator(scenarioService, logService).generateImplementation(
+         flow.setImplementation(implementationGenerator.generateImplementation(
                new FlowImplementationGeneratorContext()
                      .setFlow(flow)
                      .setOptions(flowContext.getOptions())));
@@ -127,8 +152,11 @@ public class FlowGenerator {
     * do actually exists.  These types of flow exists because a high level model may link inputs or outputs to its
     * sub-components (ie, parts).  These sub-components may themselves have declared scenarios.  So, in effect, the
     * higher level model also contains this behavior/scenarios it just isn't declared.
+    *
+    * @param flowContext the context object that configures the generator
+    * @param flows       the collection to add the discovered flows to
     */
-   private void discoverUndeclaredFlows() {
+   private void discoverUndeclaredFlows(FlowGeneratorContext flowContext, Collection<SequenceFlow> flows) {
       // This implementation will capture any undeclared flows as a single undeclared implementation.  This means
       // instead of generating multiple undeclared flows, we create a single implementation which itself contains any
       // number of flows.  This works because the sequence service logic will repeatably invoke the generators
@@ -145,37 +173,68 @@ public class FlowGenerator {
          // Determine how many times the undeclared flow can be activated.
          Collection<IDataReferenceField> inputs = new ArrayList<>(flowContext.getInputs());
          while (canFlowBeActivated(undeclaredFlow, inputs)) {
-            inputs = flowActivated(undeclaredFlow, inputs, 1);
+            inputs = flowActivated(flowContext, flows, undeclaredFlow, inputs, 1);
          }
       }
    }
 
    /**
     * Explores scenarios in the model, generating flows as necessary.
+    *
+    * @param flowContext the context object that configures the generator
+    * @param flows       the collection to add the discovered flows to
     */
-   private void exploreScenarios() {
+   private void exploreScenarios(FlowGeneratorContext flowContext, Collection<SequenceFlow> flows) {
       // Check to see which scenarios (if any) reference any of the inputs.
-      for (IScenario scenario : flowContext.getModel().getScenarios()) {
-         // Check for pub/sub flows that reference the current inputs.
-         scenarioService.getPubSubMessagingFlow(flowContext.getOptions(), scenario)
-               .ifPresent(this::explorePubSubFlow);
-         // Check for req/res flows that reference the current inputs.
-         scenarioService.getRequestResponseMessagingFlow(flowContext.getOptions(), scenario)
-               .ifPresent(this::exploreReqResFlow);
+      for (IMessagingFlow flow : getDeclaredFlows(flowContext.getOptions(), flowContext.getModel())) {
+         if (flow instanceof IPublishSubscribeMessagingFlow) {
+            // Check for pub/sub flows that reference the current inputs.
+            explorePubSubFlow(flowContext, flows, (IPublishSubscribeMessagingFlow) flow);
+         } else {
+            // Check for req/res flows that reference the current inputs.
+            exploreReqResFlow(flowContext, flows, (IRequestResponseMessagingFlow) flow);
+         }
+      }
+   }
+
+   /**
+    * Gets the pub/sub and req/res messaging flows declared by the scenarios of the given model.  The flows are ordered
+    * by scenario.  The flows are only computed once per model.  The cache is discarded if different options are used.
+    *
+    * @param options the options used to run Jellyfish
+    * @param model   the model
+    * @return the messaging flows declared by the model
+    */
+   private List<IMessagingFlow> getDeclaredFlows(IJellyFishCommandOptions options, IModel model) {
+      if (options != cachedOptions) {
+         declaredFlowsCache.clear();
+         cachedOptions = options;
       }
+      return declaredFlowsCache.get(model, null, () -> {
+         List<IMessagingFlow> declaredFlows = new ArrayList<>();
+         for (IScenario scenario : model.getScenarios()) {
+            scenarioService.getPubSubMessagingFlow(options, scenario).ifPresent(declaredFlows::add);
+            scenarioService.getRequestResponseMessagingFlow(options, scenario).ifPresent(declaredFlows::add);
+         }
+         return declaredFlows;
+      });
    }
 
    /**
     * Explores the given pub/sub flow and determines if the flow can be activated.
     *
-    * @param flow the pub/sub flow to explore
+    * @param flowContext the context object that configures the generator
+    * @param flows       the collection to add the discovered flows to
+    * @param flow        the pub/sub flow to explore
     */
-   private void explorePubSubFlow(IPublishSubscribeMessagingFlow flow) {
+   private void explorePubSubFlow(FlowGeneratorContext flowContext,
+                                  Collection<SequenceFlow> flows,
+                                  IPublishSubscribeMessagingFlow flow) {
       Collection<IDataReferenceField> inputs = new ArrayList<>(flowContext.getInputs());
       // Does this flow reference the any of the available inputs?
       while (canFlowBeActivated(flow, inputs)) {
          // If so, activate the flow and remove the inputs the flow consumed.
-         inputs = flowActivated(flow, inputs);
+         inputs = flowActivated(flowContext, flows, flow, inputs);
          // Continue the loop until the flow can't be activated any more.  We do this in case a single scenario
          // is activated more than once because duplicate inputs are available.
       }
@@ -184,14 +243,18 @@ public class FlowGenerator {
    /**
     * Explores the given req/res flow and determines if the flow can be activated.
     *
-    * @param flow the req/res flow to explore
+    * @param flowContext the context object that configures the generator
+    * @param flows       the collection to add the discovered flows to
+    * @param flow        the req/res flow to explore
     */
-   private void exploreReqResFlow(IRequestResponseMessagingFlow flow) {
+   private void exploreReqResFlow(FlowGeneratorContext flowContext,
+                                  Collection<SequenceFlow> flows,
+                                  IRequestResponseMessagingFlow flow) {
       Collection<IDataReferenceField> inputs = new ArrayList<>(flowContext.getInputs());
       // Does this flow reference the any of the available inputs?
       while (canFlowBeActivated(flow, inputs)) {
          // If so, activate the flow and remove the inputs the flow consumed.
-         inputs = flowActivated(flow, inputs);
+         inputs = flowActivated(flowContext, flows, flow, inputs);
          // Continue the loop until the flow can't be activated any more.  We do this in case a single scenario
          // is activated more than once because duplicate inputs are available.
       }
@@ -250,15 +313,22 @@ public class FlowGenerator {
    /**
     * Invoked when a flow has been activated.  Create a sequence flow and adds it the list of current flow.
     *
-    * @param flow   the flow that was activated
-    * @param inputs the inputs
+    * @param flowContext the context object that configures the generator
+    * @param flows       the collection to add the activated flow to
+    * @param flow        the flow that was activated
+    * @param inputs      the inputs
     * @return the resulting inputs after removing the inputs that the activated flow consumed
     */
-   private Collection<IDataReferenceField> flowActivated(IMessagingFlow flow, Collection<IDataReferenceField> inputs) {
-      logService.trace(FlowGenerator.class,
-                       "Determined that scenario %s.%s can be activated.",
-                       flow.getScenario().getParent().getName(),
-                       flow.getScenario().getName());
+   private Collection<IDataReferenceField> flowActivated(FlowGeneratorContext flowContext,
+                                                         Collection<SequenceFlow> flows,
+                                                         IMessagingFlow flow,
+                                                         Collection<IDataReferenceField> inputs) {
+      if (logService.isTraceEnabled(FlowGenerator.class)) {
+         logService.trace(FlowGenerator.class,
+                          "Determined that scenario %s.%s can be activated.",
+                          flow.getScenario().getParent().getName(),
+                          flow.getScenario().getName());
+      }
 
       // Create a new sequence flow that wraps the given messaging flow.  The sequence flow just had additional
       // information with it.
@@ -279,12 +349,16 @@ public class FlowGenerator {
     * Invoked when an undeclared or synthetic flow has been activated.  Create a sequence flow and adds it the list of
     * current flow.
     *
+    * @param flowContext         the context object that configures the generator
+    * @param flows               the collection to add the activated flow to
     * @param undeclaredFlow      the  synthetic flow that was activated
     * @param inputs              the inputs
     * @param undeclaredFlowIndex the index number of the undeclared flow
     * @return the resulting inputs after removing the inputs that the activated flow consumed
     */
-   private Collection<IDataReferenceField> flowActivated(SequenceFlowImplementation undeclaredFlow,
+   private Collection<IDataReferenceField> flowActivated(FlowGeneratorContext flowContext,
+                                                         Collection<SequenceFlow> flows,
+                                                         SequenceFlowImplementation undeclaredFlow,
                                                          Collection<IDataReferenceField> inputs,
                                                          int undeclaredFlowIndex) {
 
@@ -35,11 +35,6 @@ import com.ngc.seaside.systemdescriptor.service.log.api.ILogService;
  */
 public class FlowImplementationGenerator extends AbstractFlowImplementationGenerator {
 
-   /**
-    * The context object that contains the configuration of the generator.
-    */
-   private FlowImplementationGeneratorContext context;
-
    /**
     * Creates a new {@code FlowImplementationGenerator}.
     *
@@ -50,6 +45,21 @@ public class FlowImplementationGenerator extends AbstractFlowImplementationGener
       super(scenarioService, logService);
    }
 
+   /**
+    * Creates a new {@code FlowImplementationGenerator} that uses the given flow generator to discover nested flows.
+    * The generator keeps no state between invocations of {@code generateImplementation}, so a single instance may be
+    * reused for many flows, including nested flows.
+    *
+    * @param scenarioService the scenario service
+    * @param logService      the log service
+    * @param flowGenerator   the flow generator used to discover nested flows
+    */
+   public FlowImplementationGenerator(IScenarioService scenarioService,
+                                      ILogService logService,
+                                      FlowGenerator flowGenerator) {
+      super(scenarioService, logService, flowGenerator);
+   }
+
    /**
     * Attempts to create an implementation.  May return {@code null} if no implementation was found.
     *
@@ -57,38 +67,42 @@ public class FlowImplementationGenerator extends AbstractFlowImplementationGener
     * @return the implementation or {@code null} if no implementation was found
     */
    public SequenceFlowImplementation generateImplementation(FlowImplementationGeneratorContext context) {
-      this.context = context;
       this.options = context.getOptions();
       IScenario scenario = context.getFlow().getMessagingFlow().getScenario();
       IModel model = scenario.getParent();
 
-      logService.trace(FlowImplementationGenerator.class,
-                       "Attempting to find implementation of %s.%s.",
-                       model.getFullyQualifiedName(),
-                       scenario.getName());
-
-      SequenceFlowImplementation impl = findImpl();
-      if (impl == null) {
+      if (logService.isTraceEnabled(FlowImplementationGenerator.class)) {
          logService.trace(FlowImplementationGenerator.class,
-                          "Did not find implementation of %s.%s.",
-                          model.getFullyQualifiedName(),
-                          scenario.getName());
-      } else {
-         logService.trace(FlowImplementationGenerator.class,
-                          "Found implementation of %s.%s.",
+                          "Attempting to find implementation of %s.%s.",
                           model.getFullyQualifiedName(),
                           scenario.getName());
       }
 
+      SequenceFlowImplementation impl = findImpl(context);
+      if (logService.isTraceEnabled(FlowImplementationGenerator.class)) {
+         if (impl == null) {
+            logService.trace(FlowImplementationGenerator.class,
+                             "Did not find implementation of %s.%s.",
+                             model.getFullyQualifiedName(),
+                             scenario.getName());
+         } else {
+            logService.trace(FlowImplementationGenerator.class,
+                             "Found implementation of %s.%s.",
+                             model.getFullyQualifiedName(),
+                             scenario.getName());
+         }
+      }
+
       return impl;
    }
 
    /**
     * Finds the implementation of the flow in the context or {@code null}.
     *
+    * @param context the context object that configures the generator
     * @return the implementatino
     */
-   private SequenceFlowImplementation findImpl() {
+   private SequenceFlowImplementation findImpl(FlowImplementationGeneratorContext context) {
       IScenario scenario = context.getFlow().getMessagingFlow().getScenario();
       IModel model = scenario.getParent();
 
@@ -97,22 +111,23 @@ public class FlowImplementationGenerator extends AbstractFlowImplementationGener
 
       // Check to make sure the impl is valid.  This means the actual inputs and outputs of the impl must match
       // the flow.  Otherwise, we didn't actually find an impl.
-      boolean implValid = isImplValid(impl);
+      boolean implValid = isImplValid(impl, context);
 
       // If the implementation is valid, try to find the implementation of any nested flows.
       if (implValid) {
-         logService.trace(FlowImplementationGenerator.class,
-                          "Recursively searching for implementation of %d nested flows of %s.%s.",
-                          impl.getFlows().size(),
-                          model.getFullyQualifiedName(),
-                          scenario.getName());
+         if (logService.isTraceEnabled(FlowImplementationGenerator.class)) {
+            logService.trace(FlowImplementationGenerator.class,
+                             "Recursively searching for implementation of %d nested flows of %s.%s.",
+                             impl.getFlows().size(),
+                             model.getFullyQualifiedName(),
+                             scenario.getName());
+         }
          for (ISequenceFlow nestedFlow : impl.getFlows()) {
             // Safe because we created the flow.
             SequenceFlow casted = (SequenceFlow) nestedFlow;
-            casted.setImplementation(new FlowImplementationGenerator(scenarioService, logService)
-                                           .generateImplementation(new FlowImplementationGeneratorContext()
-                                                                         .setFlow(casted)
-                                                                         .setOptions(context.getOptions())));
+            casted.setImplementation(generateImplementation(new FlowImplementationGeneratorContext()
+                                                                  .setFlow(casted)
+                                                                  .setOptions(context.getOptions())));
          }
       }
 
@@ -122,10 +137,11 @@ public class FlowImplementationGenerator extends AbstractFlowImplementationGener
    /**
     * Returns true if the discovered implementation is valid given the declared flow.
     *
-    * @param impl the discovered impl
+    * @param impl    the discovered impl
+    * @param context the context object that configures the generator
     * @return true if the implementation is valid
     */
-   private boolean isImplValid(SequenceFlowImplementation impl) {
+   private boolean isImplValid(SequenceFlowImplementation impl, FlowImplementationGeneratorContext context) {
       // Make sure the outputs above and the outputs of the actual flow match.  If they do, this impl is valid
       // for the given flow.
       return Sequencing.equivalent(Sequencing.getOutputs(impl), context.getFlow().getOutputs());
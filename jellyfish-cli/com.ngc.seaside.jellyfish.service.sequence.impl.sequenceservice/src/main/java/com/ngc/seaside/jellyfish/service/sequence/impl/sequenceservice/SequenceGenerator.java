@@ -53,6 +53,12 @@ public class SequenceGenerator {
     */
    private final ILogService logService;
 
+   /**
+    * The generator used to find the flows of the model.  The same generator is used for every combination of inputs so
+    * the scenarios of each model are only explored once.
+    */
+   private final FlowGenerator flowGenerator;
+
    /**
     * The options Jellyfish was invoked with.
     */
@@ -77,6 +83,7 @@ public class SequenceGenerator {
    public SequenceGenerator(IScenarioService scenarioService, ILogService logService) {
       this.scenarioService = scenarioService;
       this.logService = logService;
+      this.flowGenerator = new FlowGenerator(scenarioService, logService);
    }
 
    /**
@@ -145,7 +152,11 @@ public class SequenceGenerator {
          logService.trace(SequenceGenerator.class, "Sequence is being discarded because not all inputs were used.");
       }
 
-      logService.trace(SequenceGenerator.class, "Sequence generating for %s complete.", model.getFullyQualifiedName());
+      if (logService.isTraceEnabled(SequenceGenerator.class)) {
+         logService.trace(SequenceGenerator.class,
+                          "Sequence generating for %s complete.",
+                          model.getFullyQualifiedName());
+      }
 
       return result;
    }
@@ -156,7 +167,7 @@ public class SequenceGenerator {
    }
 
    private void generateScenarioFlows() {
-      Collection<SequenceFlow> flows = new FlowGenerator(scenarioService, logService)
+      Collection<SequenceFlow> flows = flowGenerator
             .generateFlows(new FlowGeneratorContext()
                                  .setModel(model)
                                  .setSequenceNumber(0)
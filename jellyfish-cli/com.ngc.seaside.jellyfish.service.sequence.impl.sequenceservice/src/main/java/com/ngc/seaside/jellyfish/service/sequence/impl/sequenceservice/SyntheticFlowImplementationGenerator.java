@@ -61,20 +61,24 @@ public class SyntheticFlowImplementationGenerator extends AbstractFlowImplementa
       this.context = context;
       this.options = context.getOptions();
 
-      logService.trace(FlowImplementationGenerator.class,
-                       "Attempting to find undeclared flows for %s with inputs %s.",
-                       context.getModel().getFullyQualifiedName(),
-                       context.getInputs());
+      if (logService.isTraceEnabled(FlowImplementationGenerator.class)) {
+         logService.trace(FlowImplementationGenerator.class,
+                          "Attempting to find undeclared flows for %s with inputs %s.",
+                          context.getModel().getFullyQualifiedName(),
+                          context.getInputs());
+      }
 
       SequenceFlowImplementation impl = findImpl();
-      if (impl == null) {
-         logService.trace(getClass(),
-                          "Did not find any undeclared flows for %s.",
-                          context.getModel().getFullyQualifiedName());
-      } else {
-         logService.trace(getClass(),
-                          "Found an undeclared flow for %s.",
-                          context.getModel().getFullyQualifiedName());
+      if (logService.isTraceEnabled(getClass())) {
+         if (impl == null) {
+            logService.trace(getClass(),
+                             "Did not find any undeclared flows for %s.",
+                             context.getModel().getFullyQualifiedName());
+         } else {
+            logService.trace(getClass(),
+                             "Found an undeclared flow for %s.",
+                             context.getModel().getFullyQualifiedName());
+         }
       }
 
       return impl;
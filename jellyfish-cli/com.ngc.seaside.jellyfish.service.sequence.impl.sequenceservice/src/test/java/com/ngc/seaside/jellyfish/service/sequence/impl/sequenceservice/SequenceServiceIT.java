@@ -22,12 +22,19 @@
  */
 package com.ngc.seaside.jellyfish.service.sequence.impl.sequenceservice;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.fail;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.spy;
 
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.Before;
 import org.junit.BeforeClass;
@@ -35,6 +42,7 @@ import org.junit.Ignore;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
+import org.mockito.invocation.Invocation;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import com.google.inject.AbstractModule;
@@ -58,6 +66,7 @@ import com.ngc.seaside.jellyfish.service.sequence.impl.sequenceservice.cases.Cre
 import com.ngc.seaside.jellyfish.service.sequence.impl.sequenceservice.cases.CreateSequenceWithDuplicateFlowsIfDuplicateInputsReceivedTestCase;
 import com.ngc.seaside.jellyfish.service.sequence.impl.sequenceservice.cases.CreateSequenceWithDuplicateInputsTestCase;
 import com.ngc.seaside.systemdescriptor.model.api.ISystemDescriptor;
+import com.ngc.seaside.systemdescriptor.model.api.model.scenario.IScenario;
 import com.ngc.seaside.systemdescriptor.scenario.impl.module.StepsSystemDescriptorServiceModule;
 import com.ngc.seaside.systemdescriptor.service.api.IParsingResult;
 import com.ngc.seaside.systemdescriptor.service.api.ISystemDescriptorService;
@@ -224,6 +233,31 @@ public class SequenceServiceIT {
       new CreateSequenceForPubSubSystemWithDuplicateFlowImplTestCase(state()).execute();
    }
 
+   /**
+    * This test ensures the scenarios of a model are only explored once even if sequences are generated for many
+    * combinations of inputs.
+    */
+   @Test
+   public void testDoesOnlyExploreScenariosOncePerModel() {
+      IScenarioService spiedScenarioService = spy(scenarioService);
+      service.setScenarioService(spiedScenarioService);
+
+      new CreateMultipleSequencesPubSubSystemTestCase(state()).execute();
+
+      List<String> exploredScenarios = mockingDetails(spiedScenarioService).getInvocations()
+            .stream()
+            .filter(i -> i.getMethod().getName().equals("getPubSubMessagingFlow"))
+            .map(Invocation::getArguments)
+            .map(args -> (IScenario) args[1])
+            .map(scenario -> scenario.getParent().getFullyQualifiedName() + "." + scenario.getName())
+            .collect(Collectors.toList());
+      assertFalse("no scenarios were explored!",
+                  exploredScenarios.isEmpty());
+      assertEquals("scenarios should only be explored once!",
+                   new HashSet<>(exploredScenarios).size(),
+                   exploredScenarios.size());
+   }
+
    // TODO TH: use a system of systems example.  IE, use the weapon system example.
    // test forks and splits
 
@@ -0,0 +1,95 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.jellyfish.utilities.file;
+
+import com.google.common.base.Preconditions;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A bounded cache of the lines of source files.  This is used by reports that display a snippet of the source for
+ * each finding.  Since many findings are usually reported for the same file, this avoids reading the same file again
+ * for every finding.  Only the most recently used files are kept in the cache.  This class is not thread safe.
+ */
+public class SourceSnippetCache {
+
+   /**
+    * The default number of files whose lines are kept in the cache.
+    */
+   public static final int DEFAULT_MAXIMUM_FILES = 64;
+
+   private final Map<Path, List<String>> lines;
+
+   /**
+    * Creates a new cache that contains at most {@link #DEFAULT_MAXIMUM_FILES} files.
+    */
+   public SourceSnippetCache() {
+      this(DEFAULT_MAXIMUM_FILES);
+   }
+
+   /**
+    * Creates a new cache that contains at most the given number of files.
+    *
+    * @param maximumFiles the maximum number of files whose lines are cached
+    */
+   public SourceSnippetCache(int maximumFiles) {
+      Preconditions.checkArgument(maximumFiles > 0, "maximumFiles must be positive!");
+      // Use access order so the least recently used file is evicted first.
+      this.lines = new LinkedHashMap<Path, List<String>>(16, 0.75f, true) {
+         @Override
+         protected boolean removeEldestEntry(Map.Entry<Path, List<String>> eldest) {
+            return size() > maximumFiles;
+         }
+      };
+   }
+
+   /**
+    * Gets all the lines of the given file.  The file is only read if its lines are not already cached.
+    *
+    * @param file the file to read
+    * @return the unmodifiable lines of the file
+    * @throws IOException if the file could not be read
+    */
+   public List<String> getLines(Path file) throws IOException {
+      Preconditions.checkNotNull(file, "file may not be null!");
+      List<String> fileLines = lines.get(file);
+      if (fileLines == null) {
+         fileLines = Collections.unmodifiableList(Files.readAllLines(file));
+         lines.put(file, fileLines);
+      }
+      return fileLines;
+   }
+
+   /**
+    * Removes all files from the cache.
+    */
+   public void clear() {
+      lines.clear();
+   }
+}
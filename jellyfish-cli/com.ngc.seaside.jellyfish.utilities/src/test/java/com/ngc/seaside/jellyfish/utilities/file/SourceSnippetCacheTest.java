@@ -0,0 +1,71 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.jellyfish.utilities.file;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class SourceSnippetCacheTest {
+
+   @Rule
+   public TemporaryFolder testFolder = new TemporaryFolder();
+
+   private Path file;
+
+   @Before
+   public void setup() throws IOException {
+      file = testFolder.newFile("example.sd").toPath();
+      Files.write(file, Arrays.asList("1", "2", "3", "4", "5", "6", "7", "8"));
+   }
+
+   @Test
+   public void testDoesCacheLinesOfFile() throws IOException {
+      SourceSnippetCache cache = new SourceSnippetCache();
+      List<String> lines = cache.getLines(file);
+      assertEquals(8, lines.size());
+      assertSame("lines should be cached!", lines, cache.getLines(file));
+   }
+
+   @Test
+   public void testDoesEvictLeastRecentlyUsedFiles() throws IOException {
+      Path other = testFolder.newFile("other.sd").toPath();
+      Files.write(other, Arrays.asList("a", "b"));
+
+      SourceSnippetCache cache = new SourceSnippetCache(1);
+      List<String> lines = cache.getLines(file);
+      cache.getLines(other);
+      assertNotSame("lines should have been evicted!", lines, cache.getLines(file));
+   }
+}
@@ -0,0 +1,297 @@
+/*
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.jellyfish.examples.tasks;
+
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+
+import org.gradle.api.logging.Logger;
+import org.gradle.api.logging.Logging;
+import org.junit.Assert;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import javax.inject.Inject;
+
+/**
+ * Compares the expected output of a regression with the generated output.  Both trees are walked once.  Files are
+ * first compared by size and content hash in parallel.  Only files whose contents differ are compared line by line,
+ * which allows differences that don't matter, such as line endings, to be ignored.
+ *
+ * <p>
+ * This is executed with the Gradle worker API so the diffs of several regressions can run at the same time.
+ */
+public class RegressionDiff implements Runnable {
+
+   private static final Logger LOGGER = Logging.getLogger(RegressionDiffTask.class);
+
+   private final String regression;
+   private final File expectedDir;
+   private final File generatedDir;
+   private final List<Pattern> excludes;
+
+   /**
+    * Creates a new diff.
+    *
+    * @param regression   the name of the regression
+    * @param expectedDir  the folder corresponding to the expected project
+    * @param generatedDir the folder corresponding to the generated project
+    * @param excludes     the regular expressions of the absolute paths of files to ignore
+    */
+   @Inject
+   public RegressionDiff(String regression, File expectedDir, File generatedDir, ArrayList<String> excludes) {
+      this.regression = regression;
+      this.expectedDir = expectedDir;
+      this.generatedDir = generatedDir;
+      this.excludes = excludes.stream().map(Pattern::compile).collect(Collectors.toList());
+   }
+
+   @Override
+   public void run() {
+      try {
+         if (!compareDirectories(expectedDir.toPath(), generatedDir.toPath())) {
+            Assert.fail("Regression " + regression + " did not generate the expected output");
+         }
+      } catch (IOException e) {
+         throw new UncheckedIOException(e);
+      }
+   }
+
+   /**
+    * Compares the project trees.  All differences are reported instead of stopping at the first difference.
+    *
+    * @param expectedDir  the folder corresponding to the expected project
+    * @param generatedDir the folder corresponding to the generated project
+    * @return a boolean value indicating that the directory trees are equal
+    * @throws IOException if the trees could not be read
+    */
+   private boolean compareDirectories(Path expectedDir, Path generatedDir) throws IOException {
+      SortedMap<String, Entry> expectedFiles = listFiles(expectedDir);
+      SortedMap<String, Entry> generatedFiles = listFiles(generatedDir);
+
+      // The trees must contain the same elements to be equal.
+      boolean equal = true;
+      if (!expectedFiles.keySet().equals(generatedFiles.keySet())) {
+         prettyPrintTreesContainDifferentFiles(expectedDir, expectedFiles, generatedDir, generatedFiles);
+         equal = false;
+      }
+
+      Collection<Entry[]> filePairs = new ArrayList<>();
+      for (Map.Entry<String, Entry> expected : expectedFiles.entrySet()) {
+         Entry generated = generatedFiles.get(expected.getKey());
+         if (generated == null) {
+            continue;
+         }
+         if (expected.getValue().directory != generated.directory) {
+            prettyPrintFilesDifferentType(expected.getValue(), generated);
+            equal = false;
+         } else if (!expected.getValue().directory) {
+            filePairs.add(new Entry[]{expected.getValue(), generated});
+         }
+      }
+
+      // The content comparison is IO bound and independent for each file, so the files are compared in parallel.
+      // The mismatches are collected in order so the report is deterministic.
+      List<Entry[]> mismatches = filePairs.parallelStream()
+            .filter(pair -> !contentEquals(pair[0], pair[1]))
+            .collect(Collectors.toList());
+      for (Entry[] mismatch : mismatches) {
+         equal &= validFileDifferences(mismatch[0].path, mismatch[1].path);
+      }
+      return equal;
+   }
+
+   /**
+    * Walks the given tree and returns all files and directories that are not excluded, keyed by their path relative
+    * to the root of the tree.  Excluded directories are not walked.
+    */
+   private SortedMap<String, Entry> listFiles(Path root) throws IOException {
+      SortedMap<String, Entry> files = new TreeMap<>();
+      Files.walkFileTree(root, new SimpleFileVisitor<Path>() {
+         @Override
+         public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+            if (dir.equals(root)) {
+               return FileVisitResult.CONTINUE;
+            }
+            if (isExcluded(dir)) {
+               return FileVisitResult.SKIP_SUBTREE;
+            }
+            files.put(getKey(root, dir), new Entry(dir, attrs));
+            return FileVisitResult.CONTINUE;
+         }
+
+         @Override
+         public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+            if (!isExcluded(file)) {
+               files.put(getKey(root, file), new Entry(file, attrs));
+            }
+            return FileVisitResult.CONTINUE;
+         }
+      });
+      return files;
+   }
+
+   private boolean isExcluded(Path path) {
+      String absolutePath = path.toAbsolutePath().toString();
+      for (Pattern pattern : excludes) {
+         if (pattern.matcher(absolutePath).matches()) {
+            return true;
+         }
+      }
+      return false;
+   }
+
+   private static String getKey(Path root, Path path) {
+      return root.relativize(path).toString().replace(File.separatorChar, '/');
+   }
+
+   private static boolean contentEquals(Entry expected, Entry generated) {
+      return expected.size == generated.size && hash(expected.path).equals(hash(generated.path));
+   }
+
+   private static HashCode hash(Path file) {
+      try {
+         return com.google.common.io.Files.asByteSource(file.toFile()).hash(Hashing.murmur3_128());
+      } catch (IOException e) {
+         throw new UncheckedIOException(e);
+      }
+   }
+
+   /**
+    * This method is called to check that unequal files are indeed "different". Differences in files with certain file
+    * types and on lines in comments can be ignored.
+    *
+    * @param defFile - the given project
+    * @param genFile - the generated project
+    * @return a boolean value indicating whether or not the files are indeed equal (contain no valid differences)
+    * @throws IOException working with the FileReader library.
+    */
+   private boolean validFileDifferences(Path defFile, Path genFile) throws IOException {
+      boolean equalFiles = true;
+
+      try (BufferedReader expectedBr = new BufferedReader(new FileReader(defFile.toFile()));
+           BufferedReader generatedBr = new BufferedReader(new FileReader(genFile.toFile()))) {
+         String expectedFileLine;
+         String generatedFileLine;
+         int lineNum = 0;
+         while ((expectedFileLine = expectedBr.readLine()) != null
+                && (generatedFileLine = generatedBr.readLine()) != null) {
+            lineNum++;
+
+            if (!expectedFileLine.equals(generatedFileLine)) {
+               equalFiles = false;
+               prettyPrintFilesNotEqual(defFile, genFile, lineNum, expectedFileLine, generatedFileLine);
+            }
+         }
+      }
+
+      return equalFiles;
+   }
+
+   /**
+    * Method to display a user friendly message indicating that the trees do not contain the same elements.
+    */
+   private void prettyPrintTreesContainDifferentFiles(Path defProj, SortedMap<String, Entry> defFiles,
+                                                      Path genProj, SortedMap<String, Entry> genFiles) {
+      LOGGER.error("--------------------------\nDirectories are not equal:");
+
+      LOGGER.error("Missing from " + genProj.toAbsolutePath() + ":");
+      defFiles.keySet().stream()
+            .filter(key -> !genFiles.containsKey(key))
+            .forEach(key -> LOGGER.error("\t- " + key));
+
+      LOGGER.error("\nMissing from " + defProj.toAbsolutePath() + ":");
+      genFiles.keySet().stream()
+            .filter(key -> !defFiles.containsKey(key))
+            .forEach(key -> LOGGER.error("\t- " + key));
+   }
+
+   /**
+    * Method to display a user friendly message indicating that the files do not contain equal contents
+    *
+    * @param defFile     - the evaluated file in the given project
+    * @param genFile     - the evaluated file in the generated project
+    * @param diffLineNum - the line number where the difference was observed
+    * @param defLine     - the contents of the evaluated line in the given project
+    * @param genLine     - the contents of the evaluated line in the generated project
+    */
+   private void prettyPrintFilesNotEqual(Path defFile, Path genFile, int diffLineNum,
+                                         String defLine, String genLine) {
+      LOGGER.error("--------------------\nFiles are not equal. Valid differences found:");
+      LOGGER.error(" Expected File: " + defFile.toAbsolutePath());
+      LOGGER.error("Generated File: " + genFile.toAbsolutePath() + "\n");
+
+      LOGGER.error("Line " + diffLineNum + ":");
+      LOGGER.error(" Expected file: " + defLine);
+      LOGGER.error("Generated file: " + genLine + "\n");
+   }
+
+   /**
+    * Method to display a user friendly message indicating that the files under investigation are of different types
+    *
+    * @param file1 - a file in the given project
+    * @param file2 - a file in the generated project
+    */
+   private void prettyPrintFilesDifferentType(Entry file1, Entry file2) {
+      if (!file1.directory) {
+         LOGGER.error("File " + file1.path.getFileName() + " is a FILE and File " + file2.path.getFileName()
+                            + " is a DIRECTORY");
+      } else {
+         LOGGER.error("File " + file1.path.getFileName() + " is a DIRECTORY and File " + file2.path.getFileName()
+                            + " is a FILE");
+      }
+   }
+
+   /**
+    * A file or directory found while walking a tree.
+    */
+   private static class Entry {
+
+      private final Path path;
+      private final boolean directory;
+      private final long size;
+
+      private Entry(Path path, BasicFileAttributes attrs) {
+         this.path = path;
+         this.directory = attrs.isDirectory();
+         this.size = attrs.size();
+      }
+   }
+}
@@ -56,8 +56,12 @@ public class JellyFishProjectGenerator {
 
    /**
     * generates a jellyfish project
+    *
+    * @return {@code true} if the command was executed successfully, {@code false} if the command was not executed or
+    *       failed without failing the build
     */
-   public void generate() {
+   public boolean generate() {
+      boolean successful = false;
       if (executionCondition.get()) {
          try {
             logger.debug("Running JellyFish command " + command + ".");
@@ -67,6 +71,7 @@ public class JellyFishProjectGenerator {
                                        asPureJavaTypes(arguments),
                                        Collections.singleton(new GradleJellyfishModule()));
             logger.debug("JellyFish command " + command + " executed successfully.");
+            successful = true;
          } catch (Throwable t) {
             if (failBuildOnException) {
                throw new GradleException("Jellyfish command " + command + " failed!", t);
@@ -75,6 +80,7 @@ public class JellyFishProjectGenerator {
             }
          }
       }
+      return successful;
    }
 
    public String getCommand() {
@@ -50,6 +50,7 @@ import com.ngc.seaside.jellyfish.service.property.api.IPropertyService;
 import com.ngc.seaside.jellyfish.service.template.api.ITemplateService;
 import com.ngc.seaside.jellyfish.service.template.api.TemplateServiceException;
 import com.ngc.seaside.systemdescriptor.service.log.api.ILogService;
+import com.ngc.seaside.systemdescriptor.service.profile.api.Profiler;
 
 /**
  * An implementation of {@code ITemplateService} that loads template resources (IE, ZIP) directly from the classpath.
@@ -95,6 +96,12 @@ public class ClasspathTemplateService extends TemplateService {
       }
    }
 
+   @Inject(optional = true)
+   @Override
+   public void setProfiler(Profiler profiler) {
+      super.setProfiler(profiler);
+   }
+
    @Override
    protected InputStream getTemplateInputStream(String templateName) throws TemplateServiceException {
       String template = findTemplate(templateNames, templateName);
@@ -114,7 +114,9 @@ public class GradleLogService implements ILogService {
 
    @Override
    public void debug(Class<?> clazz, String s, Object... objects) {
-      Logging.getLogger(clazz).debug(format(s, objects));
+      if (isDebugEnabled(clazz)) {
+         Logging.getLogger(clazz).debug(format(s, objects));
+      }
    }
 
    @Override
@@ -124,7 +126,9 @@ public class GradleLogService implements ILogService {
 
    @Override
    public void debug(Class<?> clazz, Throwable throwable, String s, Object... objects) {
-      Logging.getLogger(clazz).debug(format(s, objects), throwable);
+      if (isDebugEnabled(clazz)) {
+         Logging.getLogger(clazz).debug(format(s, objects), throwable);
+      }
    }
 
    @Override
@@ -134,7 +138,9 @@ public class GradleLogService implements ILogService {
 
    @Override
    public void trace(Class<?> clazz, String s, Object... objects) {
-      Logging.getLogger(clazz).trace(format(s, objects));
+      if (isTraceEnabled(clazz)) {
+         Logging.getLogger(clazz).trace(format(s, objects));
+      }
    }
 
    @Override
@@ -144,7 +150,9 @@ public class GradleLogService implements ILogService {
 
    @Override
    public void trace(Class<?> clazz, Throwable throwable, String s, Object... objects) {
-      Logging.getLogger(clazz).trace(format(s, objects), throwable);
+      if (isTraceEnabled(clazz)) {
+         Logging.getLogger(clazz).trace(format(s, objects), throwable);
+      }
    }
 
    @Override
@@ -58,6 +58,7 @@ import org.gradle.language.base.plugins.LifecycleBasePlugin;
 import org.sonarqube.gradle.SonarQubeExtension;
 import org.sonarqube.gradle.SonarQubePlugin;
 
+import java.io.File;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
@@ -99,6 +100,11 @@ import java.util.stream.Collectors;
  *    args [deploymentModel : 'com.ngc.SomeDeploymentModel', what : 'ever']
  * }
  * </pre>
+ *
+ * <p>
+ * The {@value #ANALYZE_TASK_NAME} task is up-to-date and can be loaded from the build cache if the project and the
+ * configured analyses have not changed, unless the console report is used.  Since the console report is not saved
+ * as an output, the task always runs when the console report is configured, which is the default.
  */
 public class SystemDescriptorProjectPlugin extends AbstractProjectPlugin {
 
@@ -191,6 +197,7 @@ public class SystemDescriptorProjectPlugin extends AbstractProjectPlugin {
          task.setGroup(LifecycleBasePlugin.BUILD_GROUP);
          task.setArguments(Collections.singletonMap(CommonParameters.INPUT_DIRECTORY.getName(),
                                                     project.getProjectDir().toString()));
+         configureInputsAndOutputs(project, task, main, test);
          build.dependsOn(task);
          sdJar.dependsOn(task);
          testJar.dependsOn(task);
@@ -210,6 +217,7 @@ public class SystemDescriptorProjectPlugin extends AbstractProjectPlugin {
          task.setGroup(LifecycleBasePlugin.BUILD_GROUP);
          task.setArguments(Collections.singletonMap(CommonParameters.INPUT_DIRECTORY.getName(),
                                                     project.getProjectDir().toString()));
+         configureInputsAndOutputs(project, task, main, test);
          build.dependsOn(task);
          sdJar.dependsOn(task);
          testJar.dependsOn(task);
@@ -222,9 +230,25 @@ public class SystemDescriptorProjectPlugin extends AbstractProjectPlugin {
          task.setGroup(LifecycleBasePlugin.VERIFICATION_GROUP);
          task.dependsOn(validate, validateFeatures);
          task.argument(CommonParameters.INPUT_DIRECTORY.getName(), project.getProjectDir().toString());
+         configureInputsAndOutputs(project, task, main, test);
       });
    }
 
+   /**
+    * Declares the inputs and outputs of the given task so the task is only executed if the sources of the project, the
+    * dependencies of the project, or the command and its arguments have changed.  Since the task produces no other
+    * outputs, a marker file is written when the task completes successfully.
+    */
+   private static void configureInputsAndOutputs(Project project,
+                                                 JellyFishCliCommandTask task,
+                                                 SourceSet main,
+                                                 SourceSet test) {
+      task.getSdSources().from(main.getResources().getSourceDirectories());
+      task.getGherkinSources().from(test.getResources().getSourceDirectories());
+      task.getSdDependencies().from(project.getConfigurations().getByName(SD_CONFIGURATION_NAME));
+      task.setMarkerFile(new File(project.getBuildDir(), Paths.get("jellyfish", task.getName()).toString()));
+   }
+
    private void applyPlugins(Project project) {
       // Java plugin is required to install a model project locally.
       project.getPlugins().apply(JavaPlugin.class);
@@ -371,15 +395,21 @@ public class SystemDescriptorProjectPlugin extends AbstractProjectPlugin {
       // Add any default args.
       analyze.argument(AnalyzeCommand.ANALYSES_PARAMETER_NAME, String.join(",", analysisExtension.getCommands()));
       // Use the default console report if no other report is configured.
-      if (analysisExtension.getReports().isEmpty()) {
-         analyze.argument(AnalyzeCommand.REPORTS_PARAMETER_NAME, ConsoleAnalysisReportCommand.NAME);
-      } else {
-         analyze.argument(AnalyzeCommand.REPORTS_PARAMETER_NAME, String.join(",", analysisExtension.getReports()));
-      }
+      Collection<String> reports = analysisExtension.getReports().isEmpty()
+                                   ? Collections.singleton(ConsoleAnalysisReportCommand.NAME)
+                                   : analysisExtension.getReports();
+      analyze.argument(AnalyzeCommand.REPORTS_PARAMETER_NAME, String.join(",", reports));
 
-      // Add any other configured arguments.  Allow these values to override the defaults.
+      // Add any other configured arguments.  Allow these values to override the defaults.  Reports like the HTML
+      // report are written to the outputDirectory argument, which the task declares as its output directory.
       analysisExtension.getArgs().forEach((k, v) -> analyze.argument(k, v.toString()));
 
+      // The console report is only written to the console, so the task must run for the report to be shown.
+      if (reports.contains(ConsoleAnalysisReportCommand.NAME)) {
+         analyze.getOutputs().upToDateWhen(task -> false);
+         analyze.getOutputs().doNotCacheIf("the console report is not an output of the task", task -> true);
+      }
+
       // If no analysis are configured, disable the task.
       analyze.onlyIf(task -> !analysisExtension.getCommands().isEmpty());
    }
@@ -22,37 +22,115 @@
  */
 package com.ngc.seaside.jellyfish.cli.gradle.tasks;
 
+import com.ngc.seaside.jellyfish.api.CommonParameters;
 import com.ngc.seaside.jellyfish.cli.gradle.JellyFishProjectGenerator;
 
 import org.gradle.api.DefaultTask;
+import org.gradle.api.GradleException;
+import org.gradle.api.file.ConfigurableFileCollection;
+import org.gradle.api.file.FileTree;
+import org.gradle.api.tasks.CacheableTask;
+import org.gradle.api.tasks.Input;
+import org.gradle.api.tasks.InputFiles;
+import org.gradle.api.tasks.Internal;
+import org.gradle.api.tasks.Optional;
+import org.gradle.api.tasks.OutputDirectory;
+import org.gradle.api.tasks.OutputFile;
+import org.gradle.api.tasks.PathSensitive;
+import org.gradle.api.tasks.PathSensitivity;
 import org.gradle.api.tasks.TaskAction;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.TreeMap;
 
 /**
  * A Gradle task that runs Jellyfish.
+ *
+ * <p>
+ * The task is only up-to-date if its inputs and outputs are declared.  The inputs are the command, the arguments, the
+ * system descriptor and Gherkin sources, the files of the {@link #getInputDirectoryFiles() input directory}, and the
+ * system descriptor dependencies.  The outputs are the {@link #getOutputDirectory() output directory}, the
+ * {@link #getOutputFile() output file}, and the {@link #getMarkerFile() marker file}.  The values of the
+ * {@code inputDirectory} and {@code outputDirectory} arguments are not inputs themselves, since absolute paths would
+ * prevent the task from being loaded from the build cache when the project is checked out in another location.
+ * Commands that produce no files, such as validation, should use a marker file.
+ * If no outputs are declared, the task is executed every time it is part of a build.
+ *
+ * <p>
+ * Jellyfish can be profiled by running Gradle with {@code -Pprofile=<file>}.  The name of the task is inserted before
+ * the extension of the file so each task writes its own profile.  The format of the profile can be set with
+ * {@code -PprofileFormat=json|chrome}.  Profiling does not affect whether the task is up-to-date.
  */
+@CacheableTask
 public class JellyFishCliCommandTask extends DefaultTask {
 
+   /**
+    * The name of the project property that enables profiling.
+    */
+   public static final String PROFILE_PROPERTY = "profile";
+
+   /**
+    * The name of the project property that sets the format of the profile.
+    */
+   public static final String PROFILE_FORMAT_PROPERTY = "profileFormat";
+
+   private static final String DEFAULT_PROFILE_FILE = "build/jellyfish-profile.json";
+
+   /**
+    * The arguments whose values are paths.  The directories they reference are declared as file inputs and outputs
+    * instead of including the paths in the {@link #getInputArguments() input arguments}.
+    */
+   private static final Collection<String> PATH_ARGUMENTS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+         CommonParameters.INPUT_DIRECTORY.getName(),
+         CommonParameters.OUTPUT_DIRECTORY.getName())));
+
    private String command;
 
    private boolean failBuildOnException = true;
 
    private Map<String, String> arguments = new HashMap<>();
 
+   private final ConfigurableFileCollection sdSources = getProject().files();
+
+   private final ConfigurableFileCollection gherkinSources = getProject().files();
+
+   private final ConfigurableFileCollection sdDependencies = getProject().files();
+
+   private File outputDirectory;
+
+   private File outputFile;
+
+   private File markerFile;
+
    /**
     * Runs Jellyfish.
     */
    @TaskAction
    public void runJellyfish() {
-      new JellyFishProjectGenerator(getLogger())
+      if (markerFile != null) {
+         getProject().delete(markerFile);
+      }
+      boolean successful = new JellyFishProjectGenerator(getLogger())
             .setCommand(command)
-            .setArguments(arguments)
+            .setArguments(getArgumentsWithProfiling())
             .setFailBuildOnException(failBuildOnException)
             .generate();
+      if (successful && markerFile != null) {
+         writeMarkerFile();
+      }
    }
 
+   @Input
    public String getCommand() {
       return command;
    }
@@ -61,10 +139,22 @@ public class JellyFishCliCommandTask extends DefaultTask {
       this.command = command;
    }
 
+   @Internal
    public Map<String, String> getArguments() {
       return arguments;
    }
 
+   /**
+    * Gets the arguments as strings in a stable order.  These are the arguments used to determine if the task is
+    * up-to-date.  Arguments whose values are paths are excluded.
+    */
+   @Input
+   public Map<String, String> getInputArguments() {
+      Map<String, String> inputs = getStringArguments();
+      inputs.keySet().removeAll(PATH_ARGUMENTS);
+      return inputs;
+   }
+
    public void argument(String key, String value) {
       this.arguments.put(key, value);
    }
@@ -73,6 +163,7 @@ public class JellyFishCliCommandTask extends DefaultTask {
       this.arguments = new HashMap<>(arguments);
    }
 
+   @Input
    public boolean isFailBuildOnException() {
       return failBuildOnException;
    }
@@ -80,4 +171,155 @@ public class JellyFishCliCommandTask extends DefaultTask {
    public void setFailBuildOnException(boolean failBuildOnException) {
       this.failBuildOnException = failBuildOnException;
    }
+
+   /**
+    * Gets the system descriptor sources that are read by the command.
+    */
+   @InputFiles
+   @PathSensitive(PathSensitivity.RELATIVE)
+   public ConfigurableFileCollection getSdSources() {
+      return sdSources;
+   }
+
+   /**
+    * Gets the Gherkin feature files and test resources that are read by the command.
+    */
+   @InputFiles
+   @PathSensitive(PathSensitivity.RELATIVE)
+   public ConfigurableFileCollection getGherkinSources() {
+      return gherkinSources;
+   }
+
+   /**
+    * Gets the directory referenced by the {@code inputDirectory} argument or {@code null} if the argument is not set.
+    */
+   @Internal
+   public File getInputDirectory() {
+      String directory = getStringArguments().get(CommonParameters.INPUT_DIRECTORY.getName());
+      return directory == null ? null : getProject().file(directory);
+   }
+
+   /**
+    * Gets the files of the {@link #getInputDirectory() input directory}, which are tracked by their paths relative to
+    * the directory.  The build directory of the project and the Gradle and Git metadata directories are excluded since
+    * they change independently of the sources.
+    */
+   @InputFiles
+   @PathSensitive(PathSensitivity.RELATIVE)
+   public FileTree getInputDirectoryFiles() {
+      File inputDirectory = getInputDirectory();
+      if (inputDirectory == null) {
+         return getProject().files().getAsFileTree();
+      }
+      return getProject().fileTree(inputDirectory, tree -> {
+         tree.exclude(".gradle/**", ".git/**");
+         Path directory = inputDirectory.toPath().toAbsolutePath().normalize();
+         Path buildDirectory = getProject().getBuildDir().toPath().toAbsolutePath().normalize();
+         if (buildDirectory.startsWith(directory) && !buildDirectory.equals(directory)) {
+            tree.exclude(directory.relativize(buildDirectory).toString().replace(File.separatorChar, '/') + "/**");
+         }
+      });
+   }
+
+   /**
+    * Gets the resolved system descriptor dependencies, usually ZIPs, that are read by the command.
+    */
+   @InputFiles
+   @PathSensitive(PathSensitivity.NAME_ONLY)
+   public ConfigurableFileCollection getSdDependencies() {
+      return sdDependencies;
+   }
+
+   /**
+    * Gets the directory the command generates files in or {@code null} if the command does not generate a directory.
+    * If no directory is set, the directory referenced by the {@code outputDirectory} argument is used.
+    */
+   @OutputDirectory
+   @Optional
+   public File getOutputDirectory() {
+      if (outputDirectory != null) {
+         return outputDirectory;
+      }
+      String directory = getStringArguments().get(CommonParameters.OUTPUT_DIRECTORY.getName());
+      return directory == null ? null : getProject().file(directory);
+   }
+
+   public void setOutputDirectory(File outputDirectory) {
+      this.outputDirectory = outputDirectory;
+   }
+
+   /**
+    * Gets the file the command generates, such as a report, or {@code null} if the command does not generate a
+    * single file.
+    */
+   @OutputFile
+   @Optional
+   public File getOutputFile() {
+      return outputFile;
+   }
+
+   public void setOutputFile(File outputFile) {
+      this.outputFile = outputFile;
+   }
+
+   /**
+    * Gets the file that is written after the command completes successfully or {@code null} if no marker file is
+    * written.  This is used as the output of commands that don't generate any files so the task can be up-to-date.
+    */
+   @OutputFile
+   @Optional
+   public File getMarkerFile() {
+      return markerFile;
+   }
+
+   public void setMarkerFile(File markerFile) {
+      this.markerFile = markerFile;
+   }
+
+   /**
+    * Gets the arguments with all keys and values converted to strings to avoid issues with GStrings.
+    */
+   private Map<String, String> getStringArguments() {
+      Map<String, String> args = new TreeMap<>();
+      for (Map.Entry<?, ?> entry : ((Map<?, ?>) arguments).entrySet()) {
+         if (entry.getKey() != null && entry.getValue() != null) {
+            args.put(entry.getKey().toString(), entry.getValue().toString());
+         }
+      }
+      return args;
+   }
+
+   private Map<String, String> getArgumentsWithProfiling() {
+      Object profile = getProject().findProperty(PROFILE_PROPERTY);
+      if (profile == null) {
+         return arguments;
+      }
+      String profileFile = profile.toString().trim().isEmpty() ? DEFAULT_PROFILE_FILE : profile.toString();
+      Map<String, String> args = new HashMap<>(arguments);
+      args.put(PROFILE_PROPERTY, getProject().file(getProfileFileName(profileFile)).getAbsolutePath());
+      Object format = getProject().findProperty(PROFILE_FORMAT_PROPERTY);
+      if (format != null) {
+         args.put(PROFILE_FORMAT_PROPERTY, format.toString());
+      }
+      return args;
+   }
+
+   private String getProfileFileName(String profileFile) {
+      int extension = profileFile.lastIndexOf('.');
+      int separator = Math.max(profileFile.lastIndexOf('/'), profileFile.lastIndexOf(File.separatorChar));
+      if (extension <= separator) {
+         return profileFile + "-" + getName();
+      }
+      return profileFile.substring(0, extension) + "-" + getName() + profileFile.substring(extension);
+   }
+
+   private void writeMarkerFile() {
+      try {
+         Files.createDirectories(markerFile.getParentFile().toPath());
+         Files.write(markerFile.toPath(),
+                     ("Jellyfish command " + command + " completed successfully.").getBytes(StandardCharsets.UTF_8));
+      } catch (IOException e) {
+         throw new GradleException("Unable to write to file " + markerFile, e);
+      }
+   }
 }
@@ -0,0 +1,192 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.jellyfish.sonarqube.sensor;
+
+import com.google.common.base.Preconditions;
+
+import com.ngc.seaside.systemdescriptor.service.source.api.ISourceLocation;
+
+import org.sonar.api.batch.fs.FileSystem;
+import org.sonar.api.batch.fs.InputFile;
+import org.sonar.api.batch.sensor.SensorContext;
+import org.sonar.api.batch.sensor.issue.NewIssue;
+import org.sonar.api.batch.sensor.issue.NewIssueLocation;
+import org.sonar.api.rule.RuleKey;
+import org.sonar.api.utils.log.Logger;
+import org.sonar.api.utils.log.Loggers;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Collects the issues found while scanning a project and reports them to Sonarqube.  The input files of the project
+ * are indexed once when the reporter is created so resolving the file of an issue does not require a search of the
+ * file system.  Issues are grouped by file and saved when {@link #report()} is invoked.  A new reporter should be
+ * created for each execution of the sensor.
+ */
+class SystemDescriptorIssueReporter {
+
+   private static final Logger LOGGER = Loggers.get(SystemDescriptorIssueReporter.class);
+
+   private final SensorContext context;
+
+   private final Map<Path, InputFile> filesByPath = new HashMap<>();
+
+   /**
+    * Files indexed by file name.  This is used when the path reported by Jellyfish does not match the path of the
+    * input file, which can happen if the project is scanned from a different base directory.
+    */
+   private final Map<String, InputFile> filesByName = new HashMap<>();
+
+   /**
+    * The file names that are shared by more than one input file.  These names can't be used to resolve a file.
+    */
+   private final Set<String> ambiguousFileNames = new HashSet<>();
+
+   private final Map<InputFile, List<PendingIssue>> issuesByFile = new LinkedHashMap<>();
+
+   /**
+    * The number of issues whose file was resolved by its path.
+    */
+   private int issuesResolvedByPath;
+
+   /**
+    * The number of issues whose file was resolved by its file name.
+    */
+   private int issuesResolvedByName;
+
+   SystemDescriptorIssueReporter(SensorContext context) {
+      this.context = Preconditions.checkNotNull(context, "context may not be null!");
+      FileSystem fs = context.fileSystem();
+      for (InputFile file : fs.inputFiles(fs.predicates().all())) {
+         filesByPath.put(normalize(Paths.get(file.uri())), file);
+         if (filesByName.putIfAbsent(file.filename(), file) != null) {
+            ambiguousFileNames.add(file.filename());
+         }
+      }
+   }
+
+   /**
+    * Adds an issue to be reported.  If the file of the issue is not an input file of the project, the issue is
+    * ignored.
+    *
+    * @param rule     the rule that was violated
+    * @param location the location of the issue
+    * @param message  the message of the issue
+    */
+   void addIssue(RuleKey rule, ISourceLocation location, String message) {
+      InputFile file = getInputFile(location.getPath());
+      if (file == null) {
+         LOGGER.warn("Could not find the input file {}, ignoring issue: {}", location.getPath(), message);
+      } else {
+         issuesByFile.computeIfAbsent(file, f -> new ArrayList<>())
+               .add(new PendingIssue(rule, location.getLineNumber(), message));
+      }
+   }
+
+   /**
+    * Saves all the issues that have been added.
+    *
+    * @return the number of issues that were saved
+    */
+   int report() {
+      int count = 0;
+      for (Map.Entry<InputFile, List<PendingIssue>> entry : issuesByFile.entrySet()) {
+         InputFile file = entry.getKey();
+         for (PendingIssue pending : entry.getValue()) {
+            NewIssue issue = context.newIssue().forRule(pending.rule);
+            NewIssueLocation location = issue.newLocation()
+                  .on(file)
+                  .at(file.selectLine(pending.line))
+                  .message(pending.message);
+            issue.at(location).save();
+            count++;
+         }
+      }
+      LOGGER.debug("Reported {} issues on {} files, {} resolved by path and {} by file name.",
+                   count,
+                   issuesByFile.size(),
+                   issuesResolvedByPath,
+                   issuesResolvedByName);
+      issuesByFile.clear();
+      return count;
+   }
+
+   /**
+    * Gets the number of times the file of an issue was resolved by its path.
+    */
+   int getIssuesResolvedByPath() {
+      return issuesResolvedByPath;
+   }
+
+   /**
+    * Gets the number of times the file of an issue was resolved by its file name because the path did not match an
+    * input file.
+    */
+   int getIssuesResolvedByName() {
+      return issuesResolvedByName;
+   }
+
+   private InputFile getInputFile(Path path) {
+      InputFile file = filesByPath.get(normalize(path));
+      if (file != null) {
+         issuesResolvedByPath++;
+      } else {
+         String fileName = path.getFileName().toString();
+         if (!ambiguousFileNames.contains(fileName)) {
+            file = filesByName.get(fileName);
+            if (file != null) {
+               issuesResolvedByName++;
+            }
+         }
+      }
+      return file;
+   }
+
+   private static Path normalize(Path path) {
+      return path.toAbsolutePath().normalize();
+   }
+
+   /**
+    * An issue that has not yet been saved.
+    */
+   private static class PendingIssue {
+
+      private final RuleKey rule;
+      private final int line;
+      private final String message;
+
+      private PendingIssue(RuleKey rule, int line, String message) {
+         this.rule = rule;
+         this.line = line;
+         this.message = message;
+      }
+   }
+}
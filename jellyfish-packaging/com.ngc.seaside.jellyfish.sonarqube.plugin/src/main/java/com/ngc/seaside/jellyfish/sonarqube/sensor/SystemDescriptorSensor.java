@@ -39,18 +39,13 @@ import com.ngc.seaside.jellyfish.sonarqube.rule.SyntaxWarningRule;
 import com.ngc.seaside.jellyfish.sonarqube.rule.SystemDescriptorRulesDefinition;
 import com.ngc.seaside.systemdescriptor.service.api.IParsingIssue;
 import com.ngc.seaside.systemdescriptor.service.api.IParsingResult;
-import com.ngc.seaside.systemdescriptor.service.source.api.ISourceLocation;
 import com.ngc.seaside.systemdescriptor.validation.api.Severity;
 
 import org.sonar.api.batch.InstantiationStrategy;
-import org.sonar.api.batch.fs.FilePredicate;
-import org.sonar.api.batch.fs.InputFile;
 import org.sonar.api.batch.fs.InputFile.Type;
 import org.sonar.api.batch.sensor.Sensor;
 import org.sonar.api.batch.sensor.SensorContext;
 import org.sonar.api.batch.sensor.SensorDescriptor;
-import org.sonar.api.batch.sensor.issue.NewIssue;
-import org.sonar.api.batch.sensor.issue.NewIssueLocation;
 import org.sonar.api.config.Configuration;
 import org.sonar.api.rule.RuleKey;
 import org.sonar.api.utils.log.Logger;
@@ -101,9 +96,11 @@ public class SystemDescriptorSensor implements Sensor {
       LOGGER.debug("Beginning scan of project {}.", baseDir);
 
       Map<String, String> commandLineArgs = getCommandLineArgs();
+      SystemDescriptorIssueReporter reporter = new SystemDescriptorIssueReporter(c);
 
-      executeValidation(commandLineArgs);
-      executeAnalyses(commandLineArgs);
+      executeValidation(commandLineArgs, reporter);
+      executeAnalyses(commandLineArgs, reporter);
+      reporter.report();
 
       LOGGER.debug("Scan complete.");
    }
@@ -157,15 +154,15 @@ public class SystemDescriptorSensor implements Sensor {
       return args;
    }
 
-   private void executeValidation(Map<String, String> commandLineArgs) {
+   private void executeValidation(Map<String, String> commandLineArgs, SystemDescriptorIssueReporter reporter) {
       IParsingResult r = runJellyfishCommand("validate", commandLineArgs).getParsingResult();
 
       for (IParsingIssue i : r.getIssues()) {
-         saveSonarqubeIssue(i);
+         reporter.addIssue(createRuleKey(i.getSeverity()), i.getLocation(), i.getMessage());
       }
    }
 
-   private void executeAnalyses(Map<String, String> commandLineArgs) {
+   private void executeAnalyses(Map<String, String> commandLineArgs, SystemDescriptorIssueReporter reporter) {
       if (!commandLineArgs.containsKey(AnalyzeCommand.ANALYSES_PARAMETER_NAME)) {
          return;
       }
@@ -176,7 +173,7 @@ public class SystemDescriptorSensor implements Sensor {
       for (SystemDescriptorFinding<? extends ISystemDescriptorFindingType> f : analysisService.getFindings()) {
          if (f.getType().getSeverity()
                    != com.ngc.seaside.jellyfish.service.analysis.api.ISystemDescriptorFindingType.Severity.INFO) {
-            convertSystemDescriptorFindingToSonarqubeIssue(f);
+            convertSystemDescriptorFindingToSonarqubeIssue(f, reporter);
          }
       }
    }
@@ -186,42 +183,11 @@ public class SystemDescriptorSensor implements Sensor {
       return Jellyfish.getService().run(commandName, commandLineArgs, moduleFactory.getJellyfishModules(true));
    }
 
-   private void saveSonarqubeIssue(IParsingIssue i) {
-      NewIssue newIssue = getNewIssue(i.getSeverity());
-      setIssueLocation(i.getLocation(), i.getMessage(), newIssue);
-      newIssue.save();
-   }
-
-   private void setIssueLocation(ISourceLocation sourceLocation, String message, NewIssue issue) {
-      InputFile f = getInputFileFromRealFile(sourceLocation.getPath());
-      NewIssueLocation location = issue.newLocation()
-            .on(f)
-            .at(f.selectLine(sourceLocation.getLineNumber()))
-            .message(message);
-      issue.at(location);
-   }
-
-   private InputFile getInputFileFromRealFile(Path offendingFile) {
-      FilePredicate p = context.fileSystem()
-            .predicates()
-            .hasFilename(offendingFile.getFileName().toString());
-      return context.fileSystem().inputFile(p);
-   }
-
-   private void convertSystemDescriptorFindingToSonarqubeIssue(SystemDescriptorFinding finding) {
+   private void convertSystemDescriptorFindingToSonarqubeIssue(
+         SystemDescriptorFinding<? extends ISystemDescriptorFindingType> finding,
+         SystemDescriptorIssueReporter reporter) {
       Preconditions.checkState(finding.getLocation().isPresent(), "could not retrieve SD source location!");
-
-      NewIssue newIssue = getNewIssue(finding.getType());
-      setIssueLocation((ISourceLocation) finding.getLocation().get(), finding.getMessage(), newIssue);
-      newIssue.save();
-   }
-
-   private NewIssue getNewIssue(Severity issueType) {
-      return context.newIssue().forRule(createRuleKey(issueType));
-   }
-
-   private NewIssue getNewIssue(ISystemDescriptorFindingType findingType) {
-      return context.newIssue().forRule(createRuleKey(findingType));
+      reporter.addIssue(createRuleKey(finding.getType()), finding.getLocation().get(), finding.getMessage());
    }
 
    private RuleKey createRuleKey(Severity issueType) {
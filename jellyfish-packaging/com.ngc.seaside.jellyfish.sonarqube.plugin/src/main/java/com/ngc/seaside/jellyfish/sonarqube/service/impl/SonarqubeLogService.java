@@ -98,7 +98,9 @@ public class SonarqubeLogService implements ILogService {
 
    @Override
    public void debug(Class<?> clazz, String msgFormat, Object... params) {
-      Loggers.get(clazz).debug(String.format(msgFormat, params));
+      if (isDebugEnabled(clazz)) {
+         Loggers.get(clazz).debug(String.format(msgFormat, params));
+      }
    }
 
    @Override
@@ -108,7 +110,9 @@ public class SonarqubeLogService implements ILogService {
 
    @Override
    public void debug(Class<?> clazz, Throwable t, String msgFormat, Object... params) {
-      Loggers.get(clazz).debug(String.format(msgFormat, params), t);
+      if (isDebugEnabled(clazz)) {
+         Loggers.get(clazz).debug(String.format(msgFormat, params), t);
+      }
    }
 
    @Override
@@ -118,7 +122,9 @@ public class SonarqubeLogService implements ILogService {
 
    @Override
    public void trace(Class<?> clazz, String msgFormat, Object... params) {
-      Loggers.get(clazz).trace(String.format(msgFormat, params));
+      if (isTraceEnabled(clazz)) {
+         Loggers.get(clazz).trace(String.format(msgFormat, params));
+      }
    }
 
    @Override
@@ -128,7 +134,9 @@ public class SonarqubeLogService implements ILogService {
 
    @Override
    public void trace(Class<?> clazz, Throwable t, String msgFormat, Object... params) {
-      Loggers.get(clazz).trace(String.format(msgFormat, params), t);
+      if (isTraceEnabled(clazz)) {
+         Loggers.get(clazz).trace(String.format(msgFormat, params), t);
+      }
    }
 
    @Override
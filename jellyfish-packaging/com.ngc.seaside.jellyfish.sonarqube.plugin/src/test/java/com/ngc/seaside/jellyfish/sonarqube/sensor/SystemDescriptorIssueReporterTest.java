@@ -0,0 +1,193 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.jellyfish.sonarqube.sensor;
+
+import com.ngc.seaside.jellyfish.sonarqube.rule.SyntaxWarningRule;
+import com.ngc.seaside.systemdescriptor.service.source.api.ISourceLocation;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.sonar.api.batch.fs.internal.DefaultFileSystem;
+import org.sonar.api.batch.fs.internal.DefaultInputFile;
+import org.sonar.api.batch.fs.internal.TestInputFileBuilder;
+import org.sonar.api.batch.sensor.internal.SensorContextTester;
+import org.sonar.api.batch.sensor.issue.Issue;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class SystemDescriptorIssueReporterTest {
+
+   private static final int LINES_PER_FILE = 20;
+
+   private Path baseDir;
+
+   private SensorContextTester context;
+
+   private List<DefaultInputFile> files;
+
+   @Before
+   public void setup() {
+      baseDir = Paths.get("build", "tmp", "issue-reporter").toAbsolutePath();
+      context = SensorContextTester.create(baseDir.toFile());
+      files = new ArrayList<>();
+   }
+
+   @Test
+   public void doesReportIssuesOnFiles() {
+      addFiles(2);
+      SystemDescriptorIssueReporter reporter = new SystemDescriptorIssueReporter(context);
+
+      reporter.addIssue(SyntaxWarningRule.KEY, location(baseDir.resolve(files.get(1).relativePath()), 3), "warning");
+      reporter.addIssue(SyntaxWarningRule.KEY, location(baseDir.resolve(files.get(0).relativePath()), 5), "another");
+
+      assertEquals("wrong number of issues reported!",
+                   2,
+                   reporter.report());
+      assertEquals("issues not saved!",
+                   2,
+                   context.allIssues().size());
+      for (Issue issue : context.allIssues()) {
+         assertEquals(SyntaxWarningRule.KEY, issue.ruleKey());
+      }
+   }
+
+   @Test
+   public void doesResolveFilesByNameIfPathsDiffer() {
+      addFiles(1);
+      SystemDescriptorIssueReporter reporter = new SystemDescriptorIssueReporter(context);
+
+      reporter.addIssue(SyntaxWarningRule.KEY,
+                        location(Paths.get("elsewhere").resolve(files.get(0).filename()), 1),
+                        "warning");
+
+      assertEquals("issue should be resolved by file name!",
+                   1,
+                   reporter.report());
+      assertEquals("issue should not be resolved by path!",
+                   0,
+                   reporter.getIssuesResolvedByPath());
+      assertEquals("issue should be resolved by file name!",
+                   1,
+                   reporter.getIssuesResolvedByName());
+   }
+
+   @Test
+   public void doesIgnoreIssuesOnUnknownFiles() {
+      addFiles(1);
+      SystemDescriptorIssueReporter reporter = new SystemDescriptorIssueReporter(context);
+
+      reporter.addIssue(SyntaxWarningRule.KEY, location(baseDir.resolve("Unknown.sd"), 1), "warning");
+
+      assertEquals("issues on unknown files should be ignored!",
+                   0,
+                   reporter.report());
+   }
+
+   @Test
+   public void doesReportManyIssuesInLinearTime() {
+      int issuesPerFile = 25;
+      for (int fileCount : new int[]{100, 200, 400}) {
+         setup();
+         DefaultFileSystem fs = spy(context.fileSystem());
+         context.setFileSystem(fs);
+         addFiles(fileCount);
+         SystemDescriptorIssueReporter reporter = new SystemDescriptorIssueReporter(context);
+
+         // Add the issues in an order that interleaves the files.
+         for (int i = 0; i < issuesPerFile; i++) {
+            for (DefaultInputFile file : files) {
+               reporter.addIssue(SyntaxWarningRule.KEY,
+                                 location(baseDir.resolve(file.relativePath()), i % LINES_PER_FILE + 1),
+                                 "issue " + i);
+            }
+         }
+
+         // The file system is only queried once to index the files.  After that, each issue is resolved with a
+         // single lookup, so the work grows linearly with the number of issues.
+         verify(fs, times(1)).inputFiles(any());
+         verify(fs, never()).inputFile(any());
+         assertEquals("each issue should be resolved with one path lookup!",
+                      fileCount * issuesPerFile,
+                      reporter.getIssuesResolvedByPath());
+         assertEquals("no issue should fall back to the file name!",
+                      0,
+                      reporter.getIssuesResolvedByName());
+         assertEquals("wrong number of issues reported!",
+                      fileCount * issuesPerFile,
+                      reporter.report());
+         assertEquals("issues not saved!",
+                      fileCount * issuesPerFile,
+                      context.allIssues().size());
+      }
+   }
+
+   private void addFiles(int count) {
+      StringBuilder contents = new StringBuilder();
+      for (int line = 0; line < LINES_PER_FILE; line++) {
+         contents.append("line ").append(line).append('\n');
+      }
+
+      for (int i = 0; i < count; i++) {
+         DefaultInputFile file = new TestInputFileBuilder("", "src/main/sd/Model" + i + ".sd")
+               .setModuleBaseDir(baseDir)
+               .initMetadata(contents.toString())
+               .build();
+         context.fileSystem().add(file);
+         files.add(file);
+      }
+   }
+
+   private static ISourceLocation location(Path path, int line) {
+      return new ISourceLocation() {
+         @Override
+         public Path getPath() {
+            return path;
+         }
+
+         @Override
+         public int getLineNumber() {
+            return line;
+         }
+
+         @Override
+         public int getColumn() {
+            return 1;
+         }
+
+         @Override
+         public int getLength() {
+            return 1;
+         }
+      };
+   }
+}
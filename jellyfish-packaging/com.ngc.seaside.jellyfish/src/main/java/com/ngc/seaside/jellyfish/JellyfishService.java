@@ -25,10 +25,13 @@ package com.ngc.seaside.jellyfish;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Stopwatch;
 import com.google.inject.AbstractModule;
+import com.google.inject.Binding;
 import com.google.inject.Guice;
 import com.google.inject.Injector;
+import com.google.inject.Key;
 import com.google.inject.Module;
 import com.google.inject.Stage;
+import com.google.inject.TypeLiteral;
 
 import com.ngc.seaside.jellyfish.api.DefaultJellyFishCommandOptions;
 import com.ngc.seaside.jellyfish.api.ICommand;
@@ -36,15 +39,25 @@ import com.ngc.seaside.jellyfish.api.ICommandOptions;
 import com.ngc.seaside.jellyfish.api.ICommandProvider;
 import com.ngc.seaside.jellyfish.api.IJellyFishCommandOptions;
 import com.ngc.seaside.jellyfish.api.IJellyFishCommandProvider;
+import com.ngc.seaside.jellyfish.service.execution.api.IExecutionScopedCache;
 import com.ngc.seaside.jellyfish.service.execution.api.IJellyfishExecution;
 import com.ngc.seaside.jellyfish.service.execution.api.IJellyfishService;
 import com.ngc.seaside.jellyfish.service.execution.api.JellyfishExecutionException;
+import com.ngc.seaside.systemdescriptor.service.profile.api.IProfile;
+import com.ngc.seaside.systemdescriptor.service.profile.api.ProfileSpan;
+import com.ngc.seaside.systemdescriptor.service.profile.api.ProfileWriter;
+import com.ngc.seaside.systemdescriptor.service.profile.api.Profiler;
 
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 /**
@@ -59,6 +72,23 @@ public class JellyfishService implements IJellyfishService {
     */
    static final String BLOCS_HOME_SYSTEM_PROPERTY = "NG_FW_HOME";
 
+   /**
+    * The name of the parameter that enables profiling.  The value is the file the profile is written to.
+    */
+   static final String PROFILE_PARAMETER = "profile";
+
+   /**
+    * The name of the parameter that controls the format of the profile.  The value is either {@code json} (the
+    * default) or {@code chrome}.
+    */
+   static final String PROFILE_FORMAT_PARAMETER = "profileFormat";
+
+   private static final Key<Set<IExecutionScopedCache>> EXECUTION_SCOPED_CACHES_KEY =
+         Key.get(new TypeLiteral<Set<IExecutionScopedCache>>() {});
+
+   private static final Pattern PROFILE_ARGUMENT_PATTERN =
+         Pattern.compile("(?:-D)?(" + PROFILE_PARAMETER + "|" + PROFILE_FORMAT_PARAMETER + ")=(.*)");
+
    @Override
    public IJellyfishExecution run(String command, Collection<String> arguments, Collection<Module> modules)
          throws JellyfishExecutionException {
@@ -68,9 +98,15 @@ public class JellyfishService implements IJellyfishService {
       Preconditions.checkNotNull(arguments, "arguments may not be null!");
       Preconditions.checkNotNull(modules, "modules may not be null!");
 
+      // The profiling parameters are consumed here and are not passed on to the command.
+      Collection<String> commandArguments = new ArrayList<>();
+      ProfileSettings profileSettings = getProfileSettings(arguments, commandArguments);
+      // Each execution records its own profile, so executions that run at the same time do not share a profile.
+      Profiler profiler = profileSettings.file == null ? Profiler.disabled() : Profiler.start();
+
       Collection<Module> mods = new ArrayList<>(modules);
-      // Add a module that register this service with the rest of Guice.
-      mods.add(new SelfRegisteringModule());
+      // Add a module that register this service and the profiler of this execution with the rest of Guice.
+      mods.add(new SelfRegisteringModule(profiler));
 
       boolean isBlocsHomeSet = System.getProperty(BLOCS_HOME_SYSTEM_PROPERTY) != null;
       try {
@@ -79,8 +115,20 @@ public class JellyfishService implements IJellyfishService {
             System.setProperty(BLOCS_HOME_SYSTEM_PROPERTY, getDefaultBlocsHome());
          }
 
-         Injector injector = createInjector(mods);
-         return runCommand(injector, command, arguments, sw);
+         Injector injector;
+         try (ProfileSpan span = profiler.span("injector")) {
+            injector = createInjector(mods);
+         }
+         IJellyfishExecution execution = runCommand(injector, command, commandArguments, sw);
+         // The injector is returned with the execution, so release what the services cached while running.  If the
+         // execution fails, the injector and its caches are simply dropped.
+         clearExecutionCaches(injector);
+         if (profiler.isEnabled()) {
+            IProfile profile = profiler.stop();
+            ProfileWriter.write(profile, profileSettings.format, profileSettings.file);
+            execution = new ProfiledJellyfishExecution(execution, profile);
+         }
+         return execution;
       } catch (Throwable t) {
          String msg = String.format("unable to run Jellyfish with the command %s and args %s!",
                                     command,
@@ -91,6 +139,11 @@ public class JellyfishService implements IJellyfishService {
          if (!isBlocsHomeSet) {
             System.clearProperty(BLOCS_HOME_SYSTEM_PROPERTY);
          }
+         // If the execution failed, make sure profiling is turned off so spans of any work the execution left
+         // running are no longer recorded.
+         if (profiler.isEnabled()) {
+            profiler.stop();
+         }
       }
    }
 
@@ -150,6 +203,17 @@ public class JellyfishService implements IJellyfishService {
             .setInjector(injector);
    }
 
+   /**
+    * Clears the caches that were registered with the injector as {@code IExecutionScopedCache}s.  The injector
+    * remains usable after the execution, so the services themselves are kept.
+    */
+   private static void clearExecutionCaches(Injector injector) {
+      Binding<Set<IExecutionScopedCache>> binding = injector.getExistingBinding(EXECUTION_SCOPED_CACHES_KEY);
+      if (binding != null) {
+         binding.getProvider().get().forEach(IExecutionScopedCache::clearCache);
+      }
+   }
+
    private IJellyfishExecution runCommand(Injector injector,
                                           String command,
                                           Collection<String> arguments,
@@ -172,6 +236,29 @@ public class JellyfishService implements IJellyfishService {
       }
    }
 
+   private static ProfileSettings getProfileSettings(Collection<String> arguments,
+                                                     Collection<String> commandArguments) {
+      ProfileSettings settings = new ProfileSettings();
+      for (String argument : arguments) {
+         Matcher m = PROFILE_ARGUMENT_PATTERN.matcher(argument);
+         if (!m.matches()) {
+            commandArguments.add(argument);
+         } else if (PROFILE_PARAMETER.equals(m.group(1))) {
+            settings.file = Paths.get(m.group(2));
+         } else if ("chrome".equalsIgnoreCase(m.group(2))) {
+            settings.format = ProfileWriter.Format.CHROME_TRACE;
+         } else if ("json".equalsIgnoreCase(m.group(2))) {
+            settings.format = ProfileWriter.Format.JSON;
+         } else {
+            throw new IllegalArgumentException(String.format(
+                  "invalid value for %s: %s, expected json or chrome!",
+                  PROFILE_FORMAT_PARAMETER,
+                  m.group(2)));
+         }
+      }
+      return settings;
+   }
+
    private static String[] buildArgs(String command, Collection<String> arguments) {
       String[] args = new String[arguments.size() + 1];
       args[0] = command;
@@ -189,13 +276,64 @@ public class JellyfishService implements IJellyfishService {
 
    /**
     * A module that allows this service to register itself in the injector.  This allows this service to be injected
-    * into other components.
+    * into other components.  The module also binds the profiler of the execution so components can record spans in
+    * the profile of the execution they are part of.
     */
    private class SelfRegisteringModule extends AbstractModule {
 
+      private final Profiler profiler;
+
+      private SelfRegisteringModule(Profiler profiler) {
+         this.profiler = profiler;
+      }
+
       @Override
       protected void configure() {
          bind(IJellyfishService.class).toInstance(JellyfishService.this);
+         bind(Profiler.class).toInstance(profiler);
+      }
+   }
+
+   /**
+    * The profiling options given as parameters.
+    */
+   private static class ProfileSettings {
+
+      private Path file;
+      private ProfileWriter.Format format = ProfileWriter.Format.JSON;
+   }
+
+   /**
+    * An {@code IJellyfishExecution} that decorates the adapted result with the profile that was recorded.
+    */
+   private static class ProfiledJellyfishExecution implements IJellyfishExecution {
+
+      private final IJellyfishExecution delegate;
+      private final IProfile profile;
+
+      private ProfiledJellyfishExecution(IJellyfishExecution delegate, IProfile profile) {
+         this.delegate = delegate;
+         this.profile = profile;
+      }
+
+      @Override
+      public Injector getInjector() {
+         return delegate.getInjector();
+      }
+
+      @Override
+      public IJellyFishCommandOptions getOptions() {
+         return delegate.getOptions();
+      }
+
+      @Override
+      public long getExecutionDuration() {
+         return delegate.getExecutionDuration();
+      }
+
+      @Override
+      public Optional<IProfile> getProfile() {
+         return Optional.of(profile);
       }
    }
 
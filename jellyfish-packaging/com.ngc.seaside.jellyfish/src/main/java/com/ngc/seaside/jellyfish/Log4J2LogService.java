@@ -90,7 +90,9 @@ public class Log4J2LogService implements ILogService {
 
     @Override
     public void info(Class<?> clazz, String msgFormat, Object... params) {
-        LogManager.getLogger(clazz).info(String.format(msgFormat, params));
+        if (isInfoEnabled(clazz)) {
+            LogManager.getLogger(clazz).info(String.format(msgFormat, params));
+        }
     }
 
     @Override
@@ -100,7 +102,9 @@ public class Log4J2LogService implements ILogService {
 
     @Override
     public void info(Class<?> clazz, Throwable t, String msgFormat, Object... params) {
-        LogManager.getLogger(clazz).info(String.format(msgFormat, params), t);
+        if (isInfoEnabled(clazz)) {
+            LogManager.getLogger(clazz).info(String.format(msgFormat, params), t);
+        }
     }
 
     @Override
@@ -110,7 +114,9 @@ public class Log4J2LogService implements ILogService {
 
     @Override
     public void debug(Class<?> clazz, String msgFormat, Object... params) {
-        LogManager.getLogger(clazz).debug(String.format(msgFormat, params));
+        if (isDebugEnabled(clazz)) {
+            LogManager.getLogger(clazz).debug(String.format(msgFormat, params));
+        }
     }
 
     @Override
@@ -120,7 +126,9 @@ public class Log4J2LogService implements ILogService {
 
     @Override
     public void debug(Class<?> clazz, Throwable t, String msgFormat, Object... params) {
-        LogManager.getLogger(clazz).debug(String.format(msgFormat, params), t);
+        if (isDebugEnabled(clazz)) {
+            LogManager.getLogger(clazz).debug(String.format(msgFormat, params), t);
+        }
     }
 
     @Override
@@ -130,7 +138,9 @@ public class Log4J2LogService implements ILogService {
 
     @Override
     public void trace(Class<?> clazz, String msgFormat, Object... params) {
-        LogManager.getLogger(clazz).trace(String.format(msgFormat, params));
+        if (isTraceEnabled(clazz)) {
+            LogManager.getLogger(clazz).trace(String.format(msgFormat, params));
+        }
     }
 
     @Override
@@ -140,7 +150,9 @@ public class Log4J2LogService implements ILogService {
 
     @Override
     public void trace(Class<?> clazz, Throwable t, String msgFormat, Object... params) {
-        LogManager.getLogger(clazz).trace(String.format(msgFormat, params), t);
+        if (isTraceEnabled(clazz)) {
+            LogManager.getLogger(clazz).trace(String.format(msgFormat, params), t);
+        }
     }
 
     @Override
@@ -23,6 +23,7 @@
 package com.ngc.seaside.jellyfish;
 
 import com.google.inject.AbstractModule;
+import com.google.inject.multibindings.Multibinder;
 
 import com.ngc.seaside.jellyfish.api.ICommand;
 import com.ngc.seaside.jellyfish.api.ICommandOptions;
@@ -30,8 +31,11 @@ import com.ngc.seaside.jellyfish.api.ICommandProvider;
 import com.ngc.seaside.jellyfish.api.IJellyFishCommand;
 import com.ngc.seaside.jellyfish.api.IJellyFishCommandOptions;
 import com.ngc.seaside.jellyfish.api.IJellyFishCommandProvider;
+import com.ngc.seaside.jellyfish.service.execution.api.IExecutionScopedCache;
 import com.ngc.seaside.jellyfish.service.execution.api.IJellyfishExecution;
 import com.ngc.seaside.jellyfish.service.execution.api.JellyfishExecutionException;
+import com.ngc.seaside.systemdescriptor.service.profile.api.IProfile;
+import com.ngc.seaside.systemdescriptor.service.profile.api.IProfileSpan;
 
 import org.junit.After;
 import org.junit.Before;
@@ -42,6 +46,9 @@ import org.mockito.invocation.InvocationOnMock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.mockito.stubbing.Answer;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Collection;
@@ -50,7 +57,11 @@ import java.util.LinkedHashMap;
 import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.AdditionalMatchers.aryEq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -73,6 +84,9 @@ public class JellyfishServiceTest {
    @Mock
    private ICommandOptions defaultCommandOptions;
 
+   @Mock
+   private IExecutionScopedCache cache;
+
    @Before
    public void setup() {
       service = new JellyfishService();
@@ -148,6 +162,84 @@ public class JellyfishServiceTest {
                    System.getProperty(JellyfishService.BLOCS_HOME_SYSTEM_PROPERTY));
    }
 
+   @Test
+   public void testDoesRecordProfileWhenRequested() throws IOException {
+      String command = "foo";
+      Path profileFile = Files.createTempFile("profile", ".json");
+      try {
+         Collection<String> args = Arrays.asList("a=b", "profile=" + profileFile, "profileFormat=chrome");
+         when(provider.getCommand(command)).thenReturn(mockedJfCommand);
+         when(provider.run(aryEq(new String[]{command, "a=b"}))).thenReturn(commandOptions);
+
+         IJellyfishExecution result = service.run(command, args, Collections.singleton(new MockRegisteringModule()));
+         assertTrue("profile should be recorded!", result.getProfile().isPresent());
+         IProfile profile = result.getProfile().get();
+         assertTrue("injector creation should be profiled!",
+                    profile.getSpans().stream().map(IProfileSpan::getName).anyMatch("injector"::equals));
+         assertTrue("profile not written!", Files.size(profileFile) > 0);
+      } finally {
+         Files.deleteIfExists(profileFile);
+      }
+   }
+
+   @Test
+   public void testDoesRecordSeparateProfilesForOverlappingExecutions() throws IOException {
+      Path outerProfileFile = Files.createTempFile("outer", ".json");
+      Path innerProfileFile = Files.createTempFile("inner", ".json");
+      try {
+         Collection<String> innerArgs = Collections.singletonList("profile=" + innerProfileFile);
+         IJellyfishExecution[] inner = new IJellyfishExecution[1];
+         when(provider.getCommand("outer")).thenReturn(mockedJfCommand);
+         when(provider.getCommand("inner")).thenReturn(mockedJfCommand);
+         when(provider.run(aryEq(new String[]{"inner"}))).thenReturn(commandOptions);
+         // Run the second execution while the first execution is still running.
+         when(provider.run(aryEq(new String[]{"outer"}))).thenAnswer(invocation -> {
+            inner[0] = service.run("inner", innerArgs, Collections.singleton(new MockRegisteringModule()));
+            return commandOptions;
+         });
+
+         IJellyfishExecution outer = service.run("outer",
+                                                 Collections.singletonList("profile=" + outerProfileFile),
+                                                 Collections.singleton(new MockRegisteringModule()));
+         assertTrue("outer profile should be recorded!", outer.getProfile().isPresent());
+         assertTrue("inner profile should be recorded!", inner[0].getProfile().isPresent());
+         assertEquals("spans of the inner execution should not be recorded in the outer profile!",
+                      1,
+                      outer.getProfile().get().getSpans().size());
+         assertEquals(1, inner[0].getProfile().get().getSpans().size());
+         assertTrue("outer profile not written!", Files.size(outerProfileFile) > 0);
+         assertTrue("inner profile not written!", Files.size(innerProfileFile) > 0);
+      } finally {
+         Files.deleteIfExists(outerProfileFile);
+         Files.deleteIfExists(innerProfileFile);
+      }
+   }
+
+   @Test
+   public void testDoesNotRecordProfileByDefault() {
+      String command = "foo";
+      Collection<String> args = Arrays.asList("a=b", "c=d");
+      when(provider.getCommand(command)).thenReturn(mockedJfCommand);
+      when(provider.run(aryEq(new String[]{command, "a=b", "c=d"}))).thenReturn(commandOptions);
+
+      IJellyfishExecution result = service.run(command, args, Collections.singleton(new MockRegisteringModule()));
+      assertFalse("profile should not be recorded!", result.getProfile().isPresent());
+   }
+
+   @Test
+   public void testDoesClearRegisteredCachesAfterExecution() {
+      String command = "foo";
+      Collection<String> args = Arrays.asList("a=b", "c=d");
+      when(provider.getCommand(command)).thenReturn(mockedJfCommand);
+      when(provider.run(aryEq(new String[]{command, "a=b", "c=d"}))).thenAnswer(invocation -> {
+         verify(cache, never()).clearCache();
+         return commandOptions;
+      });
+
+      service.run(command, args, Arrays.asList(new MockRegisteringModule(), new CacheRegisteringModule()));
+      verify(cache).clearCache();
+   }
+
    @Test(expected = JellyfishExecutionException.class)
    public void testDoesWrapExceptions() {
       String command = "foo";
@@ -173,6 +265,16 @@ public class JellyfishServiceTest {
       }
    }
 
+   private class CacheRegisteringModule extends AbstractModule {
+
+      @Override
+      protected void configure() {
+         Multibinder.newSetBinder(binder(), IExecutionScopedCache.class)
+               .addBinding()
+               .toInstance(cache);
+      }
+   }
+
    private static class SystemPropertyAssertingAnswer<T> implements Answer<T> {
 
       private final T returnValue;
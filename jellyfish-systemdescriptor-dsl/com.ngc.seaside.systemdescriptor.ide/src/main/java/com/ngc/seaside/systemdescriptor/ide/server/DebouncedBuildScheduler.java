@@ -0,0 +1,160 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.systemdescriptor.ide.server;
+
+import com.google.common.base.Preconditions;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+
+import org.apache.log4j.Logger;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.xtext.ide.server.concurrent.RequestManager;
+import org.eclipse.xtext.util.CancelIndicator;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Delays builds until no documents have changed for a configurable amount of time.  All the builds that are pending
+ * when the delay expires are run together as a single write request.  Since every new write request cancels the
+ * running one, builds that are interrupted are scheduled again.
+ */
+@Singleton
+public class DebouncedBuildScheduler {
+
+   /**
+    * The system property that contains the number of milliseconds to wait after the last change before building.
+    */
+   public static final String DELAY_PROPERTY = "systemdescriptor.server.debounceMillis";
+
+   /**
+    * The default number of milliseconds to wait after the last change before building.
+    */
+   public static final long DEFAULT_DELAY_MILLIS = 300;
+
+   private static final Logger LOGGER = Logger.getLogger(DebouncedBuildScheduler.class);
+
+   private final RequestManager requestManager;
+   private final ScheduledExecutorService executor;
+   private final long delayMillis;
+   private final Map<URI, Consumer<CancelIndicator>> pending = new LinkedHashMap<>();
+   private ScheduledFuture<?> scheduled;
+
+   @Inject
+   public DebouncedBuildScheduler(RequestManager requestManager) {
+      this(requestManager, Long.getLong(DELAY_PROPERTY, DEFAULT_DELAY_MILLIS));
+   }
+
+   /**
+    * Creates a new scheduler.
+    *
+    * @param requestManager the request manager used to run the builds
+    * @param delayMillis    the number of milliseconds to wait after the last change before building
+    */
+   public DebouncedBuildScheduler(RequestManager requestManager, long delayMillis) {
+      Preconditions.checkNotNull(requestManager, "requestManager may not be null!");
+      Preconditions.checkArgument(delayMillis >= 0, "delayMillis may not be negative!");
+      this.requestManager = requestManager;
+      this.delayMillis = delayMillis;
+      this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+         Thread thread = new Thread(runnable, "sd-debounced-build");
+         thread.setDaemon(true);
+         return thread;
+      });
+   }
+
+   /**
+    * Schedules a build of the given document.  Any build previously scheduled for the same document is replaced and
+    * the delay is restarted.
+    *
+    * @param uri   the URI of the changed document
+    * @param build the build to run
+    */
+   public synchronized void schedule(URI uri, Consumer<CancelIndicator> build) {
+      Preconditions.checkNotNull(uri, "uri may not be null!");
+      Preconditions.checkNotNull(build, "build may not be null!");
+      pending.put(uri, build);
+      if (scheduled != null) {
+         scheduled.cancel(false);
+      }
+      scheduled = executor.schedule(this::flush, delayMillis, TimeUnit.MILLISECONDS);
+   }
+
+   /**
+    * Stops the scheduler.  Builds that have not yet run are discarded.
+    */
+   public synchronized void shutdown() {
+      pending.clear();
+      executor.shutdownNow();
+   }
+
+   private void flush() {
+      Map<URI, Consumer<CancelIndicator>> builds;
+      synchronized (this) {
+         builds = new LinkedHashMap<>(pending);
+         pending.clear();
+         scheduled = null;
+      }
+      if (!builds.isEmpty()) {
+         requestManager.runWrite(
+               () -> null,
+               (cancelIndicator, ignored) -> {
+                  Iterator<Map.Entry<URI, Consumer<CancelIndicator>>> i = builds.entrySet().iterator();
+                  while (i.hasNext() && !cancelIndicator.isCanceled()) {
+                     i.next().getValue().accept(cancelIndicator);
+                     i.remove();
+                  }
+                  return null;
+               })
+               .whenComplete((result, e) -> {
+                  if (e == null || isCancellation(e)) {
+                     reschedule(builds);
+                  } else {
+                     LOGGER.error("Failed to build the changed documents.", e);
+                  }
+               });
+      }
+   }
+
+   private static boolean isCancellation(Throwable e) {
+      return e instanceof CancellationException || e.getCause() instanceof CancellationException;
+   }
+
+   private synchronized void reschedule(Map<URI, Consumer<CancelIndicator>> builds) {
+      // Builds that were canceled before they completed are run again unless a newer build of the same document has
+      // already been scheduled.
+      if (!builds.isEmpty() && !executor.isShutdown()) {
+         builds.forEach(pending::putIfAbsent);
+         if (scheduled == null) {
+            scheduled = executor.schedule(this::flush, delayMillis, TimeUnit.MILLISECONDS);
+         }
+      }
+   }
+}
@@ -0,0 +1,357 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.systemdescriptor.ide.server;
+
+import com.google.common.base.Preconditions;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+
+import org.apache.log4j.Logger;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.xtext.diagnostics.Severity;
+import org.eclipse.xtext.resource.IResourceDescription;
+import org.eclipse.xtext.resource.IResourceDescriptions;
+import org.eclipse.xtext.resource.impl.ResourceDescriptionsData;
+import org.eclipse.xtext.resource.persistence.SerializableResourceDescription;
+import org.eclipse.xtext.validation.CheckType;
+import org.eclipse.xtext.validation.Issue;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Saves and loads snapshots of the index of a project.  A snapshot contains the resource descriptions and validation
+ * issues of every file in the project along with the last modified time and size of each file when it was indexed.
+ * When the server is restarted, only the files that have changed since the snapshot was taken need to be parsed and
+ * indexed.
+ *
+ * <p>
+ * Snapshots are keyed on the version of the server.  A snapshot created by a different version is ignored since the
+ * grammar may have changed.  If the version of the server is unknown, snapshots are neither loaded nor saved.
+ */
+@Singleton
+public class IndexSnapshotStore {
+
+   /**
+    * The system property that contains the directory to store snapshots in.
+    */
+   public static final String INDEX_DIRECTORY_PROPERTY = "systemdescriptor.server.indexDir";
+
+   /**
+    * The version of the snapshot file format.  Snapshots with a different version are ignored.
+    */
+   static final int FORMAT_VERSION = 2;
+
+   private static final Logger LOGGER = Logger.getLogger(IndexSnapshotStore.class);
+
+   private static final String SNAPSHOT_FILE_NAME = "index.bin";
+
+   private final Set<SnapshotProjectManager> projects = Collections.newSetFromMap(new ConcurrentHashMap<>());
+
+   private final String version;
+
+   /**
+    * Creates a new store for the version of the server given in the manifest of the server's JAR.
+    */
+   @Inject
+   public IndexSnapshotStore() {
+      this(IndexSnapshotStore.class.getPackage().getImplementationVersion());
+   }
+
+   /**
+    * Creates a new store for the given version of the server.
+    *
+    * @param version the version of the server or {@code null} if the version is unknown
+    */
+   public IndexSnapshotStore(String version) {
+      this.version = version;
+   }
+
+   /**
+    * Loads the snapshot of the project with the given base directory.
+    *
+    * @param baseDir the base directory of the project
+    * @return the snapshot or an empty optional if there is no usable snapshot for the project
+    */
+   public Optional<IndexSnapshot> load(URI baseDir) {
+      Preconditions.checkNotNull(baseDir, "baseDir may not be null!");
+      if (version == null) {
+         LOGGER.info("The version of the server is unknown, index snapshots are disabled.");
+         return Optional.empty();
+      }
+      Path file = getSnapshotFile(baseDir);
+      if (file == null || !Files.isRegularFile(file)) {
+         return Optional.empty();
+      }
+      try (ObjectInputStream in = new ObjectInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+         if (in.readInt() != FORMAT_VERSION || !version.equals(in.readUTF())) {
+            LOGGER.info("Ignoring index snapshot " + file + " created by a different version of the server.");
+            return Optional.empty();
+         }
+         int count = in.readInt();
+         Map<URI, FileStamp> stamps = new HashMap<>(count);
+         Map<URI, List<Issue>> issues = new HashMap<>(count);
+         List<IResourceDescription> descriptions = new ArrayList<>(count);
+         for (int i = 0; i < count; i++) {
+            URI uri = URI.createURI(in.readUTF());
+            stamps.put(uri, new FileStamp(in.readLong(), in.readLong()));
+            descriptions.add((IResourceDescription) in.readObject());
+            int issueCount = in.readInt();
+            List<Issue> resourceIssues = new ArrayList<>(issueCount);
+            for (int j = 0; j < issueCount; j++) {
+               resourceIssues.add(readIssue(in));
+            }
+            issues.put(uri, resourceIssues);
+         }
+         return Optional.of(new IndexSnapshot(stamps, issues, new ResourceDescriptionsData(descriptions)));
+      } catch (IOException | ClassNotFoundException | ClassCastException e) {
+         LOGGER.warn("Unable to read index snapshot " + file + ", the project will be fully indexed.", e);
+         return Optional.empty();
+      }
+   }
+
+   /**
+    * Saves a snapshot of the project with the given base directory.  Only the resource descriptions of files that
+    * have a stamp are saved.
+    *
+    * @param baseDir the base directory of the project
+    * @param index   the index of the project
+    * @param stamps  the stamps of the files of the project at the time they were indexed
+    * @param issues  the issues of the files of the project from the last time they were validated
+    */
+   public void save(URI baseDir,
+                    IResourceDescriptions index,
+                    Map<URI, FileStamp> stamps,
+                    Map<URI, ? extends Collection<Issue>> issues) {
+      Preconditions.checkNotNull(baseDir, "baseDir may not be null!");
+      Preconditions.checkNotNull(index, "index may not be null!");
+      Preconditions.checkNotNull(stamps, "stamps may not be null!");
+      Preconditions.checkNotNull(issues, "issues may not be null!");
+      Path file = getSnapshotFile(baseDir);
+      if (file == null || version == null) {
+         return;
+      }
+
+      List<IResourceDescription> descriptions = new ArrayList<>();
+      for (IResourceDescription description : index.getAllResourceDescriptions()) {
+         if (stamps.containsKey(description.getURI())) {
+            descriptions.add(description);
+         }
+      }
+
+      try {
+         Files.createDirectories(file.getParent());
+         Path temp = Files.createTempFile(file.getParent(), SNAPSHOT_FILE_NAME, ".tmp");
+         try (ObjectOutputStream out = new ObjectOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(FORMAT_VERSION);
+            out.writeUTF(version);
+            out.writeInt(descriptions.size());
+            for (IResourceDescription description : descriptions) {
+               FileStamp stamp = stamps.get(description.getURI());
+               out.writeUTF(description.getURI().toString());
+               out.writeLong(stamp.lastModified);
+               out.writeLong(stamp.size);
+               out.writeObject(SerializableResourceDescription.createCopy(description));
+               Collection<Issue> resourceIssues = issues.getOrDefault(description.getURI(), Collections.emptyList());
+               out.writeInt(resourceIssues.size());
+               for (Issue issue : resourceIssues) {
+                  writeIssue(out, issue);
+               }
+            }
+         }
+         Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      } catch (IOException e) {
+         LOGGER.warn("Unable to write index snapshot " + file + ".", e);
+      }
+   }
+
+   /**
+    * Saves the snapshots of all projects that have been registered with this store.
+    */
+   public void saveAll() {
+      for (SnapshotProjectManager project : projects) {
+         project.saveSnapshot();
+      }
+   }
+
+   /**
+    * Registers a project so its snapshot is saved when {@link #saveAll()} is invoked.
+    */
+   void register(SnapshotProjectManager project) {
+      projects.add(project);
+   }
+
+   private static Path getSnapshotFile(URI baseDir) {
+      String directory = System.getProperty(INDEX_DIRECTORY_PROPERTY);
+      if (directory != null) {
+         return Paths.get(directory, Integer.toHexString(baseDir.toString().hashCode()), SNAPSHOT_FILE_NAME);
+      }
+      if (!baseDir.isFile()) {
+         return null;
+      }
+      return Paths.get(baseDir.toFileString(), "build", "sd-index", SNAPSHOT_FILE_NAME);
+   }
+
+   private static void writeIssue(ObjectOutputStream out, Issue issue) throws IOException {
+      out.writeObject(issue.getSeverity());
+      out.writeObject(issue.getType());
+      out.writeObject(issue.getCode());
+      out.writeObject(issue.getMessage());
+      out.writeObject(issue.getData());
+      out.writeObject(issue.getUriToProblem() == null ? null : issue.getUriToProblem().toString());
+      out.writeObject(issue.getLineNumber());
+      out.writeObject(issue.getColumn());
+      out.writeObject(issue.getOffset());
+      out.writeObject(issue.getLength());
+      out.writeBoolean(issue.isSyntaxError());
+   }
+
+   private static Issue readIssue(ObjectInputStream in) throws IOException, ClassNotFoundException {
+      Issue.IssueImpl issue = new Issue.IssueImpl();
+      issue.setSeverity((Severity) in.readObject());
+      issue.setType((CheckType) in.readObject());
+      issue.setCode((String) in.readObject());
+      issue.setMessage((String) in.readObject());
+      issue.setData((String[]) in.readObject());
+      String uriToProblem = (String) in.readObject();
+      issue.setUriToProblem(uriToProblem == null ? null : URI.createURI(uriToProblem));
+      issue.setLineNumber((Integer) in.readObject());
+      issue.setColumn((Integer) in.readObject());
+      issue.setOffset((Integer) in.readObject());
+      issue.setLength((Integer) in.readObject());
+      issue.setSyntaxError(in.readBoolean());
+      return issue;
+   }
+
+   /**
+    * The last modified time and size of a file.
+    */
+   public static class FileStamp {
+
+      private final long lastModified;
+      private final long size;
+
+      FileStamp(long lastModified, long size) {
+         this.lastModified = lastModified;
+         this.size = size;
+      }
+
+      /**
+       * Gets the current stamp of the file with the given URI.
+       *
+       * @param uri the URI of a file
+       * @return the stamp of the file or an empty optional if the URI does not reference an existing file
+       */
+      public static Optional<FileStamp> of(URI uri) {
+         if (!uri.isFile()) {
+            return Optional.empty();
+         }
+         File file = new File(uri.toFileString());
+         if (!file.isFile()) {
+            return Optional.empty();
+         }
+         return Optional.of(new FileStamp(file.lastModified(), file.length()));
+      }
+
+      @Override
+      public boolean equals(Object o) {
+         if (this == o) {
+            return true;
+         }
+         if (!(o instanceof FileStamp)) {
+            return false;
+         }
+         FileStamp that = (FileStamp) o;
+         return lastModified == that.lastModified && size == that.size;
+      }
+
+      @Override
+      public int hashCode() {
+         return Objects.hash(lastModified, size);
+      }
+   }
+
+   /**
+    * A snapshot of the index of a project.
+    */
+   public static class IndexSnapshot {
+
+      private final Map<URI, FileStamp> stamps;
+      private final Map<URI, List<Issue>> issues;
+      private final ResourceDescriptionsData resourceDescriptions;
+
+      IndexSnapshot(Map<URI, FileStamp> stamps,
+                    Map<URI, List<Issue>> issues,
+                    ResourceDescriptionsData resourceDescriptions) {
+         this.stamps = stamps;
+         this.issues = issues;
+         this.resourceDescriptions = resourceDescriptions;
+      }
+
+      /**
+       * Gets the URIs of all the files in the snapshot.
+       */
+      public Collection<URI> getUris() {
+         return Collections.unmodifiableSet(stamps.keySet());
+      }
+
+      /**
+       * Gets whether the file with the given URI has not changed since the snapshot was taken.
+       */
+      public boolean isUpToDate(URI uri, FileStamp current) {
+         return current != null && current.equals(stamps.get(uri));
+      }
+
+      /**
+       * Gets the issues the file with the given URI had when the snapshot was taken.
+       */
+      public List<Issue> getIssues(URI uri) {
+         return Collections.unmodifiableList(issues.getOrDefault(uri, Collections.emptyList()));
+      }
+
+      /**
+       * Gets the resource descriptions of the snapshot.
+       */
+      public ResourceDescriptionsData getResourceDescriptions() {
+         return resourceDescriptions;
+      }
+   }
+}
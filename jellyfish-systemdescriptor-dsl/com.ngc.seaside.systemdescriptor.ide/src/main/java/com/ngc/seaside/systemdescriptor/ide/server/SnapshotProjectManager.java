@@ -0,0 +1,138 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.systemdescriptor.ide.server;
+
+import com.google.common.collect.ImmutableList;
+import com.google.inject.Inject;
+
+import com.ngc.seaside.systemdescriptor.ide.server.IndexSnapshotStore.FileStamp;
+import com.ngc.seaside.systemdescriptor.ide.server.IndexSnapshotStore.IndexSnapshot;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.xtext.build.BuildRequest;
+import org.eclipse.xtext.build.IncrementalBuilder;
+import org.eclipse.xtext.build.IndexState;
+import org.eclipse.xtext.generator.trace.Source2GeneratedMapping;
+import org.eclipse.xtext.ide.server.ProjectManager;
+import org.eclipse.xtext.resource.IResourceDescription;
+import org.eclipse.xtext.util.CancelIndicator;
+import org.eclipse.xtext.validation.Issue;
+import org.eclipse.xtext.workspace.ISourceFolder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A project manager that restores the index of the project from a snapshot when the project is first built.  Only
+ * the files that were added, changed, or removed since the snapshot was taken are indexed.  The incremental builder
+ * also rebuilds any files affected by those changes.  The issues of the files that are not rebuilt are restored from
+ * the snapshot and published again, since the client does not keep the diagnostics of a previous session.
+ */
+public class SnapshotProjectManager extends ProjectManager {
+
+   /**
+    * The issues of each file from the last time it was validated.
+    */
+   private final Map<URI, List<Issue>> issues = new ConcurrentHashMap<>();
+
+   @Inject
+   private IndexSnapshotStore snapshotStore;
+
+   @Override
+   public IncrementalBuilder.Result doInitialBuild(CancelIndicator cancelIndicator) {
+      Map<URI, FileStamp> stamps = new LinkedHashMap<>();
+      for (ISourceFolder folder : getProjectConfig().getSourceFolders()) {
+         fileSystemScanner.scan(folder.getPath(),
+                                uri -> stamps.put(uri, FileStamp.of(uri).orElse(null)));
+      }
+      snapshotStore.register(this);
+
+      IncrementalBuilder.Result result;
+      Optional<IndexSnapshot> snapshot = snapshotStore.load(getBaseDir());
+      if (snapshot.isPresent()) {
+         List<URI> dirty = new ArrayList<>();
+         stamps.forEach((uri, stamp) -> {
+            if (snapshot.get().isUpToDate(uri, stamp)) {
+               // Files that are affected by the dirty files are validated again by the build below, which publishes
+               // their new issues after these.
+               List<Issue> restored = snapshot.get().getIssues(uri);
+               issues.put(uri, restored);
+               if (!restored.isEmpty()) {
+                  issueAcceptor.apply(uri, restored);
+               }
+            } else {
+               dirty.add(uri);
+            }
+         });
+         List<URI> deleted = new ArrayList<>(snapshot.get().getUris());
+         deleted.removeAll(stamps.keySet());
+         setIndexState(new IndexState(snapshot.get().getResourceDescriptions(), new Source2GeneratedMapping()));
+         result = doBuild(dirty, deleted, Collections.emptyList(), cancelIndicator);
+      } else {
+         result = doBuild(new ArrayList<>(stamps.keySet()), Collections.emptyList(), Collections.emptyList(),
+                          cancelIndicator);
+      }
+
+      stamps.values().removeIf(stamp -> stamp == null);
+      snapshotStore.save(getBaseDir(), getIndexState().getResourceDescriptions(), stamps, issues);
+      return result;
+   }
+
+   @Override
+   protected BuildRequest newBuildRequest(List<URI> changedFiles,
+                                          List<URI> deletedFiles,
+                                          List<IResourceDescription.Delta> externalDeltas,
+                                          CancelIndicator cancelIndicator) {
+      BuildRequest request = super.newBuildRequest(changedFiles, deletedFiles, externalDeltas, cancelIndicator);
+      // Remember the issues of each file so they can be saved with the snapshot.
+      BuildRequest.IPostValidationCallback afterValidate = request.getAfterValidate();
+      request.setAfterValidate((uri, validationIssues) -> {
+         issues.put(uri, ImmutableList.copyOf(validationIssues));
+         return afterValidate.afterValidate(uri, validationIssues);
+      });
+      deletedFiles.forEach(issues::remove);
+      return request;
+   }
+
+   /**
+    * Saves a snapshot of the current index of this project.  Documents that are open in an editor are not saved
+    * since their content may not match the content of the file.
+    */
+   public void saveSnapshot() {
+      Map<URI, FileStamp> stamps = new LinkedHashMap<>();
+      for (IResourceDescription description : getIndexState().getResourceDescriptions()
+            .getAllResourceDescriptions()) {
+         URI uri = description.getURI();
+         boolean open = openedDocumentsContentProvider != null && openedDocumentsContentProvider.hasContent(uri);
+         if (!open) {
+            FileStamp.of(uri).ifPresent(stamp -> stamps.put(uri, stamp));
+         }
+      }
+      snapshotStore.save(getBaseDir(), getIndexState().getResourceDescriptions(), stamps, issues);
+   }
+}
@@ -0,0 +1,89 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.systemdescriptor.ide.server;
+
+import com.google.inject.Inject;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.lsp4j.DidChangeTextDocumentParams;
+import org.eclipse.lsp4j.TextEdit;
+import org.eclipse.xtext.ide.server.LanguageServerImpl;
+import org.eclipse.xtext.ide.server.UriExtensions;
+import org.eclipse.xtext.ide.server.WorkspaceManager;
+import org.eclipse.xtext.ide.server.concurrent.RequestManager;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+/**
+ * A language server that debounces the re-validation of edited documents.  Edits are applied to the document
+ * immediately so that content assist and other requests see the latest text, but the files are only re-parsed,
+ * re-linked, and re-validated once the user has stopped typing.  Only the changed files and the files affected by
+ * those changes are rebuilt.
+ */
+public class SystemDescriptorLanguageServer extends LanguageServerImpl {
+
+   @Inject
+   private RequestManager requestManager;
+
+   @Inject
+   private WorkspaceManager workspaceManager;
+
+   @Inject
+   private UriExtensions uriExtensions;
+
+   @Inject
+   private DebouncedBuildScheduler scheduler;
+
+   @Inject
+   private IndexSnapshotStore snapshotStore;
+
+   @Override
+   public void didChange(DidChangeTextDocumentParams params) {
+      URI uri = uriExtensions.toUri(params.getTextDocument().getUri());
+      Integer version = params.getTextDocument().getVersion();
+      List<TextEdit> edits = params.getContentChanges()
+            .stream()
+            .map(change -> new TextEdit(change.getRange(), change.getText()))
+            .collect(Collectors.toList());
+      requestManager.runWrite(
+            () -> workspaceManager.didChange(uri, version, edits),
+            (cancelIndicator, buildable) -> {
+               scheduler.schedule(uri, indicator -> buildable.build(indicator));
+               return null;
+            });
+   }
+
+   @Override
+   public CompletableFuture<Object> shutdown() {
+      scheduler.shutdown();
+      return requestManager.runWrite(
+            () -> {
+               snapshotStore.saveAll();
+               return null;
+            },
+            (cancelIndicator, ignored) -> null)
+            .thenCompose(ignored -> super.shutdown());
+   }
+}
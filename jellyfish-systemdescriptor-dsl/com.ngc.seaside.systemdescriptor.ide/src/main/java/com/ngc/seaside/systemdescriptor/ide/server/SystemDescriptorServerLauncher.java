@@ -0,0 +1,56 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.systemdescriptor.ide.server;
+
+import org.eclipse.xtext.ide.server.ServerLauncher;
+import org.eclipse.xtext.ide.server.ServerModule;
+import org.eclipse.xtext.util.Modules2;
+
+/**
+ * Starts a headless language server for System Descriptor files.  The server communicates over standard in and
+ * standard out using the Language Server Protocol.  The arguments are the same as those accepted by Xtext's
+ * {@link ServerLauncher}.
+ *
+ * <p>
+ * The following system properties may be used to configure the server:
+ * <ul>
+ * <li>{@value IndexSnapshotStore#INDEX_DIRECTORY_PROPERTY} - the directory to store index snapshots in.  If not set,
+ * snapshots are stored in the {@code build/sd-index} directory of each workspace folder.</li>
+ * <li>{@value DebouncedBuildScheduler#DELAY_PROPERTY} - the number of milliseconds to wait after the last edit of a
+ * document before re-validating the changed files.</li>
+ * </ul>
+ */
+public class SystemDescriptorServerLauncher {
+
+   private SystemDescriptorServerLauncher() {
+   }
+
+   /**
+    * Runs the language server.
+    */
+   public static void main(String[] args) {
+      ServerLauncher.launch(SystemDescriptorServerLauncher.class.getName(),
+                            args,
+                            Modules2.mixin(new ServerModule(), new SystemDescriptorServerModule()));
+   }
+}
@@ -0,0 +1,154 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.systemdescriptor.ide.server;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.xtext.ide.server.concurrent.RequestManager;
+import org.eclipse.xtext.util.CancelIndicator;
+import org.eclipse.xtext.xbase.lib.Functions.Function0;
+import org.eclipse.xtext.xbase.lib.Functions.Function2;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class DebouncedBuildSchedulerTest {
+
+   private static final long DELAY_MILLIS = 200;
+
+   private static final URI FIRST = URI.createFileURI("/project/First.sd");
+
+   private static final URI SECOND = URI.createFileURI("/project/Second.sd");
+
+   private DebouncedBuildScheduler scheduler;
+
+   @Mock
+   private RequestManager requestManager;
+
+   /**
+    * The number of write requests that should be canceled after running a single build.
+    */
+   private final AtomicInteger writesToCancel = new AtomicInteger();
+
+   @Before
+   public void setup() {
+      when(requestManager.runWrite(any(), any())).thenAnswer(this::runWrite);
+      scheduler = new DebouncedBuildScheduler(requestManager, DELAY_MILLIS);
+   }
+
+   @Test
+   public void testDoesCoalesceBuildsScheduledWithinTheDelay() throws Exception {
+      CountDownLatch latch = new CountDownLatch(2);
+      AtomicInteger replaced = new AtomicInteger();
+      AtomicInteger first = new AtomicInteger();
+      AtomicInteger second = new AtomicInteger();
+
+      scheduler.schedule(FIRST, indicator -> replaced.incrementAndGet());
+      scheduler.schedule(FIRST, indicator -> count(first, latch));
+      scheduler.schedule(SECOND, indicator -> count(second, latch));
+
+      assertTrue("builds did not run!", latch.await(5, TimeUnit.SECONDS));
+      assertEquals("replaced build should not run!", 0, replaced.get());
+      assertEquals(1, first.get());
+      assertEquals(1, second.get());
+      verify(requestManager, times(1)).runWrite(any(), any());
+   }
+
+   @Test
+   public void testDoesRestartDelayWhenBuildIsScheduled() throws Exception {
+      CountDownLatch latch = new CountDownLatch(1);
+      AtomicInteger builds = new AtomicInteger();
+
+      long start = System.nanoTime();
+      scheduler.schedule(FIRST, indicator -> builds.incrementAndGet());
+      Thread.sleep(DELAY_MILLIS / 2);
+      scheduler.schedule(FIRST, indicator -> count(builds, latch));
+
+      assertTrue("build did not run!", latch.await(5, TimeUnit.SECONDS));
+      assertTrue("delay was not restarted!",
+                 TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= DELAY_MILLIS * 3 / 2);
+      assertEquals(1, builds.get());
+      verify(requestManager, times(1)).runWrite(any(), any());
+   }
+
+   @Test
+   public void testDoesRescheduleCanceledBuilds() throws Exception {
+      CountDownLatch latch = new CountDownLatch(2);
+      AtomicInteger first = new AtomicInteger();
+      AtomicInteger second = new AtomicInteger();
+      writesToCancel.set(1);
+
+      scheduler.schedule(FIRST, indicator -> count(first, latch));
+      scheduler.schedule(SECOND, indicator -> count(second, latch));
+
+      assertTrue("canceled build was not rescheduled!", latch.await(5, TimeUnit.SECONDS));
+      assertEquals("completed build should not run again!", 1, first.get());
+      assertEquals(1, second.get());
+      verify(requestManager, times(2)).runWrite(any(), any());
+   }
+
+   @After
+   public void after() {
+      scheduler.shutdown();
+   }
+
+   private static void count(AtomicInteger counter, CountDownLatch latch) {
+      counter.incrementAndGet();
+      latch.countDown();
+   }
+
+   /**
+    * Runs a write request on the calling thread.  If the request should be canceled, it is canceled after the first
+    * build completes and the returned future fails like the futures of canceled requests.
+    */
+   private CompletableFuture<Object> runWrite(InvocationOnMock invocation) {
+      Function0<?> nonCancelable = invocation.getArgument(0);
+      Function2<CancelIndicator, Object, Object> request = invocation.getArgument(1);
+      CompletableFuture<Object> future = new CompletableFuture<>();
+      if (writesToCancel.getAndDecrement() > 0) {
+         AtomicInteger checks = new AtomicInteger();
+         request.apply(() -> checks.getAndIncrement() > 0, nonCancelable.apply());
+         future.completeExceptionally(new CancellationException());
+      } else {
+         future.complete(request.apply(() -> false, nonCancelable.apply()));
+      }
+      return future;
+   }
+}
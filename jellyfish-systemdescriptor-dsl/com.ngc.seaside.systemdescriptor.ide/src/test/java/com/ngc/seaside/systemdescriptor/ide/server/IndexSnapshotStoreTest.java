@@ -0,0 +1,174 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.systemdescriptor.ide.server;
+
+import com.ngc.seaside.systemdescriptor.ide.server.IndexSnapshotStore.FileStamp;
+import com.ngc.seaside.systemdescriptor.ide.server.IndexSnapshotStore.IndexSnapshot;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.xtext.diagnostics.Severity;
+import org.eclipse.xtext.resource.IResourceDescription;
+import org.eclipse.xtext.resource.impl.ResourceDescriptionsData;
+import org.eclipse.xtext.resource.persistence.SerializableResourceDescription;
+import org.eclipse.xtext.validation.CheckType;
+import org.eclipse.xtext.validation.Issue;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class IndexSnapshotStoreTest {
+
+   @Rule
+   public TemporaryFolder folder = new TemporaryFolder();
+
+   private URI baseDir;
+
+   private URI valid;
+
+   private URI invalid;
+
+   private ResourceDescriptionsData index;
+
+   private Map<URI, FileStamp> stamps;
+
+   private Map<URI, List<Issue>> issues;
+
+   @Before
+   public void setup() throws Exception {
+      File root = folder.getRoot();
+      baseDir = URI.createFileURI(root.getAbsolutePath());
+      valid = createFile(root, "Valid.sd", "package snapshot\n\ndata Valid {\n}\n");
+      invalid = createFile(root, "Invalid.sd", "package snapshot\n\nmodel Invalid {\n}\n");
+
+      index = new ResourceDescriptionsData(new ArrayList<>());
+      index.addDescription(valid, newDescription(valid));
+      index.addDescription(invalid, newDescription(invalid));
+
+      stamps = new HashMap<>();
+      stamps.put(valid, FileStamp.of(valid).get());
+      stamps.put(invalid, FileStamp.of(invalid).get());
+
+      Issue.IssueImpl issue = new Issue.IssueImpl();
+      issue.setSeverity(Severity.ERROR);
+      issue.setType(CheckType.FAST);
+      issue.setCode("test.code");
+      issue.setMessage("Invalid is not valid.");
+      issue.setData(new String[]{"data"});
+      issue.setUriToProblem(invalid.appendFragment("/0"));
+      issue.setLineNumber(3);
+      issue.setColumn(7);
+      issue.setOffset(25);
+      issue.setLength(7);
+      issue.setSyntaxError(false);
+      issues = new HashMap<>();
+      issues.put(invalid, Collections.singletonList(issue));
+   }
+
+   @Test
+   public void testDoesLoadSavedSnapshot() {
+      new IndexSnapshotStore("1.0.0").save(baseDir, index, stamps, issues);
+      Optional<IndexSnapshot> snapshot = new IndexSnapshotStore("1.0.0").load(baseDir);
+
+      assertTrue("snapshot should be loaded!", snapshot.isPresent());
+      assertEquals(stamps.keySet(), new HashSet<>(snapshot.get().getUris()));
+      assertTrue(snapshot.get().isUpToDate(valid, FileStamp.of(valid).get()));
+      assertTrue(snapshot.get().isUpToDate(invalid, FileStamp.of(invalid).get()));
+      assertEquals(2, snapshot.get().getResourceDescriptions().getAllURIs().size());
+      assertTrue(snapshot.get().getIssues(valid).isEmpty());
+
+      assertEquals(1, snapshot.get().getIssues(invalid).size());
+      Issue expected = issues.get(invalid).get(0);
+      Issue actual = snapshot.get().getIssues(invalid).get(0);
+      assertEquals(expected.getSeverity(), actual.getSeverity());
+      assertEquals(expected.getType(), actual.getType());
+      assertEquals(expected.getCode(), actual.getCode());
+      assertEquals(expected.getMessage(), actual.getMessage());
+      assertEquals(expected.getData()[0], actual.getData()[0]);
+      assertEquals(expected.getUriToProblem(), actual.getUriToProblem());
+      assertEquals(expected.getLineNumber(), actual.getLineNumber());
+      assertEquals(expected.getColumn(), actual.getColumn());
+      assertEquals(expected.getOffset(), actual.getOffset());
+      assertEquals(expected.getLength(), actual.getLength());
+      assertEquals(expected.isSyntaxError(), actual.isSyntaxError());
+   }
+
+   @Test
+   public void testDoesDetectChangedFiles() throws Exception {
+      new IndexSnapshotStore("1.0.0").save(baseDir, index, stamps, issues);
+      Files.write(new File(valid.toFileString()).toPath(),
+                  "package snapshot\n\ndata Valid {\n   int value\n}\n".getBytes(StandardCharsets.UTF_8));
+
+      IndexSnapshot snapshot = new IndexSnapshotStore("1.0.0").load(baseDir).get();
+      assertFalse("changed file should not be up to date!", snapshot.isUpToDate(valid, FileStamp.of(valid).get()));
+      assertTrue(snapshot.isUpToDate(invalid, FileStamp.of(invalid).get()));
+   }
+
+   @Test
+   public void testDoesNotLoadSnapshotOfDifferentVersion() {
+      new IndexSnapshotStore("1.0.0").save(baseDir, index, stamps, issues);
+      assertFalse("snapshot of a different version should not be loaded!",
+                  new IndexSnapshotStore("1.1.0").load(baseDir).isPresent());
+   }
+
+   @Test
+   public void testDoesNotUseSnapshotsWhenVersionIsUnknown() {
+      new IndexSnapshotStore(null).save(baseDir, index, stamps, issues);
+      assertFalse("snapshot should not be saved when the version is unknown!",
+                  new File(baseDir.toFileString(), "build").exists());
+
+      new IndexSnapshotStore("1.0.0").save(baseDir, index, stamps, issues);
+      assertFalse("snapshot should not be loaded when the version is unknown!",
+                  new IndexSnapshotStore(null).load(baseDir).isPresent());
+   }
+
+   private static URI createFile(File directory, String name, String content) throws Exception {
+      File file = new File(directory, name);
+      Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+      return URI.createFileURI(file.getAbsolutePath());
+   }
+
+   private static IResourceDescription newDescription(URI uri) {
+      SerializableResourceDescription description = new SerializableResourceDescription();
+      description.setURI(uri);
+      description.setDescriptions(new ArrayList<>());
+      description.setReferences(new ArrayList<>());
+      description.setImportedNames(new ArrayList<>());
+      return description;
+   }
+}
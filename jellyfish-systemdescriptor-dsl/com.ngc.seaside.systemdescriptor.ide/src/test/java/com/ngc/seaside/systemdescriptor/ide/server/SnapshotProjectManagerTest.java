@@ -0,0 +1,194 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.systemdescriptor.ide.server;
+
+import com.google.common.collect.ImmutableList;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.xtext.build.IncrementalBuilder;
+import org.eclipse.xtext.ide.server.ProjectManager;
+import org.eclipse.xtext.ide.server.ServerModule;
+import org.eclipse.xtext.resource.IExternalContentSupport;
+import org.eclipse.xtext.resource.IResourceDescription;
+import org.eclipse.xtext.resource.impl.ProjectDescription;
+import org.eclipse.xtext.resource.impl.ResourceDescriptionsData;
+import org.eclipse.xtext.util.CancelIndicator;
+import org.eclipse.xtext.util.Modules2;
+import org.eclipse.xtext.validation.Issue;
+import org.eclipse.xtext.workspace.FileProjectConfig;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class SnapshotProjectManagerTest {
+
+   private static final String VERSION = "1.0.0";
+
+   private static final String DATA_FILE_NAME = "Time.sd";
+
+   private static final String MODEL_FILE_NAME = "Clock.sd";
+
+   @Rule
+   public TemporaryFolder folder = new TemporaryFolder();
+
+   /**
+    * The last issues published for each file keyed by the name of the file.
+    */
+   private final Map<String, List<Issue>> published = new HashMap<>();
+
+   private URI baseDir;
+
+   private Path sources;
+
+   @Before
+   public void setup() throws Exception {
+      baseDir = URI.createFileURI(folder.getRoot().getAbsolutePath() + File.separator);
+      sources = folder.newFolder("src", "main", "sd", "snapshot").toPath();
+      write(DATA_FILE_NAME,
+            "package snapshot\n"
+            + "\n"
+            + "data Time {\n"
+            + "}\n");
+      // The model references data that does not exist, so it has an error.
+      write(MODEL_FILE_NAME,
+            "package snapshot\n"
+            + "\n"
+            + "model Clock {\n"
+            + "   input {\n"
+            + "      Missing missing\n"
+            + "   }\n"
+            + "}\n");
+   }
+
+   @Test
+   public void testDoesPublishIssuesOfUnchangedFilesAfterRestart() {
+      IncrementalBuilder.Result initial = startProject();
+      assertEquals(2, initial.getAffectedResources().size());
+      List<Issue> issues = published.get(MODEL_FILE_NAME);
+      assertFalse("model should have issues!", issues.isEmpty());
+      assertTrue("data should not have issues!", published.getOrDefault(DATA_FILE_NAME, issues).isEmpty());
+
+      published.clear();
+      IncrementalBuilder.Result restarted = startProject();
+      assertTrue("unchanged files should not be rebuilt!", restarted.getAffectedResources().isEmpty());
+      assertEquals("issues of unchanged files should be published again!",
+                   messages(issues),
+                   messages(published.get(MODEL_FILE_NAME)));
+      assertFalse("files without issues should not be published!", published.containsKey(DATA_FILE_NAME));
+   }
+
+   @Test
+   public void testDoesRebuildChangedFilesAfterRestart() throws Exception {
+      startProject();
+      write(MODEL_FILE_NAME,
+            "package snapshot\n"
+            + "\n"
+            + "model Clock {\n"
+            + "   input {\n"
+            + "      Time time\n"
+            + "   }\n"
+            + "}\n");
+
+      published.clear();
+      IncrementalBuilder.Result restarted = startProject();
+      List<String> rebuilt = restarted.getAffectedResources()
+            .stream()
+            .map(IResourceDescription.Delta::getUri)
+            .map(URI::lastSegment)
+            .collect(Collectors.toList());
+      assertTrue("changed file should be rebuilt!", rebuilt.contains(MODEL_FILE_NAME));
+      assertFalse("unchanged file should not be rebuilt!", rebuilt.contains(DATA_FILE_NAME));
+      assertTrue("issues of the changed file should be cleared!", published.get(MODEL_FILE_NAME).isEmpty());
+   }
+
+   /**
+    * Creates a new server for the project and runs the initial build of the project, as if the server was
+    * restarted.
+    */
+   private IncrementalBuilder.Result startProject() {
+      Injector injector = Guice.createInjector(Modules2.mixin(
+            new ServerModule(),
+            new SystemDescriptorServerModule(),
+            binder -> binder.bind(IndexSnapshotStore.class).toInstance(new IndexSnapshotStore(VERSION))));
+      ProjectManager manager = injector.getInstance(ProjectManager.class);
+      assertTrue(manager instanceof SnapshotProjectManager);
+
+      ProjectDescription description = new ProjectDescription();
+      description.setName("snapshot");
+      FileProjectConfig config = new FileProjectConfig(baseDir);
+      config.addSourceFolder("src/main/sd");
+      Map<String, ResourceDescriptionsData> indices = new HashMap<>();
+      manager.initialize(description,
+                         config,
+                         (uri, issues) -> published.put(uri.lastSegment(), ImmutableList.copyOf(issues)),
+                         new NoOpenDocuments(),
+                         () -> indices,
+                         CancelIndicator.NullImpl);
+      return manager.doInitialBuild(CancelIndicator.NullImpl);
+   }
+
+   private void write(String fileName, String content) throws Exception {
+      Files.write(sources.resolve(fileName), content.getBytes(StandardCharsets.UTF_8));
+   }
+
+   private static List<String> messages(List<Issue> issues) {
+      return issues.stream().map(Issue::getMessage).collect(Collectors.toList());
+   }
+
+   /**
+    * Indicates that no documents are open in an editor.
+    */
+   private static class NoOpenDocuments implements IExternalContentSupport.IExternalContentProvider {
+
+      @Override
+      public String getContent(URI uri) {
+         return null;
+      }
+
+      @Override
+      public boolean hasContent(URI uri) {
+         return false;
+      }
+
+      @Override
+      public IExternalContentSupport.IExternalContentProvider getActualContentProvider() {
+         return this;
+      }
+   }
+}
@@ -26,10 +26,12 @@ import com.google.inject.Binder
 import com.google.inject.TypeLiteral
 import com.google.inject.name.Names
 import com.ngc.seaside.systemdescriptor.scoping.ExceptionRethrowingScopeProviderErrrorHandler
+import com.ngc.seaside.systemdescriptor.scoping.SystemDescriptorScopeProvider
 import org.eclipse.xtext.scoping.IScope
 import org.eclipse.xtext.scoping.impl.AbstractDeclarativeScopeProvider
 import org.eclipse.xtext.util.PolymorphicDispatcher.ErrorHandler
 import org.eclipse.xtext.util.IResourceScopeCache
+import org.eclipse.xtext.util.OnChangeEvictingCache
 
 /**
  * Use this class to register components to be used at runtime / without the Equinox extension registry.
@@ -48,5 +50,11 @@ class SystemDescriptorRuntimeModule extends AbstractSystemDescriptorRuntimeModul
 		// issues where valid imports cannot be resolved.
 		binder.bind(IResourceScopeCache)
 			.toInstance(IResourceScopeCache.NullImpl.INSTANCE);
+		// Scopes computed from the refinement hierarchy of a model are only
+		// cached once that hierarchy is fully resolved, so they can be cached
+		// until the resource changes.
+		binder.bind(IResourceScopeCache)
+			.annotatedWith(Names.named(SystemDescriptorScopeProvider.REFINEMENT_SCOPE_CACHE))
+			.to(OnChangeEvictingCache);
 	}
 }
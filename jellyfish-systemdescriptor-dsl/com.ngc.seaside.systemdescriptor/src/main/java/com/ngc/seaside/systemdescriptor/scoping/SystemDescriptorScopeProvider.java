@@ -23,6 +23,8 @@
 package com.ngc.seaside.systemdescriptor.scoping;
 
 import com.google.common.base.Preconditions;
+import com.google.inject.Inject;
+import com.google.inject.name.Named;
 import com.ngc.seaside.systemdescriptor.systemDescriptor.BaseLinkDeclaration;
 import com.ngc.seaside.systemdescriptor.systemDescriptor.Data;
 import com.ngc.seaside.systemdescriptor.systemDescriptor.DataFieldDeclaration;
@@ -48,16 +50,30 @@ import org.eclipse.xtext.nodemodel.util.NodeModelUtils;
 import org.eclipse.xtext.scoping.IScope;
 import org.eclipse.xtext.scoping.Scopes;
 import org.eclipse.xtext.scoping.impl.AbstractDeclarativeScopeProvider;
+import org.eclipse.xtext.util.IResourceScopeCache;
+import org.eclipse.xtext.util.Tuples;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * The scope provider for the System Descriptor language.
  */
 public class SystemDescriptorScopeProvider extends AbstractDeclarativeScopeProvider {
 
+   /**
+    * The name of the {@link IResourceScopeCache} that caches scopes that are computed by walking the refinement
+    * hierarchy of a model.  This cache is bound separately because the default {@code IResourceScopeCache} is disabled
+    * in the runtime module.
+    */
+   public static final String REFINEMENT_SCOPE_CACHE = "systemDescriptorRefinementScopeCache";
+
+   @Inject
+   @Named(REFINEMENT_SCOPE_CACHE)
+   private IResourceScopeCache scopeCache;
+
    /**
     * Places all declared properties of the current element as well as any
     * refined models in scope for property value expressions.
@@ -138,7 +154,7 @@ public class SystemDescriptorScopeProvider extends AbstractDeclarativeScopeProvi
          Model model = (Model) context.eContainer() // RefinedLinkDeclaration
                                       .eContainer() // Links
                                       .eContainer(); // Model
-         scope = doCreateScope(getLinkableFieldsFrom(model));
+         scope = getScopeForLinkableFieldsFrom(context, model);
       } else if (context.eContainer() instanceof LinkableExpression) {
          // This indicates the source or target of a link is an expression.
          // In the example below, "some", is the current context.
@@ -147,7 +163,7 @@ public class SystemDescriptorScopeProvider extends AbstractDeclarativeScopeProvi
                                       .eContainer() // RefinedLinkDeclaration
                                       .eContainer() // Links
                                       .eContainer(); // Model
-         scope = doCreateScope(getLinkableFieldsFrom(model));
+         scope = getScopeForLinkableFieldsFrom(context, model);
       } else {
          scope = delegateGetScope(context, reference);
       }
@@ -179,12 +195,12 @@ public class SystemDescriptorScopeProvider extends AbstractDeclarativeScopeProvi
          RequireDeclaration casted = (RequireDeclaration) fieldDeclaration;
          // Include all field declarations of the referenced model in the
          // scope.
-         scope = doCreateScope(getLinkableFieldsFrom(SdUtils.getTypeOfRequireDeclaration(casted)));
+         scope = getScopeForLinkableFieldsFrom(context, SdUtils.getTypeOfRequireDeclaration(casted));
       } else if (fieldDeclaration instanceof PartDeclaration) {
          // Include all field declarations of the referenced model in the
          // scope.
          PartDeclaration casted = (PartDeclaration) fieldDeclaration;
-         scope = doCreateScope(getLinkableFieldsFrom(SdUtils.getTypeOfPartDeclaration(casted)));
+         scope = getScopeForLinkableFieldsFrom(context, SdUtils.getTypeOfPartDeclaration(casted));
       } else {
          // Otherwise, do the default behavior.
          scope = delegateGetScope(context, reference);
@@ -196,7 +212,7 @@ public class SystemDescriptorScopeProvider extends AbstractDeclarativeScopeProvi
    /**
     * Invoked to actually create the scope.
     */
-   private IScope doCreateScope(Iterable<? extends EObject> elements) {
+   protected IScope doCreateScope(Iterable<? extends EObject> elements) {
       // Use this template method to change how the scope is created if necessary later on.
       return Scopes.scopeFor(elements);
    }
@@ -206,25 +222,31 @@ public class SystemDescriptorScopeProvider extends AbstractDeclarativeScopeProvi
     * on a model.
     */
    private IScope getScopeForModelPropertyValueExpression(PropertyValueExpression context) {
-      Collection<PropertyFieldDeclaration> properties = new ArrayList<>();
       Model model = SdUtils.getContainingModel(context);
-      // Get all properties declared on the model and any base refined models.
-      SdUtils.traverseModelRefinementHierarchy(model, m -> {
-         if (m.getProperties() != null) {
-            properties.addAll(m.getProperties().getDeclarations());
-         }
-      });
-      return doCreateScope(properties);
+      return getCachedScope(context, CachedScope.MODEL_PROPERTIES, model, () -> {
+         Collection<PropertyFieldDeclaration> properties = new ArrayList<>();
+         // Get all properties declared on the model and any base refined models.
+         SdUtils.traverseModelRefinementHierarchy(model, m -> {
+            if (m.getProperties() != null) {
+               properties.addAll(m.getProperties().getDeclarations());
+            }
+         });
+         return doCreateScope(properties);
+      }, model);
    }
 
    /**
     * Gets scope for a property value expression that is part of a property declared on a link.
     */
    private IScope getScopeForLinkPropertyValueExpression(PropertyValueExpression context) {
-      Collection<PropertyFieldDeclaration> propertyDeclarations = new ArrayList<>();
       LinkDeclaration link = SdUtils.getContainerOfType(context, LinkDeclaration.class);
       Model model = SdUtils.getContainingModel(link);
+      return getCachedScope(context, CachedScope.LINK_PROPERTIES, link,
+         () -> doGetScopeForLinkPropertyValueExpression(link, model), model);
+   }
 
+   private IScope doGetScopeForLinkPropertyValueExpression(LinkDeclaration link, Model model) {
+      Collection<PropertyFieldDeclaration> propertyDeclarations = new ArrayList<>();
       SdUtils.traverseModelRefinementHierarchy(model, m -> {
          LinkDeclaration currentLink = findLink(m, link);
          // There is an issue when refining an unnamed link and setting a value on
@@ -249,10 +271,15 @@ public class SystemDescriptorScopeProvider extends AbstractDeclarativeScopeProvi
     * Gets scope for a property value expression that is part of a property declared on a part.
     */
    private IScope getScopeForPartPropertyValueExpression(PropertyValueExpression context) {
-      Collection<PropertyFieldDeclaration> propertyDeclarations = new ArrayList<>();
       PartDeclaration part = SdUtils.getContainerOfType(context, PartDeclaration.class);
       Model model = SdUtils.getContainingModel(part);
+      Model type = SdUtils.getTypeOfPartDeclaration(part);
+      return getCachedScope(context, CachedScope.PART_PROPERTIES, part,
+         () -> doGetScopeForPartPropertyValueExpression(part, model, type), model, type);
+   }
 
+   private IScope doGetScopeForPartPropertyValueExpression(PartDeclaration part, Model model, Model type) {
+      Collection<PropertyFieldDeclaration> propertyDeclarations = new ArrayList<>();
       SdUtils.traverseModelRefinementHierarchy(model, m -> {
          if (m.getParts() != null) {
             PartDeclaration currentPart = m.getParts()
@@ -270,7 +297,6 @@ public class SystemDescriptorScopeProvider extends AbstractDeclarativeScopeProvi
       });
 
       // Get properties declared on the model of the part itself.
-      Model type = SdUtils.getTypeOfPartDeclaration(part);
       if (type.getProperties() != null) {
          propertyDeclarations.addAll(type.getProperties().getDeclarations());
       }
@@ -282,10 +308,17 @@ public class SystemDescriptorScopeProvider extends AbstractDeclarativeScopeProvi
     * Gets scope for a property value expression that is part of a property declared on a requirement.
     */
    private IScope getScopeForRequirementPropertyValueExpression(PropertyValueExpression context) {
-      Collection<PropertyFieldDeclaration> propertyDeclarations = new ArrayList<>();
       RequireDeclaration requirement = SdUtils.getContainerOfType(context, RequireDeclaration.class);
       Model model = SdUtils.getContainingModel(requirement);
+      Model type = SdUtils.getTypeOfRequireDeclaration(requirement);
+      return getCachedScope(context, CachedScope.REQUIREMENT_PROPERTIES, requirement,
+         () -> doGetScopeForRequirementPropertyValueExpression(requirement, model, type), model, type);
+   }
 
+   private IScope doGetScopeForRequirementPropertyValueExpression(RequireDeclaration requirement,
+            Model model,
+            Model type) {
+      Collection<PropertyFieldDeclaration> propertyDeclarations = new ArrayList<>();
       SdUtils.traverseModelRefinementHierarchy(model, m -> {
          if (m.getRequires() != null) {
             RequireDeclaration currentRequirement = m.getRequires()
@@ -303,7 +336,6 @@ public class SystemDescriptorScopeProvider extends AbstractDeclarativeScopeProvi
       });
 
       // Get properties declared on the model of the requirement itself.
-      Model type = SdUtils.getTypeOfRequireDeclaration(requirement);
       if (type.getProperties() != null) {
          propertyDeclarations.addAll(type.getProperties().getDeclarations());
       }
@@ -311,6 +343,48 @@ public class SystemDescriptorScopeProvider extends AbstractDeclarativeScopeProvi
       return doCreateScope(propertyDeclarations);
    }
 
+   /**
+    * Gets the scope of all field declarations that can be referenced that are contained by the given model.
+    */
+   private IScope getScopeForLinkableFieldsFrom(EObject context, Model model) {
+      return getCachedScope(context, CachedScope.LINKABLE_FIELDS, model,
+         () -> doCreateScope(getLinkableFieldsFrom(model)), model);
+   }
+
+   /**
+    * Gets a scope from the cache of the resource being linked, computing it if necessary.  Cached scopes are evicted
+    * when that resource changes.  Scopes are not cached if the refinement hierarchy of one of the given models could
+    * not be fully resolved since the scope may change once the missing models are loaded.
+    *
+    * @param context the object whose reference is being linked
+    * @param kind    the kind of scope
+    * @param element the element the scope is computed for
+    * @param scope   computes the scope
+    * @param models  the models whose refinement hierarchies are used to compute the scope
+    * @return the scope
+    */
+   private IScope getCachedScope(EObject context, CachedScope kind, EObject element, Supplier<IScope> scope,
+            Model... models) {
+      for (Model model : models) {
+         if (!isRefinementHierarchyResolved(model)) {
+            return scope.get();
+         }
+      }
+      return scopeCache.get(Tuples.create(kind, element), context.eResource(), scope::get);
+   }
+
+   /**
+    * Returns true if the given model and all models it refines are resolved.
+    */
+   private static boolean isRefinementHierarchyResolved(Model model) {
+      for (Model m = model; m != null; m = m.getRefinedModel()) {
+         if (m.eIsProxy()) {
+            return false;
+         }
+      }
+      return true;
+   }
+
    /**
     * Gets all field declarations that can be referenced that are contained by
     * the given model.
@@ -478,4 +552,15 @@ public class SystemDescriptorScopeProvider extends AbstractDeclarativeScopeProvi
 
       return nodes.isEmpty() ? null : NodeModelUtils.getTokenText(nodes.get(0));
    }
+
+   /**
+    * The kinds of scopes that are cached.  These are used as part of the cache key.
+    */
+   private enum CachedScope {
+      MODEL_PROPERTIES,
+      LINK_PROPERTIES,
+      PART_PROPERTIES,
+      REQUIREMENT_PROPERTIES,
+      LINKABLE_FIELDS
+   }
 }
@@ -39,11 +39,20 @@ import com.ngc.seaside.systemdescriptor.systemDescriptor.OutputDeclaration;
 import com.ngc.seaside.systemdescriptor.systemDescriptor.PartDeclaration;
 import com.ngc.seaside.systemdescriptor.systemDescriptor.Parts;
 import com.ngc.seaside.systemdescriptor.systemDescriptor.Requires;
+import com.ngc.seaside.systemdescriptor.systemDescriptor.Scenario;
 import com.ngc.seaside.systemdescriptor.systemDescriptor.SystemDescriptorPackage;
+import com.ngc.seaside.systemdescriptor.validation.util.ValidationPassCache;
 
+import org.eclipse.emf.ecore.EObject;
 import org.eclipse.xtext.naming.IQualifiedNameProvider;
 import org.eclipse.xtext.validation.Check;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
 /**
  * Validates links are valid.
  */
@@ -171,7 +180,7 @@ public class LinkValidator extends AbstractUnregisteredSystemDescriptorValidator
       Links links = (Links) link.eContainer();
       Model model = (Model) links.eContainer();
 
-      if (getNumberOfLinksNamed(model, link.getName()) > 1) {
+      if (getDeclaredNames(model).count(model.getLinks(), link.getName()) > 1) {
          String msg = String.format(
                "Invalid link name: a link named '%s' is already defined for the model '%s'.",
                link.getName(),
@@ -187,7 +196,7 @@ public class LinkValidator extends AbstractUnregisteredSystemDescriptorValidator
       Links links = (Links) link.eContainer();
       Model model = (Model) links.eContainer();
 
-      if (getNumberOfRequirementsNamed(model, link.getName()) > 0) {
+      if (getDeclaredNames(model).count(model.getRequires(), link.getName()) > 0) {
          String msg = String.format(
                "Invalid link name: a requirement named '%s' is already defined for the model '%s'.",
                link.getName(),
@@ -203,7 +212,7 @@ public class LinkValidator extends AbstractUnregisteredSystemDescriptorValidator
       Links links = (Links) link.eContainer();
       Model model = (Model) links.eContainer();
 
-      if (getNumberOfInputsNamed(model, link.getName()) > 0) {
+      if (getDeclaredNames(model).count(model.getInput(), link.getName()) > 0) {
          String msg = String.format(
                "Invalid link name: an input named '%s' is already defined for the model '%s'.",
                link.getName(),
@@ -219,7 +228,7 @@ public class LinkValidator extends AbstractUnregisteredSystemDescriptorValidator
       Links links = (Links) link.eContainer();
       Model model = (Model) links.eContainer();
 
-      if (getNumberOfOutputsNamed(model, link.getName()) > 0) {
+      if (getDeclaredNames(model).count(model.getOutput(), link.getName()) > 0) {
          String msg = String.format(
                "Invalid link name: an output named '%s' is already defined for the model '%s'.",
                link.getName(),
@@ -235,7 +244,7 @@ public class LinkValidator extends AbstractUnregisteredSystemDescriptorValidator
       Links links = (Links) link.eContainer();
       Model model = (Model) links.eContainer();
 
-      if (getNumberOfPartsNamed(model, link.getName()) > 0) {
+      if (getDeclaredNames(model).count(model.getParts(), link.getName()) > 0) {
          String msg = String.format(
                "Invalid link name: a part named '%s' is already defined for the model '%s'.",
                link.getName(),
@@ -251,7 +260,7 @@ public class LinkValidator extends AbstractUnregisteredSystemDescriptorValidator
       Links links = (Links) link.eContainer();
       Model model = (Model) links.eContainer();
 
-      if (getNumberOfScenariosNamed(model, link.getName()) > 0) {
+      if (getDeclaredNames(model).count(model, link.getName()) > 0) {
          String msg = String.format(
                "Invalid link name: a scenario named '%s' is already defined for the model '%s'.",
                link.getName(),
@@ -432,6 +441,11 @@ public class LinkValidator extends AbstractUnregisteredSystemDescriptorValidator
    }
 
    private String getFieldTypeName(FieldDeclaration field) {
+      // The same fields are typically linked many times, so only compute the name of each type once.
+      return ValidationPassCache.of(getContext()).get(CacheKey.FIELD_TYPE_NAME, field, () -> doGetFieldTypeName(field));
+   }
+
+   private String doGetFieldTypeName(FieldDeclaration field) {
       if (field.eClass().equals(SystemDescriptorPackage.Literals.INPUT_DECLARATION)) {
          return nameProvider.getFullyQualifiedName(((InputDeclaration) field).getType()).toString();
       } else if (field.eClass().equals(SystemDescriptorPackage.Literals.OUTPUT_DECLARATION)) {
@@ -460,75 +474,77 @@ public class LinkValidator extends AbstractUnregisteredSystemDescriptorValidator
       return !isLinkableExpression(ref);
    }
 
-   private static int getNumberOfLinksNamed(
-         Model model,
-         String linkName) {
-      Links links = model.getLinks();
-      return links == null
-             ? 0
-             : (int) links.getDeclarations()
-                   .stream()
-                   .filter(d -> d.getName().equals(linkName))
-                   .count();
-   }
-
-   private static int getNumberOfRequirementsNamed(
-         Model model,
-         String name) {
-      Requires requirements = model.getRequires();
-      return requirements == null
-             ? 0
-             : (int) requirements.getDeclarations()
-                   .stream()
-                   .filter(d -> d.getName().equals(name))
-                   .count();
+   /**
+    * Gets the names declared directly by the given model.  The names are only indexed once per validation pass since
+    * every link of the model is checked against them.
+    */
+   private DeclaredNames getDeclaredNames(Model model) {
+      return ValidationPassCache.of(getContext()).get(CacheKey.DECLARED_NAMES, model, () -> new DeclaredNames(model));
    }
 
-   private static int getNumberOfInputsNamed(
-         Model model,
-         String name) {
-      Input inputs = model.getInput();
-      return inputs == null
-             ? 0
-             : (int) inputs.getDeclarations()
-                   .stream()
-                   .filter(d -> d.getName().equals(name))
-                   .count();
+   /**
+    * The keys of the values this validator caches for a validation pass.
+    */
+   private enum CacheKey {
+      DECLARED_NAMES,
+      FIELD_TYPE_NAME
    }
 
-   private static int getNumberOfOutputsNamed(
-         Model model,
-         String name) {
-      Output outputs = model.getOutput();
-      return outputs == null
-             ? 0
-             : (int) outputs.getDeclarations()
-                   .stream()
-                   .filter(d -> d.getName().equals(name))
-                   .count();
-   }
+   /**
+    * Counts how many times each name is declared directly by the links, requirements, inputs, outputs, parts and
+    * scenarios of a model.
+    */
+   private static class DeclaredNames {
+
+      /**
+       * The counts of each name, keyed by the object that contains the declarations.
+       */
+      private final Map<EObject, Map<String, Integer>> counts = new HashMap<>();
+
+      private DeclaredNames(Model model) {
+         Links links = model.getLinks();
+         if (links != null) {
+            index(links, links.getDeclarations(), LinkDeclaration::getName);
+         }
+         Requires requirements = model.getRequires();
+         if (requirements != null) {
+            index(requirements, requirements.getDeclarations(), FieldDeclaration::getName);
+         }
+         Input inputs = model.getInput();
+         if (inputs != null) {
+            index(inputs, inputs.getDeclarations(), FieldDeclaration::getName);
+         }
+         Output outputs = model.getOutput();
+         if (outputs != null) {
+            index(outputs, outputs.getDeclarations(), FieldDeclaration::getName);
+         }
+         Parts parts = model.getParts();
+         if (parts != null) {
+            index(parts, parts.getDeclarations(), FieldDeclaration::getName);
+         }
+         index(model, model.getScenarios(), Scenario::getName);
+      }
 
-   private static int getNumberOfPartsNamed(
-         Model model,
-         String name) {
-      Parts parts = model.getParts();
-      return parts == null
-             ? 0
-             : (int) parts.getDeclarations()
-                   .stream()
-                   .filter(d -> d.getName().equals(name))
-                   .count();
-   }
+      /**
+       * Gets the number of declarations contained by the given object with the given name.  Scenarios are contained
+       * directly by the model.
+       */
+      private int count(EObject container, String name) {
+         if (container == null) {
+            return 0;
+         }
+         return counts.getOrDefault(container, Collections.emptyMap()).getOrDefault(name, 0);
+      }
 
-   private static int getNumberOfScenariosNamed(
-         Model model,
-         String name) {
-      return model.getScenarios().isEmpty()
-             ? 0
-             : (int) model.getScenarios()
-                   .stream()
-                   .filter(d -> d.getName().equals(name))
-                   .count();
+      private <T> void index(EObject container, Collection<T> declarations, Function<T, String> getName) {
+         Map<String, Integer> names = new HashMap<>();
+         for (T declaration : declarations) {
+            String name = getName.apply(declaration);
+            if (name != null) {
+               names.merge(name, 1, Integer::sum);
+            }
+         }
+         counts.put(container, names);
+      }
    }
-
 }
@@ -47,11 +47,10 @@ import com.ngc.seaside.systemdescriptor.systemDescriptor.RefinedLinkDeclaration;
 import com.ngc.seaside.systemdescriptor.systemDescriptor.RequireDeclaration;
 import com.ngc.seaside.systemdescriptor.systemDescriptor.Requires;
 import com.ngc.seaside.systemdescriptor.systemDescriptor.SystemDescriptorPackage;
+import com.ngc.seaside.systemdescriptor.validation.util.ValidationPassCache;
 
 import org.eclipse.xtext.validation.Check;
 
-import java.util.AbstractMap;
-import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -62,7 +61,6 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Queue;
 import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -119,8 +117,12 @@ public class UnsetPropertiesValidator extends AbstractUnregisteredSystemDescript
       if (model.getRefinedModel() == null) {
          return;
       }
-      Collection<PropertyFieldDeclaration> declarations = getAllProperties(model, Properties::getDeclarations);
-      Collection<PropertyValueAssignment> assignments = getAllProperties(model, Properties::getAssignments);
+      Collection<PropertyFieldDeclaration> declarations = getAllProperties(model,
+                                                                           CacheKey.MODEL_DECLARATIONS,
+                                                                           Properties::getDeclarations);
+      Collection<PropertyValueAssignment> assignments = getAllProperties(model,
+                                                                         CacheKey.MODEL_ASSIGNMENTS,
+                                                                         Properties::getAssignments);
 
       List<String> declarationStrings = getDeclarationsAsStrings(declarations);
       List<String> assignmentStrings = getAssignmentDeclarationsAsStrings(assignments);
@@ -142,6 +144,8 @@ public class UnsetPropertiesValidator extends AbstractUnregisteredSystemDescript
          return;
       }
       checkElementPropertiesSet(model,
+                                CacheKey.PART_DECLARATIONS,
+                                CacheKey.PART_ASSIGNMENTS,
                                 m -> Optional.ofNullable(m.getParts()).map(Parts::getDeclarations).orElse(null),
                                 PartDeclaration::getName,
                                 part -> Optional.ofNullable(part.getDefinition())
@@ -162,6 +166,8 @@ public class UnsetPropertiesValidator extends AbstractUnregisteredSystemDescript
       }
       checkElementPropertiesSet(
             model,
+            CacheKey.REQUIREMENT_DECLARATIONS,
+            CacheKey.REQUIREMENT_ASSIGNMENTS,
             m -> Optional.ofNullable(m.getRequires()).map(Requires::getDeclarations).orElse(null),
             RequireDeclaration::getName,
             req -> Optional.ofNullable(req.getDefinition())
@@ -181,6 +187,8 @@ public class UnsetPropertiesValidator extends AbstractUnregisteredSystemDescript
          return;
       }
       checkElementPropertiesSet(model,
+                                CacheKey.LINK_DECLARATIONS,
+                                CacheKey.LINK_ASSIGNMENTS,
                                 m -> Optional.ofNullable(m.getLinks()).map(Links::getDeclarations).orElse(null),
                                 LINK_NAME_FUNCTION,
                                 link -> Optional.ofNullable(link.getDefinition())
@@ -195,6 +203,8 @@ public class UnsetPropertiesValidator extends AbstractUnregisteredSystemDescript
     * Checks that all of the properties for each element within the model are set.
     *
     * @param model           model
+    * @param declarationsKey the key used to cache the declarations of each model
+    * @param assignmentsKey  the key used to cache the assignments of each model
     * @param getCollection   function for getting the collection of elements from the model (such as parts or requires
     *                        elements)
     * @param getName         function for getting the name of the element within the model (such as part name or require
@@ -204,16 +214,19 @@ public class UnsetPropertiesValidator extends AbstractUnregisteredSystemDescript
     * @param <T>             the type of element within the model (such as {@link PartDeclaration} or
     *                        {@link RequireDeclaration})
     */
-   private <T> void checkElementPropertiesSet(Model model, Function<Model, Collection<T>> getCollection,
+   private <T> void checkElementPropertiesSet(Model model, CacheKey declarationsKey, CacheKey assignmentsKey,
+                                              Function<Model, Collection<T>> getCollection,
                                               Function<T, String> getName, Function<T, Properties> getProperties,
                                               BiFunction<String, String, String> getErrorMessage) {
       Map<String, Collection<PropertyFieldDeclaration>> declarationsMap = getAllProperties(model,
+                                                                                           declarationsKey,
                                                                                            getCollection,
                                                                                            getName,
                                                                                            element -> getProperties
                                                                                                  .apply(element)
                                                                                                  .getDeclarations());
       Map<String, Collection<PropertyValueAssignment>> assignmentsMap = getAllProperties(model,
+                                                                                         assignmentsKey,
                                                                                          getCollection,
                                                                                          getName,
                                                                                          element -> getProperties
@@ -234,9 +247,11 @@ public class UnsetPropertiesValidator extends AbstractUnregisteredSystemDescript
    }
 
    /**
-    * Returns all of the properties for elements within the model, grouped by name.
+    * Returns all of the properties for elements within the model, grouped by name.  The properties of each model in the
+    * refinement hierarchy are only computed once per validation pass.
     *
     * @param model         model
+    * @param key           the key used to cache the properties of each model
     * @param getCollection function for getting the collection of elements from the model (such as parts or requires
     *                      elements)
     * @param getName       function for getting the name of the element within the model (such as part name or require
@@ -248,16 +263,16 @@ public class UnsetPropertiesValidator extends AbstractUnregisteredSystemDescript
     *                      {@link PropertyValueAssignment})
     * @return all of the properties for elements within the model, grouped by name
     */
-   private static <T, U> Map<String, Collection<U>> getAllProperties(
+   private <T, U> Map<String, Collection<U>> getAllProperties(
          Model model,
+         CacheKey key,
          Function<Model, Collection<T>> getCollection,
          Function<T, String> getName,
          Function<T, Collection<U>> getProperties) {
-      Map<String, Collection<U>> map = new LinkedHashMap<>();
+      return ValidationPassCache.of(getContext()).get(key, model, () -> {
+         Map<String, Collection<U>> map = new LinkedHashMap<>();
 
-      Model current = model;
-      while (current != null) {
-         Collection<T> collection = getCollection.apply(current);
+         Collection<T> collection = getCollection.apply(model);
          if (collection != null) {
             for (T element : collection) {
                String name = getName.apply(element);
@@ -267,36 +282,48 @@ public class UnsetPropertiesValidator extends AbstractUnregisteredSystemDescript
                }
             }
          }
-         current = current.getRefinedModel();
-      }
-      return map;
+
+         Model refinedModel = model.getRefinedModel();
+         if (refinedModel != null) {
+            getAllProperties(refinedModel, key, getCollection, getName, getProperties)
+                  .forEach((name, properties) -> map.computeIfAbsent(name, __ -> new ArrayList<>())
+                        .addAll(properties));
+         }
+         return map;
+      });
    }
 
    /**
-    * Returns all of the model properties.
+    * Returns all of the model properties.  The properties of each model in the refinement hierarchy are only computed
+    * once per validation pass.
     *
     * @param model         model
+    * @param key           the key used to cache the properties of each model
     * @param getProperties function for getting the collection of properties from the model
     * @param <U>           the type of property (such as {@link PropertyFieldDeclaration} or
     *                      {@link PropertyValueAssignment})
     * @return all of the model properties
     */
-   private static <U> Collection<U> getAllProperties(Model model, Function<Properties, Collection<U>> getProperties) {
-      Collection<U> allProperties = new ArrayList<>();
+   private <U> Collection<U> getAllProperties(Model model,
+                                              CacheKey key,
+                                              Function<Properties, Collection<U>> getProperties) {
+      return ValidationPassCache.of(getContext()).get(key, model, () -> {
+         Collection<U> allProperties = new ArrayList<>();
 
-      Model current = model;
-      while (current != null) {
-         Properties properties = current.getProperties();
+         Properties properties = model.getProperties();
          if (properties != null) {
             Collection<U> collection = getProperties.apply(properties);
             if (collection != null) {
                allProperties.addAll(collection);
             }
          }
-         current = current.getRefinedModel();
-      }
 
-      return allProperties;
+         Model refinedModel = model.getRefinedModel();
+         if (refinedModel != null) {
+            allProperties.addAll(getAllProperties(refinedModel, key, getProperties));
+         }
+         return allProperties;
+      });
    }
 
    /**
@@ -307,7 +334,7 @@ public class UnsetPropertiesValidator extends AbstractUnregisteredSystemDescript
     * @param declarations collection of property declaration
     * @return a sorted unique list of all assignments needed, in string form
     */
-   private static List<String> getDeclarationsAsStrings(Collection<PropertyFieldDeclaration> declarations) {
+   private List<String> getDeclarationsAsStrings(Collection<PropertyFieldDeclaration> declarations) {
       Set<String> declarationStrings = new HashSet<>();
       for (PropertyFieldDeclaration declaration : declarations) {
          if (declaration.getCardinality() == Cardinality.MANY) {
@@ -320,39 +347,8 @@ public class UnsetPropertiesValidator extends AbstractUnregisteredSystemDescript
             ReferencedPropertyFieldDeclaration referencedDeclaration = (ReferencedPropertyFieldDeclaration) declaration;
             DataModel dataModel = referencedDeclaration.getDataModel();
             if (dataModel instanceof Data) {
-               Queue<Map.Entry<String, Data>> datas = new ArrayDeque<>();
-               datas.add(new AbstractMap.SimpleImmutableEntry<>(declaration.getName(), (Data) dataModel));
-               while (!datas.isEmpty()) {
-                  Map.Entry<String, Data> entry = datas.poll();
-                  String suffix = entry.getKey();
-                  Data data = entry.getValue();
-
-                  for (DataFieldDeclaration field : data.getFields()) {
-                     if (field.getCardinality() == Cardinality.MANY) {
-                        // TODO: remove when cardinality is implemented
-                        continue;
-                     }
-                     if (field instanceof PrimitiveDataFieldDeclaration) {
-                        declarationStrings.add(suffix + '.' + field.getName());
-                     } else if (field instanceof ReferencedDataModelFieldDeclaration) {
-                        ReferencedDataModelFieldDeclaration
-                              referencedField =
-                              (ReferencedDataModelFieldDeclaration) field;
-                        DataModel fieldModel = referencedField.getDataModel();
-                        if (fieldModel instanceof Enumeration) {
-                           declarationStrings.add(suffix + '.' + field.getName());
-                        } else if (fieldModel instanceof Data) {
-                           datas.add(
-                                 new AbstractMap.SimpleImmutableEntry<>(suffix + '.' + field.getName(),
-                                                                        (Data) referencedField.getDataModel()));
-                        } else {
-                           throw new IllegalStateException("Unknown data model type: " + fieldModel.eClass());
-                        }
-                     } else {
-                        throw new IllegalStateException("Unknown data field declaration: " + field.eClass());
-                     }
-                  }
-
+               for (String path : getFieldPaths((Data) dataModel)) {
+                  declarationStrings.add(declaration.getName() + '.' + path);
                }
             } else if (dataModel instanceof Enumeration) {
                declarationStrings.add(declaration.getName());
@@ -368,6 +364,43 @@ public class UnsetPropertiesValidator extends AbstractUnregisteredSystemDescript
       return list;
    }
 
+   /**
+    * Gets the paths of all the primitive and enumeration fields of the given data, relative to the data, including the
+    * fields of nested data.  The paths of each data type are only computed once per validation pass since the same
+    * types are typically used by many properties.
+    *
+    * @param data the data type
+    * @return the paths of the fields of the data type
+    */
+   private Collection<String> getFieldPaths(Data data) {
+      return ValidationPassCache.of(getContext()).get(CacheKey.DATA_FIELD_PATHS, data, () -> {
+         Collection<String> paths = new ArrayList<>();
+         for (DataFieldDeclaration field : data.getFields()) {
+            if (field.getCardinality() == Cardinality.MANY) {
+               // TODO: remove when cardinality is implemented
+               continue;
+            }
+            if (field instanceof PrimitiveDataFieldDeclaration) {
+               paths.add(field.getName());
+            } else if (field instanceof ReferencedDataModelFieldDeclaration) {
+               DataModel fieldModel = ((ReferencedDataModelFieldDeclaration) field).getDataModel();
+               if (fieldModel instanceof Enumeration) {
+                  paths.add(field.getName());
+               } else if (fieldModel instanceof Data) {
+                  for (String path : getFieldPaths((Data) fieldModel)) {
+                     paths.add(field.getName() + '.' + path);
+                  }
+               } else {
+                  throw new IllegalStateException("Unknown data model type: " + fieldModel.eClass());
+               }
+            } else {
+               throw new IllegalStateException("Unknown data field declaration: " + field.eClass());
+            }
+         }
+         return paths;
+      });
+   }
+
    /**
     * Converts the given collection of property assignments to a sorted unique list of strings. The set will follow the
     * same syntax as {@link #getDeclarationsAsStrings(Collection)} but only consist of the given assignments.
@@ -426,4 +459,18 @@ public class UnsetPropertiesValidator extends AbstractUnregisteredSystemDescript
       }
    }
 
+   /**
+    * The keys of the values this validator caches for a validation pass.
+    */
+   private enum CacheKey {
+      MODEL_DECLARATIONS,
+      MODEL_ASSIGNMENTS,
+      PART_DECLARATIONS,
+      PART_ASSIGNMENTS,
+      REQUIREMENT_DECLARATIONS,
+      REQUIREMENT_ASSIGNMENTS,
+      LINK_DECLARATIONS,
+      LINK_ASSIGNMENTS,
+      DATA_FIELD_PATHS
+   }
 }
@@ -0,0 +1,88 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.systemdescriptor.validation.util;
+
+import org.eclipse.xtext.util.Tuples;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Memoizes values computed by validators for the duration of a single validation pass.  The cache is stored in the
+ * context map that Xtext creates for each validation of a resource, so it is shared by all validators that run during
+ * that pass and discarded when the pass completes.  Values may therefore be derived from the current state of the
+ * model without needing to be invalidated.
+ */
+public class ValidationPassCache {
+
+   private final Map<Object, Object> values;
+
+   private ValidationPassCache(Map<Object, Object> values) {
+      this.values = values;
+   }
+
+   /**
+    * Gets the cache of the validation pass that uses the given context.  If the context is {@code null}, a cache that
+    * does not retain any values is returned.
+    *
+    * @param context the context of the validator
+    * @return the cache for the validation pass
+    */
+   public static ValidationPassCache of(Map<Object, Object> context) {
+      if (context == null) {
+         return new ValidationPassCache(null);
+      }
+      ValidationPassCache cache = (ValidationPassCache) context.get(ValidationPassCache.class);
+      if (cache == null) {
+         cache = new ValidationPassCache(new HashMap<>());
+         context.put(ValidationPassCache.class, cache);
+      }
+      return cache;
+   }
+
+   /**
+    * Gets the value of the given kind for the given element, computing it if necessary.  The supplier may itself get
+    * other values from this cache.
+    *
+    * @param kind     identifies the kind of value
+    * @param element  the element the value is computed for
+    * @param supplier computes the value
+    * @param <T>      the type of the value
+    * @return the value
+    */
+   @SuppressWarnings("unchecked")
+   public <T> T get(Object kind, Object element, Supplier<T> supplier) {
+      if (values == null) {
+         return supplier.get();
+      }
+      Object key = Tuples.create(kind, element);
+      // Note computeIfAbsent is not used so suppliers may recursively compute other values.
+      T value = (T) values.get(key);
+      if (value == null) {
+         value = supplier.get();
+         values.put(key, value);
+      }
+      return value;
+   }
+}
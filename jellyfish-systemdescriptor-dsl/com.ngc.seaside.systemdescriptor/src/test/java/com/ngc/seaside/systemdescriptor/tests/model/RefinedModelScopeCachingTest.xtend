@@ -0,0 +1,126 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.systemdescriptor.tests.model
+
+import com.google.inject.Inject
+import com.google.inject.Injector
+import com.ngc.seaside.systemdescriptor.scoping.SystemDescriptorScopeProvider
+import com.ngc.seaside.systemdescriptor.systemDescriptor.Model
+import com.ngc.seaside.systemdescriptor.systemDescriptor.Package
+import com.ngc.seaside.systemdescriptor.systemDescriptor.SystemDescriptorPackage
+import com.ngc.seaside.systemdescriptor.tests.SystemDescriptorInjectorProvider
+import com.ngc.seaside.systemdescriptor.tests.util.ParseHelper
+import org.eclipse.emf.common.util.URI
+import org.eclipse.emf.ecore.EObject
+import org.eclipse.xtext.testing.InjectWith
+import org.eclipse.xtext.testing.XtextRunner
+import org.eclipse.xtext.testing.util.ResourceHelper
+import org.junit.Test
+import org.junit.runner.RunWith
+
+import static org.junit.Assert.*
+
+@RunWith(XtextRunner)
+@InjectWith(SystemDescriptorInjectorProvider)
+class RefinedModelScopeCachingTest {
+
+	static final int DEPTH = 10
+
+	@Inject
+	ParseHelper<Package> parseHelper
+
+	@Inject
+	ResourceHelper resourceHelper
+
+	@Inject
+	Injector injector
+
+	@Test
+	def void testDoesComputeScopeOfRefinementChainOnlyOnce() {
+		val resourceSet = resourceHelper.resource(level(0), URI.createURI("level0.sd")).resourceSet
+		for (i : 1 ..< DEPTH) {
+			resourceHelper.resource(level(i), resourceSet)
+		}
+
+		val source = '''
+			package refinement.test
+			
+			model Leaf refines refinement.test.Level«DEPTH - 1» {
+				properties {
+					«FOR i : 0 ..< DEPTH»
+						p«i» = «i»
+					«ENDFOR»
+				}
+			}
+		'''
+		val result = parseHelper.parse(source, resourceSet)
+		assertNotNull(result)
+		val model = result.element as Model
+
+		val scopeProvider = injector.getInstance(CountingScopeProvider)
+		val reference = SystemDescriptorPackage.Literals.PROPERTY_VALUE_EXPRESSION__DECLARATION
+		for (assignment : model.properties.assignments) {
+			val scope = scopeProvider.getScope(assignment.expression, reference)
+			assertEquals(
+				"scope does not contain the properties of the entire refinement chain!",
+				(0 ..< DEPTH).map['p' + it].toSet,
+				scope.allElements.map[name.toString].toSet
+			)
+		}
+		assertEquals("scope should only be computed once for all expressions!", 1, scopeProvider.scopesCreated)
+
+		// Changing the resource should evict the cached scope.
+		model.name = "RenamedLeaf"
+		scopeProvider.getScope(model.properties.assignments.get(0).expression, reference)
+		assertEquals("scope should be recomputed after the resource changed!", 2, scopeProvider.scopesCreated)
+	}
+
+	private static def level(int level) {
+		return '''
+			package refinement.test
+			
+			model Level«level» «IF level > 0»refines refinement.test.Level«level - 1» «ENDIF»{
+				properties {
+					int p«level»
+				}
+			}
+		'''
+	}
+
+	/**
+	 * A scope provider that counts the number of scopes it creates.
+	 */
+	static class CountingScopeProvider extends SystemDescriptorScopeProvider {
+
+		int scopesCreated
+
+		override protected doCreateScope(Iterable<? extends EObject> elements) {
+			scopesCreated++
+			return super.doCreateScope(elements)
+		}
+
+		def int getScopesCreated() {
+			return scopesCreated
+		}
+	}
+}
@@ -0,0 +1,201 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.systemdescriptor.validation.tests
+
+import com.google.inject.Inject
+import com.google.inject.name.Named
+import com.ngc.seaside.systemdescriptor.systemDescriptor.Data
+import com.ngc.seaside.systemdescriptor.systemDescriptor.PrimitiveDataType
+import com.ngc.seaside.systemdescriptor.systemDescriptor.SystemDescriptorFactory
+import com.ngc.seaside.systemdescriptor.systemDescriptor.impl.DataImpl
+import com.ngc.seaside.systemdescriptor.systemDescriptor.impl.ModelImpl
+import com.ngc.seaside.systemdescriptor.tests.SystemDescriptorInjectorProvider
+import com.ngc.seaside.systemdescriptor.validation.UnsetPropertiesValidator
+import java.util.ArrayList
+import java.util.HashMap
+import java.util.List
+import java.util.Map
+import org.eclipse.emf.common.util.BasicDiagnostic
+import org.eclipse.xtext.Constants
+import org.eclipse.xtext.testing.InjectWith
+import org.eclipse.xtext.testing.XtextRunner
+import org.eclipse.xtext.validation.AbstractInjectableValidator
+import org.eclipse.xtext.validation.CheckMode
+import org.junit.Test
+import org.junit.runner.RunWith
+
+import static org.junit.Assert.*
+
+@RunWith(XtextRunner)
+@InjectWith(SystemDescriptorInjectorProvider)
+class UnsetPropertiesValidatorCachingTest {
+
+	static final int DEPTH = 10
+
+	static final SystemDescriptorFactory FACTORY = SystemDescriptorFactory.eINSTANCE
+
+	@Inject
+	UnsetPropertiesValidator validator
+
+	@Inject
+	@Named(Constants.LANGUAGE_NAME)
+	String languageName
+
+	@Test
+	def void testDoesComputeRefinementHierarchyOncePerPass() {
+		val inner = new CountingData => [
+			name = "Inner"
+			fields += FACTORY.createPrimitiveDataFieldDeclaration => [
+				name = "value"
+				type = PrimitiveDataType.INT
+			]
+		]
+		val config = new CountingData => [
+			name = "Config"
+			fields += FACTORY.createPrimitiveDataFieldDeclaration => [
+				name = "enabled"
+				type = PrimitiveDataType.BOOLEAN
+			]
+			fields += FACTORY.createReferencedDataModelFieldDeclaration => [
+				name = "inner"
+				dataModel = inner
+			]
+		]
+
+		val List<CountingModel> models = new ArrayList
+		for (i : 0 ..< DEPTH) {
+			val level = i
+			models += new CountingModel => [
+				name = "Level" + level
+				refinedModel = if (level > 0) models.get(level - 1)
+				properties = FACTORY.createProperties => [
+					declarations += FACTORY.createReferencedPropertyFieldDeclaration => [
+						name = "config" + level
+						dataModel = config
+					]
+				]
+			]
+		}
+
+		// Building the elements accesses the counted features, so only count the validation.
+		models.forEach[reset]
+		config.reset
+		inner.reset
+
+		val context = newContext
+		val diagnostics = new BasicDiagnostic
+		for (model : models) {
+			validator.validate(model.eClass, model, diagnostics, context)
+		}
+
+		assertEquals(
+			"every refined model should be missing property values!",
+			DEPTH - 1,
+			diagnostics.children.size
+		)
+		val leaf = models.last
+		assertTrue(leaf.hierarchyComputations > 0)
+		for (model : models) {
+			assertEquals(
+				"the properties of " + model.name + " should be computed as often as those of the leaf model!",
+				leaf.hierarchyComputations,
+				model.hierarchyComputations
+			)
+		}
+		assertEquals("field paths should be computed once per pass!", 1, config.fieldComputations)
+		assertEquals("nested field paths should be computed once per pass!", 1, inner.fieldComputations)
+
+		// A new pass should not reuse the values of the previous pass.
+		val leafComputations = leaf.hierarchyComputations
+		validator.validate(leaf.eClass, leaf, new BasicDiagnostic, newContext)
+		assertEquals(
+			"the properties should be computed again in a new pass!",
+			2 * leafComputations,
+			leaf.hierarchyComputations
+		)
+	}
+
+	private def Map<Object, Object> newContext() {
+		val Map<Object, Object> context = new HashMap
+		context.put(CheckMode.KEY, CheckMode.ALL)
+		context.put(AbstractInjectableValidator.CURRENT_LANGUAGE_NAME, languageName)
+		return context
+	}
+
+	/**
+	 * A model that counts how often the elements that declare properties are retrieved.
+	 */
+	static class CountingModel extends ModelImpl {
+
+		int hierarchyComputations
+
+		override getProperties() {
+			hierarchyComputations++
+			return super.getProperties
+		}
+
+		override getParts() {
+			hierarchyComputations++
+			return super.getParts
+		}
+
+		override getRequires() {
+			hierarchyComputations++
+			return super.getRequires
+		}
+
+		override getLinks() {
+			hierarchyComputations++
+			return super.getLinks
+		}
+
+		def int getHierarchyComputations() {
+			return hierarchyComputations
+		}
+
+		def void reset() {
+			hierarchyComputations = 0
+		}
+	}
+
+	/**
+	 * A data type that counts how often its fields are retrieved.
+	 */
+	static class CountingData extends DataImpl {
+
+		int fieldComputations
+
+		override getFields() {
+			fieldComputations++
+			return super.getFields
+		}
+
+		def int getFieldComputations() {
+			return fieldComputations
+		}
+
+		def void reset() {
+			fieldComputations = 0
+		}
+	}
+}
@@ -0,0 +1,112 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.systemdescriptor.validation.tests
+
+import com.ngc.seaside.systemdescriptor.validation.util.ValidationPassCache
+import java.util.HashMap
+import java.util.Map
+import java.util.concurrent.atomic.AtomicInteger
+import org.junit.Test
+
+import static org.junit.Assert.*
+
+class ValidationPassCacheTest {
+
+	@Test
+	def void testDoesShareCacheWithinPass() {
+		val Map<Object, Object> context = new HashMap
+		val computations = new AtomicInteger
+		val element = new Object
+
+		val first = ValidationPassCache.of(context).get("kind", element, [
+			computations.incrementAndGet
+			return "value"
+		])
+		val second = ValidationPassCache.of(context).get("kind", element, [
+			computations.incrementAndGet
+			return "other value"
+		])
+
+		assertSame("the same context should return the same cache!",
+			ValidationPassCache.of(context), ValidationPassCache.of(context))
+		assertEquals("value", first)
+		assertEquals("cached value should be returned!", "value", second)
+		assertEquals("value should only be computed once per pass!", 1, computations.get)
+	}
+
+	@Test
+	def void testDoesScopeValuesByKindAndElement() {
+		val cache = ValidationPassCache.of(new HashMap)
+		val element1 = new Object
+		val element2 = new Object
+
+		assertEquals("a1", cache.get("a", element1, ["a1"]))
+		assertEquals("b1", cache.get("b", element1, ["b1"]))
+		assertEquals("a2", cache.get("a", element2, ["a2"]))
+		assertEquals("a1", cache.get("a", element1, ["not cached"]))
+		assertEquals("b1", cache.get("b", element1, ["not cached"]))
+		assertEquals("a2", cache.get("a", element2, ["not cached"]))
+	}
+
+	@Test
+	def void testDoesUseFreshCacheForNewPass() {
+		val element = new Object
+		val Map<Object, Object> firstPass = new HashMap
+		val Map<Object, Object> secondPass = new HashMap
+
+		ValidationPassCache.of(firstPass).get("kind", element, ["first"])
+		val value = ValidationPassCache.of(secondPass).get("kind", element, ["second"])
+
+		assertNotSame(ValidationPassCache.of(firstPass), ValidationPassCache.of(secondPass))
+		assertEquals("a new pass should not see the values of a previous pass!", "second", value)
+	}
+
+	@Test
+	def void testDoesNotRetainValuesWithoutContext() {
+		val computations = new AtomicInteger
+		val element = new Object
+
+		for (i : 0 ..< 3) {
+			ValidationPassCache.of(null).get("kind", element, [computations.incrementAndGet])
+		}
+
+		assertEquals("values should not be retained without a context!", 3, computations.get)
+	}
+
+	@Test
+	def void testDoesAllowSuppliersToUseCache() {
+		val cache = ValidationPassCache.of(new HashMap)
+		val computations = new AtomicInteger
+		val element = new Object
+
+		val value = cache.get("outer", element, [
+			cache.get("inner", element, [
+				computations.incrementAndGet
+				return "inner"
+			]) + cache.get("inner", element, ["not cached"])
+		])
+
+		assertEquals("innerinner", value)
+		assertEquals(1, computations.get)
+	}
+}
@@ -40,6 +40,11 @@ import com.ngc.seaside.systemdescriptor.model.api.model.scenario.IScenario;
  * Note that {@link com.ngc.seaside.systemdescriptor.model.api.metadata.IMetadata medadata} and individual {@link
  * com.ngc.seaside.systemdescriptor.model.api.model.link.IModelLink model links} are not directly visited.
  *
+ * <p>
+ * Visitors used with {@link Traversals#traverseParallel(ISystemDescriptor, IVisitor)} are invoked concurrently for
+ * different packages and must therefore be thread safe.  The contents of a single package are always visited by one
+ * thread.
+ *
  * @see ISystemDescriptor#traverse(IVisitor)
  */
 public interface IVisitor {
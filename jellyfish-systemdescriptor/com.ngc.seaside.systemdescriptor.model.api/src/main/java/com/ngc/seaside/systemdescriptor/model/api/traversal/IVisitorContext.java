@@ -53,7 +53,8 @@ public interface IVisitorContext {
    void setResult(Object result);
 
    /**
-    * Aborts the traversal.  The visitor will no longer be invoked after calling this method.
+    * Aborts the traversal.  The visitor will no longer be invoked after calling this method.  During a parallel
+    * traversal, visits already in progress on other threads may still complete.
     */
    void stop();
 }
@@ -22,6 +22,7 @@
  */
 package com.ngc.seaside.systemdescriptor.model.api.traversal;
 
+import com.ngc.seaside.systemdescriptor.model.api.INamedChild;
 import com.ngc.seaside.systemdescriptor.model.api.IPackage;
 import com.ngc.seaside.systemdescriptor.model.api.ISystemDescriptor;
 import com.ngc.seaside.systemdescriptor.model.api.data.IData;
@@ -37,8 +38,13 @@ import java.io.PrintStream;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 /**
  * Performs traversals on system descriptors.
@@ -79,6 +85,96 @@ public class Traversals {
       return Optional.ofNullable(ctx.getResult());
    }
 
+   /**
+    * Performs a traversal of the given system descriptor in parallel using the {@link ForkJoinPool#commonPool() common
+    * pool}.
+    *
+    * @param descriptor the descriptor to traverse
+    * @param visitor    the visitor, which must be thread safe
+    * @return the result of the traversal
+    * @see #traverseParallel(ISystemDescriptor, IVisitor, ForkJoinPool)
+    */
+   public static Optional<Object> traverseParallel(ISystemDescriptor descriptor, IVisitor visitor) {
+      return traverseParallel(descriptor, visitor, ForkJoinPool.commonPool());
+   }
+
+   /**
+    * Performs a traversal of the given system descriptor in parallel.  The traversal is partitioned by package:
+    * {@link IVisitor#visitSystemDescriptor(IVisitorContext, ISystemDescriptor)} is invoked first on the calling thread,
+    * then each package and all of its contents are visited by a single task on the given pool.  The elements of a
+    * package are visited in the same order as {@link #traverse(ISystemDescriptor, IVisitor)} but different packages
+    * are visited concurrently and in no particular order.
+    *
+    * <p>
+    * As a result, the visitor must be safe to invoke from multiple threads at once and must synchronize any state it
+    * shares between packages.  If several visits call {@link IVisitorContext#setResult(Object)}, the last call wins.
+    * Calling {@link IVisitorContext#stop()} prevents packages that have not started from being visited and ends the
+    * traversal of other packages at their next element.  If a visitor throws an exception, the exception is rethrown
+    * by this method once the traversal completes.
+    *
+    * @param descriptor the descriptor to traverse
+    * @param visitor    the visitor, which must be thread safe
+    * @param pool       the pool to perform the traversal with
+    * @return the result of the traversal
+    */
+   public static Optional<Object> traverseParallel(ISystemDescriptor descriptor, IVisitor visitor, ForkJoinPool pool) {
+      if (descriptor == null) {
+         throw new NullPointerException("descriptor may not be null!");
+      }
+      if (visitor == null) {
+         throw new NullPointerException("visitor may not be null!");
+      }
+      if (pool == null) {
+         throw new NullPointerException("pool may not be null!");
+      }
+
+      VisitorContext ctx = new VisitorContext(descriptor);
+      visitor.visitSystemDescriptor(ctx, descriptor);
+      if (!ctx.stopped) {
+         List<IPackage> packages = new ArrayList<>(descriptor.getPackages());
+         pool.invoke(new RecursiveAction() {
+            @Override
+            protected void compute() {
+               Collection<ForkJoinTask<?>> tasks = new ArrayList<>(packages.size());
+               for (IPackage p : packages) {
+                  tasks.add(ForkJoinTask.adapt(() -> {
+                     if (!ctx.stopped) {
+                        doVisitPackage(visitor, ctx, p);
+                     }
+                  }));
+               }
+               invokeAll(tasks);
+            }
+         });
+      }
+
+      return Optional.ofNullable(ctx.getResult());
+   }
+
+   /**
+    * Gets a stream of all the data, enumerations, and models contained in the given system descriptor.  The elements of
+    * each package are returned in the same order as {@link #traverse(ISystemDescriptor, IVisitor)} visits them.  The
+    * stream is sized and splits evenly, so it performs well as a {@link Stream#parallel() parallel} stream.  The
+    * elements are gathered when this method is called so changes to the descriptor made afterwards are not reflected
+    * in the stream.  Operations performed on a parallel stream must be thread safe.
+    *
+    * @param descriptor the descriptor
+    * @return a stream of the data, enumerations, and models in the descriptor
+    */
+   public static Stream<INamedChild<IPackage>> stream(ISystemDescriptor descriptor) {
+      if (descriptor == null) {
+         throw new NullPointerException("descriptor may not be null!");
+      }
+
+      List<INamedChild<IPackage>> elements = new ArrayList<>();
+      for (IPackage p : descriptor.getPackages()) {
+         elements.addAll(p.getData());
+         elements.addAll(p.getModels());
+         elements.addAll(p.getEnumerations());
+      }
+      return elements.stream();
+   }
+
    /**
     * Collects all models that are referenced from the given {@code SystemDescriptor} that match the provided {@code
     * Predicate}.  Common predicates are available at {@link ModelPredicates}.
@@ -171,13 +267,14 @@ public class Traversals {
    }
 
    /**
-    * A simple implementation of {@code IVisitorContext}.
+    * A simple implementation of {@code IVisitorContext}.  The context may be shared by concurrent visits during a
+    * parallel traversal.
     */
    private static class VisitorContext implements IVisitorContext {
 
       private final ISystemDescriptor descriptor;
-      private Object result;
-      private boolean stopped;
+      private volatile Object result;
+      private volatile boolean stopped;
 
       private VisitorContext(ISystemDescriptor descriptor) {
          this.descriptor = descriptor;
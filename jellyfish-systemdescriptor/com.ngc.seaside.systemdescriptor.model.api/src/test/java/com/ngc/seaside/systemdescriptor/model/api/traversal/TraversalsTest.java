@@ -45,7 +45,12 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
@@ -53,6 +58,7 @@ import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -170,6 +176,62 @@ public class TraversalsTest {
       verify(visitor, never()).visitPackage(any(), eq(packaze));
    }
 
+   @Test
+   public void testDoesAbortParallelTraversal() throws Throwable {
+      doAnswer(invocation -> {
+         IVisitorContext ctx = invocation.getArgument(0);
+         ctx.stop();
+         return null;
+      }).when(visitor).visitSystemDescriptor(any(), eq(descriptor));
+
+      Traversals.traverseParallel(descriptor, visitor);
+
+      verify(visitor, never()).visitPackage(any(), eq(packaze));
+   }
+
+   @Test
+   public void testDoesTraverseInParallelWithSameResultsAsSerialTraversal() throws Throwable {
+      Collection<IPackage> packages = new ArrayList<>();
+      packages.add(packaze);
+      for (int i = 0; i < 7; i++) {
+         IPackage p = mock(IPackage.class);
+         when(p.getData()).thenReturn(asCollection(data));
+         when(p.getModels()).thenReturn(asCollection(model1, model2));
+         when(p.getEnumerations()).thenReturn(asCollection(enumeration));
+         packages.add(p);
+      }
+      when(descriptor.getPackages()).thenReturn(new MockedCollection<>(packages));
+
+      RecordingVisitor serial = new RecordingVisitor();
+      Traversals.traverse(descriptor, serial);
+
+      RecordingVisitor parallel = new RecordingVisitor();
+      ForkJoinPool pool = new ForkJoinPool(4);
+      try {
+         Traversals.traverseParallel(descriptor, parallel, pool);
+      } finally {
+         pool.shutdown();
+      }
+
+      assertEquals("not all packages were visited!", packages.size(), parallel.visitsByPackage.size());
+      assertEquals("parallel traversal did not visit the same elements in the same order within each package!",
+                   serial.visitsByPackage,
+                   parallel.visitsByPackage);
+   }
+
+   @Test
+   public void testDoesStreamElements() throws Throwable {
+      List<INamedChild<IPackage>> elements = Traversals.stream(descriptor).collect(Collectors.toList());
+      assertEquals(Arrays.asList(data, model1, model2, enumeration), elements);
+
+      assertEquals("stream should be sized!",
+                   4,
+                   Traversals.stream(descriptor).spliterator().getExactSizeIfKnown());
+      assertEquals("parallel stream did not contain the same elements!",
+                   elements,
+                   Traversals.stream(descriptor).parallel().collect(Collectors.toList()));
+   }
+
    @Test
    public void testDoesCollectModels() throws Throwable {
       Collection<IModel> models = Traversals.collectModels(descriptor, m -> m.equals(model1));
@@ -191,10 +253,84 @@ public class TraversalsTest {
          extends ArrayList<T>
          implements INamedChildCollection<P, T> {
 
+      private MockedCollection() {
+      }
+
+      private MockedCollection(Collection<T> children) {
+         super(children);
+      }
+
       @Override
       public Optional<T> getByName(String name) {
          // This is not needed for this test.
          throw new UnsupportedOperationException("not implemented");
       }
    }
+
+   /**
+    * Records the objects visited within each package.  Since the contents of a package are visited by a single
+    * thread, the visits of the current package are tracked with a thread local.
+    */
+   private static class RecordingVisitor implements IVisitor {
+
+      private final Map<IPackage, List<Object>> visitsByPackage = new ConcurrentHashMap<>();
+      private final ThreadLocal<List<Object>> currentPackage = new ThreadLocal<>();
+
+      @Override
+      public void visitPackage(IVisitorContext ctx, IPackage p) {
+         List<Object> visits = new ArrayList<>();
+         visitsByPackage.put(p, visits);
+         currentPackage.set(visits);
+      }
+
+      @Override
+      public void visitData(IVisitorContext ctx, IData data) {
+         currentPackage.get().add(data);
+      }
+
+      @Override
+      public void visitDataField(IVisitorContext ctx, IDataField field) {
+         currentPackage.get().add(field);
+      }
+
+      @Override
+      public void visitModel(IVisitorContext ctx, IModel model) {
+         currentPackage.get().add(model);
+      }
+
+      @Override
+      public void visitDataReferenceFieldAsInput(IVisitorContext ctx, IDataReferenceField field) {
+         currentPackage.get().add(field);
+      }
+
+      @Override
+      public void visitDataReferenceFieldAsOutput(IVisitorContext ctx, IDataReferenceField field) {
+         currentPackage.get().add(field);
+      }
+
+      @Override
+      public void visitModelReferenceFieldAsRequirement(IVisitorContext ctx, IModelReferenceField field) {
+         currentPackage.get().add(field);
+      }
+
+      @Override
+      public void visitModelReferenceFieldAsPart(IVisitorContext ctx, IModelReferenceField field) {
+         currentPackage.get().add(field);
+      }
+
+      @Override
+      public void visitScenario(IVisitorContext ctx, IScenario scenario) {
+         currentPackage.get().add(scenario);
+      }
+
+      @Override
+      public void visitLink(IVisitorContext ctx, IModelLink<?> link) {
+         currentPackage.get().add(link);
+      }
+
+      @Override
+      public void visitEnumeration(IVisitorContext ctx, IEnumeration enumeration) {
+         currentPackage.get().add(enumeration);
+      }
+   }
 }
@@ -0,0 +1,149 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.systemdescriptor.model.impl.basic.immutable;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Iterators;
+
+import com.ngc.seaside.systemdescriptor.model.api.INamedChild;
+import com.ngc.seaside.systemdescriptor.model.api.INamedChildCollection;
+
+import java.util.AbstractCollection;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * An immutable {@code INamedChildCollection} that stores its children in an array.  Small collections are searched
+ * linearly by name; larger collections also keep a name index.  Instances use identity equality.
+ *
+ * @param <P> Parent class of the child
+ * @param <T> INamedChild class type
+ */
+class ArrayNamedChildCollection<P, T extends INamedChild<P>> extends AbstractCollection<T>
+      implements INamedChildCollection<P, T> {
+
+   /**
+    * The number of children above which a name index is maintained.
+    */
+   private static final int INDEX_THRESHOLD = 8;
+
+   private static final Object[] EMPTY = new Object[0];
+
+   private final Object[] children;
+   private final Map<String, T> index;
+
+   ArrayNamedChildCollection(Collection<? extends T> children) {
+      this.children = children.isEmpty() ? EMPTY : children.toArray();
+      if (this.children.length > INDEX_THRESHOLD) {
+         index = new HashMap<>(this.children.length * 2);
+         for (T child : children) {
+            index.put(child.getName(), child);
+         }
+      } else {
+         index = null;
+      }
+   }
+
+   @SuppressWarnings("unchecked")
+   @Override
+   public Optional<T> getByName(String name) {
+      Preconditions.checkNotNull(name, "name may not be null!");
+      Preconditions.checkArgument(!name.trim().isEmpty(), "name may not be empty!");
+      if (index != null) {
+         return Optional.ofNullable(index.get(name));
+      }
+      for (Object child : children) {
+         if (name.equals(((T) child).getName())) {
+            return Optional.of((T) child);
+         }
+      }
+      return Optional.empty();
+   }
+
+   @SuppressWarnings("unchecked")
+   @Override
+   public Iterator<T> iterator() {
+      return (Iterator<T>) (Iterator<?>) Iterators.forArray(children);
+   }
+
+   @Override
+   public int size() {
+      return children.length;
+   }
+
+   @Override
+   public boolean isEmpty() {
+      return children.length == 0;
+   }
+
+   @Override
+   public boolean contains(Object o) {
+      if (o instanceof INamedChild && index != null) {
+         return index.get(((INamedChild<?>) o).getName()) == o;
+      }
+      for (Object child : children) {
+         if (child == o) {
+            return true;
+         }
+      }
+      return false;
+   }
+
+   @Override
+   public Object[] toArray() {
+      return children.clone();
+   }
+
+   @Override
+   public boolean add(T t) {
+      throw new UnsupportedOperationException("object is not modifiable!");
+   }
+
+   @Override
+   public boolean remove(Object o) {
+      throw new UnsupportedOperationException("object is not modifiable!");
+   }
+
+   @Override
+   public boolean addAll(Collection<? extends T> c) {
+      throw new UnsupportedOperationException("object is not modifiable!");
+   }
+
+   @Override
+   public boolean removeAll(Collection<?> c) {
+      throw new UnsupportedOperationException("object is not modifiable!");
+   }
+
+   @Override
+   public boolean retainAll(Collection<?> c) {
+      throw new UnsupportedOperationException("object is not modifiable!");
+   }
+
+   @Override
+   public void clear() {
+      throw new UnsupportedOperationException("object is not modifiable!");
+   }
+}
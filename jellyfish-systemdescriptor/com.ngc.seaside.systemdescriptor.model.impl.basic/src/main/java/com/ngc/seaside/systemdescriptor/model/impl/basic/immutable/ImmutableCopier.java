@@ -0,0 +1,517 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.systemdescriptor.model.impl.basic.immutable;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
+import com.ngc.seaside.systemdescriptor.model.api.FieldCardinality;
+import com.ngc.seaside.systemdescriptor.model.api.INamedChildCollection;
+import com.ngc.seaside.systemdescriptor.model.api.IPackage;
+import com.ngc.seaside.systemdescriptor.model.api.ISystemDescriptor;
+import com.ngc.seaside.systemdescriptor.model.api.data.DataTypes;
+import com.ngc.seaside.systemdescriptor.model.api.data.IData;
+import com.ngc.seaside.systemdescriptor.model.api.data.IDataField;
+import com.ngc.seaside.systemdescriptor.model.api.data.IEnumeration;
+import com.ngc.seaside.systemdescriptor.model.api.metadata.IMetadata;
+import com.ngc.seaside.systemdescriptor.model.api.model.IDataReferenceField;
+import com.ngc.seaside.systemdescriptor.model.api.model.IModel;
+import com.ngc.seaside.systemdescriptor.model.api.model.IModelReferenceField;
+import com.ngc.seaside.systemdescriptor.model.api.model.IReferenceField;
+import com.ngc.seaside.systemdescriptor.model.api.model.link.IModelLink;
+import com.ngc.seaside.systemdescriptor.model.api.model.properties.IProperties;
+import com.ngc.seaside.systemdescriptor.model.api.model.properties.IProperty;
+import com.ngc.seaside.systemdescriptor.model.api.model.properties.IPropertyDataValue;
+import com.ngc.seaside.systemdescriptor.model.api.model.properties.IPropertyEnumerationValue;
+import com.ngc.seaside.systemdescriptor.model.api.model.properties.IPropertyPrimitiveValue;
+import com.ngc.seaside.systemdescriptor.model.api.model.properties.IPropertyValue;
+import com.ngc.seaside.systemdescriptor.model.api.model.properties.IPropertyValues;
+import com.ngc.seaside.systemdescriptor.model.api.model.scenario.IScenario;
+import com.ngc.seaside.systemdescriptor.model.api.model.scenario.IScenarioStep;
+import com.ngc.seaside.systemdescriptor.model.impl.basic.metadata.Metadata;
+import com.ngc.seaside.systemdescriptor.model.impl.basic.model.properties.PropertyEnumerationValue;
+import com.ngc.seaside.systemdescriptor.model.impl.basic.model.properties.PropertyPrimitiveValue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Creates an {@link ImmutableSystemDescriptor} from another descriptor.  Each element of the original descriptor is
+ * visited once.  Packages, data, enumerations, and models are copied first so that references between elements can
+ * then be resolved by fully qualified name.  An instance of this class is only used to create a single copy.
+ */
+class ImmutableCopier {
+
+   private final Interner<String> strings = Interners.newStrongInterner();
+
+   private final Map<String, ImmutableData> data = new HashMap<>();
+   private final Map<String, ImmutableEnumeration> enumerations = new HashMap<>();
+   private final Map<String, ImmutableModel> models = new HashMap<>();
+
+   /**
+    * The original data and models keyed by fully qualified name.  References are resolved after all elements have
+    * been created.
+    */
+   private final Map<String, IData> sourceData = new LinkedHashMap<>();
+   private final Map<String, IModel> sourceModels = new LinkedHashMap<>();
+
+   /**
+    * The fully qualified names of the models whose links have been copied.  Links of refined models must be copied
+    * before the links that refine them.
+    */
+   private final Set<String> linkedModels = new HashSet<>();
+
+   ImmutableSystemDescriptor copy(ISystemDescriptor descriptor) {
+      List<ImmutablePackage> packages = new ArrayList<>(descriptor.getPackages().size());
+      for (IPackage pkg : descriptor.getPackages()) {
+         packages.add(copyPackage(pkg));
+      }
+      sourceData.forEach((name, source) -> resolveData(data.get(name), source));
+      sourceModels.forEach((name, source) -> resolveModel(models.get(name), source));
+      sourceModels.forEach((name, source) -> copyLinks(models.get(name), source));
+      // The root must be created last so every element of the copy is published with it.
+      return new ImmutableSystemDescriptor(packages);
+   }
+
+   private ImmutablePackage copyPackage(IPackage source) {
+      ImmutablePackage pkg = new ImmutablePackage(intern(source.getName()));
+
+      List<IData> dataCopies = new ArrayList<>(source.getData().size());
+      for (IData d : source.getData()) {
+         dataCopies.add(copyData(pkg, d));
+      }
+      List<IEnumeration> enumerationCopies = new ArrayList<>(source.getEnumerations().size());
+      for (IEnumeration e : source.getEnumerations()) {
+         enumerationCopies.add(copyEnumeration(pkg, e));
+      }
+      List<IModel> modelCopies = new ArrayList<>(source.getModels().size());
+      for (IModel m : source.getModels()) {
+         modelCopies.add(copyModel(pkg, m));
+      }
+
+      pkg.data = new ArrayNamedChildCollection<>(dataCopies);
+      pkg.enumerations = new ArrayNamedChildCollection<>(enumerationCopies);
+      pkg.models = new ArrayNamedChildCollection<>(modelCopies);
+      return pkg;
+   }
+
+   private ImmutableData copyData(ImmutablePackage parent, IData source) {
+      String fullyQualifiedName = intern(source.getFullyQualifiedName());
+      ImmutableData copy = new ImmutableData(parent,
+                                             intern(source.getName()),
+                                             fullyQualifiedName,
+                                             copyMetadata(source.getMetadata()));
+      List<IDataField> fields = new ArrayList<>(source.getFields().size());
+      for (IDataField field : source.getFields()) {
+         fields.add(new ImmutableDataField(copy,
+                                           intern(field.getName()),
+                                           copyMetadata(field.getMetadata()),
+                                           field.getType(),
+                                           field.getCardinality()));
+      }
+      copy.fields = new ArrayNamedChildCollection<>(fields);
+
+      data.put(fullyQualifiedName, copy);
+      sourceData.put(fullyQualifiedName, source);
+      return copy;
+   }
+
+   private ImmutableEnumeration copyEnumeration(ImmutablePackage parent, IEnumeration source) {
+      String fullyQualifiedName = intern(source.getFullyQualifiedName());
+      ImmutableList.Builder<String> values = ImmutableList.builder();
+      for (String value : source.getValues()) {
+         values.add(intern(value));
+      }
+      ImmutableEnumeration copy = new ImmutableEnumeration(parent,
+                                                           intern(source.getName()),
+                                                           fullyQualifiedName,
+                                                           copyMetadata(source.getMetadata()),
+                                                           values.build());
+      enumerations.put(fullyQualifiedName, copy);
+      return copy;
+   }
+
+   private ImmutableModel copyModel(ImmutablePackage parent, IModel source) {
+      String fullyQualifiedName = intern(source.getFullyQualifiedName());
+      ImmutableModel copy = new ImmutableModel(parent,
+                                               intern(source.getName()),
+                                               fullyQualifiedName,
+                                               copyMetadata(source.getMetadata()));
+      copy.inputs = new ArrayNamedChildCollection<>(copyDataReferenceFields(copy, source.getInputs()));
+      copy.outputs = new ArrayNamedChildCollection<>(copyDataReferenceFields(copy, source.getOutputs()));
+      copy.requiredModels = new ArrayNamedChildCollection<>(copyModelReferenceFields(copy,
+                                                                                     source.getRequiredModels()));
+      copy.parts = new ArrayNamedChildCollection<>(copyModelReferenceFields(copy, source.getParts()));
+
+      List<IScenario> scenarios = new ArrayList<>(source.getScenarios().size());
+      for (IScenario scenario : source.getScenarios()) {
+         scenarios.add(copyScenario(copy, scenario));
+      }
+      copy.scenarios = new ArrayNamedChildCollection<>(scenarios);
+
+      models.put(fullyQualifiedName, copy);
+      sourceModels.put(fullyQualifiedName, source);
+      return copy;
+   }
+
+   private List<IDataReferenceField> copyDataReferenceFields(ImmutableModel parent,
+                                                             Collection<IDataReferenceField> source) {
+      List<IDataReferenceField> fields = new ArrayList<>(source.size());
+      for (IDataReferenceField field : source) {
+         fields.add(new ImmutableDataReferenceField(parent,
+                                                    intern(field.getName()),
+                                                    copyMetadata(field.getMetadata()),
+                                                    field.getCardinality()));
+      }
+      return fields;
+   }
+
+   private List<IModelReferenceField> copyModelReferenceFields(ImmutableModel parent,
+                                                               Collection<IModelReferenceField> source) {
+      List<IModelReferenceField> fields = new ArrayList<>(source.size());
+      for (IModelReferenceField field : source) {
+         fields.add(new ImmutableModelReferenceField(parent,
+                                                     intern(field.getName()),
+                                                     copyMetadata(field.getMetadata())));
+      }
+      return fields;
+   }
+
+   private ImmutableScenario copyScenario(ImmutableModel parent, IScenario source) {
+      ImmutableScenario copy = new ImmutableScenario(parent,
+                                                     intern(source.getName()),
+                                                     copyMetadata(source.getMetadata()));
+      copy.givens = copySteps(copy, source.getGivens());
+      copy.whens = copySteps(copy, source.getWhens());
+      copy.thens = copySteps(copy, source.getThens());
+      return copy;
+   }
+
+   private ImmutableList<IScenarioStep> copySteps(ImmutableScenario parent, Collection<IScenarioStep> source) {
+      ImmutableList.Builder<IScenarioStep> steps = ImmutableList.builder();
+      for (IScenarioStep step : source) {
+         ImmutableList.Builder<String> parameters = ImmutableList.builder();
+         for (String parameter : step.getParameters()) {
+            parameters.add(intern(parameter));
+         }
+         steps.add(new ImmutableScenarioStep(parent, intern(step.getKeyword()), parameters.build()));
+      }
+      return steps.build();
+   }
+
+   private void resolveData(ImmutableData copy, IData source) {
+      copy.extendedDataType = source.getExtendedDataType().map(this::lookupData).orElse(null);
+      for (IDataField field : source.getFields()) {
+         ImmutableDataField fieldCopy = (ImmutableDataField) copy.fields.getByName(field.getName()).get();
+         if (field.getType() == DataTypes.DATA) {
+            fieldCopy.referencedDataType = lookupData(field.getReferencedDataType());
+         } else if (field.getType() == DataTypes.ENUM) {
+            fieldCopy.referencedEnumeration = lookupEnumeration(field.getReferencedEnumeration());
+         }
+      }
+   }
+
+   private void resolveModel(ImmutableModel copy, IModel source) {
+      copy.refinedModel = source.getRefinedModel().map(this::lookupModel).orElse(null);
+      copy.properties = copyProperties(source.getProperties());
+      resolveDataReferenceFields(copy.inputs, source.getInputs());
+      resolveDataReferenceFields(copy.outputs, source.getOutputs());
+      resolveModelReferenceFields(copy.requiredModels, source.getRequiredModels());
+      resolveModelReferenceFields(copy.parts, source.getParts());
+   }
+
+   private void resolveDataReferenceFields(INamedChildCollection<IModel, IDataReferenceField> copies,
+                                           Collection<IDataReferenceField> source) {
+      for (IDataReferenceField field : source) {
+         ImmutableDataReferenceField copy = (ImmutableDataReferenceField) copies.getByName(field.getName()).get();
+         copy.type = lookupData(field.getType());
+      }
+   }
+
+   private void resolveModelReferenceFields(INamedChildCollection<IModel, IModelReferenceField> copies,
+                                            Collection<IModelReferenceField> source) {
+      for (IModelReferenceField field : source) {
+         ImmutableModelReferenceField copy = (ImmutableModelReferenceField) copies.getByName(field.getName()).get();
+         copy.type = lookupModel(field.getType());
+         copy.refinedField = field.getRefinedField().map(f -> (IModelReferenceField) lookupField(f)).orElse(null);
+         copy.properties = copyProperties(field.getProperties());
+      }
+   }
+
+   private void copyLinks(ImmutableModel copy, IModel source) {
+      if (!linkedModels.add(copy.getFullyQualifiedName())) {
+         return;
+      }
+      ImmutableList.Builder<IModelLink<?>> links = ImmutableList.builder();
+      for (IModelLink<?> link : source.getLinks()) {
+         links.add(copyLink(copy, link));
+      }
+      copy.links = links.build();
+   }
+
+   private <T extends IReferenceField> IModelLink<T> copyLink(ImmutableModel parent, IModelLink<T> source) {
+      IModelLink<T> refinedLink = source.getRefinedLink().map(this::lookupLink).orElse(null);
+      ImmutableList<IModelReferenceField> sourceExpression = null;
+      ImmutableList<IModelReferenceField> targetExpression = null;
+      if (refinedLink == null) {
+         sourceExpression = copyExpression(source::traverseLinkSourceExpression);
+         targetExpression = copyExpression(source::traverseLinkTargetExpression);
+      }
+      return new ImmutableModelLink<>(parent,
+                                      source.getName().map(this::intern).orElse(null),
+                                      copyMetadata(source.getMetadata()),
+                                      copyProperties(source.getProperties()),
+                                      lookupLinkedField(source.getSource()),
+                                      lookupLinkedField(source.getTarget()),
+                                      refinedLink,
+                                      sourceExpression,
+                                      targetExpression);
+   }
+
+   private ImmutableList<IModelReferenceField> copyExpression(Consumer<Consumer<IModelReferenceField>> traversal) {
+      ImmutableList.Builder<IModelReferenceField> expression = ImmutableList.builder();
+      try {
+         traversal.accept(field -> expression.add((IModelReferenceField) lookupField(field)));
+      } catch (UnsupportedOperationException e) {
+         // Some implementations, like the basic model, do not support traversing expressions.
+         return null;
+      }
+      return expression.build();
+   }
+
+   private IProperties copyProperties(IProperties source) {
+      if (source == null || source.isEmpty()) {
+         return IProperties.EMPTY_PROPERTIES;
+      }
+      List<ImmutableProperty> properties = new ArrayList<>(source.size());
+      for (IProperty property : source) {
+         properties.add(copyProperty(property));
+      }
+      return new ImmutableProperties(properties);
+   }
+
+   private ImmutableProperty copyProperty(IProperty source) {
+      DataTypes type = source.getType();
+      IData referencedDataType = type == DataTypes.DATA ? lookupData(source.getReferencedDataType()) : null;
+      IEnumeration referencedEnumeration =
+            type == DataTypes.ENUM ? lookupEnumeration(source.getReferencedEnumeration()) : null;
+      IPropertyValue value = null;
+      IPropertyValues<? extends IPropertyValue> values = null;
+      if (source.getCardinality() == FieldCardinality.SINGLE) {
+         value = copyValue(source.getValue());
+      } else {
+         values = copyValues(source::getValues);
+      }
+      return new ImmutableProperty(intern(source.getName()),
+                                   type,
+                                   source.getCardinality(),
+                                   referencedDataType,
+                                   referencedEnumeration,
+                                   value,
+                                   values);
+   }
+
+   private IPropertyValues<? extends IPropertyValue> copyValues(
+         Supplier<IPropertyValues<? extends IPropertyValue>> supplier) {
+      IPropertyValues<? extends IPropertyValue> source;
+      try {
+         source = supplier.get();
+      } catch (UnsupportedOperationException e) {
+         // Values with a cardinality of many are not supported by all implementations.
+         return null;
+      }
+      if (!source.isSet()) {
+         return IPropertyValues.emptyPropertyValues();
+      }
+      List<IPropertyValue> values = new ArrayList<>(source.size());
+      for (IPropertyValue value : source) {
+         values.add(copyValue(value));
+      }
+      return new ImmutablePropertyValues<>(values);
+   }
+
+   private IPropertyValue copyValue(IPropertyValue source) {
+      switch (source.getType()) {
+         case DATA:
+            return copyDataValue((IPropertyDataValue) source);
+         case ENUM:
+            IPropertyEnumerationValue enumValue = (IPropertyEnumerationValue) source;
+            IEnumeration enumeration = lookupEnumeration(enumValue.getReferencedEnumeration());
+            return enumValue.isSet()
+                   ? new PropertyEnumerationValue(enumeration, intern(enumValue.getValue()))
+                   : new PropertyEnumerationValue(enumeration);
+         default:
+            return copyPrimitiveValue((IPropertyPrimitiveValue) source);
+      }
+   }
+
+   private IPropertyValue copyDataValue(IPropertyDataValue source) {
+      ImmutableData copy = lookupData(source.getReferencedDataType());
+      if (!source.isSet()) {
+         return new ImmutablePropertyDataValue(copy, false, Collections.emptyMap());
+      }
+      Map<String, Object> fieldValues = new HashMap<>();
+      IData data = source.getReferencedDataType();
+      boolean inherited = false;
+      while (data != null) {
+         for (IDataField field : data.getFields()) {
+            String name = intern(field.getName());
+            if (!fieldValues.containsKey(name)) {
+               try {
+                  Object value = copyFieldValue(source, field);
+                  if (value != null) {
+                     fieldValues.put(name, value);
+                  }
+               } catch (IllegalStateException e) {
+                  // Values of fields declared by extended data are not required to be available.
+                  if (!inherited) {
+                     throw e;
+                  }
+               }
+            }
+         }
+         data = data.getExtendedDataType().orElse(null);
+         inherited = true;
+      }
+      return new ImmutablePropertyDataValue(copy, true, fieldValues);
+   }
+
+   private Object copyFieldValue(IPropertyDataValue source, IDataField field) {
+      if (field.getCardinality() == FieldCardinality.SINGLE) {
+         return copyValue(source.getValue(field));
+      }
+      return copyValues(() -> source.getValues(field));
+   }
+
+   private IPropertyValue copyPrimitiveValue(IPropertyPrimitiveValue source) {
+      if (!source.isSet()) {
+         return new PropertyPrimitiveValue(source.getType());
+      }
+      switch (source.getType()) {
+         case INT:
+            return new PropertyPrimitiveValue(source.getInteger());
+         case FLOAT:
+            return new PropertyPrimitiveValue(source.getDecimal());
+         case BOOLEAN:
+            return new PropertyPrimitiveValue(source.getBoolean());
+         default:
+            return new PropertyPrimitiveValue(intern(source.getString()));
+      }
+   }
+
+   private IMetadata copyMetadata(IMetadata metadata) {
+      if (metadata == null || metadata == IMetadata.EMPTY_METADATA) {
+         return metadata;
+      }
+      return Metadata.immutable(metadata);
+   }
+
+   private ImmutableData lookupData(IData source) {
+      ImmutableData copy = data.get(source.getFullyQualifiedName());
+      if (copy == null) {
+         throw new IllegalStateException("data " + source.getFullyQualifiedName()
+                                         + " is not part of the descriptor being copied!");
+      }
+      return copy;
+   }
+
+   private ImmutableEnumeration lookupEnumeration(IEnumeration source) {
+      ImmutableEnumeration copy = enumerations.get(source.getFullyQualifiedName());
+      if (copy == null) {
+         throw new IllegalStateException("enumeration " + source.getFullyQualifiedName()
+                                         + " is not part of the descriptor being copied!");
+      }
+      return copy;
+   }
+
+   private ImmutableModel lookupModel(IModel source) {
+      ImmutableModel copy = models.get(source.getFullyQualifiedName());
+      if (copy == null) {
+         throw new IllegalStateException("model " + source.getFullyQualifiedName()
+                                         + " is not part of the descriptor being copied!");
+      }
+      return copy;
+   }
+
+   private IReferenceField lookupField(IReferenceField source) {
+      ImmutableModel owner = lookupModel(source.getParent());
+      String name = source.getName();
+      Optional<? extends IReferenceField> copy;
+      if (source instanceof IDataReferenceField) {
+         copy = owner.getInputs().getByName(name);
+         if (!copy.isPresent()) {
+            copy = owner.getOutputs().getByName(name);
+         }
+      } else {
+         copy = owner.getParts().getByName(name);
+         if (!copy.isPresent()) {
+            copy = owner.getRequiredModels().getByName(name);
+         }
+      }
+      return copy.orElseThrow(() -> new IllegalStateException(
+            "field " + name + " of model " + owner.getFullyQualifiedName() + " was not copied!"));
+   }
+
+   @SuppressWarnings("unchecked")
+   private <T extends IReferenceField> T lookupLinkedField(T source) {
+      return source == null ? null : (T) lookupField(source);
+   }
+
+   @SuppressWarnings("unchecked")
+   private <T extends IReferenceField> IModelLink<T> lookupLink(IModelLink<T> source) {
+      IModel owner = source.getParent();
+      ImmutableModel ownerCopy = lookupModel(owner);
+      // The links of a refined model are always copied before the links of the models that refine it.
+      copyLinks(ownerCopy, owner);
+
+      String name = source.getName().orElse(null);
+      if (name != null) {
+         return (IModelLink<T>) ownerCopy.getLinkByName(name).orElseThrow(() -> new IllegalStateException(
+               "link " + name + " of model " + owner.getFullyQualifiedName() + " was not copied!"));
+      }
+      int index = 0;
+      for (IModelLink<?> link : owner.getLinks()) {
+         if (link.equals(source)) {
+            return (IModelLink<T>) ownerCopy.links.get(index);
+         }
+         index++;
+      }
+      throw new IllegalStateException("link " + source + " of model " + owner.getFullyQualifiedName()
+                                      + " was not copied!");
+   }
+
+   private String intern(String value) {
+      return value == null ? null : strings.intern(value);
+   }
+}
@@ -0,0 +1,121 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.systemdescriptor.model.impl.basic.immutable;
+
+import com.ngc.seaside.systemdescriptor.model.api.FieldCardinality;
+import com.ngc.seaside.systemdescriptor.model.api.data.DataTypes;
+import com.ngc.seaside.systemdescriptor.model.api.data.IData;
+import com.ngc.seaside.systemdescriptor.model.api.data.IDataField;
+import com.ngc.seaside.systemdescriptor.model.api.data.IEnumeration;
+import com.ngc.seaside.systemdescriptor.model.api.metadata.IMetadata;
+
+/**
+ * An immutable {@code IDataField} that is part of an {@link ImmutableSystemDescriptor}.
+ */
+class ImmutableDataField implements IDataField {
+
+   private final IData parent;
+   private final String name;
+   private final IMetadata metadata;
+   private final DataTypes type;
+   private final FieldCardinality cardinality;
+   IData referencedDataType;
+   IEnumeration referencedEnumeration;
+
+   ImmutableDataField(IData parent, String name, IMetadata metadata, DataTypes type, FieldCardinality cardinality) {
+      this.parent = parent;
+      this.name = name;
+      this.metadata = metadata;
+      this.type = type;
+      this.cardinality = cardinality;
+   }
+
+   @Override
+   public String getName() {
+      return name;
+   }
+
+   @Override
+   public IData getParent() {
+      return parent;
+   }
+
+   @Override
+   public IMetadata getMetadata() {
+      return metadata;
+   }
+
+   @Override
+   public IDataField setMetadata(IMetadata metadata) {
+      throw new UnsupportedOperationException("object is not modifiable!");
+   }
+
+   @Override
+   public FieldCardinality getCardinality() {
+      return cardinality;
+   }
+
+   @Override
+   public IDataField setCardinality(FieldCardinality cardinality) {
+      throw new UnsupportedOperationException("object is not modifiable!");
+   }
+
+   @Override
+   public DataTypes getType() {
+      return type;
+   }
+
+   @Override
+   public IDataField setType(DataTypes type) {
+      throw new UnsupportedOperationException("object is not modifiable!");
+   }
+
+   @Override
+   public IData getReferencedDataType() {
+      return referencedDataType;
+   }
+
+   @Override
+   public IDataField setReferencedDataType(IData dataType) {
+      throw new UnsupportedOperationException("object is not modifiable!");
+   }
+
+   @Override
+   public IEnumeration getReferencedEnumeration() {
+      return referencedEnumeration;
+   }
+
+   @Override
+   public IDataField setReferencedEnumeration(IEnumeration enumeration) {
+      throw new UnsupportedOperationException("object is not modifiable!");
+   }
+
+   @Override
+   public String toString() {
+      return "ImmutableDataField["
+             + "name='" + name + '\''
+             + ", type=" + type
+             + ", cardinality=" + cardinality
+             + ']';
+   }
+}
@@ -0,0 +1,99 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.systemdescriptor.model.impl.basic.immutable;
+
+import com.ngc.seaside.systemdescriptor.model.api.FieldCardinality;
+import com.ngc.seaside.systemdescriptor.model.api.data.IData;
+import com.ngc.seaside.systemdescriptor.model.api.metadata.IMetadata;
+import com.ngc.seaside.systemdescriptor.model.api.model.IDataReferenceField;
+import com.ngc.seaside.systemdescriptor.model.api.model.IModel;
+import com.ngc.seaside.systemdescriptor.model.api.model.IReferenceField;
+
+/**
+ * An immutable {@code IDataReferenceField} that is part of an {@link ImmutableSystemDescriptor}.
+ */
+class ImmutableDataReferenceField implements IDataReferenceField {
+
+   private final IModel parent;
+   private final String name;
+   private final IMetadata metadata;
+   private final FieldCardinality cardinality;
+   IData type;
+
+   ImmutableDataReferenceField(IModel parent, String name, IMetadata metadata, FieldCardinality cardinality) {
+      this.parent = parent;
+      this.name = name;
+      this.metadata = metadata;
+      this.cardinality = cardinality;
+   }
+
+   @Override
+   public String getName() {
+      return name;
+   }
+
+   @Override
+   public IModel getParent() {
+      return parent;
+   }
+
+   @Override
+   public IMetadata getMetadata() {
+      return metadata;
+   }
+
+   @Override
+   public IReferenceField setMetadata(IMetadata metadata) {
+      throw new UnsupportedOperationException("object is not modifiable!");
+   }
+
+   @Override
+   public IData getType() {
+      return type;
+   }
+
+   @Override
+   public IDataReferenceField setType(IData type) {
+      throw new UnsupportedOperationException("object is not modifiable!");
+   }
+
+   @Override
+   public FieldCardinality getCardinality() {
+      return cardinality;
+   }
+
+   @Override
+   public IDataReferenceField setCardinality(FieldCardinality cardinality) {
+      throw new UnsupportedOperationException("object is not modifiable!");
+   }
+
+   @Override
+   public String toString() {
+      return "ImmutableDataReferenceField["
+             + "name='" + name + '\''
+             + ", type=" + (type == null ? "null" : type.getFullyQualifiedName())
+             + ", cardinality=" + cardinality
+             + ", parent=" + parent.getFullyQualifiedName()
+             + ']';
+   }
+}
@@ -0,0 +1,93 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.systemdescriptor.model.impl.basic.immutable;
+
+import com.google.common.collect.ImmutableList;
+
+import com.ngc.seaside.systemdescriptor.model.api.IPackage;
+import com.ngc.seaside.systemdescriptor.model.api.data.IEnumeration;
+import com.ngc.seaside.systemdescriptor.model.api.metadata.IMetadata;
+
+import java.util.Collection;
+
+/**
+ * An immutable {@code IEnumeration} that is part of an {@link ImmutableSystemDescriptor}.
+ */
+class ImmutableEnumeration implements IEnumeration {
+
+   private final IPackage parent;
+   private final String name;
+   private final String fullyQualifiedName;
+   private final IMetadata metadata;
+   private final ImmutableList<String> values;
+
+   ImmutableEnumeration(IPackage parent,
+                        String name,
+                        String fullyQualifiedName,
+                        IMetadata metadata,
+                        ImmutableList<String> values) {
+      this.parent = parent;
+      this.name = name;
+      this.fullyQualifiedName = fullyQualifiedName;
+      this.metadata = metadata;
+      this.values = values;
+   }
+
+   @Override
+   public String getName() {
+      return name;
+   }
+
+   @Override
+   public IPackage getParent() {
+      return parent;
+   }
+
+   @Override
+   public IMetadata getMetadata() {
+      return metadata;
+   }
+
+   @Override
+   public IEnumeration setMetadata(IMetadata metadata) {
+      throw new UnsupportedOperationException("object is not modifiable!");
+   }
+
+   @Override
+   public Collection<String> getValues() {
+      return values;
+   }
+
+   @Override
+   public String getFullyQualifiedName() {
+      return fullyQualifiedName;
+   }
+
+   @Override
+   public String toString() {
+      return "ImmutableEnumeration["
+             + "fullyQualifiedName='" + fullyQualifiedName + '\''
+             + ", values=" + values
+             + ']';
+   }
+}
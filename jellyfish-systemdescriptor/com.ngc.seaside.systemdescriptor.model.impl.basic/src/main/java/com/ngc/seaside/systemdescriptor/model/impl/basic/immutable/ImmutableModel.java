@@ -0,0 +1,160 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.systemdescriptor.model.impl.basic.immutable;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+
+import com.ngc.seaside.systemdescriptor.model.api.INamedChildCollection;
+import com.ngc.seaside.systemdescriptor.model.api.IPackage;
+import com.ngc.seaside.systemdescriptor.model.api.metadata.IMetadata;
+import com.ngc.seaside.systemdescriptor.model.api.model.IDataReferenceField;
+import com.ngc.seaside.systemdescriptor.model.api.model.IModel;
+import com.ngc.seaside.systemdescriptor.model.api.model.IModelReferenceField;
+import com.ngc.seaside.systemdescriptor.model.api.model.link.IModelLink;
+import com.ngc.seaside.systemdescriptor.model.api.model.properties.IProperties;
+import com.ngc.seaside.systemdescriptor.model.api.model.scenario.IScenario;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * An immutable {@code IModel} that is part of an {@link ImmutableSystemDescriptor}.
+ */
+class ImmutableModel implements IModel {
+
+   private final IPackage parent;
+   private final String name;
+   private final String fullyQualifiedName;
+   private final IMetadata metadata;
+   IModel refinedModel;
+   IProperties properties;
+   INamedChildCollection<IModel, IDataReferenceField> inputs;
+   INamedChildCollection<IModel, IDataReferenceField> outputs;
+   INamedChildCollection<IModel, IModelReferenceField> requiredModels;
+   INamedChildCollection<IModel, IModelReferenceField> parts;
+   INamedChildCollection<IModel, IScenario> scenarios;
+   ImmutableList<IModelLink<?>> links;
+
+   ImmutableModel(IPackage parent, String name, String fullyQualifiedName, IMetadata metadata) {
+      this.parent = parent;
+      this.name = name;
+      this.fullyQualifiedName = fullyQualifiedName;
+      this.metadata = metadata;
+   }
+
+   @Override
+   public String getName() {
+      return name;
+   }
+
+   @Override
+   public IPackage getParent() {
+      return parent;
+   }
+
+   @Override
+   public IMetadata getMetadata() {
+      return metadata;
+   }
+
+   @Override
+   public IModel setMetadata(IMetadata metadata) {
+      throw new UnsupportedOperationException("object is not modifiable!");
+   }
+
+   @Override
+   public IProperties getProperties() {
+      return properties;
+   }
+
+   @Override
+   public IModel setProperties(IProperties properties) {
+      throw new UnsupportedOperationException("object is not modifiable!");
+   }
+
+   @Override
+   public Optional<IModel> getRefinedModel() {
+      return Optional.ofNullable(refinedModel);
+   }
+
+   @Override
+   public IModel setRefinedModel(IModel refinedModel) {
+      throw new UnsupportedOperationException("object is not modifiable!");
+   }
+
+   @Override
+   public INamedChildCollection<IModel, IDataReferenceField> getInputs() {
+      return inputs;
+   }
+
+   @Override
+   public INamedChildCollection<IModel, IDataReferenceField> getOutputs() {
+      return outputs;
+   }
+
+   @Override
+   public INamedChildCollection<IModel, IModelReferenceField> getRequiredModels() {
+      return requiredModels;
+   }
+
+   @Override
+   public INamedChildCollection<IModel, IModelReferenceField> getParts() {
+      return parts;
+   }
+
+   @Override
+   public INamedChildCollection<IModel, IScenario> getScenarios() {
+      return scenarios;
+   }
+
+   @Override
+   public Collection<IModelLink<?>> getLinks() {
+      return links;
+   }
+
+   @Override
+   public Optional<IModelLink<?>> getLinkByName(String name) {
+      Preconditions.checkNotNull(name, "name may not be null!");
+      Preconditions.checkArgument(!name.trim().isEmpty(), "name may not be empty!");
+      for (IModelLink<?> link : links) {
+         if (name.equals(link.getName().orElse(null))) {
+            return Optional.of(link);
+         }
+      }
+      return Optional.empty();
+   }
+
+   @Override
+   public String getFullyQualifiedName() {
+      return fullyQualifiedName;
+   }
+
+   @Override
+   public String toString() {
+      return "ImmutableModel["
+             + "fullyQualifiedName='" + fullyQualifiedName + '\''
+             + ", refinedModel=" + (refinedModel == null ? "null" : refinedModel.getFullyQualifiedName())
+             + ']';
+   }
+}
@@ -0,0 +1,179 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.systemdescriptor.model.impl.basic.immutable;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+
+import com.ngc.seaside.systemdescriptor.model.api.metadata.IMetadata;
+import com.ngc.seaside.systemdescriptor.model.api.model.IModel;
+import com.ngc.seaside.systemdescriptor.model.api.model.IModelReferenceField;
+import com.ngc.seaside.systemdescriptor.model.api.model.IReferenceField;
+import com.ngc.seaside.systemdescriptor.model.api.model.link.IModelLink;
+import com.ngc.seaside.systemdescriptor.model.api.model.properties.IProperties;
+
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * An immutable {@code IModelLink} that is part of an {@link ImmutableSystemDescriptor}.  The source and target
+ * expressions of the link are recorded when the snapshot is created so they can be traversed without the original
+ * model.
+ *
+ * @param <T> the type of field being linked
+ */
+class ImmutableModelLink<T extends IReferenceField> implements IModelLink<T> {
+
+   private final IModel parent;
+   private final String name;
+   private final IMetadata metadata;
+   private final IProperties properties;
+   private final T source;
+   private final T target;
+   private final IModelLink<T> refinedLink;
+
+   /**
+    * The fields of the source expression or {@code null} if the original link did not support traversing expressions.
+    */
+   private final ImmutableList<IModelReferenceField> sourceExpression;
+
+   /**
+    * The fields of the target expression or {@code null} if the original link did not support traversing expressions.
+    */
+   private final ImmutableList<IModelReferenceField> targetExpression;
+
+   ImmutableModelLink(IModel parent,
+                      String name,
+                      IMetadata metadata,
+                      IProperties properties,
+                      T source,
+                      T target,
+                      IModelLink<T> refinedLink,
+                      ImmutableList<IModelReferenceField> sourceExpression,
+                      ImmutableList<IModelReferenceField> targetExpression) {
+      this.parent = parent;
+      this.name = name;
+      this.metadata = metadata;
+      this.properties = properties;
+      this.source = source;
+      this.target = target;
+      this.refinedLink = refinedLink;
+      this.sourceExpression = sourceExpression;
+      this.targetExpression = targetExpression;
+   }
+
+   @Override
+   public IMetadata getMetadata() {
+      return metadata;
+   }
+
+   @Override
+   public IModelLink<T> setMetadata(IMetadata metadata) {
+      throw new UnsupportedOperationException("object is not modifiable!");
+   }
+
+   @Override
+   public IProperties getProperties() {
+      return properties;
+   }
+
+   @Override
+   public IModelLink<T> setProperties(IProperties properties) {
+      throw new UnsupportedOperationException("object is not modifiable!");
+   }
+
+   @Override
+   public T getSource() {
+      return source;
+   }
+
+   @Override
+   public IModelLink<T> setSource(T source) {
+      throw new UnsupportedOperationException("object is not modifiable!");
+   }
+
+   @Override
+   public void traverseLinkSourceExpression(Consumer<IModelReferenceField> linkVisitor) {
+      traverse(sourceExpression, linkVisitor);
+   }
+
+   @Override
+   public T getTarget() {
+      return target;
+   }
+
+   @Override
+   public IModelLink<T> setTarget(T target) {
+      throw new UnsupportedOperationException("object is not modifiable!");
+   }
+
+   @Override
+   public void traverseLinkTargetExpression(Consumer<IModelReferenceField> linkVisitor) {
+      traverse(targetExpression, linkVisitor);
+   }
+
+   @Override
+   public Optional<String> getName() {
+      return Optional.ofNullable(name);
+   }
+
+   @Override
+   public IModelLink<T> setName(String name) {
+      throw new UnsupportedOperationException("object is not modifiable!");
+   }
+
+   @Override
+   public Optional<IModelLink<T>> getRefinedLink() {
+      return Optional.ofNullable(refinedLink);
+   }
+
+   @Override
+   public IModelLink<T> setRefinedLink(IModelLink<T> refinedLink) {
+      throw new UnsupportedOperationException("object is not modifiable!");
+   }
+
+   @Override
+   public IModel getParent() {
+      return parent;
+   }
+
+   @Override
+   public String toString() {
+      return "ImmutableModelLink["
+             + "name='" + name + '\''
+             + ", source=" + source
+             + ", target=" + target
+             + ", parent=" + parent.getFullyQualifiedName()
+             + ']';
+   }
+
+   private void traverse(ImmutableList<IModelReferenceField> expression,
+                         Consumer<IModelReferenceField> linkVisitor) {
+      Preconditions.checkNotNull(linkVisitor, "linkVisitor may not be null!");
+      Preconditions.checkArgument(refinedLink == null, "refined links do not have expressions!");
+      if (expression == null) {
+         throw new UnsupportedOperationException("the copied link did not support traversing expressions!");
+      }
+      expression.forEach(linkVisitor);
+   }
+}
@@ -0,0 +1,105 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.systemdescriptor.model.impl.basic.immutable;
+
+import com.ngc.seaside.systemdescriptor.model.api.metadata.IMetadata;
+import com.ngc.seaside.systemdescriptor.model.api.model.IModel;
+import com.ngc.seaside.systemdescriptor.model.api.model.IModelReferenceField;
+import com.ngc.seaside.systemdescriptor.model.api.model.IReferenceField;
+import com.ngc.seaside.systemdescriptor.model.api.model.properties.IProperties;
+
+import java.util.Optional;
+
+/**
+ * An immutable {@code IModelReferenceField} that is part of an {@link ImmutableSystemDescriptor}.  This type is used
+ * for both base and refined parts and requirements.
+ */
+class ImmutableModelReferenceField implements IModelReferenceField {
+
+   private final IModel parent;
+   private final String name;
+   private final IMetadata metadata;
+   IModel type;
+   IModelReferenceField refinedField;
+   IProperties properties;
+
+   ImmutableModelReferenceField(IModel parent, String name, IMetadata metadata) {
+      this.parent = parent;
+      this.name = name;
+      this.metadata = metadata;
+   }
+
+   @Override
+   public String getName() {
+      return name;
+   }
+
+   @Override
+   public IModel getParent() {
+      return parent;
+   }
+
+   @Override
+   public IMetadata getMetadata() {
+      return metadata;
+   }
+
+   @Override
+   public IReferenceField setMetadata(IMetadata metadata) {
+      throw new UnsupportedOperationException("object is not modifiable!");
+   }
+
+   @Override
+   public IModel getType() {
+      return type;
+   }
+
+   @Override
+   public IModelReferenceField setType(IModel model) {
+      throw new UnsupportedOperationException("object is not modifiable!");
+   }
+
+   @Override
+   public Optional<IModelReferenceField> getRefinedField() {
+      return Optional.ofNullable(refinedField);
+   }
+
+   @Override
+   public IProperties getProperties() {
+      return properties;
+   }
+
+   @Override
+   public IReferenceField setProperties(IProperties properties) {
+      throw new UnsupportedOperationException("object is not modifiable!");
+   }
+
+   @Override
+   public String toString() {
+      return "ImmutableModelReferenceField["
+             + "name='" + name + '\''
+             + ", type=" + (type == null ? "null" : type.getFullyQualifiedName())
+             + ", parent=" + parent.getFullyQualifiedName()
+             + ']';
+   }
+}
@@ -0,0 +1,78 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.systemdescriptor.model.impl.basic.immutable;
+
+import com.ngc.seaside.systemdescriptor.model.api.INamedChildCollection;
+import com.ngc.seaside.systemdescriptor.model.api.IPackage;
+import com.ngc.seaside.systemdescriptor.model.api.ISystemDescriptor;
+import com.ngc.seaside.systemdescriptor.model.api.data.IData;
+import com.ngc.seaside.systemdescriptor.model.api.data.IEnumeration;
+import com.ngc.seaside.systemdescriptor.model.api.model.IModel;
+
+/**
+ * An immutable {@code IPackage} that is part of an {@link ImmutableSystemDescriptor}.
+ */
+class ImmutablePackage implements IPackage {
+
+   private final String name;
+   ISystemDescriptor parent;
+   INamedChildCollection<IPackage, IData> data;
+   INamedChildCollection<IPackage, IModel> models;
+   INamedChildCollection<IPackage, IEnumeration> enumerations;
+
+   ImmutablePackage(String name) {
+      this.name = name;
+   }
+
+   @Override
+   public String getName() {
+      return name;
+   }
+
+   @Override
+   public ISystemDescriptor getParent() {
+      return parent;
+   }
+
+   @Override
+   public INamedChildCollection<IPackage, IData> getData() {
+      return data;
+   }
+
+   @Override
+   public INamedChildCollection<IPackage, IModel> getModels() {
+      return models;
+   }
+
+   @Override
+   public INamedChildCollection<IPackage, IEnumeration> getEnumerations() {
+      return enumerations;
+   }
+
+   @Override
+   public String toString() {
+      return "ImmutablePackage["
+             + "name='" + name + '\''
+             + ']';
+   }
+}
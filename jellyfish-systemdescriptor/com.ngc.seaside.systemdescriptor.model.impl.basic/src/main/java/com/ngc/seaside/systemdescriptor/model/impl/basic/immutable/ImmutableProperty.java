@@ -0,0 +1,182 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.systemdescriptor.model.impl.basic.immutable;
+
+import com.ngc.seaside.systemdescriptor.model.api.FieldCardinality;
+import com.ngc.seaside.systemdescriptor.model.api.data.DataTypes;
+import com.ngc.seaside.systemdescriptor.model.api.data.IData;
+import com.ngc.seaside.systemdescriptor.model.api.data.IEnumeration;
+import com.ngc.seaside.systemdescriptor.model.api.model.properties.IProperties;
+import com.ngc.seaside.systemdescriptor.model.api.model.properties.IProperty;
+import com.ngc.seaside.systemdescriptor.model.api.model.properties.IPropertyDataValue;
+import com.ngc.seaside.systemdescriptor.model.api.model.properties.IPropertyEnumerationValue;
+import com.ngc.seaside.systemdescriptor.model.api.model.properties.IPropertyPrimitiveValue;
+import com.ngc.seaside.systemdescriptor.model.api.model.properties.IPropertyValue;
+import com.ngc.seaside.systemdescriptor.model.api.model.properties.IPropertyValues;
+
+import java.util.Arrays;
+
+/**
+ * An immutable {@code IProperty} that is part of an {@link ImmutableSystemDescriptor}.
+ */
+class ImmutableProperty implements IProperty {
+
+   private static final DataTypes[] PRIMITIVES = {DataTypes.INT, DataTypes.FLOAT, DataTypes.BOOLEAN,
+                                                  DataTypes.STRING};
+
+   private final String name;
+   private final DataTypes type;
+   private final FieldCardinality cardinality;
+   private final IData referencedDataType;
+   private final IEnumeration referencedEnumeration;
+
+   /**
+    * The value of a property with a cardinality of single.
+    */
+   private final IPropertyValue value;
+
+   /**
+    * The values of a property with a cardinality of many or {@code null} if the original property did not support
+    * retrieving its values.
+    */
+   private final IPropertyValues<? extends IPropertyValue> values;
+
+   IProperties parent;
+
+   ImmutableProperty(String name,
+                     DataTypes type,
+                     FieldCardinality cardinality,
+                     IData referencedDataType,
+                     IEnumeration referencedEnumeration,
+                     IPropertyValue value,
+                     IPropertyValues<? extends IPropertyValue> values) {
+      this.name = name;
+      this.type = type;
+      this.cardinality = cardinality;
+      this.referencedDataType = referencedDataType;
+      this.referencedEnumeration = referencedEnumeration;
+      this.value = value;
+      this.values = values;
+   }
+
+   @Override
+   public String getName() {
+      return name;
+   }
+
+   @Override
+   public IProperties getParent() {
+      return parent;
+   }
+
+   @Override
+   public DataTypes getType() {
+      return type;
+   }
+
+   @Override
+   public FieldCardinality getCardinality() {
+      return cardinality;
+   }
+
+   @Override
+   public IData getReferencedDataType() {
+      checkTypeAndCardinality("data", null, DataTypes.DATA);
+      return referencedDataType;
+   }
+
+   @Override
+   public IEnumeration getReferencedEnumeration() {
+      checkTypeAndCardinality("enumeration", null, DataTypes.ENUM);
+      return referencedEnumeration;
+   }
+
+   @Override
+   public IPropertyDataValue getData() {
+      checkTypeAndCardinality("data", FieldCardinality.SINGLE, DataTypes.DATA);
+      return (IPropertyDataValue) value;
+   }
+
+   @Override
+   public IPropertyEnumerationValue getEnumeration() {
+      checkTypeAndCardinality("enumeration", FieldCardinality.SINGLE, DataTypes.ENUM);
+      return (IPropertyEnumerationValue) value;
+   }
+
+   @Override
+   public IPropertyPrimitiveValue getPrimitive() {
+      checkTypeAndCardinality("primitive", FieldCardinality.SINGLE, PRIMITIVES);
+      return (IPropertyPrimitiveValue) value;
+   }
+
+   @SuppressWarnings("unchecked")
+   @Override
+   public IPropertyValues<IPropertyDataValue> getDatas() {
+      checkTypeAndCardinality("data", FieldCardinality.MANY, DataTypes.DATA);
+      return (IPropertyValues<IPropertyDataValue>) checkValuesAvailable();
+   }
+
+   @SuppressWarnings("unchecked")
+   @Override
+   public IPropertyValues<IPropertyEnumerationValue> getEnumerations() {
+      checkTypeAndCardinality("enumeration", FieldCardinality.MANY, DataTypes.ENUM);
+      return (IPropertyValues<IPropertyEnumerationValue>) checkValuesAvailable();
+   }
+
+   @SuppressWarnings("unchecked")
+   @Override
+   public IPropertyValues<IPropertyPrimitiveValue> getPrimitives() {
+      checkTypeAndCardinality("primitive", FieldCardinality.MANY, PRIMITIVES);
+      return (IPropertyValues<IPropertyPrimitiveValue>) checkValuesAvailable();
+   }
+
+   @Override
+   public String toString() {
+      return "ImmutableProperty["
+             + "name=" + name
+             + ", type=" + type
+             + ", cardinality=" + cardinality
+             + ", value=" + (cardinality == FieldCardinality.SINGLE ? value : values)
+             + ']';
+   }
+
+   private IPropertyValues<? extends IPropertyValue> checkValuesAvailable() {
+      if (values == null) {
+         throw new UnsupportedOperationException("cardinality of many not currently supported!");
+      }
+      return values;
+   }
+
+   private void checkTypeAndCardinality(String valueTypes, FieldCardinality cardinality, DataTypes... types) {
+      if (cardinality != null && this.cardinality != cardinality) {
+         throw new IllegalStateException(
+               "cannot get " + valueTypes + " value" + (cardinality == FieldCardinality.SINGLE ? "" : "s")
+               + ": expected cardinality to be FieldCardinality." + cardinality);
+      }
+      if (!Arrays.asList(types).contains(this.type)) {
+         throw new IllegalStateException(
+               "cannot get " + valueTypes + " value" + (cardinality == FieldCardinality.SINGLE ? "" : "s")
+               + ": expected type to be " + (types.length > 1 ? "one of " : "") + Arrays.toString(types));
+      }
+   }
+}
@@ -0,0 +1,143 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.systemdescriptor.model.impl.basic.immutable;
+
+import com.google.common.base.Preconditions;
+
+import com.ngc.seaside.systemdescriptor.model.api.FieldCardinality;
+import com.ngc.seaside.systemdescriptor.model.api.data.DataTypes;
+import com.ngc.seaside.systemdescriptor.model.api.data.IData;
+import com.ngc.seaside.systemdescriptor.model.api.data.IDataField;
+import com.ngc.seaside.systemdescriptor.model.api.model.properties.IPropertyDataValue;
+import com.ngc.seaside.systemdescriptor.model.api.model.properties.IPropertyEnumerationValue;
+import com.ngc.seaside.systemdescriptor.model.api.model.properties.IPropertyPrimitiveValue;
+import com.ngc.seaside.systemdescriptor.model.api.model.properties.IPropertyValue;
+import com.ngc.seaside.systemdescriptor.model.api.model.properties.IPropertyValues;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * An immutable {@code IPropertyDataValue} that is part of an {@link ImmutableSystemDescriptor}.  The values of all
+ * fields are copied when the snapshot is created.
+ */
+class ImmutablePropertyDataValue implements IPropertyDataValue {
+
+   private static final DataTypes[] PRIMITIVES = {DataTypes.INT, DataTypes.FLOAT, DataTypes.BOOLEAN,
+                                                  DataTypes.STRING};
+
+   private final IData data;
+   private final boolean set;
+
+   /**
+    * The values of the fields of the data and the data it extends, keyed by field name.  Fields with a cardinality of
+    * single map to an {@code IPropertyValue} and fields with a cardinality of many map to {@code IPropertyValues}.
+    * This map is empty if the value is not set.
+    */
+   private final Map<String, Object> fieldValues;
+
+   ImmutablePropertyDataValue(IData data, boolean set, Map<String, Object> fieldValues) {
+      this.data = data;
+      this.set = set;
+      this.fieldValues = fieldValues;
+   }
+
+   @Override
+   public DataTypes getType() {
+      return DataTypes.DATA;
+   }
+
+   @Override
+   public boolean isSet() {
+      return set;
+   }
+
+   @Override
+   public IData getReferencedDataType() {
+      return data;
+   }
+
+   @Override
+   public IPropertyPrimitiveValue getPrimitive(IDataField field) {
+      return (IPropertyPrimitiveValue) getFieldValue(field, FieldCardinality.SINGLE, PRIMITIVES);
+   }
+
+   @Override
+   public IPropertyEnumerationValue getEnumeration(IDataField field) {
+      return (IPropertyEnumerationValue) getFieldValue(field, FieldCardinality.SINGLE, DataTypes.ENUM);
+   }
+
+   @Override
+   public IPropertyDataValue getData(IDataField field) {
+      return (IPropertyDataValue) getFieldValue(field, FieldCardinality.SINGLE, DataTypes.DATA);
+   }
+
+   @SuppressWarnings("unchecked")
+   @Override
+   public IPropertyValues<IPropertyPrimitiveValue> getPrimitives(IDataField field) {
+      return (IPropertyValues<IPropertyPrimitiveValue>) getFieldValue(field, FieldCardinality.MANY, PRIMITIVES);
+   }
+
+   @SuppressWarnings("unchecked")
+   @Override
+   public IPropertyValues<IPropertyEnumerationValue> getEnumerations(IDataField field) {
+      return (IPropertyValues<IPropertyEnumerationValue>) getFieldValue(field, FieldCardinality.MANY, DataTypes.ENUM);
+   }
+
+   @SuppressWarnings("unchecked")
+   @Override
+   public IPropertyValues<IPropertyDataValue> getDatas(IDataField field) {
+      return (IPropertyValues<IPropertyDataValue>) getFieldValue(field, FieldCardinality.MANY, DataTypes.DATA);
+   }
+
+   @Override
+   public String toString() {
+      return "ImmutablePropertyDataValue["
+             + "data=" + data.getFullyQualifiedName()
+             + ", fieldValues=" + fieldValues
+             + ']';
+   }
+
+   private Object getFieldValue(IDataField field,
+                                FieldCardinality expectedCardinality,
+                                DataTypes... expectedTypes) {
+      Preconditions.checkNotNull(field, "field may not be null!");
+      Preconditions.checkState(field.getCardinality() == expectedCardinality,
+                               "cannot get value%s for field %s: the cardinality of the field is %s!",
+                               expectedCardinality == FieldCardinality.MANY ? "s" : "",
+                               field.getName(),
+                               field.getCardinality());
+      Preconditions.checkState(Arrays.asList(expectedTypes).contains(field.getType()),
+                               "cannot get value%s for field %s: the data type of the field is %s!",
+                               expectedCardinality == FieldCardinality.MANY ? "s" : "",
+                               field.getName(),
+                               field.getType());
+      Preconditions.checkState(set, "this value is not set!");
+      Object value = fieldValues.get(field.getName());
+      Preconditions.checkArgument(value != null,
+                                  "no value of field %s was copied for %s!",
+                                  field.getName(),
+                                  data.getFullyQualifiedName());
+      return value;
+   }
+}
@@ -0,0 +1,58 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.systemdescriptor.model.impl.basic.immutable;
+
+import com.ngc.seaside.systemdescriptor.model.api.model.properties.IPropertyValues;
+
+import java.util.AbstractList;
+import java.util.Collection;
+
+/**
+ * An immutable, array backed {@code IPropertyValues}.
+ *
+ * @param <T> the type of the values
+ */
+class ImmutablePropertyValues<T> extends AbstractList<T> implements IPropertyValues<T> {
+
+   private final Object[] values;
+
+   ImmutablePropertyValues(Collection<? extends T> values) {
+      this.values = values.toArray();
+   }
+
+   @Override
+   public boolean isSet() {
+      return true;
+   }
+
+   @SuppressWarnings("unchecked")
+   @Override
+   public T get(int index) {
+      return (T) values[index];
+   }
+
+   @Override
+   public int size() {
+      return values.length;
+   }
+}
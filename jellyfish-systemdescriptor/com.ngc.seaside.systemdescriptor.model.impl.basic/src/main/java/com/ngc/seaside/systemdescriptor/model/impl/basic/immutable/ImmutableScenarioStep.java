@@ -0,0 +1,74 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.systemdescriptor.model.impl.basic.immutable;
+
+import com.google.common.collect.ImmutableList;
+
+import com.ngc.seaside.systemdescriptor.model.api.model.scenario.IScenario;
+import com.ngc.seaside.systemdescriptor.model.api.model.scenario.IScenarioStep;
+
+import java.util.List;
+
+/**
+ * An immutable {@code IScenarioStep} that is part of an {@link ImmutableSystemDescriptor}.
+ */
+class ImmutableScenarioStep implements IScenarioStep {
+
+   private final IScenario parent;
+   private final String keyword;
+   private final ImmutableList<String> parameters;
+
+   ImmutableScenarioStep(IScenario parent, String keyword, ImmutableList<String> parameters) {
+      this.parent = parent;
+      this.keyword = keyword;
+      this.parameters = parameters;
+   }
+
+   @Override
+   public String getKeyword() {
+      return keyword;
+   }
+
+   @Override
+   public IScenarioStep setKeyword(String keyword) {
+      throw new UnsupportedOperationException("object is not modifiable!");
+   }
+
+   @Override
+   public List<String> getParameters() {
+      return parameters;
+   }
+
+   @Override
+   public IScenario getParent() {
+      return parent;
+   }
+
+   @Override
+   public String toString() {
+      return "ImmutableScenarioStep["
+             + "keyword='" + keyword + '\''
+             + ", parameters=" + parameters
+             + ']';
+   }
+}
@@ -0,0 +1,133 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.systemdescriptor.model.impl.basic.immutable;
+
+import com.google.common.base.Preconditions;
+
+import com.ngc.seaside.systemdescriptor.model.api.INamedChildCollection;
+import com.ngc.seaside.systemdescriptor.model.api.IPackage;
+import com.ngc.seaside.systemdescriptor.model.api.ISystemDescriptor;
+import com.ngc.seaside.systemdescriptor.model.api.data.IData;
+import com.ngc.seaside.systemdescriptor.model.api.data.IEnumeration;
+import com.ngc.seaside.systemdescriptor.model.api.model.IModel;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * An immutable snapshot of an {@code ISystemDescriptor}.  Snapshots are created with {@link #copyOf(ISystemDescriptor)}
+ * and are fully resolved: names are interned, fully qualified names are precomputed, and all references to other
+ * elements point directly at other elements of the snapshot.  Every mutator throws an
+ * {@code UnsupportedOperationException}.
+ * <p/>
+ * A snapshot holds no reference to the descriptor it was copied from and never changes once it has been created, so
+ * it may be traversed by multiple threads concurrently.  All elements of the snapshot use identity equality.
+ */
+public class ImmutableSystemDescriptor implements ISystemDescriptor {
+
+   private final INamedChildCollection<ISystemDescriptor, IPackage> packages;
+
+   /**
+    * Creates the root of a snapshot.  This must be the last object of the snapshot created so that every element
+    * reachable from the root is safely published along with it.
+    */
+   ImmutableSystemDescriptor(Collection<ImmutablePackage> packages) {
+      for (ImmutablePackage pkg : packages) {
+         pkg.parent = this;
+      }
+      this.packages = new ArrayNamedChildCollection<>(packages);
+   }
+
+   @Override
+   public INamedChildCollection<ISystemDescriptor, IPackage> getPackages() {
+      return packages;
+   }
+
+   @Override
+   public Optional<IModel> findModel(String fullyQualifiedName) {
+      Preconditions.checkNotNull(fullyQualifiedName, "fullyQualifiedName may not be null!");
+      int i = fullyQualifiedName.lastIndexOf('.');
+      if (i == -1) {
+         return Optional.empty();
+      }
+      return findModel(fullyQualifiedName.substring(0, i), fullyQualifiedName.substring(i + 1));
+   }
+
+   @Override
+   public Optional<IModel> findModel(String packageName, String name) {
+      return packages.getByName(packageName).flatMap(p -> p.getModels().getByName(name));
+   }
+
+   @Override
+   public Optional<IData> findData(String fullyQualifiedName) {
+      Preconditions.checkNotNull(fullyQualifiedName, "fullyQualifiedName may not be null!");
+      int i = fullyQualifiedName.lastIndexOf('.');
+      if (i == -1) {
+         return Optional.empty();
+      }
+      return findData(fullyQualifiedName.substring(0, i), fullyQualifiedName.substring(i + 1));
+   }
+
+   @Override
+   public Optional<IData> findData(String packageName, String name) {
+      return packages.getByName(packageName).flatMap(p -> p.getData().getByName(name));
+   }
+
+   @Override
+   public Optional<IEnumeration> findEnumeration(String fullyQualifiedName) {
+      Preconditions.checkNotNull(fullyQualifiedName, "fullyQualifiedName may not be null!");
+      int i = fullyQualifiedName.lastIndexOf('.');
+      if (i == -1) {
+         return Optional.empty();
+      }
+      return findEnumeration(fullyQualifiedName.substring(0, i), fullyQualifiedName.substring(i + 1));
+   }
+
+   @Override
+   public Optional<IEnumeration> findEnumeration(String packageName, String name) {
+      return packages.getByName(packageName).flatMap(p -> p.getEnumerations().getByName(name));
+   }
+
+   @Override
+   public String toString() {
+      return "ImmutableSystemDescriptor["
+             + "packages=" + packages.size()
+             + ']';
+   }
+
+   /**
+    * Creates an immutable snapshot of the given descriptor.  If the descriptor is already a snapshot, it is returned
+    * as is.
+    *
+    * @param descriptor the descriptor to copy
+    * @return an immutable snapshot of the descriptor
+    * @throws IllegalStateException if the descriptor references an element that is not contained in the descriptor
+    */
+   public static ISystemDescriptor copyOf(ISystemDescriptor descriptor) {
+      Preconditions.checkNotNull(descriptor, "descriptor may not be null!");
+      if (descriptor instanceof ImmutableSystemDescriptor) {
+         return descriptor;
+      }
+      return new ImmutableCopier().copy(descriptor);
+   }
+}
@@ -0,0 +1,230 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.systemdescriptor.model.impl.basic.immutable;
+
+import com.ngc.seaside.systemdescriptor.model.api.FieldCardinality;
+import com.ngc.seaside.systemdescriptor.model.api.IPackage;
+import com.ngc.seaside.systemdescriptor.model.api.ISystemDescriptor;
+import com.ngc.seaside.systemdescriptor.model.api.data.DataTypes;
+import com.ngc.seaside.systemdescriptor.model.api.data.IData;
+import com.ngc.seaside.systemdescriptor.model.api.data.IDataField;
+import com.ngc.seaside.systemdescriptor.model.api.data.IEnumeration;
+import com.ngc.seaside.systemdescriptor.model.api.model.IDataReferenceField;
+import com.ngc.seaside.systemdescriptor.model.api.model.IModel;
+import com.ngc.seaside.systemdescriptor.model.api.model.IModelReferenceField;
+import com.ngc.seaside.systemdescriptor.model.api.model.link.IModelLink;
+import com.ngc.seaside.systemdescriptor.model.api.model.scenario.IScenario;
+import com.ngc.seaside.systemdescriptor.model.impl.basic.NamedChildCollection;
+import com.ngc.seaside.systemdescriptor.model.impl.basic.Package;
+import com.ngc.seaside.systemdescriptor.model.impl.basic.data.Data;
+import com.ngc.seaside.systemdescriptor.model.impl.basic.data.DataField;
+import com.ngc.seaside.systemdescriptor.model.impl.basic.data.Enumeration;
+import com.ngc.seaside.systemdescriptor.model.impl.basic.model.BaseModelReferenceField;
+import com.ngc.seaside.systemdescriptor.model.impl.basic.model.DataReferenceField;
+import com.ngc.seaside.systemdescriptor.model.impl.basic.model.Model;
+import com.ngc.seaside.systemdescriptor.model.impl.basic.model.link.ModelLink;
+import com.ngc.seaside.systemdescriptor.model.impl.basic.model.properties.Properties;
+import com.ngc.seaside.systemdescriptor.model.impl.basic.model.properties.Property;
+import com.ngc.seaside.systemdescriptor.model.impl.basic.model.properties.PropertyEnumerationValue;
+import com.ngc.seaside.systemdescriptor.model.impl.basic.model.scenario.Scenario;
+import com.ngc.seaside.systemdescriptor.model.impl.basic.model.scenario.ScenarioStep;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static com.ngc.seaside.systemdescriptor.model.impl.basic.TestUtils.demandImmutability;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ImmutableSystemDescriptorTest {
+
+   private ISystemDescriptor copy;
+
+   @Mock
+   private ISystemDescriptor descriptor;
+
+   @Before
+   public void setup() throws Throwable {
+      Package dataPackage = new Package(new String("clocks.datatypes"));
+      Package modelPackage = new Package(new String("clocks.models"));
+
+      Enumeration zone = new Enumeration("TimeZone", Arrays.asList("CST", "MST"));
+      dataPackage.addEnumeration(zone);
+
+      Data time = new Data("Time");
+      time.getFields().add(new DataField(new String("hour")).setType(DataTypes.INT)
+                                 .setCardinality(FieldCardinality.SINGLE));
+      time.getFields().add(new DataField("zone").setType(DataTypes.ENUM)
+                                 .setCardinality(FieldCardinality.SINGLE)
+                                 .setReferencedEnumeration(zone));
+      dataPackage.addData(time);
+
+      Data dateTime = new Data("DateTime");
+      dateTime.setExtendedDataType(time);
+      dateTime.getFields().add(new DataField(new String("hour")).setType(DataTypes.DATA)
+                                     .setCardinality(FieldCardinality.MANY)
+                                     .setReferencedDataType(time));
+      dataPackage.addData(dateTime);
+
+      Model timer = new Model("Timer");
+      DataReferenceField timerOutput = new DataReferenceField("time");
+      timerOutput.setType(time);
+      timerOutput.setParent(timer);
+      timer.addOutput(timerOutput);
+      modelPackage.addModel(timer);
+
+      Model clock = new Model("Clock");
+      DataReferenceField clockInput = new DataReferenceField("time");
+      clockInput.setType(time);
+      clockInput.setParent(clock);
+      clock.addInput(clockInput);
+      BaseModelReferenceField part = new BaseModelReferenceField("timer");
+      part.setType(timer);
+      part.setParent(clock);
+      clock.addPart(part);
+
+      Scenario scenario = new Scenario("tick");
+      scenario.addWhen(new ScenarioStep().setKeyword("receiving"));
+      scenario.addThen(new ScenarioStep().setKeyword("willPublish"));
+      clock.addScenario(scenario);
+
+      Properties properties = new Properties();
+      properties.add(new Property("zone",
+                                  DataTypes.ENUM,
+                                  FieldCardinality.SINGLE,
+                                  Collections.singleton(new PropertyEnumerationValue(zone, "CST")),
+                                  null));
+      clock.setProperties(properties);
+
+      ModelLink<IDataReferenceField> link = new ModelLink<>(clock);
+      link.setName("timeLink");
+      link.setSource(timerOutput);
+      link.setTarget(clockInput);
+      clock.addLink(link);
+      modelPackage.addModel(clock);
+
+      Model alarmClock = new Model("AlarmClock");
+      alarmClock.setRefinedModel(clock);
+      modelPackage.addModel(alarmClock);
+
+      NamedChildCollection<ISystemDescriptor, IPackage> packages = new NamedChildCollection<>();
+      packages.add(dataPackage);
+      packages.add(modelPackage);
+      when(descriptor.getPackages()).thenReturn(packages);
+
+      copy = ImmutableSystemDescriptor.copyOf(descriptor);
+   }
+
+   @Test
+   public void testDoesCopyDescriptor() {
+      assertEquals("wrong number of packages!", 2, copy.getPackages().size());
+      assertSame("package parent not correct!",
+                 copy,
+                 copy.getPackages().getByName("clocks.models").get().getParent());
+      assertSame("copying a copy should return the copy!", copy, ImmutableSystemDescriptor.copyOf(copy));
+
+      IData time = copy.findData("clocks.datatypes.Time").get();
+      IData dateTime = copy.findData("clocks.datatypes.DateTime").get();
+      IEnumeration zone = copy.findEnumeration("clocks.datatypes.TimeZone").get();
+      assertEquals("fully qualified name not correct!", "clocks.datatypes.Time", time.getFullyQualifiedName());
+      assertSame("extended data not resolved!", time, dateTime.getExtendedDataType().get());
+      assertSame("referenced data not resolved!",
+                 time,
+                 dateTime.getFields().getByName("hour").get().getReferencedDataType());
+      assertSame("referenced enumeration not resolved!",
+                 zone,
+                 time.getFields().getByName("zone").get().getReferencedEnumeration());
+      assertEquals("enumeration values not copied!", Arrays.asList("CST", "MST"), zone.getValues());
+   }
+
+   @Test
+   public void testDoesCopyModels() {
+      IModel timer = copy.findModel("clocks.models.Timer").get();
+      IModel clock = copy.findModel("clocks.models.Clock").get();
+      IModel alarmClock = copy.findModel("clocks.models", "AlarmClock").get();
+      assertSame("refined model not resolved!", clock, alarmClock.getRefinedModel().get());
+
+      IDataReferenceField input = clock.getInputs().getByName("time").get();
+      assertSame("input parent not correct!", clock, input.getParent());
+      assertSame("input type not resolved!",
+                 copy.findData("clocks.datatypes.Time").get(),
+                 input.getType());
+
+      IModelReferenceField part = clock.getParts().getByName("timer").get();
+      assertSame("part type not resolved!", timer, part.getType());
+      assertFalse("part should not be refined!", part.getRefinedField().isPresent());
+
+      IScenario scenario = clock.getScenarios().getByName("tick").get();
+      assertEquals("scenario steps not copied!",
+                   "willPublish",
+                   scenario.getThens().iterator().next().getKeyword());
+
+      assertEquals("property not copied!",
+                   "CST",
+                   clock.getProperties().resolveAsEnumeration("zone").get().getValue());
+      assertSame("property enumeration not resolved!",
+                 copy.findEnumeration("clocks.datatypes.TimeZone").get(),
+                 clock.getProperties().getByName("zone").get().getReferencedEnumeration());
+
+      IModelLink<?> link = clock.getLinkByName("timeLink").get();
+      assertSame("link source not resolved!", timer.getOutputs().getByName("time").get(), link.getSource());
+      assertSame("link target not resolved!", input, link.getTarget());
+      demandImmutability(() -> link.traverseLinkSourceExpression(field -> {
+      }));
+   }
+
+   @Test
+   public void testDoesInternNames() {
+      IDataField hour = copy.findData("clocks.datatypes.Time").get().getFields().getByName("hour").get();
+      IDataField otherHour = copy.findData("clocks.datatypes.DateTime").get().getFields().getByName("hour").get();
+      assertNotSame("fields should be different!", hour, otherHour);
+      assertSame("names not interned!", hour.getName(), otherHour.getName());
+   }
+
+   @Test
+   public void testDoesNotAllowModifications() {
+      IModel clock = copy.findModel("clocks.models.Clock").get();
+      IData time = copy.findData("clocks.datatypes.Time").get();
+      demandImmutability(() -> copy.getPackages().clear());
+      demandImmutability(() -> clock.setRefinedModel(null));
+      demandImmutability(() -> clock.getInputs().remove(clock.getInputs().iterator().next()));
+      demandImmutability(() -> clock.getLinks().clear());
+      demandImmutability(() -> clock.getProperties().clear());
+      demandImmutability(() -> time.setExtendedDataType(null));
+      demandImmutability(() -> time.getFields().iterator().next().setType(DataTypes.STRING));
+      demandImmutability(() -> clock.getScenarios().iterator().next().getThens().clear());
+      assertTrue("collection should contain its children!",
+                 clock.getInputs().contains(clock.getInputs().getByName("time").get()));
+   }
+}
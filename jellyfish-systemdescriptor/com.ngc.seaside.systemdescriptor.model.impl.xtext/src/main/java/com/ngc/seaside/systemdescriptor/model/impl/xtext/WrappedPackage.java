@@ -74,7 +74,7 @@ public class WrappedPackage implements IPackage, IUnwrappableCollection<Package>
       this.descriptor = Preconditions.checkNotNull(descriptor, "descriptor may not be null!");
       Preconditions.checkNotNull(p, "p may not be null!");
       Preconditions.checkArgument(!p.getName().trim().isEmpty(), "package name may not be empty!");
-      packageName = p.getName();
+      packageName = p.getName().intern();
       wrap(p);
    }
 
@@ -39,15 +39,23 @@ import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.ResourceSet;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
- * An implementation of {@code ISystemDescriptor} that wraps one or more {@link Package}s as parsed by XText.
- * This class is not threadsafe.
+ * An implementation of {@code ISystemDescriptor} that wraps one or more {@link Package}s as parsed by XText.  The
+ * XText packages are indexed by name when this object is created but a package is only wrapped the first time it is
+ * requested.  Wrapping packages is threadsafe, so a descriptor may be read from several threads at once, such as
+ * during a parallel traversal.  Modifying the packages of a descriptor is not threadsafe.
  */
 public class WrappedSystemDescriptor implements ISystemDescriptor {
 
-   private final INamedChildCollection<ISystemDescriptor, IPackage> packages = new NamedChildCollection<>();
+   private final LazyPackageCollection packages = new LazyPackageCollection();
    private final IWrapperResolver resolver;
    private final EObject rootXtextObject;
 
@@ -58,8 +66,8 @@ public class WrappedSystemDescriptor implements ISystemDescriptor {
       this.rootXtextObject = Preconditions.checkNotNull(parsedPackage, "parsedPackage may not be null!");
       // Create a new resolver.
       resolver = newResolver();
-      // Register all packages that XText parsed.
-      findAllPackages();
+      // Index all packages that XText parsed.  They will be wrapped when they are needed.
+      indexAllPackages();
    }
 
    @Override
@@ -172,29 +180,208 @@ public class WrappedSystemDescriptor implements ISystemDescriptor {
       return resource == null ? null : resource.getResourceSet();
    }
 
-   private void findAllPackages() {
+   private void indexAllPackages() {
       ResourceSet set = doGetResourceSet(rootXtextObject);
       if (set != null) {
          for (Resource r : set.getResources()) {
             for (EObject o : r.getContents()) {
                if (o instanceof Package) {
-                  Package p = (Package) o;
-                  // Have we already wrapped a package with the same name?  If so, don't create a new wrapper, but
-                  // reuse the old one.
-                  Optional<IPackage> wrapper = packages.getByName(p.getName());
-                  if (wrapper.isPresent()) {
-                     // This cast is safe because, as this point, only WrappedPackages are contained in the collection.
-                     ((WrappedPackage) wrapper.get()).wrap(p);
-                  } else {
-                     // Otherwise, create a new wrapper for the package.
-                     packages.add(new WrappedPackage(resolver, this, p));
-                  }
+                  packages.index((Package) o);
                }
             }
          }
       } else if (rootXtextObject instanceof Package) {
          // If the resource set is null, just register the single package.  This means imports will not resolve.
-         packages.add(new WrappedPackage(resolver, this, (Package) rootXtextObject));
+         packages.index((Package) rootXtextObject);
+      }
+   }
+
+   /**
+    * A collection of packages that only wraps an XText package when the package is first requested by name or the
+    * entire collection is accessed.  Each XText package with the same name is wrapped by the same
+    * {@link WrappedPackage}.  The order of the packages is the order in which the XText packages were indexed.
+    * Packages are wrapped while holding the lock of this collection.  Reads take the same lock until every package
+    * has been wrapped; after that, reads no longer lock.
+    */
+   private class LazyPackageCollection extends NamedChildCollection<ISystemDescriptor, IPackage> {
+
+      /**
+       * True once every indexed package has been wrapped.  Once set, packages are no longer wrapped, so the collection
+       * may be read without locking.
+       */
+      private volatile boolean allWrapped;
+
+      /**
+       * The XText packages that have been indexed but not yet wrapped, keyed by package name.
+       */
+      private final Map<String, List<Package>> unwrapped = new LinkedHashMap<>();
+
+      /**
+       * The names of all packages in the order they were indexed.
+       */
+      private final List<String> indexOrder = new ArrayList<>();
+
+      private void index(Package p) {
+         List<Package> xtextPackages = unwrapped.get(p.getName());
+         if (xtextPackages == null) {
+            xtextPackages = new ArrayList<>();
+            unwrapped.put(p.getName(), xtextPackages);
+            indexOrder.add(p.getName());
+         }
+         xtextPackages.add(p);
+      }
+
+      private synchronized Optional<IPackage> wrapAndGet(String name) {
+         List<Package> xtextPackages = unwrapped.remove(name);
+         if (xtextPackages != null) {
+            super.add(newWrapper(xtextPackages));
+            allWrapped = unwrapped.isEmpty();
+         }
+         return super.getByName(name);
+      }
+
+      private void wrapAll() {
+         if (!allWrapped) {
+            synchronized (this) {
+               if (!allWrapped) {
+                  doWrapAll();
+                  allWrapped = true;
+               }
+            }
+         }
+      }
+
+      private void doWrapAll() {
+         if (!unwrapped.isEmpty()) {
+            // Wrap the remaining packages and keep the packages in the order they were indexed.  Any packages that
+            // were added directly to this collection are kept after the indexed packages.
+            Map<String, IPackage> wrapped = new LinkedHashMap<>();
+            for (Iterator<IPackage> i = super.iterator(); i.hasNext(); ) {
+               IPackage p = i.next();
+               wrapped.put(p.getName(), p);
+            }
+            super.clear();
+            for (String name : indexOrder) {
+               List<Package> xtextPackages = unwrapped.remove(name);
+               IPackage p = xtextPackages == null ? wrapped.remove(name) : newWrapper(xtextPackages);
+               if (p != null) {
+                  super.add(p);
+               }
+            }
+            for (IPackage p : wrapped.values()) {
+               super.add(p);
+            }
+         }
+      }
+
+      private WrappedPackage newWrapper(List<Package> xtextPackages) {
+         WrappedPackage wrapper = new WrappedPackage(resolver, WrappedSystemDescriptor.this, xtextPackages.get(0));
+         for (Package p : xtextPackages.subList(1, xtextPackages.size())) {
+            wrapper.wrap(p);
+         }
+         return wrapper;
+      }
+
+      @Override
+      public Optional<IPackage> getByName(String name) {
+         Preconditions.checkNotNull(name, "name may not be null!");
+         return allWrapped ? super.getByName(name) : wrapAndGet(name);
+      }
+
+      @Override
+      public int size() {
+         wrapAll();
+         return super.size();
+      }
+
+      @Override
+      public boolean isEmpty() {
+         wrapAll();
+         return super.isEmpty();
+      }
+
+      @Override
+      public boolean contains(Object o) {
+         wrapAll();
+         return super.contains(o);
+      }
+
+      @Override
+      public Iterator<IPackage> iterator() {
+         wrapAll();
+         return super.iterator();
+      }
+
+      @Override
+      public Object[] toArray() {
+         wrapAll();
+         return super.toArray();
+      }
+
+      @Override
+      public <T1> T1[] toArray(T1[] a) {
+         wrapAll();
+         return super.toArray(a);
+      }
+
+      @Override
+      public boolean add(IPackage p) {
+         wrapAll();
+         return super.add(p);
+      }
+
+      @Override
+      public boolean remove(Object o) {
+         wrapAll();
+         return super.remove(o);
+      }
+
+      @Override
+      public boolean containsAll(Collection<?> c) {
+         wrapAll();
+         return super.containsAll(c);
+      }
+
+      @Override
+      public boolean addAll(Collection<? extends IPackage> c) {
+         wrapAll();
+         return super.addAll(c);
+      }
+
+      @Override
+      public boolean removeAll(Collection<?> c) {
+         wrapAll();
+         return super.removeAll(c);
+      }
+
+      @Override
+      public boolean retainAll(Collection<?> c) {
+         wrapAll();
+         return super.retainAll(c);
+      }
+
+      @Override
+      public void clear() {
+         wrapAll();
+         super.clear();
+      }
+
+      @Override
+      public boolean equals(Object o) {
+         wrapAll();
+         return super.equals(o);
+      }
+
+      @Override
+      public int hashCode() {
+         wrapAll();
+         return super.hashCode();
+      }
+
+      @Override
+      public String toString() {
+         wrapAll();
+         return super.toString();
       }
    }
 }
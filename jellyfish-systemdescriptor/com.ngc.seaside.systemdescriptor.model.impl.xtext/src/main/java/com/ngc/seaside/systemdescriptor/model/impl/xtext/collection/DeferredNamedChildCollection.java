@@ -28,123 +28,129 @@ import com.ngc.seaside.systemdescriptor.model.impl.basic.NamedChildCollection;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.Optional;
-import java.util.concurrent.atomic.AtomicBoolean;
 
+/**
+ * A named child collection whose contents are populated on first use by {@link #initialize()}.  Initialization is
+ * performed at most once and is safely published: no thread observes the collection until {@code initialize()} has
+ * completed.  Once initialized, the only cost of each operation is a single volatile read.
+ *
+ * @param <P> the type of the parent of the children
+ * @param <T> the type of the children
+ */
 public abstract class DeferredNamedChildCollection<P, T extends INamedChild<P>> extends NamedChildCollection<P, T> {
 
-   private AtomicBoolean initialized = new AtomicBoolean(false);
+   private volatile boolean initialized;
+
+   /**
+    * Set while the owning thread is running {@link #initialize()} so that calls to {@link #add(INamedChild)} made by
+    * the subclass do not attempt to initialize again.  Only accessed while holding the lock of this collection.
+    */
+   private boolean initializing;
 
    @Override
    public Optional<T> getByName(String name) {
-      if (!initialized.getAndSet(true)) {
-         initialize();
-      }
+      ensureInitialized();
       return super.getByName(name);
    }
 
    @Override
    public int size() {
-      if (!initialized.getAndSet(true)) {
-         initialize();
-      }
+      ensureInitialized();
       return super.size();
    }
 
    @Override
    public boolean isEmpty() {
-      if (!initialized.getAndSet(true)) {
-         initialize();
-      }
+      ensureInitialized();
       return super.isEmpty();
    }
 
    @Override
    public boolean contains(Object o) {
-      if (!initialized.getAndSet(true)) {
-         initialize();
-      }
+      ensureInitialized();
       return super.contains(o);
    }
 
    @Override
    public Iterator<T> iterator() {
-      if (!initialized.getAndSet(true)) {
-         initialize();
-      }
+      ensureInitialized();
       return super.iterator();
    }
 
    @Override
    public Object[] toArray() {
-      if (!initialized.getAndSet(true)) {
-         initialize();
-      }
+      ensureInitialized();
       return super.toArray();
    }
 
    @Override
    public <T1> T1[] toArray(T1[] a) {
-      if (!initialized.getAndSet(true)) {
-         initialize();
-      }
+      ensureInitialized();
       return super.toArray(a);
    }
 
    @Override
    public boolean add(T t) {
-      if (!initialized.getAndSet(true)) {
-         initialize();
-      }
+      ensureInitialized();
       return super.add(t);
    }
 
    @Override
    public boolean remove(Object o) {
-      if (!initialized.getAndSet(true)) {
-         initialize();
-      }
+      ensureInitialized();
       return super.remove(o);
    }
 
    @Override
    public boolean containsAll(Collection<?> c) {
-      if (!initialized.getAndSet(true)) {
-         initialize();
-      }
+      ensureInitialized();
       return super.containsAll(c);
    }
 
    @Override
    public boolean addAll(Collection<? extends T> c) {
-      if (!initialized.getAndSet(true)) {
-         initialize();
-      }
+      ensureInitialized();
       return super.addAll(c);
    }
 
    @Override
    public boolean removeAll(Collection<?> c) {
-      if (!initialized.getAndSet(true)) {
-         initialize();
-      }
+      ensureInitialized();
       return super.removeAll(c);
    }
 
    @Override
    public boolean retainAll(Collection<?> c) {
-      if (!initialized.getAndSet(true)) {
-         initialize();
-      }
+      ensureInitialized();
       return super.retainAll(c);
    }
 
    @Override
    public void clear() {
-      if (!initialized.getAndSet(true)) {
-         initialize();
-      }
+      ensureInitialized();
       super.clear();
    }
 
+   /**
+    * Populates this collection.  This method is invoked at most once, while holding the lock of this collection.
+    * Implementations should add children with {@link #add(INamedChild)}.
+    */
    protected abstract void initialize();
+
+   private void ensureInitialized() {
+      if (!initialized) {
+         synchronized (this) {
+            if (!initialized && !initializing) {
+               initializing = true;
+               try {
+                  initialize();
+                  // Only publish once the collection is fully populated.
+                  initialized = true;
+               } finally {
+                  initializing = false;
+               }
+            }
+         }
+      }
+   }
 }
@@ -35,6 +35,7 @@ import com.ngc.seaside.systemdescriptor.model.impl.xtext.collection.WrappingName
 import com.ngc.seaside.systemdescriptor.model.impl.xtext.exception.UnrecognizedXtextTypeException;
 import com.ngc.seaside.systemdescriptor.model.impl.xtext.metadata.WrappedMetadata;
 import com.ngc.seaside.systemdescriptor.model.impl.xtext.store.IWrapperResolver;
+import com.ngc.seaside.systemdescriptor.model.impl.xtext.util.FullyQualifiedNameAdapter;
 import com.ngc.seaside.systemdescriptor.systemDescriptor.Data;
 import com.ngc.seaside.systemdescriptor.systemDescriptor.DataFieldDeclaration;
 import com.ngc.seaside.systemdescriptor.systemDescriptor.Package;
@@ -53,12 +54,14 @@ public class WrappedData extends AbstractWrappedXtext<Data> implements IData {
 
    private final WrappingNamedChildCollection<DataFieldDeclaration, IData, IDataField> fields;
    private IMetadata metadata;
+   private final FullyQualifiedNameAdapter fullyQualifiedName;
 
    /**
     * Creates a new wrapped data.
     */
    public WrappedData(IWrapperResolver resolver, Data wrapped) {
       super(resolver, wrapped);
+      this.fullyQualifiedName = FullyQualifiedNameAdapter.adapt(wrapped);
       this.metadata = WrappedMetadata.fromXtext(wrapped.getMetadata());
       this.fields = new WrappingNamedChildCollection<>(wrapped.getFields(),
                                                        f -> toWrappedDataField(resolver, f),
@@ -100,11 +103,7 @@ public class WrappedData extends AbstractWrappedXtext<Data> implements IData {
 
    @Override
    public String getFullyQualifiedName() {
-      Package p = (Package) wrapped.eContainer();
-      return String.format("%s%s%s",
-                           p == null ? "" : p.getName(),
-                           p == null ? "" : ".",
-                           wrapped.getName());
+      return fullyQualifiedName.getFullyQualifiedName();
    }
 
    @Override
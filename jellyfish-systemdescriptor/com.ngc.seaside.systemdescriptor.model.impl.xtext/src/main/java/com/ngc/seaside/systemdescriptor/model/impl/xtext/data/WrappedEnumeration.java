@@ -31,6 +31,7 @@ import com.ngc.seaside.systemdescriptor.model.impl.xtext.AbstractWrappedXtext;
 import com.ngc.seaside.systemdescriptor.model.impl.xtext.collection.AutoWrappingCollection;
 import com.ngc.seaside.systemdescriptor.model.impl.xtext.metadata.WrappedMetadata;
 import com.ngc.seaside.systemdescriptor.model.impl.xtext.store.IWrapperResolver;
+import com.ngc.seaside.systemdescriptor.model.impl.xtext.util.FullyQualifiedNameAdapter;
 import com.ngc.seaside.systemdescriptor.systemDescriptor.Enumeration;
 import com.ngc.seaside.systemdescriptor.systemDescriptor.EnumerationValueDeclaration;
 import com.ngc.seaside.systemdescriptor.systemDescriptor.Package;
@@ -43,12 +44,14 @@ public class WrappedEnumeration extends AbstractWrappedXtext<Enumeration> implem
 
    private AutoWrappingCollection<EnumerationValueDeclaration, String> values;
    private IMetadata metadata;
+   private final FullyQualifiedNameAdapter fullyQualifiedName;
 
    /**
     * Creates a wrapped enumeration.
     */
    public WrappedEnumeration(IWrapperResolver resolver, Enumeration wrapped) {
       super(resolver, wrapped);
+      this.fullyQualifiedName = FullyQualifiedNameAdapter.adapt(wrapped);
       this.metadata = WrappedMetadata.fromXtext(wrapped.getMetadata());
       this.values = new AutoWrappingCollection<EnumerationValueDeclaration, String>(
             wrapped.getValues(),
@@ -82,11 +85,7 @@ public class WrappedEnumeration extends AbstractWrappedXtext<Enumeration> implem
 
    @Override
    public String getFullyQualifiedName() {
-      Package p = (Package) wrapped.eContainer();
-      return String.format("%s%s%s",
-                           p == null ? "" : p.getName(),
-                           p == null ? "" : ".",
-                           wrapped.getName());
+      return fullyQualifiedName.getFullyQualifiedName();
    }
 
    @Override
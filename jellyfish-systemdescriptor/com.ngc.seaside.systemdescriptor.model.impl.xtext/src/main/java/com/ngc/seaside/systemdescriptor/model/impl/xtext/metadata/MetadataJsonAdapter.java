@@ -0,0 +1,103 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.systemdescriptor.model.impl.xtext.metadata;
+
+import com.google.common.base.Preconditions;
+
+import com.ngc.seaside.systemdescriptor.systemDescriptor.JsonObject;
+import com.ngc.seaside.systemdescriptor.systemDescriptor.Metadata;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+
+/**
+ * An EMF adapter that caches the {@code javax.json} conversion of an XText {@link Metadata} object.  The conversion is
+ * performed the first time the JSON is requested and shared by all {@link WrappedMetadata} instances that wrap the
+ * same metadata.  Since this is a content adapter, it observes the entire JSON tree of the metadata and the cached
+ * JSON is discarded if any member or value of the tree changes.
+ */
+public class MetadataJsonAdapter extends EContentAdapter {
+
+   private final Metadata metadata;
+
+   private volatile javax.json.JsonObject cachedJson;
+
+   private MetadataJsonAdapter(Metadata metadata) {
+      this.metadata = metadata;
+   }
+
+   /**
+    * Gets the adapter of the given metadata, creating and attaching a new adapter if necessary.  Wrappers may be
+    * created while models are traversed in parallel, so the adapter list of the metadata is only accessed while holding
+    * the lock of the metadata.  Attaching the adapter also attaches it to every object in the JSON tree of the
+    * metadata; those objects are only ever adapted by this adapter so the same lock protects their adapter lists.
+    *
+    * @param metadata the metadata to get the adapter for
+    * @return the adapter of the metadata
+    */
+   public static MetadataJsonAdapter adapt(Metadata metadata) {
+      Preconditions.checkNotNull(metadata, "metadata may not be null!");
+      synchronized (metadata) {
+         MetadataJsonAdapter adapter = (MetadataJsonAdapter) EcoreUtil.getExistingAdapter(
+               metadata,
+               MetadataJsonAdapter.class);
+         if (adapter == null) {
+            adapter = new MetadataJsonAdapter(metadata);
+            metadata.eAdapters().add(adapter);
+         }
+         return adapter;
+      }
+   }
+
+   /**
+    * Gets the JSON of the metadata converted to a {@code javax.json} object.  If the metadata has no JSON, an empty
+    * object is returned.
+    *
+    * @return the converted JSON of the metadata
+    */
+   public javax.json.JsonObject getJson() {
+      javax.json.JsonObject json = cachedJson;
+      if (json == null) {
+         JsonObject xtext = metadata.getJson();
+         json = xtext == null
+                ? javax.json.JsonValue.EMPTY_JSON_OBJECT
+                : WrappedMetadata.toJavaxJsonObject(xtext);
+         cachedJson = json;
+      }
+      return json;
+   }
+
+   @Override
+   public boolean isAdapterForType(Object type) {
+      return type == MetadataJsonAdapter.class;
+   }
+
+   @Override
+   public void notifyChanged(Notification notification) {
+      super.notifyChanged(notification);
+      if (!notification.isTouch()) {
+         cachedJson = null;
+      }
+   }
+}
@@ -54,7 +54,9 @@ import javax.json.spi.JsonProvider;
 
 /**
  * Adapts an {@link Metadata} instance to {@link IMetadata}.  Unlike other wrappers, changes to this object do not
- * "write thought" to the wrapped object.
+ * "write thought" to the wrapped object.  The XText JSON is not converted until {@link #getJson()} is invoked; the
+ * converted JSON is cached on the metadata by a {@link MetadataJsonAdapter} so wrapping the same metadata many times is
+ * cheap.
  */
 public class WrappedMetadata implements IMetadata {
 
@@ -65,10 +67,19 @@ public class WrappedMetadata implements IMetadata {
 
    private javax.json.JsonObject json;
 
+   /**
+    * The adapter that provides the converted JSON or {@code null} if the JSON has been explicitly set.
+    */
+   private MetadataJsonAdapter source;
+
    private WrappedMetadata(javax.json.JsonObject json) {
       this.json = json;
    }
 
+   private WrappedMetadata(MetadataJsonAdapter source) {
+      this.source = source;
+   }
+
    /**
     * Creates a new metadata object.
     */
@@ -77,12 +88,13 @@ public class WrappedMetadata implements IMetadata {
 
    @Override
    public javax.json.JsonObject getJson() {
-      return json;
+      return source == null ? json : source.getJson();
    }
 
    @Override
    public IMetadata setJson(javax.json.JsonObject json) {
       this.json = json;
+      this.source = null;
       return this;
    }
 
@@ -99,7 +111,9 @@ public class WrappedMetadata implements IMetadata {
     * Creates a new {@code IMetadata} instance that is equivalent to the given {@code Metadata}.
     */
    public static IMetadata fromXtext(Metadata metadata) {
-      return metadata == null ? IMetadata.EMPTY_METADATA : fromXtextJson(metadata.getJson());
+      return metadata == null || metadata.getJson() == null
+             ? IMetadata.EMPTY_METADATA
+             : new WrappedMetadata(MetadataJsonAdapter.adapt(metadata));
    }
 
    /**
@@ -107,7 +121,13 @@ public class WrappedMetadata implements IMetadata {
     * {@code null}, {@link IMetadata#EMPTY_METADATA} is returned.
     */
    public static IMetadata fromXtextJson(JsonObject json) {
-      return json == null ? IMetadata.EMPTY_METADATA : new WrappedMetadata(toJavaxJsonObject(json));
+      if (json == null) {
+         return IMetadata.EMPTY_METADATA;
+      }
+      if (json.eContainer() instanceof Metadata) {
+         return fromXtext((Metadata) json.eContainer());
+      }
+      return new WrappedMetadata(toJavaxJsonObject(json));
    }
 
    /**
@@ -185,7 +205,7 @@ public class WrappedMetadata implements IMetadata {
       return value;
    }
 
-   private static javax.json.JsonObject toJavaxJsonObject(JsonObject object) {
+   static javax.json.JsonObject toJavaxJsonObject(JsonObject object) {
       JsonObjectBuilder builder = getProvider().createObjectBuilder();
       for (Member member : object.getMembers()) {
          builder.add(member.getKey(), convertValueToWrapped(member.getValue()));
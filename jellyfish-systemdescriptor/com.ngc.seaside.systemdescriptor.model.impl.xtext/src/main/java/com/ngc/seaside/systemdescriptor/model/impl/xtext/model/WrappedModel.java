@@ -46,6 +46,7 @@ import com.ngc.seaside.systemdescriptor.model.impl.xtext.model.link.WrappedModel
 import com.ngc.seaside.systemdescriptor.model.impl.xtext.model.properties.WrappedProperties;
 import com.ngc.seaside.systemdescriptor.model.impl.xtext.model.scenario.WrappedScenario;
 import com.ngc.seaside.systemdescriptor.model.impl.xtext.store.IWrapperResolver;
+import com.ngc.seaside.systemdescriptor.model.impl.xtext.util.FullyQualifiedNameAdapter;
 import com.ngc.seaside.systemdescriptor.systemDescriptor.BasePartDeclaration;
 import com.ngc.seaside.systemdescriptor.systemDescriptor.BaseRequireDeclaration;
 import com.ngc.seaside.systemdescriptor.systemDescriptor.FieldDeclaration;
@@ -72,6 +73,7 @@ public class WrappedModel extends AbstractWrappedXtext<Model> implements IModel
 
    private IMetadata metadata;
    private IProperties properties;
+   private final FullyQualifiedNameAdapter fullyQualifiedName;
    private WrappingNamedChildCollection<InputDeclaration, IModel, IDataReferenceField> inputs;
    private WrappingNamedChildCollection<OutputDeclaration, IModel, IDataReferenceField> outputs;
    private WrappingNamedChildCollection<RequireDeclaration, IModel, IModelReferenceField> requires;
@@ -84,6 +86,7 @@ public class WrappedModel extends AbstractWrappedXtext<Model> implements IModel
     */
    public WrappedModel(IWrapperResolver resolver, Model wrapped) {
       super(resolver, wrapped);
+      this.fullyQualifiedName = FullyQualifiedNameAdapter.adapt(wrapped);
       this.metadata = WrappedMetadata.fromXtext(wrapped.getMetadata());
       // See the comment in the constructor of WrappedScenario for why we do this style of initialization.
       initInputs();
@@ -178,11 +181,7 @@ public class WrappedModel extends AbstractWrappedXtext<Model> implements IModel
 
    @Override
    public String getFullyQualifiedName() {
-      Package p = (Package) wrapped.eContainer();
-      return String.format("%s%s%s",
-                           p == null ? "" : p.getName(),
-                           p == null ? "" : ".",
-                           wrapped.getName());
+      return fullyQualifiedName.getFullyQualifiedName();
    }
 
    @Override
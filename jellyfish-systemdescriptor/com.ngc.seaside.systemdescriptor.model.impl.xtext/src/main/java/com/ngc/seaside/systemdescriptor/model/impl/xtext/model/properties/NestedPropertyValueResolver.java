@@ -39,13 +39,23 @@ import org.eclipse.emf.ecore.util.EcoreUtil;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
+/**
+ * Resolves the values of nested fields of a data property.  The assignments of all the properties containers that are
+ * searched are indexed by declaration and path the first time a value is resolved.  Resolving a value is then a hash
+ * lookup.  Resolvers for different declarations of the same properties container can share the index with
+ * {@link #forDeclaration(ReferencedPropertyFieldDeclaration)}.
+ */
 public class NestedPropertyValueResolver {
 
    protected final Collection<Properties> propertiesToSearch = new ArrayList<>();
    protected final ReferencedPropertyFieldDeclaration declaration;
+   private final AssignmentIndex index;
 
    /**
     * Creates a new resolver.
@@ -62,26 +72,35 @@ public class NestedPropertyValueResolver {
       } else {
          handleUnrecognizedPropertiesContainer(properties);
       }
+      this.index = new AssignmentIndex(propertiesToSearch);
+   }
+
+   private NestedPropertyValueResolver(ReferencedPropertyFieldDeclaration declaration,
+                                       NestedPropertyValueResolver shared) {
+      this.declaration = declaration;
+      this.propertiesToSearch.addAll(shared.propertiesToSearch);
+      this.index = shared.index;
    }
 
    /**
     * Attempts to resolve a value by traversing the given path segments.
     */
    public Optional<PropertyValueAssignment> resoleValue(Collection<String> fieldNames) {
-      String flatPath = fieldNames.stream().collect(Collectors.joining("."));
-      return propertiesToSearch.stream()
-            .flatMap(p -> p.getAssignments().stream())
-            .filter(a -> a.getExpression().getDeclaration().equals(declaration))
-            .filter(a -> arePathsSame(flatPath, a.getExpression().getPathSegments()))
-            .findFirst();
+      List<String> path = fieldNames instanceof List ? (List<String>) fieldNames : new ArrayList<>(fieldNames);
+      return Optional.ofNullable(index.get()
+                                       .getOrDefault(declaration, Collections.emptyMap())
+                                       .get(path));
    }
 
-   private static boolean arePathsSame(String flatPath,
-                                       Collection<PropertyValueExpressionPathSegment> segments) {
-      String flatSegmentPath = segments.stream()
-            .map(s -> s.getFieldDeclaration().getName())
-            .collect(Collectors.joining("."));
-      return flatPath.equals(flatSegmentPath);
+   /**
+    * Gets a resolver for another declaration whose values are assigned in the same properties container as this
+    * resolver.  The returned resolver shares the index of this resolver.
+    *
+    * @param declaration the declaration of the other property
+    * @return a resolver for the given declaration
+    */
+   public NestedPropertyValueResolver forDeclaration(ReferencedPropertyFieldDeclaration declaration) {
+      return declaration == this.declaration ? this : new NestedPropertyValueResolver(declaration, this);
    }
 
    private void populatePropertiesFromModel(Properties properties) {
@@ -201,4 +220,50 @@ public class NestedPropertyValueResolver {
 
       return null;
    }
+
+   /**
+    * An index of property value assignments by declaration and by the names of the fields in the path of the
+    * assignment.  The index is built lazily since the properties to search are not known until after a resolver has
+    * been constructed.  If a path is assigned more than once, the first assignment wins.  Since the properties of the
+    * refining element are searched first, this ensures refinements override the values of the refined element.
+    */
+   private static class AssignmentIndex {
+
+      private final Collection<Properties> propertiesToSearch;
+      private volatile Map<EObject, Map<List<String>, PropertyValueAssignment>> assignments;
+
+      private AssignmentIndex(Collection<Properties> propertiesToSearch) {
+         this.propertiesToSearch = propertiesToSearch;
+      }
+
+      Map<EObject, Map<List<String>, PropertyValueAssignment>> get() {
+         Map<EObject, Map<List<String>, PropertyValueAssignment>> result = assignments;
+         if (result == null) {
+            synchronized (this) {
+               result = assignments;
+               if (result == null) {
+                  result = build();
+                  assignments = result;
+               }
+            }
+         }
+         return result;
+      }
+
+      private Map<EObject, Map<List<String>, PropertyValueAssignment>> build() {
+         Map<EObject, Map<List<String>, PropertyValueAssignment>> index = new HashMap<>();
+         for (Properties properties : propertiesToSearch) {
+            for (PropertyValueAssignment assignment : properties.getAssignments()) {
+               Collection<PropertyValueExpressionPathSegment> segments = assignment.getExpression().getPathSegments();
+               List<String> path = new ArrayList<>(segments.size());
+               for (PropertyValueExpressionPathSegment segment : segments) {
+                  path.add(segment.getFieldDeclaration().getName());
+               }
+               index.computeIfAbsent(assignment.getExpression().getDeclaration(), key -> new HashMap<>())
+                     .putIfAbsent(path, assignment);
+            }
+         }
+         return index;
+      }
+   }
 }
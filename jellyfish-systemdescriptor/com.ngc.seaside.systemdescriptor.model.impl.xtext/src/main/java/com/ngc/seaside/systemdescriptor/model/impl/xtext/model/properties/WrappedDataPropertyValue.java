@@ -71,6 +71,23 @@ public class WrappedDataPropertyValue implements IPropertyDataValue {
       this.propertyValueResolver = createValueResolver(propertyDeclaration, propertiesContainer);
    }
 
+   /**
+    * Creates a new property value that uses the given resolver to resolve the values of nested fields.  This allows
+    * the values of a properties container to share the same resolver index.
+    */
+   public WrappedDataPropertyValue(IWrapperResolver resolver,
+                                   ReferencedPropertyFieldDeclaration propertyDeclaration,
+                                   NestedPropertyValueResolver propertyValueResolver) {
+      this.resolver = Preconditions.checkNotNull(resolver, "resolver may not be null!");
+      this.propertyDeclaration = Preconditions.checkNotNull(propertyDeclaration,
+                                                            "propertyDeclaration may not be null!");
+      Preconditions.checkArgument(propertyDeclaration.getDataModel() instanceof Data,
+                                  "propertyDeclaration must reference a Data object!");
+      this.propertyValueResolver = Preconditions.checkNotNull(propertyValueResolver,
+                                                              "propertyValueResolver may not be null!")
+            .forDeclaration(propertyDeclaration);
+   }
+
    @Override
    public IData getReferencedDataType() {
       return resolver.getWrapperFor((Data) propertyDeclaration.getDataModel());
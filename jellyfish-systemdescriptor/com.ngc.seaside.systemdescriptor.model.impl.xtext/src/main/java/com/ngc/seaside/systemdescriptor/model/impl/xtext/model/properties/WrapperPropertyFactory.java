@@ -37,6 +37,8 @@ import com.ngc.seaside.systemdescriptor.systemDescriptor.ReferencedPropertyField
 import com.ngc.seaside.systemdescriptor.systemDescriptor.SystemDescriptorPackage;
 
 import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * A factory for creating different implementations of {@code IProperty}.
@@ -45,6 +47,12 @@ public class WrapperPropertyFactory {
 
    private final IWrapperResolver resolver;
 
+   /**
+    * The resolvers of nested property values by properties container.  The resolvers share an index of the
+    * container's assignments, so the index is only built once per container.
+    */
+   private final Map<Properties, NestedPropertyValueResolver> valueResolvers = new ConcurrentHashMap<>();
+
    /**
     * Creates a new factory.
     */
@@ -146,10 +154,13 @@ public class WrapperPropertyFactory {
       checkExpressionDeclarationIs(assignment, ReferencedPropertyFieldDeclaration.class);
       ReferencedPropertyFieldDeclaration declaration =
             (ReferencedPropertyFieldDeclaration) assignment.getExpression().getDeclaration();
+      NestedPropertyValueResolver valueResolver = valueResolvers.computeIfAbsent(
+            (Properties) assignment.eContainer(),
+            properties -> new NestedPropertyValueResolver(declaration, properties));
       return new WrappedDataProperty(
             resolver,
             declaration,
-            valuesOf(new WrappedDataPropertyValue(resolver, declaration, (Properties) assignment.eContainer())));
+            valuesOf(new WrappedDataPropertyValue(resolver, declaration, valueResolver)));
    }
 
    /**
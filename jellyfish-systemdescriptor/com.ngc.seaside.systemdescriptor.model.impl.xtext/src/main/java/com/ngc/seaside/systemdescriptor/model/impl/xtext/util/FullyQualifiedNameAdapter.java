@@ -0,0 +1,154 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.systemdescriptor.model.impl.xtext.util;
+
+import com.google.common.base.Preconditions;
+
+import com.ngc.seaside.systemdescriptor.systemDescriptor.Element;
+import com.ngc.seaside.systemdescriptor.systemDescriptor.Package;
+import com.ngc.seaside.systemdescriptor.systemDescriptor.SystemDescriptorPackage;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+
+/**
+ * An EMF adapter that caches the fully qualified name of an XText {@link Element}.  The name is computed once,
+ * interned, and invalidated when the name of the element, the name of its package, or the element of its package
+ * changes.  If the element is moved to a different package, the name is recomputed the next time it is requested.
+ */
+public class FullyQualifiedNameAdapter extends AdapterImpl {
+
+   private final Element element;
+
+   /**
+    * The package this adapter is currently observing, if any.
+    */
+   private Package observedPackage;
+
+   private volatile CachedName cachedName;
+
+   private FullyQualifiedNameAdapter(Element element) {
+      this.element = element;
+   }
+
+   /**
+    * Gets the adapter of the given element, creating and attaching a new adapter if necessary.  Wrappers may be
+    * created while models are traversed in parallel, so adapter lists are only accessed while holding the lock of the
+    * object that owns the list.
+    *
+    * @param element the element to get the adapter for
+    * @return the adapter of the element
+    */
+   public static FullyQualifiedNameAdapter adapt(Element element) {
+      Preconditions.checkNotNull(element, "element may not be null!");
+      synchronized (element) {
+         FullyQualifiedNameAdapter adapter = (FullyQualifiedNameAdapter) EcoreUtil.getExistingAdapter(
+               element,
+               FullyQualifiedNameAdapter.class);
+         if (adapter == null) {
+            adapter = new FullyQualifiedNameAdapter(element);
+            element.eAdapters().add(adapter);
+         }
+         return adapter;
+      }
+   }
+
+   /**
+    * Gets the interned fully qualified name of the element.
+    *
+    * @return the fully qualified name of the element
+    */
+   public String getFullyQualifiedName() {
+      EObject container = element.eContainer();
+      CachedName cached = cachedName;
+      if (cached == null || cached.container != container) {
+         cached = computeName(container);
+      }
+      return cached.name;
+   }
+
+   @Override
+   public boolean isAdapterForType(Object type) {
+      return type == FullyQualifiedNameAdapter.class;
+   }
+
+   @Override
+   public void notifyChanged(Notification notification) {
+      Object feature = notification.getFeature();
+      if (feature == SystemDescriptorPackage.Literals.ELEMENT__NAME
+            || feature == SystemDescriptorPackage.Literals.PACKAGE__NAME
+            || feature == SystemDescriptorPackage.Literals.PACKAGE__ELEMENT) {
+         cachedName = null;
+      }
+   }
+
+   @Override
+   public void setTarget(Notifier newTarget) {
+      // This adapter is attached to both the element and its package; the element is tracked explicitly.
+   }
+
+   @Override
+   public void unsetTarget(Notifier oldTarget) {
+      // See setTarget.
+   }
+
+   private synchronized CachedName computeName(EObject container) {
+      Package p = (Package) container;
+      if (p != observedPackage) {
+         // The adapters of every element in a package are attached to the package, so lock the package.
+         if (observedPackage != null) {
+            synchronized (observedPackage) {
+               observedPackage.eAdapters().remove(this);
+            }
+         }
+         if (p != null) {
+            synchronized (p) {
+               p.eAdapters().add(this);
+            }
+         }
+         observedPackage = p;
+      }
+
+      String name = p == null ? String.valueOf(element.getName()) : p.getName() + "." + element.getName();
+      CachedName cached = new CachedName(container, name.intern());
+      cachedName = cached;
+      return cached;
+   }
+
+   /**
+    * An immutable pairing of a computed name and the container it was computed for.
+    */
+   private static class CachedName {
+
+      private final EObject container;
+      private final String name;
+
+      private CachedName(EObject container, String name) {
+         this.container = container;
+         this.name = name;
+      }
+   }
+}
@@ -22,6 +22,7 @@
  */
 package com.ngc.seaside.systemdescriptor.model.impl.xtext;
 
+import com.ngc.seaside.systemdescriptor.model.api.IPackage;
 import com.ngc.seaside.systemdescriptor.model.api.data.IData;
 import com.ngc.seaside.systemdescriptor.model.api.model.IModel;
 import com.ngc.seaside.systemdescriptor.systemDescriptor.Data;
@@ -36,9 +37,19 @@ import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.Mockito.mock;
@@ -93,6 +104,59 @@ public class WrappedSystemDescriptorTest extends AbstractWrappedXtextTest {
                  wrapped.getPackages().getByName(xtextPackage2.getName()).isPresent());
    }
 
+   @Test
+   public void testDoesIterateAllPackagesInOrder() throws Throwable {
+      // Wrap the second package first.
+      assertTrue("did not wrap package!",
+                 wrapped.getPackages().getByName(xtextPackage2.getName()).isPresent());
+
+      List<String> names = new ArrayList<>();
+      wrapped.getPackages().forEach(p -> names.add(p.getName()));
+      assertEquals("packages not in the correct order!",
+                   Arrays.asList(xtextPackage1.getName(), xtextPackage2.getName()),
+                   names);
+      assertEquals("wrong number of packages!",
+                   2,
+                   wrapped.getPackages().size());
+      assertFalse("package should not be found!",
+                  wrapped.getPackages().getByName("hello.missing").isPresent());
+      assertFalse("packages should not be empty!",
+                  wrapped.getPackages().isEmpty());
+   }
+
+   @Test
+   public void testDoesWrapEachPackageOnceWhenReadConcurrently() throws Throwable {
+      int threadCount = 8;
+      ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+      try {
+         CountDownLatch start = new CountDownLatch(1);
+         List<Future<List<IPackage>>> futures = new ArrayList<>();
+         for (int i = 0; i < threadCount; i++) {
+            futures.add(executor.submit(() -> {
+               start.await();
+               return Arrays.asList(wrapped.getPackages().getByName(xtextPackage1.getName()).get(),
+                                    wrapped.getPackages().getByName(xtextPackage2.getName()).get());
+            }));
+         }
+         start.countDown();
+
+         List<IPackage> expected = futures.get(0).get(10, TimeUnit.SECONDS);
+         for (Future<List<IPackage>> future : futures) {
+            List<IPackage> packages = future.get(10, TimeUnit.SECONDS);
+            for (int i = 0; i < expected.size(); i++) {
+               assertSame("each package should only be wrapped once!",
+                          expected.get(i),
+                          packages.get(i));
+            }
+         }
+         assertEquals("wrong number of packages!",
+                      2,
+                      wrapped.getPackages().size());
+      } finally {
+         executor.shutdownNow();
+      }
+   }
+
    @Test
    public void testDoesFindData() throws Throwable {
       Optional<IData> data = wrapped.findData(xtextPackage1.getName(), "MyData");
@@ -0,0 +1,115 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.systemdescriptor.model.impl.xtext.collection;
+
+import com.ngc.seaside.systemdescriptor.model.api.data.IData;
+import com.ngc.seaside.systemdescriptor.model.api.data.IDataField;
+import com.ngc.seaside.systemdescriptor.model.impl.basic.data.DataField;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class DeferredNamedChildCollectionTest {
+
+   private static final int THREADS = 8;
+
+   private static final int ITERATIONS = 200;
+
+   private static final int CHILDREN = 50;
+
+   @Test
+   public void testDoesInitializeOnlyOnceAndPublishFullyPopulatedCollection() throws Throwable {
+      ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+      try {
+         for (int iteration = 0; iteration < ITERATIONS; iteration++) {
+            TestCollection collection = new TestCollection();
+            CyclicBarrier barrier = new CyclicBarrier(THREADS);
+            Collection<Future<?>> futures = new ArrayList<>();
+
+            for (int thread = 0; thread < THREADS; thread++) {
+               int operation = thread;
+               futures.add(executor.submit(() -> {
+                  barrier.await();
+                  switch (operation % 3) {
+                     case 0:
+                        assertEquals("size not correct!", CHILDREN, collection.size());
+                        break;
+                     case 1:
+                        assertTrue("getByName not correct!",
+                                   collection.getByName("field" + (CHILDREN - 1)).isPresent());
+                        break;
+                     default:
+                        List<IDataField> fields = new ArrayList<>();
+                        collection.forEach(fields::add);
+                        assertEquals("iterator not correct!", CHILDREN, fields.size());
+                        break;
+                  }
+                  return null;
+               }));
+            }
+
+            for (Future<?> future : futures) {
+               future.get(30, TimeUnit.SECONDS);
+            }
+            assertEquals("initialize should only be called once!", 1, collection.initializations.get());
+         }
+      } finally {
+         executor.shutdownNow();
+      }
+   }
+
+   @Test
+   public void testDoesAllowAddAfterInitialization() {
+      TestCollection collection = new TestCollection();
+      assertTrue("add not correct!", collection.add(new DataField("another")));
+      assertEquals("size not correct!", CHILDREN + 1, collection.size());
+      assertEquals("initialize should only be called once!", 1, collection.initializations.get());
+   }
+
+   private static class TestCollection extends DeferredNamedChildCollection<IData, IDataField> {
+
+      private final AtomicInteger initializations = new AtomicInteger();
+
+      @Override
+      protected void initialize() {
+         initializations.incrementAndGet();
+         for (int i = 0; i < CHILDREN; i++) {
+            add(new DataField("field" + i));
+            // Widen the window in which a reader could observe a partially populated collection.
+            Thread.yield();
+         }
+      }
+   }
+}
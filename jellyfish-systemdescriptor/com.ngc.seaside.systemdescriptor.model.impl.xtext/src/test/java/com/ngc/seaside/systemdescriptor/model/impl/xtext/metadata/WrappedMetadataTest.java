@@ -31,14 +31,22 @@ import com.ngc.seaside.systemdescriptor.systemDescriptor.DblValue;
 import com.ngc.seaside.systemdescriptor.systemDescriptor.IntValue;
 import com.ngc.seaside.systemdescriptor.systemDescriptor.JsonObject;
 import com.ngc.seaside.systemdescriptor.systemDescriptor.JsonValue;
+import com.ngc.seaside.systemdescriptor.systemDescriptor.Member;
 import com.ngc.seaside.systemdescriptor.systemDescriptor.Metadata;
 import com.ngc.seaside.systemdescriptor.systemDescriptor.NullValue;
 import com.ngc.seaside.systemdescriptor.systemDescriptor.StringValue;
 
+import org.eclipse.emf.ecore.EObject;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static com.ngc.seaside.systemdescriptor.model.impl.xtext.metadata.WrappedMetadata.newArrayValue;
 import static com.ngc.seaside.systemdescriptor.model.impl.xtext.metadata.WrappedMetadata.newBooleanValue;
@@ -50,6 +58,8 @@ import static com.ngc.seaside.systemdescriptor.model.impl.xtext.metadata.Wrapped
 import static com.ngc.seaside.systemdescriptor.model.impl.xtext.metadata.WrappedMetadata.newStringValue;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 public class WrappedMetadataTest extends AbstractWrappedXtextTest {
@@ -153,4 +163,80 @@ public class WrappedMetadataTest extends AbstractWrappedXtextTest {
       assertEquals(Boolean.FALSE.toString(),
                    ((BooleanValue) andBackAgain.getJson().getMembers().get(7).getValue()).getValue());
    }
+
+   @Test
+   public void testDoesShareConvertedMetadata() throws Throwable {
+      IMetadata first = WrappedMetadata.fromXtext(metadata);
+      IMetadata second = WrappedMetadata.fromXtext(metadata);
+
+      assertSame("converted JSON should be cached on the metadata!",
+                 first.getJson(),
+                 second.getJson());
+      assertSame("converted JSON should be cached on the metadata!",
+                 first.getJson(),
+                 WrappedMetadata.fromXtextJson(metadata.getJson()).getJson());
+   }
+
+   @Test
+   public void testDoesInvalidateConvertedMetadataWhenXtextChanges() throws Throwable {
+      wrapped = WrappedMetadata.fromXtext(metadata);
+      javax.json.JsonObject before = wrapped.getJson();
+
+      JsonObject nested = ((JsonValue) metadata.getJson().getMembers().get(5).getValue()).getValue();
+      Member once = nested.getMembers().get(0);
+      once.setValue(newStringValue("more"));
+
+      assertNotSame("converted JSON should be invalidated!",
+                    before,
+                    wrapped.getJson());
+      assertEquals("more",
+                   wrapped.getJson().getJsonObject("nested").getJsonString("once").getString());
+   }
+
+   @Test
+   public void testDoesNotWriteThroughWhenJsonIsSet() throws Throwable {
+      wrapped = WrappedMetadata.fromXtext(metadata);
+      wrapped.setJson(javax.json.JsonValue.EMPTY_JSON_OBJECT);
+
+      assertTrue(wrapped.getJson().isEmpty());
+      assertEquals("world",
+                   WrappedMetadata.fromXtext(metadata).getJson().getJsonString("hello").getString());
+   }
+
+   @Test
+   public void testDoesAttachOneAdapterWhenWrappedConcurrently() throws Throwable {
+      int threads = 8;
+      ExecutorService executor = Executors.newFixedThreadPool(threads);
+      try {
+         CountDownLatch start = new CountDownLatch(1);
+         Collection<Future<?>> futures = new ArrayList<>();
+         for (int i = 0; i < threads; i++) {
+            futures.add(executor.submit(() -> {
+               start.await();
+               for (int j = 0; j < 1000; j++) {
+                  assertEquals("world",
+                               WrappedMetadata.fromXtext(metadata).getJson().getJsonString("hello").getString());
+               }
+               return null;
+            }));
+         }
+         start.countDown();
+         for (Future<?> future : futures) {
+            future.get();
+         }
+      } finally {
+         executor.shutdownNow();
+      }
+
+      assertEquals("only one adapter should be attached!",
+                   1,
+                   countAdapters(metadata));
+      metadata.eAllContents().forEachRemaining(object -> assertEquals("only one adapter should be attached!",
+                                                                      1,
+                                                                      countAdapters(object)));
+   }
+
+   private static long countAdapters(EObject object) {
+      return object.eAdapters().stream().filter(MetadataJsonAdapter.class::isInstance).count();
+   }
 }
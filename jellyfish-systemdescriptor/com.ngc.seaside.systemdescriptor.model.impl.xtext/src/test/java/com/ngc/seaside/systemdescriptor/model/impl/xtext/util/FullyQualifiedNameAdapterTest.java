@@ -0,0 +1,135 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.systemdescriptor.model.impl.xtext.util;
+
+import com.ngc.seaside.systemdescriptor.systemDescriptor.Model;
+import com.ngc.seaside.systemdescriptor.systemDescriptor.Package;
+import com.ngc.seaside.systemdescriptor.systemDescriptor.SystemDescriptorFactory;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class FullyQualifiedNameAdapterTest {
+
+   private Model model;
+
+   private Package p;
+
+   @Before
+   public void setup() throws Throwable {
+      model = SystemDescriptorFactory.eINSTANCE.createModel();
+      model.setName("Foo");
+
+      p = SystemDescriptorFactory.eINSTANCE.createPackage();
+      p.setName("my.package");
+      p.setElement(model);
+   }
+
+   @Test
+   public void testDoesCacheInternedName() throws Throwable {
+      FullyQualifiedNameAdapter adapter = FullyQualifiedNameAdapter.adapt(model);
+      String name = adapter.getFullyQualifiedName();
+      assertEquals("my.package.Foo", name);
+      assertSame("name should be interned!", "my.package.Foo", name);
+      assertSame(name, adapter.getFullyQualifiedName());
+      assertSame("adapter should be reused!", adapter, FullyQualifiedNameAdapter.adapt(model));
+   }
+
+   @Test
+   public void testDoesUpdateNameWhenElementOrPackageChanges() throws Throwable {
+      FullyQualifiedNameAdapter adapter = FullyQualifiedNameAdapter.adapt(model);
+      assertEquals("my.package.Foo", adapter.getFullyQualifiedName());
+
+      model.setName("Bar");
+      assertEquals("my.package.Bar", adapter.getFullyQualifiedName());
+
+      p.setName("my.other.package");
+      assertEquals("my.other.package.Bar", adapter.getFullyQualifiedName());
+
+      Package newPackage = SystemDescriptorFactory.eINSTANCE.createPackage();
+      newPackage.setName("my.new.package");
+      newPackage.setElement(model);
+      assertEquals("my.new.package.Bar", adapter.getFullyQualifiedName());
+
+      // The old package is no longer observed.
+      p.setName("my.old.package");
+      assertEquals("my.new.package.Bar", adapter.getFullyQualifiedName());
+      newPackage.setName("my.renamed.package");
+      assertEquals("my.renamed.package.Bar", adapter.getFullyQualifiedName());
+   }
+
+   @Test
+   public void testDoesAttachOneAdapterWhenAdaptedConcurrently() throws Throwable {
+      Collection<Model> models = new ArrayList<>();
+      models.add(model);
+      for (int i = 0; i < 10; i++) {
+         Package otherPackage = SystemDescriptorFactory.eINSTANCE.createPackage();
+         otherPackage.setName("my.package");
+         Model other = SystemDescriptorFactory.eINSTANCE.createModel();
+         other.setName("Foo" + i);
+         otherPackage.setElement(other);
+         models.add(other);
+      }
+
+      int threads = 8;
+      ExecutorService executor = Executors.newFixedThreadPool(threads);
+      try {
+         CountDownLatch start = new CountDownLatch(1);
+         Collection<Future<?>> futures = new ArrayList<>();
+         for (int i = 0; i < threads; i++) {
+            futures.add(executor.submit(() -> {
+               start.await();
+               for (int j = 0; j < 1000; j++) {
+                  for (Model m : models) {
+                     FullyQualifiedNameAdapter.adapt(m).getFullyQualifiedName();
+                  }
+               }
+               return null;
+            }));
+         }
+         start.countDown();
+         for (Future<?> future : futures) {
+            future.get();
+         }
+      } finally {
+         executor.shutdownNow();
+      }
+
+      for (Model m : models) {
+         assertEquals("only one adapter should be attached!",
+                      1,
+                      m.eAdapters().stream().filter(FullyQualifiedNameAdapter.class::isInstance).count());
+      }
+      assertEquals("my.package.Foo", FullyQualifiedNameAdapter.adapt(model).getFullyQualifiedName());
+   }
+}
@@ -73,7 +73,8 @@ public interface ISystemDescriptorService {
    IParsingResult parseFiles(Collection<Path> paths);
 
    /**
-    * Returns an immutable copy of the given {@code ISystemDescriptor}
+    * Returns an immutable copy of the given {@code ISystemDescriptor}.  The copy does not reference the original
+    * descriptor and can safely be shared and traversed by multiple threads.
     *
     * @param descriptor the descriptor to create a copy of
     * @return an immutable copy
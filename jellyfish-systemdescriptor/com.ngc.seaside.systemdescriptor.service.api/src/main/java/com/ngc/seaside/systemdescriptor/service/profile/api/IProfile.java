@@ -0,0 +1,54 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.systemdescriptor.service.profile.api;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The spans and counters recorded by the {@link Profiler} while profiling was enabled.
+ */
+public interface IProfile {
+
+   /**
+    * Gets the spans that were started while no other span was open on the same thread.  Nested spans are available
+    * with {@link IProfileSpan#getChildren()}.
+    *
+    * @return the top level spans in the order they were started
+    */
+   List<IProfileSpan> getSpans();
+
+   /**
+    * Gets the values of all counters incremented with {@link Profiler#count(String, long)}.
+    *
+    * @return the counters by name
+    */
+   Map<String, Long> getCounters();
+
+   /**
+    * Gets the number of nanoseconds profiling was enabled.
+    *
+    * @return the duration of the profile in nanoseconds
+    */
+   long getDurationNanos();
+}
@@ -0,0 +1,59 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.systemdescriptor.service.profile.api;
+
+import java.util.List;
+
+/**
+ * A named and timed section of work recorded by the {@link Profiler}.
+ */
+public interface IProfileSpan {
+
+   /**
+    * Gets the name of the span, such as {@code parsing} or {@code validation:MyValidator}.
+    */
+   String getName();
+
+   /**
+    * Gets the name of the thread that executed the span.
+    */
+   String getThreadName();
+
+   /**
+    * Gets the number of nanoseconds between the start of profiling and the start of this span.
+    */
+   long getStartNanos();
+
+   /**
+    * Gets the number of nanoseconds this span was open.  If the span is still open, returns the time that has
+    * elapsed so far.
+    */
+   long getDurationNanos();
+
+   /**
+    * Gets the spans that were started on the same thread while this span was open.
+    *
+    * @return the nested spans in the order they were started
+    */
+   List<IProfileSpan> getChildren();
+}
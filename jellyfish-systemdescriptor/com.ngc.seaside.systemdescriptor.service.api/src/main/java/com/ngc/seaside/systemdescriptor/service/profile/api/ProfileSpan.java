@@ -0,0 +1,104 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.systemdescriptor.service.profile.api;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A span returned by {@link Profiler#span(String)}.  Spans are closed with {@link #close()}, usually with a
+ * try-with-resources statement.  The {@link Profiler#disabled() disabled} profiler returns a shared span that
+ * ignores {@code close()}.
+ */
+public final class ProfileSpan implements IProfileSpan, AutoCloseable {
+
+   static final ProfileSpan DISABLED = new ProfileSpan(null, null, "disabled", "", 0);
+
+   private final Profiler profiler;
+   final Profiler.Recording recording;
+   private final String name;
+   private final String threadName;
+   private final long start;
+   private final List<IProfileSpan> children = Collections.synchronizedList(new ArrayList<>());
+   private volatile long end = -1;
+
+   ProfileSpan(Profiler profiler, Profiler.Recording recording, String name, String threadName, long start) {
+      this.profiler = profiler;
+      this.recording = recording;
+      this.name = name;
+      this.threadName = threadName;
+      this.start = start;
+   }
+
+   @Override
+   public String getName() {
+      return name;
+   }
+
+   @Override
+   public String getThreadName() {
+      return threadName;
+   }
+
+   @Override
+   public long getStartNanos() {
+      return recording == null ? 0 : start - recording.start;
+   }
+
+   @Override
+   public long getDurationNanos() {
+      if (recording == null) {
+         return 0;
+      }
+      long stop = end;
+      return (stop < 0 ? System.nanoTime() : stop) - start;
+   }
+
+   @Override
+   public List<IProfileSpan> getChildren() {
+      synchronized (children) {
+         return Collections.unmodifiableList(new ArrayList<>(children));
+      }
+   }
+
+   /**
+    * Ends this span.  Closing a span more than once has no effect.
+    */
+   @Override
+   public void close() {
+      if (recording != null && end < 0) {
+         end = System.nanoTime();
+         profiler.ended(this);
+      }
+   }
+
+   void addChild(ProfileSpan child) {
+      children.add(child);
+   }
+
+   @Override
+   public String toString() {
+      return name + " (" + getDurationNanos() / 1_000_000 + " ms)";
+   }
+}
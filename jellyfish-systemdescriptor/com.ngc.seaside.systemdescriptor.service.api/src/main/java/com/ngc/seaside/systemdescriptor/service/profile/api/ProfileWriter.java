@@ -0,0 +1,169 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.systemdescriptor.service.profile.api;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import javax.json.Json;
+import javax.json.stream.JsonGenerator;
+
+/**
+ * Writes an {@link IProfile} to a file.
+ */
+public class ProfileWriter {
+
+   /**
+    * The formats a profile can be written in.
+    */
+   public enum Format {
+      /**
+       * A JSON document containing the tree of spans and the counters.  Times are in milliseconds.
+       */
+      JSON,
+      /**
+       * The Trace Event Format which can be opened with {@code chrome://tracing} or Perfetto.
+       */
+      CHROME_TRACE
+   }
+
+   private ProfileWriter() {
+   }
+
+   /**
+    * Writes the given profile to the given file.
+    *
+    * @param profile the profile to write
+    * @param format  the format to write the profile in
+    * @param file    the file to write
+    * @throws IOException if the file could not be written
+    */
+   public static void write(IProfile profile, Format format, Path file) throws IOException {
+      Objects.requireNonNull(profile, "profile may not be null!");
+      Objects.requireNonNull(format, "format may not be null!");
+      Objects.requireNonNull(file, "file may not be null!");
+      Path parent = file.toAbsolutePath().getParent();
+      if (parent != null) {
+         Files.createDirectories(parent);
+      }
+      try (OutputStream out = Files.newOutputStream(file);
+           JsonGenerator generator = Json.createGenerator(out)) {
+         switch (format) {
+            case JSON:
+               writeJson(profile, generator);
+               break;
+            case CHROME_TRACE:
+               writeChromeTrace(profile, generator);
+               break;
+            default:
+               throw new IllegalArgumentException("unknown format " + format);
+         }
+      }
+   }
+
+   private static void writeJson(IProfile profile, JsonGenerator generator) {
+      generator.writeStartObject();
+      generator.write("durationMillis", toMillis(profile.getDurationNanos()));
+      generator.writeStartObject("counters");
+      profile.getCounters().forEach((name, value) -> generator.write(name, value.longValue()));
+      generator.writeEnd();
+      writeJsonSpans("spans", profile.getSpans(), generator);
+      generator.writeEnd();
+   }
+
+   private static void writeJsonSpans(String name, List<IProfileSpan> spans, JsonGenerator generator) {
+      generator.writeStartArray(name);
+      for (IProfileSpan span : spans) {
+         generator.writeStartObject();
+         generator.write("name", span.getName());
+         generator.write("thread", span.getThreadName());
+         generator.write("startMillis", toMillis(span.getStartNanos()));
+         generator.write("durationMillis", toMillis(span.getDurationNanos()));
+         List<IProfileSpan> children = span.getChildren();
+         if (!children.isEmpty()) {
+            writeJsonSpans("children", children, generator);
+         }
+         generator.writeEnd();
+      }
+      generator.writeEnd();
+   }
+
+   private static void writeChromeTrace(IProfile profile, JsonGenerator generator) {
+      Map<String, Integer> threadIds = new HashMap<>();
+      generator.writeStartObject();
+      generator.writeStartArray("traceEvents");
+      writeChromeTraceSpans(profile.getSpans(), threadIds, generator);
+      threadIds.forEach((thread, id) -> {
+         generator.writeStartObject();
+         generator.write("name", "thread_name");
+         generator.write("ph", "M");
+         generator.write("pid", 1);
+         generator.write("tid", id);
+         generator.writeStartObject("args");
+         generator.write("name", thread);
+         generator.writeEnd();
+         generator.writeEnd();
+      });
+      if (!profile.getCounters().isEmpty()) {
+         generator.writeStartObject();
+         generator.write("name", "counters");
+         generator.write("ph", "C");
+         generator.write("ts", TimeUnit.NANOSECONDS.toMicros(profile.getDurationNanos()));
+         generator.write("pid", 1);
+         generator.writeStartObject("args");
+         profile.getCounters().forEach((name, value) -> generator.write(name, value.longValue()));
+         generator.writeEnd();
+         generator.writeEnd();
+      }
+      generator.writeEnd();
+      generator.writeEnd();
+   }
+
+   private static void writeChromeTraceSpans(List<IProfileSpan> spans,
+                                             Map<String, Integer> threadIds,
+                                             JsonGenerator generator) {
+      for (IProfileSpan span : spans) {
+         int tid = threadIds.computeIfAbsent(span.getThreadName(), thread -> threadIds.size() + 1);
+         generator.writeStartObject();
+         generator.write("name", span.getName());
+         generator.write("ph", "X");
+         generator.write("ts", TimeUnit.NANOSECONDS.toMicros(span.getStartNanos()));
+         generator.write("dur", TimeUnit.NANOSECONDS.toMicros(span.getDurationNanos()));
+         generator.write("pid", 1);
+         generator.write("tid", tid);
+         generator.writeEnd();
+         writeChromeTraceSpans(span.getChildren(), threadIds, generator);
+      }
+   }
+
+   private static double toMillis(long nanos) {
+      return nanos / 1_000_000.0;
+   }
+}
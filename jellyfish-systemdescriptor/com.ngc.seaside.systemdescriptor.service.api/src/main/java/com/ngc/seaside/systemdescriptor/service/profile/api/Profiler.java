@@ -0,0 +1,186 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.systemdescriptor.service.profile.api;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Records nested, timed spans and counters while Jellyfish runs.  A profiler records a single profile.  It is created
+ * with {@link #start()} and the recorded {@link IProfile} is returned by {@link #stop()}.  Code that is not being
+ * profiled uses the {@link #disabled() disabled} profiler.  The disabled profiler does not allocate in
+ * {@link #span(String)} or {@link #count(String, long)}, so code may be instrumented freely:
+ * <pre>
+ *    try (ProfileSpan span = profiler.span("parsing")) {
+ *       ...
+ *    }
+ * </pre>
+ * Jellyfish creates a new profiler for each execution that is profiled and binds it in the injector of that
+ * execution.  Components receive it with an optional injection and use the disabled profiler otherwise, so executions
+ * that run concurrently record separate profiles.  Spans are nested per thread; a span started on a thread with no
+ * open span is a top level span of the profile.
+ */
+public final class Profiler {
+
+   private static final Profiler DISABLED = new Profiler(null);
+
+   private final ThreadLocal<Deque<ProfileSpan>> openSpans = ThreadLocal.withInitial(ArrayDeque::new);
+
+   private volatile Recording recording;
+
+   private Profiler(Recording recording) {
+      this.recording = recording;
+   }
+
+   /**
+    * Creates a new profiler that starts recording a profile immediately.
+    *
+    * @return the new profiler
+    */
+   public static Profiler start() {
+      return new Profiler(new Recording());
+   }
+
+   /**
+    * Gets the profiler that never records.
+    *
+    * @return the disabled profiler
+    */
+   public static Profiler disabled() {
+      return DISABLED;
+   }
+
+   /**
+    * Stops recording and returns the profile.  Once stopped, this profiler no longer records.
+    *
+    * @return the recorded profile
+    * @throws IllegalStateException if this profiler is not recording
+    */
+   public IProfile stop() {
+      Recording current = recording;
+      if (current == null) {
+         throw new IllegalStateException("profiling was not started!");
+      }
+      recording = null;
+      current.end = System.nanoTime();
+      return current;
+   }
+
+   /**
+    * Returns true if this profiler is currently recording a profile.
+    */
+   public boolean isEnabled() {
+      return recording != null;
+   }
+
+   /**
+    * Starts a new span.  The span is nested in the span of this profiler that is currently open on the calling thread,
+    * if any.
+    *
+    * @param name the name of the span
+    * @return the span which must be closed when the work is complete
+    */
+   public ProfileSpan span(String name) {
+      Recording current = recording;
+      if (current == null) {
+         return ProfileSpan.DISABLED;
+      }
+      Objects.requireNonNull(name, "name may not be null!");
+      Deque<ProfileSpan> open = openSpans.get();
+      ProfileSpan parent = open.peek();
+      ProfileSpan span = new ProfileSpan(this, current, name, Thread.currentThread().getName(), System.nanoTime());
+      if (parent == null) {
+         current.spans.add(span);
+      } else {
+         parent.addChild(span);
+      }
+      open.push(span);
+      return span;
+   }
+
+   /**
+    * Adds the given amount to the counter with the given name.
+    *
+    * @param name  the name of the counter, such as {@code files.parsed}
+    * @param delta the amount to add
+    */
+   public void count(String name, long delta) {
+      Recording current = recording;
+      if (current != null) {
+         current.counters.computeIfAbsent(name, key -> new AtomicLong()).addAndGet(delta);
+      }
+   }
+
+   /**
+    * Invoked when a span is closed to remove the span from the thread's open spans.  Spans are usually closed in
+    * order; if an enclosing span is closed first, the spans nested in it are removed as well.
+    */
+   void ended(ProfileSpan span) {
+      Deque<ProfileSpan> open = openSpans.get();
+      if (open.contains(span)) {
+         ProfileSpan removed;
+         do {
+            removed = open.pop();
+         } while (removed != span);
+      }
+   }
+
+   /**
+    * The profile recorded by a profiler.
+    */
+   static class Recording implements IProfile {
+
+      final long start = System.nanoTime();
+      final List<IProfileSpan> spans = Collections.synchronizedList(new ArrayList<>());
+      final Map<String, AtomicLong> counters = new ConcurrentHashMap<>();
+      volatile long end = -1;
+
+      @Override
+      public List<IProfileSpan> getSpans() {
+         synchronized (spans) {
+            return Collections.unmodifiableList(new ArrayList<>(spans));
+         }
+      }
+
+      @Override
+      public Map<String, Long> getCounters() {
+         Map<String, Long> values = new TreeMap<>();
+         counters.forEach((name, value) -> values.put(name, value.get()));
+         return Collections.unmodifiableMap(values);
+      }
+
+      @Override
+      public long getDurationNanos() {
+         long stop = end;
+         return (stop < 0 ? System.nanoTime() : stop) - start;
+      }
+   }
+}
@@ -23,11 +23,8 @@
 package com.ngc.seaside.systemdescriptor.service.source.api;
 
 import java.io.Serializable;
-import java.lang.invoke.MethodType;
 import java.lang.invoke.SerializedLambda;
 import java.lang.reflect.Executable;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 
 /**
  * Interface intending to be used as a functional interface that implements {@link Serializable} in order to use
@@ -38,68 +35,15 @@ import java.lang.reflect.Method;
 interface SerializedFunctionalInterface extends Serializable {
 
    /**
-    * Returns the method or constructor that the implementation of this functional interface calls.
-    * 
+    * Returns the method or constructor that the implementation of this functional interface calls.  The result is
+    * cached per implementing class, so reflection only happens the first time a method reference is used.
+    *
     * @return the method that the implementation of this functional interface calls
     * @throws IllegalStateException if the method cannot be determined or if this implementation was not created from a
     *            method reference.
     */
    default Executable getMethodOrConstructor() {
-      Method replaceMethod;
-      SerializedLambda lambda;
-      try {
-         // Lambdas and method references have a writeReplace method that takes no arguments and returns an instance
-         // of SerializedLambda
-         replaceMethod = getClass().getDeclaredMethod("writeReplace");
-         replaceMethod.setAccessible(true);
-         lambda = (SerializedLambda) replaceMethod.invoke(this);
-         if (lambda.getCapturingClass().equals(lambda.getImplClass())) {
-            // lambda was used, not a method reference
-            throw new IllegalArgumentException();
-         }
-      } catch (NoSuchMethodException | ClassCastException | IllegalArgumentException | InvocationTargetException e) {
-         throw new IllegalStateException("A method reference of the form `ClassName::methodName` must be used");
-      } catch (IllegalAccessException e) {
-         throw new AssertionError(e);
-      }
-      ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
-      String classname = lambda.getImplClass().replace('/', '.');
-      Class<?> cls;
-      try {
-         cls = Class.forName(classname, false, classLoader);
-      } catch (ClassNotFoundException e) {
-         throw new IllegalStateException(e);
-      }
-      MethodType methodType = MethodType.fromMethodDescriptorString(lambda.getImplMethodSignature(),
-               classLoader);
-      Executable executable = null;
-      if ("<init>".equals(lambda.getImplMethodName())) {
-         try {
-            executable = cls.getDeclaredConstructor(methodType.parameterArray());
-         } catch (NoSuchMethodException e) {
-            // ignore
-         }
-      } else {
-         // Traverse the class's super classes to find the method
-         while (cls != null) {
-            try {
-               executable = cls.getDeclaredMethod(lambda.getImplMethodName(), methodType.parameterArray());
-               break;
-            } catch (NoSuchMethodException e) {
-               // ignore
-            }
-            cls = cls.getSuperclass();
-         }
-      }
-      if (executable == null) {
-         throw new IllegalStateException("Could not find method/constructor " + lambda.getImplMethodSignature());
-      }
-      if (executable.getDeclaringClass().isSynthetic() && !executable.getDeclaringClass().isAnonymousClass()
-               && !executable.getDeclaringClass().isLocalClass()) {
-         // method is a lambda, not a method reference
-         throw new IllegalStateException("A method reference of the form `Classname::methodname` must be used");
-      }
-      return executable;
+      return SerializedFunctionalInterfaces.getMethodOrConstructor(this);
    }
 
 }
@@ -0,0 +1,134 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.systemdescriptor.service.profile.api;
+
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ProfilerTest {
+
+   @Test
+   public void testDoesNotRecordWhenDisabled() {
+      Profiler profiler = Profiler.disabled();
+      assertFalse(profiler.isEnabled());
+      try (ProfileSpan span = profiler.span("ignored")) {
+         assertSame("spans should not be created when profiling is disabled!", ProfileSpan.DISABLED, span);
+         profiler.count("ignored", 1);
+      }
+   }
+
+   @Test
+   public void testDoesRecordNestedSpansAndCounters() {
+      Profiler profiler = Profiler.start();
+      try (ProfileSpan outer = profiler.span("outer")) {
+         try (ProfileSpan inner = profiler.span("inner")) {
+            profiler.count("things", 2);
+         }
+         profiler.count("things", 3);
+      }
+      try (ProfileSpan second = profiler.span("second")) {
+         profiler.count("other", 1);
+      }
+      IProfile profile = profiler.stop();
+
+      assertFalse(profiler.isEnabled());
+      assertEquals(2, profile.getSpans().size());
+      IProfileSpan outer = profile.getSpans().get(0);
+      assertEquals("outer", outer.getName());
+      assertEquals(1, outer.getChildren().size());
+      assertEquals("inner", outer.getChildren().get(0).getName());
+      assertTrue(outer.getDurationNanos() >= outer.getChildren().get(0).getDurationNanos());
+      assertEquals("second", profile.getSpans().get(1).getName());
+      assertEquals(Long.valueOf(5), profile.getCounters().get("things"));
+      assertEquals(Long.valueOf(1), profile.getCounters().get("other"));
+   }
+
+   @Test
+   public void testDoesRecordProfilersIndependently() {
+      Profiler first = Profiler.start();
+      Profiler second = Profiler.start();
+      try (ProfileSpan outer = first.span("first")) {
+         try (ProfileSpan other = second.span("second")) {
+            first.count("things", 1);
+            second.count("things", 2);
+         }
+      }
+      IProfile firstProfile = first.stop();
+      IProfile secondProfile = second.stop();
+
+      assertEquals(1, firstProfile.getSpans().size());
+      assertEquals("first", firstProfile.getSpans().get(0).getName());
+      assertTrue("spans of another profiler should not be nested!",
+                 firstProfile.getSpans().get(0).getChildren().isEmpty());
+      assertEquals(1, secondProfile.getSpans().size());
+      assertEquals("second", secondProfile.getSpans().get(0).getName());
+      assertEquals(Long.valueOf(1), firstProfile.getCounters().get("things"));
+      assertEquals(Long.valueOf(2), secondProfile.getCounters().get("things"));
+   }
+
+   @Test(expected = IllegalStateException.class)
+   public void testDoesRequireProfilingToBeStartedBeforeStopping() {
+      Profiler.disabled().stop();
+   }
+
+   @Test(expected = IllegalStateException.class)
+   public void testDoesNotStopProfilerTwice() {
+      Profiler profiler = Profiler.start();
+      profiler.stop();
+      profiler.stop();
+   }
+
+   @Test
+   public void testDoesWriteProfile() throws Exception {
+      Profiler profiler = Profiler.start();
+      try (ProfileSpan span = profiler.span("work")) {
+         profiler.count("things", 1);
+      }
+      IProfile profile = profiler.stop();
+
+      Path json = Files.createTempFile("profile", ".json");
+      Path trace = Files.createTempFile("profile", ".trace.json");
+      try {
+         ProfileWriter.write(profile, ProfileWriter.Format.JSON, json);
+         String content = new String(Files.readAllBytes(json), StandardCharsets.UTF_8);
+         assertTrue(content, content.contains("\"work\""));
+         assertTrue(content, content.contains("\"things\""));
+
+         ProfileWriter.write(profile, ProfileWriter.Format.CHROME_TRACE, trace);
+         content = new String(Files.readAllBytes(trace), StandardCharsets.UTF_8);
+         assertTrue(content, content.contains("\"traceEvents\""));
+         assertTrue(content, content.contains("\"work\""));
+      } finally {
+         Files.deleteIfExists(json);
+         Files.deleteIfExists(trace);
+      }
+   }
+}
@@ -29,11 +29,14 @@ import com.ngc.seaside.systemdescriptor.service.source.api.IChainedMethodCall.Tw
 import org.junit.Test;
 
 import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collection;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.fail;
 
 public class SerializedFunctionalInterfaceTest {
@@ -119,4 +122,24 @@ public class SerializedFunctionalInterfaceTest {
       }
    }
 
+   @Test
+   public void testReflectionOnlyHappensOncePerMethodReference() throws Exception {
+      Method expected = String.class.getMethod("trim");
+      Executable first = null;
+      for (int i = 0; i < 10; i++) {
+         NoParameterMethodCall<String, String> methodCall = String::trim;
+         Executable executable = methodCall.getMethodOrConstructor();
+         assertEquals(expected, executable);
+         if (first == null) {
+            first = executable;
+         }
+         assertSame(first, executable);
+      }
+
+      // A different method reference expression is resolved separately, even if it references the same method.
+      // Reflection returns a new Method instance each time, so a separate resolution yields a different instance.
+      NoParameterMethodCall<String, String> methodCall = String::trim;
+      assertEquals(expected, methodCall.getMethodOrConstructor());
+      assertNotSame(first, methodCall.getMethodOrConstructor());
+   }
 }
@@ -39,6 +39,8 @@ import com.ngc.seaside.systemdescriptor.service.gherkin.api.IGherkinService;
 import com.ngc.seaside.systemdescriptor.service.gherkin.model.api.IFeature;
 import com.ngc.seaside.systemdescriptor.service.impl.gherkin.model.GherkinFeature;
 import  com.ngc.seaside.systemdescriptor.service.log.api.ILogService;
+import com.ngc.seaside.systemdescriptor.service.profile.api.ProfileSpan;
+import com.ngc.seaside.systemdescriptor.service.profile.api.Profiler;
 
 import gherkin.AstBuilder;
 import gherkin.Parser;
@@ -54,11 +56,21 @@ public class CucumberGherkinService implements IGherkinService {
 
    private final ILogService logService;
 
+   private Profiler profiler = Profiler.disabled();
+
    @Inject
    public CucumberGherkinService(ILogService logService) {
       this.logService = logService;
    }
 
+   /**
+    * Sets the profiler that records the parsing of feature files.  Parsing is not profiled if no profiler is bound.
+    */
+   @Inject(optional = true)
+   public void setProfiler(Profiler profiler) {
+      this.profiler = Preconditions.checkNotNull(profiler, "profiler may not be null!");
+   }
+
    @Override
    public IGherkinParsingResult parseRecursively(Path directoryContainingFeatureFiles,
                                                  ISystemDescriptor systemDescriptor) {
@@ -72,7 +84,7 @@ public class CucumberGherkinService implements IGherkinService {
 
       GherkinParsingResult result = new GherkinParsingResult();
       PathMatcher matcher = directoryContainingFeatureFiles.getFileSystem().getPathMatcher("glob:**.feature");
-      try {
+      try (ProfileSpan span = profiler.span("gherkin")) {
          Files.walk(directoryContainingFeatureFiles)
                .filter(Files::isRegularFile)
                .filter(matcher::matches)
@@ -89,6 +101,7 @@ public class CucumberGherkinService implements IGherkinService {
                                  Path rootDirectory,
                                  GherkinParsingResult result,
                                  ISystemDescriptor systemDescriptor) {
+      profiler.count("features.parsed", 1);
       try (Reader reader = Files.newBufferedReader(featureFile)) {
          GherkinDocument doc = parser.parse(reader);
          result.addFeature(convert(doc, featureFile, rootDirectory, systemDescriptor));
@@ -22,6 +22,7 @@
  */
 package com.ngc.seaside.systemdescriptor.model.impl.view;
 
+import com.google.common.base.Preconditions;
 import com.ngc.seaside.systemdescriptor.model.api.data.DataTypes;
 import com.ngc.seaside.systemdescriptor.model.api.data.IData;
 import com.ngc.seaside.systemdescriptor.model.api.data.IDataField;
@@ -37,10 +38,15 @@ import com.ngc.seaside.systemdescriptor.model.impl.basic.model.properties.Proper
 import com.ngc.seaside.systemdescriptor.model.impl.basic.model.properties.PropertyDataValue;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.Function;
 
 /**
@@ -86,22 +92,22 @@ public class AggregatedPropertiesView {
    private static <T> IProperties getAggregatedProperties(T initial,
             Function<T, T> parentFunction,
             Function<T, IProperties> propertiesFunction) {
-      Properties properties = new Properties();
+      Aggregation aggregation = new Aggregation();
       T current = initial;
 
       while (current != null) {
          for (IProperty property : propertiesFunction.apply(current)) {
-            if (!properties.hasProperty(property.getName())) {
-               properties.add(getAggregatedProperty(property));
+            if (!aggregation.properties.hasProperty(property.getName())) {
+               aggregation.properties.add(getAggregatedProperty(property, aggregation));
             }
          }
          current = parentFunction.apply(current);
       }
 
-      return properties;
+      return aggregation.properties;
    }
 
-   private static IProperty getAggregatedProperty(IProperty property) {
+   private static IProperty getAggregatedProperty(IProperty property, Aggregation aggregation) {
       if (property.getType() != DataTypes.DATA) {
          return property;
       }
@@ -111,12 +117,14 @@ public class AggregatedPropertiesView {
          case MANY:
             aggregatedValues = new ArrayList<>();
             for (IPropertyValue value : property.getValues()) {
-               aggregatedValues.add(getAggregatedPropertyValue((IPropertyDataValue) value));
+               aggregatedValues.add(getAggregatedPropertyValue((IPropertyDataValue) value, null, aggregation));
             }
             break;
          case SINGLE:
             aggregatedValues = Collections.singleton(
-               getAggregatedPropertyValue((IPropertyDataValue) property.getValue()));
+               getAggregatedPropertyValue((IPropertyDataValue) property.getValue(),
+                                          Collections.singletonList(property.getName()),
+                                          aggregation));
             break;
          default:
             throw new IllegalStateException("Unknown cardinality: " + property.getCardinality());
@@ -126,27 +134,40 @@ public class AggregatedPropertiesView {
             property.getType(),
             property.getCardinality(),
             aggregatedValues,
-            new AggregatedDataView(property.getReferencedDataType()));
+            aggregation.getDataView(property.getReferencedDataType()));
 
       return aggregated;
    }
 
-   private static IPropertyDataValue getAggregatedPropertyValue(IPropertyDataValue value) {
+   /**
+    * Aggregates the given value.
+    *
+    * @param value the value to aggregate
+    * @param path the property name and field names that resolve to the value or {@code null} if the value can't be
+    *             resolved with {@link IProperties#resolveValue(String, String...)}
+    * @param aggregation the current aggregation
+    * @return the aggregated value
+    */
+   private static IPropertyDataValue getAggregatedPropertyValue(IPropertyDataValue value,
+                                                                List<String> path,
+                                                                Aggregation aggregation) {
       Map<String, Collection<? extends IPropertyValue>> aggregatedFields = new LinkedHashMap<>();
       IData data;
       try {
-         data = new AggregatedDataView(value.getReferencedDataType());
+         data = aggregation.getDataView(value.getReferencedDataType());
       } catch (IllegalStateException e) {
          return value;
       }
       for (IDataField field : data.getFields()) {
          Collection<? extends IPropertyValue> fieldValues;
+         List<String> fieldPath = null;
          switch (field.getCardinality()) {
             case MANY:
                fieldValues = value.getValues(field);
                break;
             case SINGLE:
                fieldValues = Collections.singleton(value.getValue(field));
+               fieldPath = path == null ? null : append(path, field.getName());
                break;
             default:
                throw new IllegalStateException("Unknown cardinality: " + field.getCardinality());
@@ -155,17 +176,80 @@ public class AggregatedPropertiesView {
             case DATA:
                Collection<IPropertyDataValue> dataValues = new ArrayList<>(fieldValues.size());
                for (IPropertyValue fieldValue : fieldValues) {
-                  dataValues.add(getAggregatedPropertyValue((IPropertyDataValue) fieldValue));
+                  dataValues.add(getAggregatedPropertyValue((IPropertyDataValue) fieldValue, fieldPath, aggregation));
                }
                fieldValues = dataValues;
                break;
             default:
                break;
          }
+         if (fieldPath != null) {
+            aggregation.properties.index(fieldPath, fieldValues.iterator().next());
+         }
          aggregatedFields.put(field.getName(), fieldValues);
       }
 
       PropertyDataValue aggregated = new PropertyDataValue(data, aggregatedFields);
       return aggregated;
    }
+
+   private static List<String> append(List<String> path, String name) {
+      List<String> appended = new ArrayList<>(path.size() + 1);
+      appended.addAll(path);
+      appended.add(name);
+      return appended;
+   }
+
+   /**
+    * The state of aggregating the properties of a single object.
+    */
+   private static class Aggregation {
+
+      private final IndexedProperties properties = new IndexedProperties();
+
+      /**
+       * The aggregated views of data types.  Most values of a property reference the same data types, so the views
+       * are shared instead of being created for each value.
+       */
+      private final Map<IData, IData> dataViews = new IdentityHashMap<>();
+
+      IData getDataView(IData data) {
+         IData view = dataViews.get(data);
+         if (view == null) {
+            view = new AggregatedDataView(data);
+            dataViews.put(data, view);
+         }
+         return view;
+      }
+   }
+
+   /**
+    * Aggregated properties that index the values of nested fields by the names of the property and fields that
+    * resolve the value.  The index is built while the properties are aggregated, so resolving a nested value is a
+    * hash lookup instead of a walk of the properties and fields.  Paths that are not indexed are resolved normally.
+    */
+   private static class IndexedProperties extends Properties {
+
+      private final Map<List<String>, IPropertyValue> resolvedValues = new HashMap<>();
+
+      void index(List<String> path, IPropertyValue value) {
+         resolvedValues.put(path, value);
+      }
+
+      @Override
+      public Optional<IPropertyValue> resolveValue(String propertyName, String... fieldNames) {
+         Preconditions.checkNotNull(propertyName, "property name must not be null!");
+         Preconditions.checkNotNull(fieldNames, "field names must not be null!");
+         if (fieldNames.length > 0) {
+            String[] path = new String[fieldNames.length + 1];
+            path[0] = propertyName;
+            System.arraycopy(fieldNames, 0, path, 1, fieldNames.length);
+            IPropertyValue value = resolvedValues.get(Arrays.asList(path));
+            if (value != null) {
+               return Optional.of(value);
+            }
+         }
+         return super.resolveValue(propertyName, fieldNames);
+      }
+   }
 }
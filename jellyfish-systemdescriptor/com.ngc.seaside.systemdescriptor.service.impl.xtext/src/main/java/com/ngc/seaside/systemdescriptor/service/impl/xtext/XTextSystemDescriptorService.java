@@ -38,6 +38,7 @@ import com.ngc.seaside.systemdescriptor.SystemDescriptorStandaloneSetup;
 import com.ngc.seaside.systemdescriptor.model.api.ISystemDescriptor;
 import com.ngc.seaside.systemdescriptor.model.api.data.IData;
 import com.ngc.seaside.systemdescriptor.model.api.model.IModel;
+import com.ngc.seaside.systemdescriptor.model.impl.basic.immutable.ImmutableSystemDescriptor;
 import com.ngc.seaside.systemdescriptor.model.impl.view.AggregatedDataView;
 import com.ngc.seaside.systemdescriptor.model.impl.view.AggregatedModelView;
 import com.ngc.seaside.systemdescriptor.scenario.api.IScenarioStepHandler;
@@ -174,7 +175,8 @@ public class XTextSystemDescriptorService implements ISystemDescriptorService {
 
    @Override
    public ISystemDescriptor immutableCopy(ISystemDescriptor descriptor) {
-      throw new UnsupportedOperationException("not implemented");
+      Preconditions.checkNotNull(descriptor, "descriptor may not be null!");
+      return ImmutableSystemDescriptor.copyOf(descriptor);
    }
 
    @Override
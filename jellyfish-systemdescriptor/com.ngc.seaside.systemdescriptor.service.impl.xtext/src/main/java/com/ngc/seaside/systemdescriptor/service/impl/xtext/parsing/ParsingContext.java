@@ -23,13 +23,20 @@
 package com.ngc.seaside.systemdescriptor.service.impl.xtext.parsing;
 
 import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.impl.URIHandlerImpl;
 import org.eclipse.xtext.resource.XtextResource;
 import org.eclipse.xtext.resource.XtextResourceSet;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Path;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import com.ngc.seaside.systemdescriptor.service.profile.api.Profiler;
 
 /**
  * Mains state and context for a single parsing invocation.
@@ -49,11 +56,45 @@ public class ParsingContext implements AutoCloseable {
    private final Map<URI, XtextResource> resources = new HashMap<>();
 
    /**
-    * Creates a new context.
+    * Contains the ZIP files that have been opened during this invocation keyed by the absolute path of the ZIP.  Each
+    * ZIP is only opened once and stays open until this context is closed.
+    */
+   private final Map<Path, ZipFile> archives = new LinkedHashMap<>();
+
+   /**
+    * Contains the entries of the opened ZIP files that back resources keyed by the {@code archive:} URI of the
+    * resource.
+    */
+   private final Map<URI, ArchiveEntry> archiveEntries = new HashMap<>();
+
+   /**
+    * The profiler that records the work done during this invocation.
+    */
+   private final Profiler profiler;
+
+   /**
+    * Creates a new context that is not profiled.
     */
    public ParsingContext() {
-      // Configure XText to resolve imports.
-      this.resourceSet.addLoadOption(XtextResource.OPTION_RESOLVE_ALL, Boolean.TRUE);
+      this(Profiler.disabled());
+   }
+
+   /**
+    * Creates a new context.
+    *
+    * @param profiler the profiler that records the work done during this invocation
+    */
+   public ParsingContext(Profiler profiler) {
+      this.profiler = profiler;
+      // Cross references are not resolved while a resource is loaded.  They are resolved once all the resources have
+      // been loaded so that linking can be profiled separately from parsing.
+      // Load the contents of resources contained in ZIPs directly from the ZIPs we have already opened.  Otherwise,
+      // EMF will open and scan the entire ZIP again for every resource it loads.
+      this.resourceSet.getURIConverter().getURIHandlers().add(0, new ArchiveEntryUriHandler());
+   }
+
+   public Profiler getProfiler() {
+      return profiler;
    }
 
    public Path getMain() {
@@ -74,11 +115,53 @@ public class ParsingContext implements AutoCloseable {
 
    @Override
    public void close() {
-      // Do nothing.
+      // Any resources that are loaded after this point will be loaded by EMF's default handling of ZIPs.
+      archiveEntries.clear();
+      for (ZipFile archive : archives.values()) {
+         try {
+            archive.close();
+         } catch (IOException e) {
+            // Ignore, the ZIP was only opened for reading.
+         }
+      }
+      archives.clear();
+   }
+
+   /**
+    * Opens the given ZIP file.  The ZIP is only opened once per context.  It will be closed when this context is
+    * closed.
+    *
+    * @param zipFile the ZIP file
+    * @return the opened ZIP file
+    * @throws IOException if the ZIP could not be opened
+    */
+   public ZipFile openArchive(Path zipFile) throws IOException {
+      Path key = zipFile.toAbsolutePath();
+      ZipFile archive = archives.get(key);
+      if (archive == null) {
+         archive = new ZipFile(key.toFile());
+         archives.put(key, archive);
+      }
+      return archive;
    }
 
    /**
-    * Creates a new resource using the given ZIP entry and contents of the stream.
+    * Creates a new resource using the given ZIP entry.  The contents of the resource will be read directly from the
+    * given ZIP when the resource is loaded.
+    *
+    * @param zipFile the ZIP file which has been opened with {@link #openArchive(Path)}
+    * @param archive the opened ZIP file
+    * @param entry   the ZIP entry
+    * @return the new resource
+    */
+   public XtextResource resourceOf(Path zipFile, ZipFile archive, ZipEntry entry) {
+      XtextResource resource = resourceOf(zipFile, entry);
+      archiveEntries.putIfAbsent(resource.getURI(), new ArchiveEntry(archive, entry));
+      return resource;
+   }
+
+   /**
+    * Creates a new resource using the given ZIP entry.
     *
     * @param zipFile the ZIP file
     * @param entry   the ZIP entry
@@ -122,4 +205,40 @@ public class ParsingContext implements AutoCloseable {
       // multiple times if two or more projects reference the same dependency.
       return resources.computeIfAbsent(uri, key -> (XtextResource) resourceSet.createResource(key));
    }
+
+   /**
+    * An entry of a ZIP file that has already been opened.
+    */
+   private static class ArchiveEntry {
+      private final ZipFile archive;
+      private final ZipEntry entry;
+
+      private ArchiveEntry(ZipFile archive, ZipEntry entry) {
+         this.archive = archive;
+         this.entry = entry;
+      }
+   }
+
+   /**
+    * A URI handler that reads the contents of {@code archive:} URIs from the ZIP files opened by this context.  URIs
+    * that do not reference an entry of an opened ZIP are left to the other handlers.
+    */
+   private class ArchiveEntryUriHandler extends URIHandlerImpl {
+
+      @Override
+      public boolean canHandle(URI uri) {
+         return archiveEntries.containsKey(uri);
+      }
+
+      @Override
+      public InputStream createInputStream(URI uri, Map<?, ?> options) throws IOException {
+         ArchiveEntry archiveEntry = archiveEntries.get(uri);
+         return archiveEntry.archive.getInputStream(archiveEntry.entry);
+      }
+
+      @Override
+      public boolean exists(URI uri, Map<?, ?> options) {
+         return true;
+      }
+   }
 }
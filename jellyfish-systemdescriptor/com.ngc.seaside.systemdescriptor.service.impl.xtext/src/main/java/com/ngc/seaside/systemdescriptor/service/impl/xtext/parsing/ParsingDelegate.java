@@ -30,6 +30,7 @@ import java.util.Collection;
 import java.util.Iterator;
 import java.util.concurrent.TimeUnit;
 
+import org.eclipse.xtext.EcoreUtil2;
 import org.eclipse.xtext.resource.XtextResource;
 import org.eclipse.xtext.validation.CheckMode;
 import org.eclipse.xtext.validation.IResourceValidator;
@@ -41,6 +42,8 @@ import com.ngc.seaside.systemdescriptor.model.impl.xtext.WrappedSystemDescriptor
 import com.ngc.seaside.systemdescriptor.service.api.IParsingResult;
 import com.ngc.seaside.systemdescriptor.service.api.ParsingException;
 import com.ngc.seaside.systemdescriptor.service.log.api.ILogService;
+import com.ngc.seaside.systemdescriptor.service.profile.api.ProfileSpan;
+import com.ngc.seaside.systemdescriptor.service.profile.api.Profiler;
 import com.ngc.seaside.systemdescriptor.service.repository.api.IRepositoryService;
 import com.ngc.seaside.systemdescriptor.systemDescriptor.Package;
 
@@ -51,6 +54,7 @@ public class ParsingDelegate {
 
    private final ILogService logService;
    private final ParsingUtils utils;
+   private Profiler profiler = Profiler.disabled();
 
    /**
     * Creates a new parsing delegate.
@@ -61,6 +65,14 @@ public class ParsingDelegate {
       this.utils = new ParsingUtils(repositoryService);
    }
 
+   /**
+    * Sets the profiler that records the work done while parsing.  Parsing is not profiled if no profiler is bound.
+    */
+   @Inject(optional = true)
+   public void setProfiler(Profiler profiler) {
+      this.profiler = Preconditions.checkNotNull(profiler, "profiler may not be null!");
+   }
+
    /**
     * Parses a system descriptor project located at the given directory.
     *
@@ -71,7 +83,7 @@ public class ParsingDelegate {
       Preconditions.checkNotNull(projectDirectory, "projectDirectory may not be null!");
       Preconditions.checkArgument(Files.isDirectory(projectDirectory), "%s is not a directory!", projectDirectory);
 
-      try (ParsingContext ctx = new ParsingContext()) {
+      try (ParsingContext ctx = new ParsingContext(profiler)) {
          Collection<XtextResource> resources = utils.getProjectAndDependencies(projectDirectory, ctx);
          return getResult(ctx, resources);
       } catch (Exception e) {
@@ -88,7 +100,7 @@ public class ParsingDelegate {
    public IParsingResult parseProject(String gav) {
       Preconditions.checkNotNull(gav, "gav may not be null!");
       Preconditions.checkArgument(gav.matches("[^:\\s]+:[^:\\s]+:[^:\\s]+"), "invalid gav: " + gav);
-      try (ParsingContext ctx = new ParsingContext()) {
+      try (ParsingContext ctx = new ParsingContext(profiler)) {
          Collection<XtextResource> resources = utils.getProjectAndDependencies(gav, ctx);
          return getResult(ctx, resources);
       } catch (Exception e) {
@@ -109,7 +121,7 @@ public class ParsingDelegate {
       XTextParsingResult result;
 
       Stopwatch timer = Stopwatch.createStarted();
-      try (ParsingContext ctx = new ParsingContext()) {
+      try (ParsingContext ctx = new ParsingContext(profiler)) {
          // Create all the resources.
          Collection<XtextResource> resources = getResources(paths, ctx);
          // Now aggregate the validation results.
@@ -117,17 +129,19 @@ public class ParsingDelegate {
       }
       timer.stop();
 
-      if (result.isSuccessful()) {
-         logService.debug(getClass(),
-                          "Successfully parsed %s files in %d ms.",
-                          paths.size(),
-                          timer.elapsed(TimeUnit.MILLISECONDS));
-      } else {
-         logService.debug(getClass(),
-                          "Parsed %s files in %d ms but %d issues detected.",
-                          paths.size(),
-                          timer.elapsed(TimeUnit.MILLISECONDS),
-                          result.getIssues().size());
+      if (logService.isDebugEnabled(getClass())) {
+         if (result.isSuccessful()) {
+            logService.debug(getClass(),
+                             "Successfully parsed %s files in %d ms.",
+                             paths.size(),
+                             timer.elapsed(TimeUnit.MILLISECONDS));
+         } else {
+            logService.debug(getClass(),
+                             "Parsed %s files in %d ms but %d issues detected.",
+                             paths.size(),
+                             timer.elapsed(TimeUnit.MILLISECONDS),
+                             result.getIssues().size());
+         }
       }
 
       return result;
@@ -155,10 +169,20 @@ public class ParsingDelegate {
       result.setTestSourcesRoot(context.getTest());
       // This loop is important.  Up until this point, we have not actually loaded any resources.  We have waited until
       // all the resources are registered with the resource set.  This ensures that cross references will be resolved
-      // correctly.  Calling getResource(uri, true) will force the loading of that resource.
-      for (XtextResource resource : resources) {
-         // Force resolution of all proxy objects.
-         resource.getResourceSet().getResource(resource.getURI(), true);
+      // correctly.  Calling getResource(uri, true) will force the loading of that resource.  Reading the contents of
+      // a file is included in this span since the contents are parsed as they are read.
+      context.getProfiler().count("files.parsed", resources.size());
+      try (ProfileSpan span = context.getProfiler().span("parsing")) {
+         for (XtextResource resource : resources) {
+            resource.getResourceSet().getResource(resource.getURI(), true);
+         }
+      }
+
+      // Force resolution of all proxy objects now that every resource is loaded.
+      try (ProfileSpan span = context.getProfiler().span("linking")) {
+         for (XtextResource resource : resources) {
+            EcoreUtil2.resolveAll(resource);
+         }
       }
 
       // Now get the results of validation.
@@ -171,14 +195,21 @@ public class ParsingDelegate {
       if (!resource.getContents().isEmpty()) {
          // A single file contains at most one package.
          Package p = (Package) resource.getContents().get(0);
-         result.setSystemDescriptor(new WrappedSystemDescriptor(p));
+         try (ProfileSpan span = context.getProfiler().span("wrapping")) {
+            result.setSystemDescriptor(new WrappedSystemDescriptor(p));
+         }
       }
 
-      // Aggregate the remaining issues.
-      do {
-         result.addIssues(validator.validate(resource, CheckMode.ALL, null));
-         resource = i.hasNext() ? i.next() : null;
-      } while (resource != null);
+      // Aggregate the remaining issues.  Each resource is validated in its own span.
+      try (ProfileSpan span = context.getProfiler().span("validation")) {
+         do {
+            String resourceSpanName = "validation:" + resource.getURI().lastSegment();
+            try (ProfileSpan resourceSpan = context.getProfiler().span(resourceSpanName)) {
+               result.addIssues(validator.validate(resource, CheckMode.ALL, null));
+            }
+            resource = i.hasNext() ? i.next() : null;
+         } while (resource != null);
+      }
 
       return result;
    }
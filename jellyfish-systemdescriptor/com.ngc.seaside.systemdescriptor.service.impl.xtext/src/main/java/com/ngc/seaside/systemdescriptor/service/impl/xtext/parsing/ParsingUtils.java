@@ -24,6 +24,7 @@ package com.ngc.seaside.systemdescriptor.service.impl.xtext.parsing;
 
 import com.google.common.base.Preconditions;
 import com.ngc.seaside.systemdescriptor.service.api.ParsingException;
+import com.ngc.seaside.systemdescriptor.service.profile.api.ProfileSpan;
 import com.ngc.seaside.systemdescriptor.service.repository.api.IRepositoryService;
 
 import org.apache.maven.model.Dependency;
@@ -41,11 +42,12 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Enumeration;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.zip.ZipEntry;
-import java.util.zip.ZipInputStream;
+import java.util.zip.ZipFile;
 
 class ParsingUtils {
 
@@ -157,11 +159,14 @@ class ParsingUtils {
 
       Collection<XtextResource> resources = new LinkedHashSet<>();
 
-      Files.walk(resourcesDirectory)
-            .filter(Files::isRegularFile)
-            .filter(file -> file.toString().endsWith(".sd"))
-            .map(ctx::resourceOf)
-            .forEach(resources::add);
+      // The source files are only listed here.  Their contents are read when the resources are loaded.
+      try (ProfileSpan span = ctx.getProfiler().span("sources")) {
+         Files.walk(resourcesDirectory)
+               .filter(Files::isRegularFile)
+               .filter(file -> file.toString().endsWith(".sd"))
+               .map(ctx::resourceOf)
+               .forEach(resources::add);
+      }
 
       if (pom != null) {
          resources.addAll(parseDependencies(pom, ctx, false));
@@ -178,11 +183,16 @@ class ParsingUtils {
     */
    public static Collection<XtextResource> parseJar(Path jar, ParsingContext ctx) throws IOException {
       Collection<XtextResource> resources = new LinkedHashSet<>();
-      try (ZipInputStream zis = new ZipInputStream(Files.newInputStream(jar))) {
-         ZipEntry entry;
-         while ((entry = zis.getNextEntry()) != null) {
-            if (entry.getName().endsWith(".sd")) {
-               XtextResource resource = ctx.resourceOf(jar, entry);
+      ctx.getProfiler().count("zips.read", 1);
+      try (ProfileSpan span = ctx.getProfiler().span("zip:" + jar.getFileName())) {
+         // The entries are listed from the ZIP's central directory.  The contents of the entries are not read until
+         // the resources are loaded.
+         ZipFile archive = ctx.openArchive(jar);
+         Enumeration<? extends ZipEntry> entries = archive.entries();
+         while (entries.hasMoreElements()) {
+            ZipEntry entry = entries.nextElement();
+            if (!entry.isDirectory() && entry.getName().endsWith(".sd")) {
+               XtextResource resource = ctx.resourceOf(jar, archive, entry);
                if (resource != null) {
                   resources.add(resource);
                }
@@ -261,35 +271,48 @@ class ParsingUtils {
                                                 TESTS_CLASSIFIER,
                                                 splitGav[2]);
          if (includeSelf) {
-            Path mainJar = repositoryService.getArtifact(artifactGav);
+            Path mainJar;
+            Path testJar;
+            try (ProfileSpan span = ctx.getProfiler().span("dependencies:" + gav)) {
+               mainJar = repositoryService.getArtifact(artifactGav);
+               testJar = repositoryService.getArtifact(testArtifactGav);
+            }
             resources.addAll(parseJar(mainJar, ctx));
-            Path testJar = repositoryService.getArtifact(testArtifactGav);
             if (ctx.getMain() == null) {
-               URI mainUri = URI.create("jar:file:" + mainJar.toUri().getPath());
-               FileSystem mainFs = null;
-               try {
-                  mainFs = FileSystems.getFileSystem(mainUri);
-               } catch (FileSystemNotFoundException e) {
-                  mainFs = FileSystems.newFileSystem(mainUri, Collections.singletonMap("create", true));
-               }
-               ctx.setMain(mainFs.getPath("/"));
+               ctx.setMain(getRootOfZip(mainJar));
             }
             if (ctx.getTest() == null) {
-               URI testUri = URI.create("jar:file:" + testJar.toUri().getPath());
-               FileSystem testFs = null;
-               try {
-                  testFs = FileSystems.getFileSystem(testUri);
-               } catch (FileSystemNotFoundException e) {
-                  testFs = FileSystems.newFileSystem(testUri, Collections.singletonMap("create", true));
-               }
-               ctx.setTest(testFs.getPath("/"));
+               ctx.setTest(getRootOfZip(testJar));
             }
          }
-         for (Path path : repositoryService.getArtifactDependencies(artifactGav, true)) {
+         Collection<Path> dependencies;
+         try (ProfileSpan span = ctx.getProfiler().span("dependencies:" + gav + ":transitive")) {
+            dependencies = repositoryService.getArtifactDependencies(artifactGav, true);
+         }
+         for (Path path : dependencies) {
             resources.addAll(parseJar(path, ctx));
          }
       }
       return resources;
    }
 
+   /**
+    * Gets the root of the given ZIP as a path.  The file system of the ZIP is only created if it is not already open.
+    * The roots of the main and test ZIPs are exposed as paths so that feature files and other resources can be found
+    * with the regular file APIs.
+    *
+    * @param zip the ZIP file
+    * @return the root path of the ZIP
+    */
+   private static Path getRootOfZip(Path zip) throws IOException {
+      URI uri = URI.create("jar:file:" + zip.toUri().getPath());
+      FileSystem fs;
+      try {
+         fs = FileSystems.getFileSystem(uri);
+      } catch (FileSystemNotFoundException e) {
+         fs = FileSystems.newFileSystem(uri, Collections.singletonMap("create", true));
+      }
+      return fs.getPath("/");
+   }
+
 }
@@ -30,6 +30,8 @@ import com.ngc.seaside.systemdescriptor.service.source.api.UnknownSourceLocation
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Executable;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
 import java.util.Arrays;
@@ -50,6 +52,23 @@ import java.util.function.Function;
  */
 public abstract class AbstractChainedMethodCall<T> implements IChainedMethodCall<T> {
 
+   /**
+    * The constructors of the proxy classes used to intercept calls on instances of a given class.  Creating a proxy
+    * with the constructor avoids looking up the interfaces of the instance and the proxy class for every call in a
+    * chain.
+    */
+   private static final ClassValue<Constructor<?>> PROXY_CONSTRUCTORS = new ClassValue<Constructor<?>>() {
+      @Override
+      protected Constructor<?> computeValue(Class<?> type) {
+         try {
+            return Proxy.getProxyClass(type.getClassLoader(), getInterfaces(type))
+                  .getConstructor(InvocationHandler.class);
+         } catch (NoSuchMethodException e) {
+            throw new AssertionError(e);
+         }
+      }
+   };
+
    private final Map<MethodSignature, Function<Object[], IChainedMethodCall<?>>> registry = new HashMap<>();
    protected final ChainedMethodCallContext context;
    protected final T instance;
@@ -159,43 +178,35 @@ public abstract class AbstractChainedMethodCall<T> implements IChainedMethodCall
    private static <T> T getProxy(T instance, IChainedMethodCall<T> methodCall,
             AtomicReference<IChainedMethodCall> lastMethodCall) {
       lastMethodCall.set(methodCall);
-      T proxy = (T) Proxy.newProxyInstance(instance.getClass().getClassLoader(),
-            getInterfaces(instance), (proxyInstance, method, args) -> {
-               Object returned = method.invoke(instance, args);
-               IChainedMethodCall nextMethodCall;
-               try {
-                  nextMethodCall = methodCall.then(method, args);
-                  lastMethodCall.set(nextMethodCall);
-               } catch (UnknownSourceLocationException e) {
-                  return returned;
-               }
-               if (method.getReturnType().isInterface()) {
-                  return getProxy(returned, nextMethodCall, lastMethodCall);
-               } else {
-                  return returned;
-               }
-            });
-      return proxy;
+      Preconditions.checkNotNull(instance, "instance cannot be null");
+      InvocationHandler handler = (proxyInstance, method, args) -> {
+         Object returned = method.invoke(instance, args);
+         IChainedMethodCall nextMethodCall;
+         try {
+            nextMethodCall = methodCall.then(method, args);
+            lastMethodCall.set(nextMethodCall);
+         } catch (UnknownSourceLocationException e) {
+            return returned;
+         }
+         if (method.getReturnType().isInterface()) {
+            return getProxy(returned, nextMethodCall, lastMethodCall);
+         } else {
+            return returned;
+         }
+      };
+      try {
+         return (T) PROXY_CONSTRUCTORS.get(instance.getClass()).newInstance(handler);
+      } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+         throw new IllegalStateException("Could not create proxy of " + instance.getClass(), e);
+      }
    }
 
-   private static <T> Class<?>[] getInterfaces(T instance, Class<?>... extraInterfaces) {
-      Preconditions.checkNotNull(instance, "instance cannot be null");
+   private static Class<?>[] getInterfaces(Class<?> cls) {
       Set<Class<?>> interfaces = new LinkedHashSet<>();
-      Class<?> cls = instance.getClass();
       while (cls != null) {
          interfaces.addAll(Arrays.asList(cls.getInterfaces()));
          cls = cls.getSuperclass();
       }
-      for (Class<?> extraInterface : extraInterfaces) {
-         if (extraInterface.isInterface()) {
-            interfaces.add(extraInterface);
-         } else {
-            while (extraInterface != null) {
-               interfaces.addAll(Arrays.asList(extraInterface.getInterfaces()));
-               extraInterface = extraInterface.getSuperclass();
-            }
-         }
-      }
       return interfaces.toArray(new Class<?>[interfaces.size()]);
    }
 
@@ -25,23 +25,49 @@ package com.ngc.seaside.systemdescriptor.service.impl.xtext.validation;
 import com.google.common.base.Preconditions;
 
 import com.ngc.seaside.systemdescriptor.extension.IValidatorExtension;
+import com.ngc.seaside.systemdescriptor.model.api.IPackage;
+import com.ngc.seaside.systemdescriptor.model.api.data.IData;
+import com.ngc.seaside.systemdescriptor.model.api.data.IDataField;
+import com.ngc.seaside.systemdescriptor.model.api.model.IDataReferenceField;
+import com.ngc.seaside.systemdescriptor.model.api.model.IModel;
+import com.ngc.seaside.systemdescriptor.model.api.model.IModelReferenceField;
+import com.ngc.seaside.systemdescriptor.model.api.model.link.IModelLink;
+import com.ngc.seaside.systemdescriptor.model.api.model.properties.IProperty;
+import com.ngc.seaside.systemdescriptor.model.api.model.properties.IPropertyPrimitiveValue;
+import com.ngc.seaside.systemdescriptor.model.api.model.scenario.IScenario;
+import com.ngc.seaside.systemdescriptor.model.api.model.scenario.IScenarioStep;
 import com.ngc.seaside.systemdescriptor.model.impl.xtext.IUnwrappable;
 import com.ngc.seaside.systemdescriptor.model.impl.xtext.IUnwrappableCollection;
 import com.ngc.seaside.systemdescriptor.model.impl.xtext.exception.UnconvertableTypeException;
+import com.ngc.seaside.systemdescriptor.service.impl.xtext.validation.delegate.DeclaringData;
+import com.ngc.seaside.systemdescriptor.service.impl.xtext.validation.delegate.DeclaringDataField;
+import com.ngc.seaside.systemdescriptor.service.impl.xtext.validation.delegate.DeclaringDataReferenceField;
+import com.ngc.seaside.systemdescriptor.service.impl.xtext.validation.delegate.DeclaringModel;
+import com.ngc.seaside.systemdescriptor.service.impl.xtext.validation.delegate.DeclaringModelLink;
+import com.ngc.seaside.systemdescriptor.service.impl.xtext.validation.delegate.DeclaringModelReferenceField;
+import com.ngc.seaside.systemdescriptor.service.impl.xtext.validation.delegate.DeclaringPackage;
+import com.ngc.seaside.systemdescriptor.service.impl.xtext.validation.delegate.DeclaringProperty;
+import com.ngc.seaside.systemdescriptor.service.impl.xtext.validation.delegate.DeclaringPropertyPrimitiveValue;
+import com.ngc.seaside.systemdescriptor.service.impl.xtext.validation.delegate.DeclaringScenario;
+import com.ngc.seaside.systemdescriptor.service.impl.xtext.validation.delegate.DeclaringScenarioStep;
 import com.ngc.seaside.systemdescriptor.validation.api.IValidationContext;
 import com.ngc.seaside.systemdescriptor.validation.api.Severity;
 
 import org.apache.commons.lang3.ClassUtils;
 import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EStructuralFeature;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.function.Consumer;
 
 /**
- * A validation context that uses a dynamic proxy instance to intercept methods.  This is used to determine which value
- * of the object be validated in invalid.
+ * A validation context that intercepts the methods called on an offending object to determine which value of the
+ * object being validated is invalid.  Objects of the types that support declaring issues are intercepted with
+ * hand-written delegates (see {@link com.ngc.seaside.systemdescriptor.service.impl.xtext.validation.delegate}).  Any
+ * other object is intercepted with a dynamic proxy.
  */
 public class ProxyingValidationContext<T> implements IValidationContext<T> {
 
@@ -56,6 +82,11 @@ public class ProxyingValidationContext<T> implements IValidationContext<T> {
     */
    private final IValidatorExtension.ValidationHelper validationHelper;
 
+   /**
+    * If true, offending objects are intercepted with hand-written delegates where possible.
+    */
+   private final boolean useDelegates;
+
    /**
     * Creates a new {@code ProxyingValidationContext} for the given object.
     *
@@ -64,6 +95,20 @@ public class ProxyingValidationContext<T> implements IValidationContext<T> {
     */
    public ProxyingValidationContext(T object,
                                     IValidatorExtension.ValidationHelper validationHelper) {
+      this(object, validationHelper, true);
+   }
+
+   /**
+    * Creates a new {@code ProxyingValidationContext} for the given object.
+    *
+    * @param object           the wrapped XText object that is being validated
+    * @param validationHelper the supplied validation helper
+    * @param useDelegates     if false, offending objects are always intercepted with dynamic proxies; this is only
+    *                         useful for comparing the two approaches
+    */
+   public ProxyingValidationContext(T object,
+                                    IValidatorExtension.ValidationHelper validationHelper,
+                                    boolean useDelegates) {
       Preconditions.checkArgument(object instanceof IUnwrappable || object instanceof IUnwrappableCollection,
                                   "object must be an instance of %s or %s but found %s!",
                                   IUnwrappable.class.getName(),
@@ -71,6 +116,7 @@ public class ProxyingValidationContext<T> implements IValidationContext<T> {
                                   object.getClass().getName());
       this.object = object;
       this.validationHelper = validationHelper;
+      this.useDelegates = useDelegates;
    }
 
    @Override
@@ -90,15 +136,69 @@ public class ProxyingValidationContext<T> implements IValidationContext<T> {
             "cannot declare errors on objects of type %s because that object does not wrap any XText types!",
             offendingObject.getClass().getName());
 
-      // Return a dynamic proxy of the wrapped object.  This allows us to "record" the methods the validator calls on
-      // the object when declaring an issue.  Note the proxy will actually pass through to the wrapped object so the
+      // Return a delegate of the wrapped object.  This allows us to "record" the methods the validator calls on the
+      // object when declaring an issue.  Note the delegate will actually pass through to the wrapped object so the
       // actual call will complete as normal.  In this way, this is really a method interceptor.
+      Consumer<String> declaration = methodName -> declareIssue(offendingObject, methodName, severity, message);
+      Object delegate = useDelegates ? createDelegate(offendingObject, declaration) : null;
+      if (delegate != null) {
+         // Safe because the delegate implements the same API interface as the offending object.
+         return (S) delegate;
+      }
+
+      // Fallback to a dynamic proxy for types that have no hand-written delegate.
       // Safe because this is a proxy object.
       return (S) Proxy.newProxyInstance(offendingObject.getClass().getClassLoader(),
                                         ClassUtils.getAllInterfaces(offendingObject.getClass()).toArray(new Class[0]),
                                         (p, m, a) -> interceptMethodCall(offendingObject, p, m, a, severity, message));
    }
 
+   /**
+    * Creates a delegate for the given object which invokes the given declaration with the name of every method
+    * called on it.  The order of the checks matches {@link ValidationBridgeUtil#getFeature(Object, EObject, String)}.
+    *
+    * @param object      the object to delegate to
+    * @param declaration the declaration to invoke
+    * @return the delegate or {@code null} if there is no delegate for the type of the object
+    */
+   @SuppressWarnings({"unchecked", "rawtypes"})
+   private static Object createDelegate(Object object, Consumer<String> declaration) {
+      if (object instanceof IPackage) {
+         return new DeclaringPackage((IPackage) object, declaration);
+      }
+      if (object instanceof IData) {
+         return new DeclaringData((IData) object, declaration);
+      }
+      if (object instanceof IDataField) {
+         return new DeclaringDataField((IDataField) object, declaration);
+      }
+      if (object instanceof IModel) {
+         return new DeclaringModel((IModel) object, declaration);
+      }
+      if (object instanceof IModelLink) {
+         return new DeclaringModelLink((IModelLink) object, declaration);
+      }
+      if (object instanceof IDataReferenceField) {
+         return new DeclaringDataReferenceField((IDataReferenceField) object, declaration);
+      }
+      if (object instanceof IModelReferenceField) {
+         return new DeclaringModelReferenceField((IModelReferenceField) object, declaration);
+      }
+      if (object instanceof IScenario) {
+         return new DeclaringScenario((IScenario) object, declaration);
+      }
+      if (object instanceof IScenarioStep) {
+         return new DeclaringScenarioStep((IScenarioStep) object, declaration);
+      }
+      if (object instanceof IProperty) {
+         return new DeclaringProperty((IProperty) object, declaration);
+      }
+      if (object instanceof IPropertyPrimitiveValue) {
+         return new DeclaringPropertyPrimitiveValue((IPropertyPrimitiveValue) object, declaration);
+      }
+      return null;
+   }
+
    /**
     * Intercepts the invocation of a method on a proxy object.  Uses the name of the method to determine which
     * structural feature the validation issue should be attached to.  Once that is complete, the call continues to the
@@ -118,27 +218,39 @@ public class ProxyingValidationContext<T> implements IValidationContext<T> {
                                       Object[] args,
                                       Severity severity,
                                       String message) throws Throwable {
+      declareIssue(originalObject, method.getName(), severity, message);
+      // Just pass through the invocation.
+      return method.invoke(originalObject, args);
+   }
+
+   /**
+    * Declares an issue against the structural feature associated with the given method.
+    *
+    * @param originalObject the original object
+    * @param methodName     the name of the method called
+    * @param severity       the severity level of the issue
+    * @param message        the message associated with issue
+    */
+   private void declareIssue(Object originalObject, String methodName, Severity severity, String message) {
       // Get the XText objects that are being wrapped.  In most cases, only one object is being wrapped.  However, in
       // the case of IPackage, multiple XText packages are being wrapped at the same time.
       for (EObject xtext : getEObjects(originalObject)) {
+         // Get the structural feature and use the validation help to actually declare the issue.
+         EStructuralFeature feature = ValidationBridgeUtil.getFeature(originalObject, xtext, methodName);
          switch (severity) {
             case ERROR:
-               // Get the structural feature and use the validation help to actually declare the issue.
-               validationHelper.error(message, xtext, ValidationBridgeUtil.getFeature(originalObject, xtext, method));
+               validationHelper.error(message, xtext, feature);
                break;
             case WARNING:
-               validationHelper.warning(message, xtext, ValidationBridgeUtil.getFeature(originalObject, xtext, method));
+               validationHelper.warning(message, xtext, feature);
                break;
             case SUGGESTION:
-               validationHelper.info(message, xtext, ValidationBridgeUtil.getFeature(originalObject, xtext, method));
+               validationHelper.info(message, xtext, feature);
                break;
             default:
                throw new UnconvertableTypeException(severity);
          }
       }
-
-      // Just pass through the invocation.
-      return method.invoke(originalObject, args);
    }
 
    @SuppressWarnings("rawtypes")
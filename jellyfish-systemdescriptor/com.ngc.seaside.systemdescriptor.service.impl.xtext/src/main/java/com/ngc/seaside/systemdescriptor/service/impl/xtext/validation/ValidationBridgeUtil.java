@@ -62,62 +62,78 @@ public class ValidationBridgeUtil {
     *                                               object the {@link ProxyingValidationContext} was created for.
     */
    public static EStructuralFeature getFeature(Object object, EObject xtext, Method method) {
+      return getFeature(object, xtext, method.getName());
+   }
+
+   /**
+    * Gets the structural feature as identified by the name of a method.  This is used by the hand-written delegates of
+    * {@link ProxyingValidationContext} which know the name of the invoked method without needing a reflective
+    * {@code Method} object.
+    *
+    * @param object     the source object on which the method is called
+    * @param xtext      the raw, unwrapped XText type that corresponds to the type that is being wrapped
+    * @param methodName the name of the method that was called on the object
+    * @return the structural feature
+    * @throws IllegalValidationDeclarationException if there is no structural feature associated with the method
+    * @see #getFeature(Object, EObject, Method)
+    */
+   public static EStructuralFeature getFeature(Object object, EObject xtext, String methodName) {
       if (object instanceof IPackage) {
-         return doGetFeature((IPackage) object, xtext, method);
+         return doGetFeature((IPackage) object, xtext, methodName);
       }
       if (object instanceof IData) {
-         return doGetFeature((IData) object, xtext, method);
+         return doGetFeature((IData) object, xtext, methodName);
       }
       if (object instanceof IDataField) {
-         return doGetFeature((IDataField) object, xtext, method);
+         return doGetFeature((IDataField) object, xtext, methodName);
       }
       if (object instanceof IModel) {
-         return doGetFeature((IModel) object, xtext, method);
+         return doGetFeature((IModel) object, xtext, methodName);
       }
       if (object instanceof IModelLink) {
-         return doGetFeature((IModelLink<?>) object, xtext, method);
+         return doGetFeature((IModelLink<?>) object, xtext, methodName);
       }
       if (object instanceof IDataReferenceField) {
-         return doGetFeature((IDataReferenceField) object, xtext, method);
+         return doGetFeature((IDataReferenceField) object, xtext, methodName);
       }
       if (object instanceof IModelReferenceField) {
-         return doGetFeature((IModelReferenceField) object, xtext, method);
+         return doGetFeature((IModelReferenceField) object, xtext, methodName);
       }
       if (object instanceof IScenario) {
-         return doGetFeature((IScenario) object, xtext, method);
+         return doGetFeature((IScenario) object, xtext, methodName);
       }
       if (object instanceof IScenarioStep) {
-         return doGetFeature((IScenarioStep) object, xtext, method);
+         return doGetFeature((IScenarioStep) object, xtext, methodName);
       }
       if (object instanceof IProperty) {
-         return doGetFeature((IProperty) object, xtext, method);
+         return doGetFeature((IProperty) object, xtext, methodName);
       }
       if (object instanceof IPropertyPrimitiveValue) {
-         return doGetFeature((IPropertyPrimitiveValue) object, xtext, method);
+         return doGetFeature((IPropertyPrimitiveValue) object, xtext, methodName);
       }
       throw new UnconvertableTypeException(object);
    }
 
-   private static EStructuralFeature doGetFeature(IPackage object, EObject xtext, Method method) {
-      switch (method.getName()) {
+   private static EStructuralFeature doGetFeature(IPackage object, EObject xtext, String methodName) {
+      switch (methodName) {
          case "getName":
             return SystemDescriptorPackage.Literals.PACKAGE__NAME;
          default:
-            throw new IllegalValidationDeclarationException(illegalDeclaration(object, xtext, method));
+            throw new IllegalValidationDeclarationException(illegalDeclaration(object, xtext, methodName));
       }
    }
 
-   private static EStructuralFeature doGetFeature(IData object, EObject xtext, Method method) {
-      switch (method.getName()) {
+   private static EStructuralFeature doGetFeature(IData object, EObject xtext, String methodName) {
+      switch (methodName) {
          case "getName":
             return SystemDescriptorPackage.Literals.ELEMENT__NAME;
          default:
-            throw new IllegalValidationDeclarationException(illegalDeclaration(object, xtext, method));
+            throw new IllegalValidationDeclarationException(illegalDeclaration(object, xtext, methodName));
       }
    }
 
-   private static EStructuralFeature doGetFeature(IDataField object, EObject xtext, Method method) {
-      switch (method.getName()) {
+   private static EStructuralFeature doGetFeature(IDataField object, EObject xtext, String methodName) {
+      switch (methodName) {
          case "getName":
             return SystemDescriptorPackage.Literals.DATA_FIELD_DECLARATION__NAME;
          case "getType":
@@ -136,42 +152,42 @@ public class ValidationBridgeUtil {
             }
             return SystemDescriptorPackage.Literals.REFERENCED_DATA_MODEL_FIELD_DECLARATION__DATA_MODEL;
          default:
-            throw new IllegalValidationDeclarationException(illegalDeclaration(object, xtext, method));
+            throw new IllegalValidationDeclarationException(illegalDeclaration(object, xtext, methodName));
       }
    }
 
-   private static EStructuralFeature doGetFeature(IModel object, EObject xtext, Method method) {
-      switch (method.getName()) {
+   private static EStructuralFeature doGetFeature(IModel object, EObject xtext, String methodName) {
+      switch (methodName) {
          case "getName":
             return SystemDescriptorPackage.Literals.ELEMENT__NAME;
          default:
-            throw new IllegalValidationDeclarationException(illegalDeclaration(object, xtext, method));
+            throw new IllegalValidationDeclarationException(illegalDeclaration(object, xtext, methodName));
       }
    }
 
-   private static EStructuralFeature doGetFeature(IModelLink<?> object, EObject xtext, Method method) {
-      switch (method.getName()) {
+   private static EStructuralFeature doGetFeature(IModelLink<?> object, EObject xtext, String methodName) {
+      switch (methodName) {
          case "getSource":
             return SystemDescriptorPackage.Literals.BASE_LINK_DECLARATION__SOURCE;
          case "getTarget":
             return SystemDescriptorPackage.Literals.BASE_LINK_DECLARATION__TARGET;
          default:
-            throw new IllegalValidationDeclarationException(illegalDeclaration(object, xtext, method));
+            throw new IllegalValidationDeclarationException(illegalDeclaration(object, xtext, methodName));
       }
    }
 
-   private static EStructuralFeature doGetFeature(IDataReferenceField object, EObject xtext, Method method) {
-      return SystemDescriptors.isInput(object) ? doGetFeatureOfInput(object, xtext, method)
-                                               : doGetFeatureOfOutput(object, xtext, method);
+   private static EStructuralFeature doGetFeature(IDataReferenceField object, EObject xtext, String methodName) {
+      return SystemDescriptors.isInput(object) ? doGetFeatureOfInput(object, xtext, methodName)
+                                               : doGetFeatureOfOutput(object, xtext, methodName);
    }
 
-   private static EStructuralFeature doGetFeature(IModelReferenceField object, EObject xtext, Method method) {
-      return SystemDescriptors.isPart(object) ? doGetFeatureOfPart(object, xtext, method)
-                                              : doGetFeatureOfRequiredModel(object, xtext, method);
+   private static EStructuralFeature doGetFeature(IModelReferenceField object, EObject xtext, String methodName) {
+      return SystemDescriptors.isPart(object) ? doGetFeatureOfPart(object, xtext, methodName)
+                                              : doGetFeatureOfRequiredModel(object, xtext, methodName);
    }
 
-   private static EStructuralFeature doGetFeature(IScenario object, EObject xtext, Method method) {
-      switch (method.getName()) {
+   private static EStructuralFeature doGetFeature(IScenario object, EObject xtext, String methodName) {
+      switch (methodName) {
          case "getName":
             return SystemDescriptorPackage.Literals.SCENARIO__NAME;
          case "getGivens":
@@ -181,32 +197,32 @@ public class ValidationBridgeUtil {
          case "getThens":
             return SystemDescriptorPackage.Literals.SCENARIO__THEN;
          default:
-            throw new IllegalValidationDeclarationException(illegalDeclaration(object, xtext, method));
+            throw new IllegalValidationDeclarationException(illegalDeclaration(object, xtext, methodName));
       }
    }
 
-   private static EStructuralFeature doGetFeature(IScenarioStep object, EObject xtext, Method method) {
-      switch (method.getName()) {
+   private static EStructuralFeature doGetFeature(IScenarioStep object, EObject xtext, String methodName) {
+      switch (methodName) {
          case "getKeyword":
             return SystemDescriptorPackage.Literals.STEP__KEYWORD;
          case "getParameters":
             return SystemDescriptorPackage.Literals.STEP__PARAMETERS;
          default:
-            throw new IllegalValidationDeclarationException(illegalDeclaration(object, xtext, method));
+            throw new IllegalValidationDeclarationException(illegalDeclaration(object, xtext, methodName));
       }
    }
 
-   private static EStructuralFeature doGetFeature(IProperty object, EObject xtext, Method method) {
-      switch (method.getName()) {
+   private static EStructuralFeature doGetFeature(IProperty object, EObject xtext, String methodName) {
+      switch (methodName) {
          case "getName":
             return SystemDescriptorPackage.Literals.PROPERTY_FIELD_DECLARATION__NAME;
          default:
-            throw new IllegalValidationDeclarationException(illegalDeclaration(object, xtext, method));
+            throw new IllegalValidationDeclarationException(illegalDeclaration(object, xtext, methodName));
       }
    }
 
-   private static EStructuralFeature doGetFeature(IPropertyPrimitiveValue object, EObject xtext, Method method) {
-      switch (method.getName()) {
+   private static EStructuralFeature doGetFeature(IPropertyPrimitiveValue object, EObject xtext, String methodName) {
+      switch (methodName) {
          case "getBoolean":
             return SystemDescriptorPackage.Literals.BOOLEAN_VALUE__VALUE;
          case "getDecimal":
@@ -216,12 +232,12 @@ public class ValidationBridgeUtil {
          case "getString":
             return SystemDescriptorPackage.Literals.STRING_VALUE__VALUE;
          default:
-            throw new IllegalValidationDeclarationException(illegalDeclaration(object, xtext, method));
+            throw new IllegalValidationDeclarationException(illegalDeclaration(object, xtext, methodName));
       }
    }
 
-   private static EStructuralFeature doGetFeatureOfInput(IDataReferenceField object, EObject xtext, Method method) {
-      switch (method.getName()) {
+   private static EStructuralFeature doGetFeatureOfInput(IDataReferenceField object, EObject xtext, String methodName) {
+      switch (methodName) {
          case "getName":
             return SystemDescriptorPackage.Literals.FIELD_DECLARATION__NAME;
          case "getType":
@@ -229,12 +245,14 @@ public class ValidationBridgeUtil {
          case "getCardinality":
             return SystemDescriptorPackage.Literals.INPUT_DECLARATION__CARDINALITY;
          default:
-            throw new IllegalValidationDeclarationException(illegalDeclaration(object, xtext, method));
+            throw new IllegalValidationDeclarationException(illegalDeclaration(object, xtext, methodName));
       }
    }
 
-   private static EStructuralFeature doGetFeatureOfOutput(IDataReferenceField object, EObject xtext, Method method) {
-      switch (method.getName()) {
+   private static EStructuralFeature doGetFeatureOfOutput(IDataReferenceField object,
+                                                          EObject xtext,
+                                                          String methodName) {
+      switch (methodName) {
          case "getName":
             return SystemDescriptorPackage.Literals.FIELD_DECLARATION__NAME;
          case "getType":
@@ -242,37 +260,37 @@ public class ValidationBridgeUtil {
          case "getCardinality":
             return SystemDescriptorPackage.Literals.OUTPUT_DECLARATION__CARDINALITY;
          default:
-            throw new IllegalValidationDeclarationException(illegalDeclaration(object, xtext, method));
+            throw new IllegalValidationDeclarationException(illegalDeclaration(object, xtext, methodName));
       }
    }
 
-   private static EStructuralFeature doGetFeatureOfPart(IModelReferenceField object, EObject xtext, Method method) {
-      switch (method.getName()) {
+   private static EStructuralFeature doGetFeatureOfPart(IModelReferenceField object, EObject xtext, String methodName) {
+      switch (methodName) {
          case "getName":
             return SystemDescriptorPackage.Literals.FIELD_DECLARATION__NAME;
          case "getType":
             return SystemDescriptorPackage.Literals.BASE_PART_DECLARATION__TYPE;
          default:
-            throw new IllegalValidationDeclarationException(illegalDeclaration(object, xtext, method));
+            throw new IllegalValidationDeclarationException(illegalDeclaration(object, xtext, methodName));
       }
    }
 
    private static EStructuralFeature doGetFeatureOfRequiredModel(IModelReferenceField object, EObject xtext,
-                                                                 Method method) {
-      switch (method.getName()) {
+                                                                 String methodName) {
+      switch (methodName) {
          case "getName":
             return SystemDescriptorPackage.Literals.FIELD_DECLARATION__NAME;
          case "getType":
             return SystemDescriptorPackage.Literals.BASE_REQUIRE_DECLARATION__TYPE;
          default:
-            throw new IllegalValidationDeclarationException(illegalDeclaration(object, xtext, method));
+            throw new IllegalValidationDeclarationException(illegalDeclaration(object, xtext, methodName));
       }
 
    }
 
-   private static String illegalDeclaration(Object object, EObject xtext, Method method) {
+   private static String illegalDeclaration(Object object, EObject xtext, String methodName) {
       return String.format(
             "cannot declare a validation issue against %s.%s!  Make sure this is not a readonly or derived property.",
-            object.getClass().getCanonicalName(), method.getName());
+            object.getClass().getCanonicalName(), methodName);
    }
 }
@@ -49,6 +49,7 @@ import com.ngc.seaside.systemdescriptor.model.impl.xtext.WrappedSystemDescriptor
 import com.ngc.seaside.systemdescriptor.model.impl.xtext.exception.UnrecognizedXtextTypeException;
 import com.ngc.seaside.systemdescriptor.model.impl.xtext.model.link.WrappedReferenceLink;
 import com.ngc.seaside.systemdescriptor.service.log.api.ILogService;
+import com.ngc.seaside.systemdescriptor.service.profile.api.Profiler;
 import com.ngc.seaside.systemdescriptor.systemDescriptor.BasePartDeclaration;
 import com.ngc.seaside.systemdescriptor.systemDescriptor.BaseRequireDeclaration;
 import com.ngc.seaside.systemdescriptor.systemDescriptor.Data;
@@ -96,6 +97,11 @@ public class ValidationDelegate implements IValidatorExtension {
     */
    private final ILogService logService;
 
+   /**
+    * Records the time spent in each validator.
+    */
+   private Profiler profiler = Profiler.disabled();
+
    /**
     * Creates a new validation delegate.
     */
@@ -109,6 +115,15 @@ public class ValidationDelegate implements IValidatorExtension {
       validatorsHolder.validators.forEach(this::addValidator);
    }
 
+   /**
+    * Sets the profiler that records the time spent in each validator.  Validation is not profiled if no profiler is
+    * bound.
+    */
+   @Inject(optional = true)
+   public void setProfiler(Profiler profiler) {
+      this.profiler = Preconditions.checkNotNull(profiler, "profiler may not be null!");
+   }
+
    @Override
    public void validate(EObject source, ValidationHelper helper) {
       // Walk the source object up the containment hierarchy to find the Package object.  Build a system descriptor
@@ -364,7 +379,16 @@ public class ValidationDelegate implements IValidatorExtension {
    private void safelyInvokeValidator(ISystemDescriptorValidator validator, IValidationContext<?> context) {
       // Do not allow a misbehaving validator stop the entire parsing process.
       try {
-         validator.validate(context);
+         if (profiler.isEnabled()) {
+            // Validators are invoked once per element, so the time spent in each validator is recorded as a counter
+            // rather than as a span to keep the size of the profile reasonable.  The time spent validating each file
+            // is recorded as a span when the file is parsed.
+            long start = System.nanoTime();
+            validator.validate(context);
+            profiler.count("validation." + validator.getClass().getSimpleName() + ".nanos", System.nanoTime() - start);
+         } else {
+            validator.validate(context);
+         }
       } catch (Throwable t) {
          logService.error(getClass(),
                           t,
@@ -0,0 +1,84 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.systemdescriptor.service.impl.xtext.validation.delegate;
+
+import com.google.common.base.Preconditions;
+
+import java.util.function.Consumer;
+
+/**
+ * Base class for the hand-written delegates returned by
+ * {@link com.ngc.seaside.systemdescriptor.service.impl.xtext.validation.ProxyingValidationContext#declare}.  Every
+ * method of the delegated interface first reports its name to a declaration callback, which declares the validation
+ * issue against the corresponding structural feature, and then passes through to the real object.  This has the same
+ * semantics as the dynamic proxies these delegates replace without the reflective invocation.
+ *
+ * @param <T> the type of object being delegated to
+ */
+public abstract class AbstractDeclaringDelegate<T> {
+
+   /**
+    * The real object that is being validated.
+    */
+   private final T delegate;
+
+   /**
+    * The callback that declares the issue given the name of the method that was invoked.
+    */
+   private final Consumer<String> declaration;
+
+   protected AbstractDeclaringDelegate(T delegate, Consumer<String> declaration) {
+      this.delegate = Preconditions.checkNotNull(delegate, "delegate may not be null!");
+      this.declaration = Preconditions.checkNotNull(declaration, "declaration may not be null!");
+   }
+
+   /**
+    * Declares the issue against the feature associated with the given method and returns the real object so the call
+    * can complete as normal.
+    *
+    * @param methodName the name of the method being invoked
+    * @return the real object
+    */
+   protected T declare(String methodName) {
+      declaration.accept(methodName);
+      return delegate;
+   }
+
+   @Override
+   public boolean equals(Object obj) {
+      if (obj instanceof AbstractDeclaringDelegate) {
+         obj = ((AbstractDeclaringDelegate<?>) obj).delegate;
+      }
+      return delegate.equals(obj);
+   }
+
+   @Override
+   public int hashCode() {
+      return delegate.hashCode();
+   }
+
+   @Override
+   public String toString() {
+      return delegate.toString();
+   }
+}
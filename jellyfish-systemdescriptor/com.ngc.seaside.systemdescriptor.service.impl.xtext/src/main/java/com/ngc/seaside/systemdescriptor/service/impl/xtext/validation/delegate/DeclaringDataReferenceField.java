@@ -0,0 +1,83 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.systemdescriptor.service.impl.xtext.validation.delegate;
+
+import com.ngc.seaside.systemdescriptor.model.api.FieldCardinality;
+import com.ngc.seaside.systemdescriptor.model.api.data.IData;
+import com.ngc.seaside.systemdescriptor.model.api.metadata.IMetadata;
+import com.ngc.seaside.systemdescriptor.model.api.model.IDataReferenceField;
+import com.ngc.seaside.systemdescriptor.model.api.model.IModel;
+import com.ngc.seaside.systemdescriptor.model.api.model.IReferenceField;
+
+import java.util.function.Consumer;
+
+/**
+ * A declaring delegate for {@link IDataReferenceField}.
+ */
+public class DeclaringDataReferenceField extends AbstractDeclaringDelegate<IDataReferenceField>
+      implements IDataReferenceField {
+
+   public DeclaringDataReferenceField(IDataReferenceField delegate, Consumer<String> declaration) {
+      super(delegate, declaration);
+   }
+
+   @Override
+   public String getName() {
+      return declare("getName").getName();
+   }
+
+   @Override
+   public IModel getParent() {
+      return declare("getParent").getParent();
+   }
+
+   @Override
+   public IMetadata getMetadata() {
+      return declare("getMetadata").getMetadata();
+   }
+
+   @Override
+   public IReferenceField setMetadata(IMetadata metadata) {
+      return declare("setMetadata").setMetadata(metadata);
+   }
+
+   @Override
+   public IData getType() {
+      return declare("getType").getType();
+   }
+
+   @Override
+   public IDataReferenceField setType(IData type) {
+      return declare("setType").setType(type);
+   }
+
+   @Override
+   public FieldCardinality getCardinality() {
+      return declare("getCardinality").getCardinality();
+   }
+
+   @Override
+   public IDataReferenceField setCardinality(FieldCardinality cardinality) {
+      return declare("setCardinality").setCardinality(cardinality);
+   }
+}
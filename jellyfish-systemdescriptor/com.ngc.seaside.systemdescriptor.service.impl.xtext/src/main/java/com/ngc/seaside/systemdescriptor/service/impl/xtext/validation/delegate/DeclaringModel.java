@@ -0,0 +1,127 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.systemdescriptor.service.impl.xtext.validation.delegate;
+
+import com.ngc.seaside.systemdescriptor.model.api.INamedChildCollection;
+import com.ngc.seaside.systemdescriptor.model.api.IPackage;
+import com.ngc.seaside.systemdescriptor.model.api.metadata.IMetadata;
+import com.ngc.seaside.systemdescriptor.model.api.model.IDataReferenceField;
+import com.ngc.seaside.systemdescriptor.model.api.model.IModel;
+import com.ngc.seaside.systemdescriptor.model.api.model.IModelReferenceField;
+import com.ngc.seaside.systemdescriptor.model.api.model.link.IModelLink;
+import com.ngc.seaside.systemdescriptor.model.api.model.properties.IProperties;
+import com.ngc.seaside.systemdescriptor.model.api.model.scenario.IScenario;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * A declaring delegate for {@link IModel}.
+ */
+public class DeclaringModel extends AbstractDeclaringDelegate<IModel> implements IModel {
+
+   public DeclaringModel(IModel delegate, Consumer<String> declaration) {
+      super(delegate, declaration);
+   }
+
+   @Override
+   public String getName() {
+      return declare("getName").getName();
+   }
+
+   @Override
+   public IPackage getParent() {
+      return declare("getParent").getParent();
+   }
+
+   @Override
+   public IMetadata getMetadata() {
+      return declare("getMetadata").getMetadata();
+   }
+
+   @Override
+   public IModel setMetadata(IMetadata metadata) {
+      return declare("setMetadata").setMetadata(metadata);
+   }
+
+   @Override
+   public IProperties getProperties() {
+      return declare("getProperties").getProperties();
+   }
+
+   @Override
+   public IModel setProperties(IProperties properties) {
+      return declare("setProperties").setProperties(properties);
+   }
+
+   @Override
+   public Optional<IModel> getRefinedModel() {
+      return declare("getRefinedModel").getRefinedModel();
+   }
+
+   @Override
+   public IModel setRefinedModel(IModel refinedModel) {
+      return declare("setRefinedModel").setRefinedModel(refinedModel);
+   }
+
+   @Override
+   public INamedChildCollection<IModel, IDataReferenceField> getInputs() {
+      return declare("getInputs").getInputs();
+   }
+
+   @Override
+   public INamedChildCollection<IModel, IDataReferenceField> getOutputs() {
+      return declare("getOutputs").getOutputs();
+   }
+
+   @Override
+   public INamedChildCollection<IModel, IModelReferenceField> getRequiredModels() {
+      return declare("getRequiredModels").getRequiredModels();
+   }
+
+   @Override
+   public INamedChildCollection<IModel, IModelReferenceField> getParts() {
+      return declare("getParts").getParts();
+   }
+
+   @Override
+   public INamedChildCollection<IModel, IScenario> getScenarios() {
+      return declare("getScenarios").getScenarios();
+   }
+
+   @Override
+   public Collection<IModelLink<?>> getLinks() {
+      return declare("getLinks").getLinks();
+   }
+
+   @Override
+   public Optional<IModelLink<?>> getLinkByName(String name) {
+      return declare("getLinkByName").getLinkByName(name);
+   }
+
+   @Override
+   public String getFullyQualifiedName() {
+      return declare("getFullyQualifiedName").getFullyQualifiedName();
+   }
+}
@@ -0,0 +1,121 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.systemdescriptor.service.impl.xtext.validation.delegate;
+
+import com.ngc.seaside.systemdescriptor.model.api.metadata.IMetadata;
+import com.ngc.seaside.systemdescriptor.model.api.model.IModel;
+import com.ngc.seaside.systemdescriptor.model.api.model.IModelReferenceField;
+import com.ngc.seaside.systemdescriptor.model.api.model.IReferenceField;
+import com.ngc.seaside.systemdescriptor.model.api.model.link.IModelLink;
+import com.ngc.seaside.systemdescriptor.model.api.model.properties.IProperties;
+
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * A declaring delegate for {@link IModelLink}.
+ *
+ * @param <T> the type of the link's source and target
+ */
+public class DeclaringModelLink<T extends IReferenceField> extends AbstractDeclaringDelegate<IModelLink<T>>
+      implements IModelLink<T> {
+
+   public DeclaringModelLink(IModelLink<T> delegate, Consumer<String> declaration) {
+      super(delegate, declaration);
+   }
+
+   @Override
+   public IMetadata getMetadata() {
+      return declare("getMetadata").getMetadata();
+   }
+
+   @Override
+   public IModelLink<T> setMetadata(IMetadata metadata) {
+      return declare("setMetadata").setMetadata(metadata);
+   }
+
+   @Override
+   public IProperties getProperties() {
+      return declare("getProperties").getProperties();
+   }
+
+   @Override
+   public IModelLink<T> setProperties(IProperties properties) {
+      return declare("setProperties").setProperties(properties);
+   }
+
+   @Override
+   public T getSource() {
+      return declare("getSource").getSource();
+   }
+
+   @Override
+   public IModelLink<T> setSource(T source) {
+      return declare("setSource").setSource(source);
+   }
+
+   @Override
+   public void traverseLinkSourceExpression(Consumer<IModelReferenceField> linkVisitor) {
+      declare("traverseLinkSourceExpression").traverseLinkSourceExpression(linkVisitor);
+   }
+
+   @Override
+   public T getTarget() {
+      return declare("getTarget").getTarget();
+   }
+
+   @Override
+   public IModelLink<T> setTarget(T target) {
+      return declare("setTarget").setTarget(target);
+   }
+
+   @Override
+   public void traverseLinkTargetExpression(Consumer<IModelReferenceField> linkVisitor) {
+      declare("traverseLinkTargetExpression").traverseLinkTargetExpression(linkVisitor);
+   }
+
+   @Override
+   public Optional<String> getName() {
+      return declare("getName").getName();
+   }
+
+   @Override
+   public IModelLink<T> setName(String name) {
+      return declare("setName").setName(name);
+   }
+
+   @Override
+   public Optional<IModelLink<T>> getRefinedLink() {
+      return declare("getRefinedLink").getRefinedLink();
+   }
+
+   @Override
+   public IModelLink<T> setRefinedLink(IModelLink<T> refinedLink) {
+      return declare("setRefinedLink").setRefinedLink(refinedLink);
+   }
+
+   @Override
+   public IModel getParent() {
+      return declare("getParent").getParent();
+   }
+}
@@ -0,0 +1,88 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.systemdescriptor.service.impl.xtext.validation.delegate;
+
+import com.ngc.seaside.systemdescriptor.model.api.metadata.IMetadata;
+import com.ngc.seaside.systemdescriptor.model.api.model.IModel;
+import com.ngc.seaside.systemdescriptor.model.api.model.IModelReferenceField;
+import com.ngc.seaside.systemdescriptor.model.api.model.IReferenceField;
+import com.ngc.seaside.systemdescriptor.model.api.model.properties.IProperties;
+
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * A declaring delegate for {@link IModelReferenceField}.
+ */
+public class DeclaringModelReferenceField extends AbstractDeclaringDelegate<IModelReferenceField>
+      implements IModelReferenceField {
+
+   public DeclaringModelReferenceField(IModelReferenceField delegate, Consumer<String> declaration) {
+      super(delegate, declaration);
+   }
+
+   @Override
+   public String getName() {
+      return declare("getName").getName();
+   }
+
+   @Override
+   public IModel getParent() {
+      return declare("getParent").getParent();
+   }
+
+   @Override
+   public IMetadata getMetadata() {
+      return declare("getMetadata").getMetadata();
+   }
+
+   @Override
+   public IReferenceField setMetadata(IMetadata metadata) {
+      return declare("setMetadata").setMetadata(metadata);
+   }
+
+   @Override
+   public IModel getType() {
+      return declare("getType").getType();
+   }
+
+   @Override
+   public IModelReferenceField setType(IModel model) {
+      return declare("setType").setType(model);
+   }
+
+   @Override
+   public Optional<IModelReferenceField> getRefinedField() {
+      return declare("getRefinedField").getRefinedField();
+   }
+
+   @Override
+   public IProperties getProperties() {
+      return declare("getProperties").getProperties();
+   }
+
+   @Override
+   public IReferenceField setProperties(IProperties properties) {
+      return declare("setProperties").setProperties(properties);
+   }
+}
@@ -0,0 +1,117 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.systemdescriptor.service.impl.xtext.validation.delegate;
+
+import com.ngc.seaside.systemdescriptor.model.api.FieldCardinality;
+import com.ngc.seaside.systemdescriptor.model.api.data.DataTypes;
+import com.ngc.seaside.systemdescriptor.model.api.data.IData;
+import com.ngc.seaside.systemdescriptor.model.api.data.IEnumeration;
+import com.ngc.seaside.systemdescriptor.model.api.model.properties.IProperties;
+import com.ngc.seaside.systemdescriptor.model.api.model.properties.IProperty;
+import com.ngc.seaside.systemdescriptor.model.api.model.properties.IPropertyDataValue;
+import com.ngc.seaside.systemdescriptor.model.api.model.properties.IPropertyEnumerationValue;
+import com.ngc.seaside.systemdescriptor.model.api.model.properties.IPropertyPrimitiveValue;
+import com.ngc.seaside.systemdescriptor.model.api.model.properties.IPropertyValue;
+import com.ngc.seaside.systemdescriptor.model.api.model.properties.IPropertyValues;
+
+import java.util.function.Consumer;
+
+/**
+ * A declaring delegate for {@link IProperty}.
+ */
+public class DeclaringProperty extends AbstractDeclaringDelegate<IProperty> implements IProperty {
+
+   public DeclaringProperty(IProperty delegate, Consumer<String> declaration) {
+      super(delegate, declaration);
+   }
+
+   @Override
+   public String getName() {
+      return declare("getName").getName();
+   }
+
+   @Override
+   public IProperties getParent() {
+      return declare("getParent").getParent();
+   }
+
+   @Override
+   public DataTypes getType() {
+      return declare("getType").getType();
+   }
+
+   @Override
+   public IData getReferencedDataType() {
+      return declare("getReferencedDataType").getReferencedDataType();
+   }
+
+   @Override
+   public IEnumeration getReferencedEnumeration() {
+      return declare("getReferencedEnumeration").getReferencedEnumeration();
+   }
+
+   @Override
+   public FieldCardinality getCardinality() {
+      return declare("getCardinality").getCardinality();
+   }
+
+   @Override
+   public IPropertyValue getValue() {
+      return declare("getValue").getValue();
+   }
+
+   @Override
+   public IPropertyDataValue getData() {
+      return declare("getData").getData();
+   }
+
+   @Override
+   public IPropertyEnumerationValue getEnumeration() {
+      return declare("getEnumeration").getEnumeration();
+   }
+
+   @Override
+   public IPropertyPrimitiveValue getPrimitive() {
+      return declare("getPrimitive").getPrimitive();
+   }
+
+   @Override
+   public IPropertyValues<? extends IPropertyValue> getValues() {
+      return declare("getValues").getValues();
+   }
+
+   @Override
+   public IPropertyValues<IPropertyDataValue> getDatas() {
+      return declare("getDatas").getDatas();
+   }
+
+   @Override
+   public IPropertyValues<IPropertyEnumerationValue> getEnumerations() {
+      return declare("getEnumerations").getEnumerations();
+   }
+
+   @Override
+   public IPropertyValues<IPropertyPrimitiveValue> getPrimitives() {
+      return declare("getPrimitives").getPrimitives();
+   }
+}
@@ -0,0 +1,86 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.systemdescriptor.service.impl.xtext.validation.delegate;
+
+import com.ngc.seaside.systemdescriptor.model.api.data.DataTypes;
+import com.ngc.seaside.systemdescriptor.model.api.model.properties.IPropertyPrimitiveValue;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.function.Consumer;
+
+/**
+ * A declaring delegate for {@link IPropertyPrimitiveValue}.
+ */
+public class DeclaringPropertyPrimitiveValue extends AbstractDeclaringDelegate<IPropertyPrimitiveValue>
+      implements IPropertyPrimitiveValue {
+
+   public DeclaringPropertyPrimitiveValue(IPropertyPrimitiveValue delegate, Consumer<String> declaration) {
+      super(delegate, declaration);
+   }
+
+   @Override
+   public DataTypes getType() {
+      return declare("getType").getType();
+   }
+
+   @Override
+   public boolean isSet() {
+      return declare("isSet").isSet();
+   }
+
+   @Override
+   public boolean isPrimitive() {
+      return declare("isPrimitive").isPrimitive();
+   }
+
+   @Override
+   public boolean isData() {
+      return declare("isData").isData();
+   }
+
+   @Override
+   public boolean isEnumeration() {
+      return declare("isEnumeration").isEnumeration();
+   }
+
+   @Override
+   public BigInteger getInteger() {
+      return declare("getInteger").getInteger();
+   }
+
+   @Override
+   public BigDecimal getDecimal() {
+      return declare("getDecimal").getDecimal();
+   }
+
+   @Override
+   public boolean getBoolean() {
+      return declare("getBoolean").getBoolean();
+   }
+
+   @Override
+   public String getString() {
+      return declare("getString").getString();
+   }
+}
@@ -0,0 +1,137 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.systemdescriptor.model.impl.view;
+
+import com.ngc.seaside.systemdescriptor.model.api.FieldCardinality;
+import com.ngc.seaside.systemdescriptor.model.api.data.DataTypes;
+import com.ngc.seaside.systemdescriptor.model.api.metadata.IMetadata;
+import com.ngc.seaside.systemdescriptor.model.api.model.properties.IProperties;
+import com.ngc.seaside.systemdescriptor.model.api.model.properties.IPropertyValue;
+import com.ngc.seaside.systemdescriptor.model.impl.basic.data.Data;
+import com.ngc.seaside.systemdescriptor.model.impl.basic.data.DataField;
+import com.ngc.seaside.systemdescriptor.model.impl.basic.model.Model;
+import com.ngc.seaside.systemdescriptor.model.impl.basic.model.properties.Properties;
+import com.ngc.seaside.systemdescriptor.model.impl.basic.model.properties.Property;
+import com.ngc.seaside.systemdescriptor.model.impl.basic.model.properties.PropertyDataValue;
+import com.ngc.seaside.systemdescriptor.model.impl.basic.model.properties.PropertyPrimitiveValue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.math.BigInteger;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class AggregatedPropertiesViewTest {
+
+   private Model model;
+
+   @Before
+   public void setup() {
+      Data endpoint = data("Endpoint");
+      endpoint.getFields().add(field("host", DataTypes.STRING, null, endpoint));
+
+      Data baseConfig = data("BaseConfig");
+      baseConfig.getFields().add(field("port", DataTypes.INT, null, baseConfig));
+
+      Data config = data("Config");
+      config.setExtendedDataType(baseConfig);
+      config.getFields().add(field("endpoint", DataTypes.DATA, endpoint, config));
+
+      Map<String, Collection<? extends IPropertyValue>> endpointValues = new LinkedHashMap<>();
+      endpointValues.put("host", Collections.singleton(new PropertyPrimitiveValue("localhost")));
+      PropertyDataValue endpointValue = new PropertyDataValue(endpoint, endpointValues);
+
+      AggregatedDataView configView = new AggregatedDataView(config);
+      Map<String, Collection<? extends IPropertyValue>> configValues = new LinkedHashMap<>();
+      configValues.put("endpoint", Collections.singleton(endpointValue));
+      configValues.put("port", Collections.singleton(new PropertyPrimitiveValue(BigInteger.valueOf(8080))));
+      PropertyDataValue configValue = new PropertyDataValue(configView, configValues);
+
+      Model parent = new Model("Parent");
+      Properties parentProperties = new Properties();
+      parentProperties.add(new Property("config",
+                                        DataTypes.DATA,
+                                        FieldCardinality.SINGLE,
+                                        Collections.singleton(configValue),
+                                        config));
+      parentProperties.add(new Property("name",
+                                        DataTypes.STRING,
+                                        FieldCardinality.SINGLE,
+                                        Collections.singleton(new PropertyPrimitiveValue("parent")),
+                                        null));
+      parent.setProperties(parentProperties);
+
+      model = new Model("Child");
+      Properties childProperties = new Properties();
+      childProperties.add(new Property("name",
+                                       DataTypes.STRING,
+                                       FieldCardinality.SINGLE,
+                                       Collections.singleton(new PropertyPrimitiveValue("child")),
+                                       null));
+      model.setProperties(childProperties);
+      model.setRefinedModel(parent);
+   }
+
+   @Test
+   public void testDoesResolveNestedValuesOfRefinedProperties() {
+      IProperties properties = AggregatedPropertiesView.getAggregatedProperties(model);
+
+      assertEquals(Optional.of("localhost"), properties.resolveAsString("config", "endpoint", "host"));
+      assertEquals(Optional.of(BigInteger.valueOf(8080)), properties.resolveAsInteger("config", "port"));
+      assertEquals(Optional.of("child"), properties.resolveAsString("name"));
+      assertTrue(properties.resolveValue("config", "endpoint").isPresent());
+      assertTrue(properties.resolveValue("config", "endpoint").get().isData());
+   }
+
+   @Test
+   public void testDoesNotResolveUnknownPaths() {
+      IProperties properties = AggregatedPropertiesView.getAggregatedProperties(model);
+
+      assertFalse(properties.resolveValue("config", "missing").isPresent());
+      assertFalse(properties.resolveValue("config", "endpoint", "host", "missing").isPresent());
+      assertFalse(properties.resolveValue("missing", "endpoint").isPresent());
+   }
+
+   private static Data data(String name) {
+      Data data = new Data(name);
+      data.setMetadata(IMetadata.EMPTY_METADATA);
+      return data;
+   }
+
+   private static DataField field(String name, DataTypes type, Data referencedType, Data parent) {
+      DataField field = new DataField(name);
+      field.setType(type);
+      field.setCardinality(FieldCardinality.SINGLE);
+      field.setReferencedDataType(referencedType);
+      field.setParent(parent);
+      return field;
+   }
+}
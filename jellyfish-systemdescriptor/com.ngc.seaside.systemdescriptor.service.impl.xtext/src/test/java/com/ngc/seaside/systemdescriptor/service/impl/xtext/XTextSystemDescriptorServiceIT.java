@@ -27,6 +27,7 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -34,6 +35,7 @@ import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.Before;
@@ -47,6 +49,7 @@ import com.google.inject.Guice;
 import com.google.inject.Injector;
 import com.google.inject.Module;
 import com.ngc.seaside.systemdescriptor.model.api.INamedChildCollection;
+import com.ngc.seaside.systemdescriptor.model.api.ISystemDescriptor;
 import com.ngc.seaside.systemdescriptor.model.api.data.IData;
 import com.ngc.seaside.systemdescriptor.model.api.data.IDataField;
 import com.ngc.seaside.systemdescriptor.model.api.metadata.IMetadata;
@@ -275,6 +278,57 @@ public class XTextSystemDescriptorServiceIT {
                    speaker.getProperties().resolveAsEnumeration("zone").get().getValue());
    }
 
+   @Test
+   public void testDoesCreateImmutableCopy() {
+      IParsingResult result = service.parseProject(Paths.get("build", "resources", "test", "properties-project"));
+      assertTrue("did not parse project!",
+                 result.isSuccessful());
+
+      ISystemDescriptor copy = service.immutableCopy(result.getSystemDescriptor());
+      assertSame("copying a copy should return the same copy!",
+                 copy,
+                 service.immutableCopy(copy));
+
+      IModel alarmClock = copy.findModel("clocks.AlarmClock").get();
+      IModel refinedAlarmClock = copy.findModel("clocks.RefinedAlarmClock").get();
+      assertSame("refined model not resolved!",
+                 alarmClock,
+                 refinedAlarmClock.getRefinedModel().get());
+
+      IModelLink<?> link = alarmClock.getLinkByName("timer2Display").get();
+      List<IModelReferenceField> sourceExpression = new ArrayList<>();
+      link.traverseLinkSourceExpression(sourceExpression::add);
+      assertEquals("link source expression not copied!",
+                   Collections.singletonList(alarmClock.getParts().getByName("timer").get()),
+                   sourceExpression);
+      assertSame("refined link not resolved!",
+                 link,
+                 refinedAlarmClock.getLinkByName("timer2Display").get().getRefinedLink().get());
+
+      IModel model = service.getAggregatedView(copy.findModel("clocks.BetterAlarmClock").get());
+      assertEquals("property config.port1 not correct!",
+                   100,
+                   model.getProperties().resolveAsInteger("config", "port1").get().intValue());
+      assertEquals("property config.port2 not correct!",
+                   2,
+                   model.getProperties().resolveAsInteger("config", "port2").get().intValue());
+      assertEquals("property config.name not correct!",
+                   "hello",
+                   model.getProperties().resolveAsString("config", "name").get());
+
+      IModelReferenceField speaker = model.getParts().getByName("speaker").get();
+      assertEquals("property zone not correct!",
+                   "MST",
+                   speaker.getProperties().resolveAsEnumeration("zone").get().getValue());
+
+      try {
+         alarmClock.getParts().clear();
+         fail("copy should not be modifiable!");
+      } catch (UnsupportedOperationException e) {
+         // Expected.
+      }
+   }
+
    @Ignore("This test cannot run with the build because XText holds state statically; however it is still useful to run"
          + " by itself to make sure the standalone configuration works.")
    @Test
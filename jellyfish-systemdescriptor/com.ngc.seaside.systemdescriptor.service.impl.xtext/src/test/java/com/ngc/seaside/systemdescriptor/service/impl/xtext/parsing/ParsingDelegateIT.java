@@ -91,6 +91,15 @@ public class ParsingDelegateIT {
       assertNotNull("system descriptor not set!", result.getSystemDescriptor());
    }
 
+   @Test
+   public void testDoesParseZip() {
+      Path zip = Paths.get("src", "test", "resources", "valid-zipped-project.zip");
+      IParsingResult result = delegate.parseFiles(Collections.singletonList(zip));
+      assertTrue("parsing should be successful!", result.isSuccessful());
+      assertNotNull("system descriptor not set!", result.getSystemDescriptor());
+      assertTrue("data in ZIP not parsed!", result.getSystemDescriptor().findData("com.Test").isPresent());
+   }
+
    @Test
    public void testDoesHandleDataInheritance() {
       IParsingResult result = delegate.parseProject(Paths.get("build", "resources", "test", "valid-project"));
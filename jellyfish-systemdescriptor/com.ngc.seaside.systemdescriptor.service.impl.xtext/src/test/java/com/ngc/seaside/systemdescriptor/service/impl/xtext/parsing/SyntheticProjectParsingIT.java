@@ -0,0 +1,136 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.systemdescriptor.service.impl.xtext.parsing;
+
+import com.ngc.seaside.systemdescriptor.SystemDescriptorStandaloneSetup;
+import com.ngc.seaside.systemdescriptor.model.api.ISystemDescriptor;
+import com.ngc.seaside.systemdescriptor.model.api.model.IModel;
+import com.ngc.seaside.systemdescriptor.service.api.IParsingResult;
+import com.ngc.seaside.systemdescriptor.service.impl.xtext.testutil.InjectorTestFactory;
+import com.ngc.seaside.systemdescriptor.test.systemdescriptor.SyntheticProjectGenerator;
+
+import org.eclipse.xtext.common.TerminalsStandaloneSetup;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Verifies projects created by the {@link SyntheticProjectGenerator} can be parsed without any issues.
+ */
+public class SyntheticProjectParsingIT {
+
+   private static final String BASE_PACKAGE = "com.ngc.seaside.synthetic";
+
+   @Rule
+   public TemporaryFolder folder = new TemporaryFolder();
+
+   private ParsingDelegate delegate;
+
+   @Before
+   public void setup() {
+      TerminalsStandaloneSetup.doSetup();
+      new SystemDescriptorStandaloneSetup().register(InjectorTestFactory.getSharedInstance());
+      delegate = InjectorTestFactory.getSharedInstance().getInstance(ParsingDelegate.class);
+   }
+
+   @Test
+   public void testDoesParseSmallProject() throws IOException {
+      Path project = new SyntheticProjectGenerator()
+            .setPackages(2)
+            .setDataTypes(5)
+            .setDataDepth(2)
+            .setModels(10)
+            .setPartFanOut(4)
+            .setPropertiesPerModel(2)
+            .setScenariosPerModel(1)
+            .generate(folder.newFolder("small").toPath());
+
+      ISystemDescriptor descriptor = parse(project);
+
+      // 10 services are grouped into 3 composites, which are contained by the system.
+      assertEquals("wrong number of data types!", 5 * 2, countData(descriptor));
+      assertEquals("wrong number of models!", 10 + 3 + 1, countModels(descriptor));
+      assertSystem(descriptor, 3);
+      assertService(descriptor, BASE_PACKAGE + ".p1.Service9", 2, 1);
+   }
+
+   @Test
+   public void testDoesParseMediumProject() throws IOException {
+      Path project = new SyntheticProjectGenerator()
+            .setPackages(5)
+            .setDataTypes(40)
+            .setDataDepth(3)
+            .setModels(200)
+            .setPartFanOut(8)
+            .setPropertiesPerModel(2)
+            .setScenariosPerModel(2)
+            .generate(folder.newFolder("medium").toPath());
+
+      ISystemDescriptor descriptor = parse(project);
+
+      // 200 services are grouped into 25 composites, then into 4 composites, which are contained by the system.
+      assertEquals("wrong number of data types!", 40 * 3, countData(descriptor));
+      assertEquals("wrong number of models!", 200 + 25 + 4 + 1, countModels(descriptor));
+      assertSystem(descriptor, 4);
+      assertService(descriptor, BASE_PACKAGE + ".p4.Service199", 2, 2);
+   }
+
+   private ISystemDescriptor parse(Path project) {
+      IParsingResult result = delegate.parseProject(project);
+      assertTrue("generated project should not have issues: " + result.getIssues(), result.getIssues().isEmpty());
+      assertTrue("parsing should be successful!", result.isSuccessful());
+      return result.getSystemDescriptor();
+   }
+
+   private static void assertSystem(ISystemDescriptor descriptor, int parts) {
+      IModel system = descriptor.findModel(BASE_PACKAGE + ".p0.SyntheticSystem")
+            .orElseThrow(() -> new AssertionError("system model not found!"));
+      assertEquals("wrong number of parts!", parts, system.getParts().size());
+      // The input is linked to the first part, each part to the next part, and the last part to the output.
+      assertEquals("wrong number of links!", parts + 1, system.getLinks().size());
+   }
+
+   private static void assertService(ISystemDescriptor descriptor, String name, int properties, int scenarios) {
+      IModel service = descriptor.findModel(name)
+            .orElseThrow(() -> new AssertionError("service model " + name + " not found!"));
+      assertEquals("wrong number of inputs!", 1, service.getInputs().size());
+      assertEquals("wrong number of outputs!", 1, service.getOutputs().size());
+      assertEquals("wrong number of properties!", properties, service.getProperties().size());
+      assertEquals("wrong number of scenarios!", scenarios, service.getScenarios().size());
+   }
+
+   private static int countData(ISystemDescriptor descriptor) {
+      return descriptor.getPackages().stream().mapToInt(pkg -> pkg.getData().size()).sum();
+   }
+
+   private static int countModels(ISystemDescriptor descriptor) {
+      return descriptor.getPackages().stream().mapToInt(pkg -> pkg.getModels().size()).sum();
+   }
+}
@@ -41,6 +41,11 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import java.lang.reflect.Proxy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
@@ -105,4 +110,28 @@ public class ProxyingValidationContextTest {
       ctx.declare(Severity.ERROR, msg, wrapped).getName();
       verify(validationHelper).error(msg, p, SystemDescriptorPackage.Literals.PACKAGE__NAME);
    }
+
+   @Test
+   public void testDoesDeclareErrorWithDelegate() throws Throwable {
+      String msg = "error message";
+      IDataField declared = ctx.declare(Severity.ERROR, msg, dataField);
+      assertFalse(Proxy.isProxyClass(declared.getClass()));
+      assertEquals("foo", declared.getName());
+      verify(validationHelper).error(msg, xtext, SystemDescriptorPackage.Literals.DATA_FIELD_DECLARATION__NAME);
+   }
+
+   @Test
+   public void testDoesDeclareErrorWithProxy() throws Throwable {
+      ctx = new ProxyingValidationContext<>(dataField, validationHelper, false);
+      String msg = "error message";
+      IDataField declared = ctx.declare(Severity.ERROR, msg, dataField);
+      assertTrue(Proxy.isProxyClass(declared.getClass()));
+      assertEquals("foo", declared.getName());
+      verify(validationHelper).error(msg, xtext, SystemDescriptorPackage.Literals.DATA_FIELD_DECLARATION__NAME);
+   }
+
+   @Test(expected = IllegalValidationDeclarationException.class)
+   public void testDoesNotDeclareErrorOnDerivedValue() throws Throwable {
+      ctx.declare(Severity.ERROR, "error message", dataField).getMetadata();
+   }
 }
@@ -0,0 +1,340 @@
+/**
+ * UNCLASSIFIED
+ *
+ * Copyright 2020 Northrop Grumman Systems Corporation
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the
+ * Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED,
+ * INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A
+ * PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE
+ * SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package com.ngc.seaside.systemdescriptor.test.systemdescriptor;
+
+import com.google.common.base.Preconditions;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Generates syntactically valid System Descriptor projects of configurable size.  Generated projects are used to
+ * test how Jellyfish scales with the number of models, data types and links.  Usage:
+ * <pre>
+ *    Path project = new SyntheticProjectGenerator()
+ *          .setPackages(10)
+ *          .setDataTypes(200)
+ *          .setModels(1000)
+ *          .generate(directory);
+ * </pre>
+ * A generated project contains:
+ * <ul>
+ * <li>{@link #setDataTypes(int) data types}, each of which nests {@link #setDataDepth(int) other data types}</li>
+ * <li>{@link #setModels(int) service models} with an input, an output, {@link #setPropertiesPerModel(int)
+ * properties} and {@link #setScenariosPerModel(int) scenarios}</li>
+ * <li>a hierarchy of composite models that contain {@link #setPartFanOut(int) parts} connected by
+ * {@link #setLinkParts(boolean) links} with a single system model at the root</li>
+ * <li>a feature file for each scenario if {@link #setFeatureFiles(boolean) enabled}</li>
+ * </ul>
+ * Service model {@code i} receives data type {@code i % dataTypes} and publishes data type {@code (i + 1) %
+ * dataTypes}, so the output of each model can be linked to the input of the next one.
+ */
+public class SyntheticProjectGenerator {
+
+   private static final String INPUT_FIELD = "inputData";
+   private static final String OUTPUT_FIELD = "outputData";
+
+   private String basePackage = "com.ngc.seaside.synthetic";
+   private int packages = 1;
+   private int dataTypes = 10;
+   private int dataDepth = 1;
+   private int models = 10;
+   private int partFanOut = 4;
+   private boolean linkParts = true;
+   private int propertiesPerModel = 0;
+   private int scenariosPerModel = 1;
+   private boolean featureFiles = true;
+
+   public SyntheticProjectGenerator setBasePackage(String basePackage) {
+      Preconditions.checkNotNull(basePackage, "basePackage may not be null!");
+      Preconditions.checkArgument(!basePackage.trim().isEmpty(), "basePackage may not be empty!");
+      this.basePackage = basePackage;
+      return this;
+   }
+
+   public SyntheticProjectGenerator setPackages(int packages) {
+      Preconditions.checkArgument(packages > 0, "packages must be positive!");
+      this.packages = packages;
+      return this;
+   }
+
+   public SyntheticProjectGenerator setDataTypes(int dataTypes) {
+      Preconditions.checkArgument(dataTypes > 0, "dataTypes must be positive!");
+      this.dataTypes = dataTypes;
+      return this;
+   }
+
+   /**
+    * Sets the number of nested data types of each data type.  A depth of 1 means data types only contain primitive
+    * fields.
+    */
+   public SyntheticProjectGenerator setDataDepth(int dataDepth) {
+      Preconditions.checkArgument(dataDepth > 0, "dataDepth must be positive!");
+      this.dataDepth = dataDepth;
+      return this;
+   }
+
+   /**
+    * Sets the number of service models.  This does not include the composite models that are generated to contain
+    * the service models.
+    */
+   public SyntheticProjectGenerator setModels(int models) {
+      Preconditions.checkArgument(models > 0, "models must be positive!");
+      this.models = models;
+      return this;
+   }
+
+   /**
+    * Sets the maximum number of parts of each composite model.
+    */
+   public SyntheticProjectGenerator setPartFanOut(int partFanOut) {
+      Preconditions.checkArgument(partFanOut > 1, "partFanOut must be greater than 1!");
+      this.partFanOut = partFanOut;
+      return this;
+   }
+
+   /**
+    * Sets whether composite models link their inputs, parts and outputs together.
+    */
+   public SyntheticProjectGenerator setLinkParts(boolean linkParts) {
+      this.linkParts = linkParts;
+      return this;
+   }
+
+   public SyntheticProjectGenerator setPropertiesPerModel(int propertiesPerModel) {
+      Preconditions.checkArgument(propertiesPerModel >= 0, "propertiesPerModel may not be negative!");
+      this.propertiesPerModel = propertiesPerModel;
+      return this;
+   }
+
+   public SyntheticProjectGenerator setScenariosPerModel(int scenariosPerModel) {
+      Preconditions.checkArgument(scenariosPerModel >= 0, "scenariosPerModel may not be negative!");
+      this.scenariosPerModel = scenariosPerModel;
+      return this;
+   }
+
+   public SyntheticProjectGenerator setFeatureFiles(boolean featureFiles) {
+      this.featureFiles = featureFiles;
+      return this;
+   }
+
+   /**
+    * Generates the project in the given directory.  System Descriptor files are written to {@code src/main/sd} and
+    * feature files to {@code src/test/gherkin}.
+    *
+    * @param projectDirectory the directory to create the project in
+    * @return the project directory
+    */
+   public Path generate(Path projectDirectory) {
+      Preconditions.checkNotNull(projectDirectory, "projectDirectory may not be null!");
+      Path sd = projectDirectory.resolve("src").resolve("main").resolve("sd");
+      Path gherkin = projectDirectory.resolve("src").resolve("test").resolve("gherkin");
+
+      for (int i = 0; i < dataTypes; i++) {
+         for (int level = 0; level < dataDepth; level++) {
+            writeData(sd, i, level);
+         }
+      }
+
+      List<GeneratedModel> children = new ArrayList<>();
+      for (int i = 0; i < models; i++) {
+         children.add(writeService(sd, gherkin, i));
+      }
+
+      // Group the models into composites until only a single model remains.
+      int level = 1;
+      while (children.size() > 1) {
+         boolean system = children.size() <= partFanOut;
+         List<GeneratedModel> composites = new ArrayList<>();
+         for (int start = 0; start < children.size(); start += partFanOut) {
+            List<GeneratedModel> parts = children.subList(start, Math.min(start + partFanOut, children.size()));
+            String name = system ? "SyntheticSystem" : "Composite" + level + "_" + composites.size();
+            composites.add(writeComposite(sd, name, composites.size(), parts, system));
+         }
+         children = composites;
+         level++;
+      }
+
+      return projectDirectory;
+   }
+
+   private void writeData(Path sd, int index, int level) {
+      String pkg = getPackage(index);
+      String name = getDataName(index, level);
+      StringBuilder sb = new StringBuilder();
+      sb.append("package ").append(pkg).append("\n\n");
+      sb.append("data ").append(name).append(" {\n");
+      sb.append("\tint id").append(level).append('\n');
+      sb.append("\tstring name").append(level).append('\n');
+      sb.append("\tmany float values").append(level).append('\n');
+      if (level + 1 < dataDepth) {
+         sb.append('\t').append(getDataName(index, level + 1)).append(" nested\n");
+      }
+      sb.append("}\n");
+      write(sd, pkg, name + ".sd", sb);
+   }
+
+   private GeneratedModel writeService(Path sd, Path gherkin, int index) {
+      String pkg = getPackage(index);
+      String name = "Service" + index;
+      int input = index % dataTypes;
+      int output = (index + 1) % dataTypes;
+
+      Set<String> imports = new TreeSet<>();
+      imports.add(getPackage(input) + "." + getDataName(input, 0));
+      imports.add(getPackage(output) + "." + getDataName(output, 0));
+
+      StringBuilder sb = new StringBuilder();
+      appendHeader(sb, pkg, imports);
+      sb.append("model ").append(name).append(" {\n");
+      sb.append("\tmetadata {\n\t\t\"stereotypes\": [\"service\"]\n\t}\n\n");
+      sb.append("\tinput {\n\t\t").append(getDataName(input, 0)).append(' ').append(INPUT_FIELD).append("\n\t}\n\n");
+      sb.append("\toutput {\n\t\t").append(getDataName(output, 0)).append(' ').append(OUTPUT_FIELD).append("\n\t}\n");
+      for (int i = 0; i < scenariosPerModel; i++) {
+         sb.append("\n\tscenario scenario").append(i).append(" {\n");
+         sb.append("\t\twhen receiving ").append(INPUT_FIELD).append('\n');
+         sb.append("\t\tthen willPublish ").append(OUTPUT_FIELD).append('\n');
+         sb.append("\t}\n");
+         if (featureFiles) {
+            writeFeature(gherkin, pkg, name, "scenario" + i);
+         }
+      }
+      if (propertiesPerModel > 0) {
+         sb.append("\n\tproperties {\n");
+         for (int i = 0; i < propertiesPerModel; i++) {
+            sb.append("\t\tint property").append(i).append('\n');
+         }
+         for (int i = 0; i < propertiesPerModel; i++) {
+            sb.append("\t\tproperty").append(i).append(" = ").append(i).append('\n');
+         }
+         sb.append("\t}\n");
+      }
+      sb.append("}\n");
+      write(sd, pkg, name + ".sd", sb);
+      return new GeneratedModel(pkg + "." + name, input, output);
+   }
+
+   private GeneratedModel writeComposite(Path sd, String name, int index, List<GeneratedModel> parts,
+                                         boolean system) {
+      String pkg = getPackage(index);
+      int input = parts.get(0).input;
+      int output = parts.get(parts.size() - 1).output;
+
+      Set<String> imports = new TreeSet<>();
+      imports.add(getPackage(input) + "." + getDataName(input, 0));
+      imports.add(getPackage(output) + "." + getDataName(output, 0));
+      for (GeneratedModel part : parts) {
+         imports.add(part.fullyQualifiedName);
+      }
+
+      StringBuilder sb = new StringBuilder();
+      appendHeader(sb, pkg, imports);
+      sb.append("model ").append(name).append(" {\n");
+      sb.append("\tmetadata {\n\t\t\"stereotypes\": [\"")
+            .append(system ? "system" : "subsystem")
+            .append("\"]\n\t}\n\n");
+      sb.append("\tinput {\n\t\t").append(getDataName(input, 0)).append(' ').append(INPUT_FIELD).append("\n\t}\n\n");
+      sb.append("\toutput {\n\t\t").append(getDataName(output, 0)).append(' ').append(OUTPUT_FIELD).append("\n\t}\n\n");
+      sb.append("\tparts {\n");
+      for (int i = 0; i < parts.size(); i++) {
+         String model = parts.get(i).fullyQualifiedName;
+         sb.append("\t\t").append(model.substring(model.lastIndexOf('.') + 1)).append(" part").append(i).append('\n');
+      }
+      sb.append("\t}\n");
+      if (linkParts) {
+         sb.append("\n\tlinks {\n");
+         sb.append("\t\tlink ").append(INPUT_FIELD).append(" -> part0.").append(INPUT_FIELD).append('\n');
+         for (int i = 0; i + 1 < parts.size(); i++) {
+            sb.append("\t\tlink part").append(i).append('.').append(OUTPUT_FIELD)
+                  .append(" -> part").append(i + 1).append('.').append(INPUT_FIELD).append('\n');
+         }
+         sb.append("\t\tlink part").append(parts.size() - 1).append('.').append(OUTPUT_FIELD)
+               .append(" -> ").append(OUTPUT_FIELD).append('\n');
+         sb.append("\t}\n");
+      }
+      sb.append("}\n");
+      write(sd, pkg, name + ".sd", sb);
+      return new GeneratedModel(pkg + "." + name, input, output);
+   }
+
+   private void writeFeature(Path gherkin, String pkg, String model, String scenario) {
+      StringBuilder sb = new StringBuilder();
+      sb.append("Feature: ").append(model).append(' ').append(scenario).append("\n\n");
+      sb.append("  Scenario: ").append(model).append(' ').append(scenario).append('\n');
+      sb.append("    Given ").append(model).append(" is running\n");
+      sb.append("     When ").append(INPUT_FIELD).append(" is received\n");
+      sb.append("     Then ").append(OUTPUT_FIELD).append(" is published\n");
+      write(gherkin, pkg, model + "." + scenario + ".feature", sb);
+   }
+
+   private static void appendHeader(StringBuilder sb, String pkg, Set<String> imports) {
+      sb.append("package ").append(pkg).append("\n\n");
+      for (String imported : imports) {
+         if (!imported.substring(0, imported.lastIndexOf('.')).equals(pkg)) {
+            sb.append("import ").append(imported).append('\n');
+         }
+      }
+      sb.append('\n');
+   }
+
+   private String getPackage(int index) {
+      return basePackage + ".p" + (index % packages);
+   }
+
+   private static String getDataName(int index, int level) {
+      return level == 0 ? "Data" + index : "Data" + index + "Level" + level;
+   }
+
+   private static void write(Path root, String pkg, String fileName, CharSequence contents) {
+      Path directory = root.resolve(pkg.replace('.', '/'));
+      try {
+         Files.createDirectories(directory);
+         Files.write(directory.resolve(fileName), contents.toString().getBytes(StandardCharsets.UTF_8));
+      } catch (IOException e) {
+         throw new UncheckedIOException(e);
+      }
+   }
+
+   /**
+    * A generated model and the indexes of the data types of its input and output.
+    */
+   private static class GeneratedModel {
+
+      private final String fullyQualifiedName;
+      private final int input;
+      private final int output;
+
+      GeneratedModel(String fullyQualifiedName, int input, int output) {
+         this.fullyQualifiedName = fullyQualifiedName;
+         this.input = input;
+         this.output = output;
+      }
+   }
+}